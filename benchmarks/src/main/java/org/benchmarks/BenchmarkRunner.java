@@ -0,0 +1,37 @@
+package org.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Startet die Benchmarks mit den üblichen JMH-Kommandozeilenoptionen, aber immer mit dem {@link GCProfiler}.
+ *
+ * <p>
+ * Der Profiler liefert je Benchmark {@code gc.alloc.rate.norm}, die pro Operation allokierten Bytes, also z. B.
+ * Bytes je Wurf oder je Abfrage des Spielstands. Ohne {@code -rff} werden die Ergebnisse als JSON nach
+ * {@code jmh-result.json} geschrieben, damit sie sich zwischen Releases vergleichen lassen.
+ * </p>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class);
+        if (!commandLine.getResult().hasValue()) {
+            options.result("jmh-result.json");
+        }
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,44 @@
+package org.benchmarks;
+
+import org.dataTransfer.server.ServerModell.DiceIF;
+import org.dataTransfer.server.ServerModell.dice.DiceFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark eines Würfelwurfs für jede Strategie der {@link DiceFactory}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DiceBenchmark {
+
+    @Param({"seeded", "buffered", "thread-local"})
+    String strategy;
+
+    private DiceIF dice;
+
+    @Setup
+    public void setUp() {
+        dice = new DiceFactory(strategy, 256).create(42, 0);
+    }
+
+    @Benchmark
+    public int rollDice() {
+        return dice.rollDice();
+    }
+}
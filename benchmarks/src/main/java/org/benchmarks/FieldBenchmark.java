@@ -0,0 +1,45 @@
+package org.benchmarks;
+
+import org.dataTransfer.server.ServerModell.field.Field;
+import org.dataTransfer.server.ServerModell.player.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark der Feldeffekte des Standardbretts; der Feldindex durchläuft alle 64 Felder.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FieldBenchmark {
+
+    private Player player;
+    private int field;
+
+    @Setup
+    public void setUp() {
+        player = new Player();
+        player.setName("player1");
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public int applyFieldEffect() {
+        field = (field + 1) & 63;
+        Field.applyFieldEffect(field, player);
+        return player.getPostion();
+    }
+}
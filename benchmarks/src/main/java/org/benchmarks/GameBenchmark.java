@@ -0,0 +1,70 @@
+package org.benchmarks;
+
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks der Spiellogik, die bei jedem Wurf auf dem Server läuft.
+ *
+ * <p>
+ * Die Positionen der Spieler erreichen nach wenigen Würfen das Ziel und bleiben dort. Das ändert die Kosten nicht,
+ * da {@code CompiledBoard#move} für jedes Feld ein Tabellenzugriff ist.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameBenchmark {
+
+    @Param({"2", "3", "4"})
+    int players;
+
+    private Game game;
+
+    @Setup
+    public void setUp() {
+        Games.quietLogging();
+        game = Games.started(players);
+    }
+
+    /** Ein vollständiger Zug: würfeln, bewegen, Zug weitergeben. */
+    @Benchmark
+    public int rollDiceAndNextTurn() {
+        return game.rollDiceAndNextTurn();
+    }
+
+    /** Ein Zug samt der Momentaufnahme, die die GameEngine danach veröffentlicht. */
+    @Benchmark
+    public Game rollAndSnapshot() {
+        game.rollDiceAndNextTurn();
+        return game.snapshot();
+    }
+
+    /** Die Suche des aktuellen Spielers über seinen Namen. */
+    @Benchmark
+    public int getCurrentPlayerIndex() {
+        return game.getCurrentPlayerIndex();
+    }
+
+    /** Zug weitergeben; enthält die Namenssuche über {@link Game#getCurrentPlayerIndex()}. */
+    @Benchmark
+    public String nextTurn() {
+        game.nextTurn();
+        return game.getCurrentPlayerUsername();
+    }
+}
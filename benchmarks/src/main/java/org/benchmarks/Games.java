@@ -0,0 +1,54 @@
+package org.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import org.dataTransfer.server.ServerModell.board.CompiledBoard;
+import org.dataTransfer.server.ServerModell.dice.Dice;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.player.Player;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hilfsmethoden zum Aufbau der Spiele, die die Benchmarks verwenden.
+ */
+final class Games {
+
+    private Games() {
+    }
+
+    /**
+     * Erstellt ein gestartetes Spiel auf dem Standardbrett, wie es die GameEngine nach dem Start hält.
+     *
+     * @param players die Anzahl der Spieler (2 bis 4)
+     * @return das Spiel
+     */
+    static Game started(int players) {
+        Game game = new Game();
+        game.setId(1);
+        game.setGameHostName("player1");
+        game.setBoard(CompiledBoard.classic());
+        game.setDiceSeed(42);
+        game.setDice(new Dice(42));
+        for (int i = 1; i <= players; i++) {
+            Player player = new Player();
+            player.setId((long) i);
+            player.setName("player" + i);
+            game.addPlayer(player);
+            player.setReady(true);
+        }
+        game.setAllPlayersAreReady(true);
+        game.setGameStarted(true);
+        game.setGameState("Game");
+        game.setStateVersion(players * 2L + 1);
+        return game;
+    }
+
+    /**
+     * Setzt die Protokollierung auf INFO. Im Benchmark-Jar fehlt die Logback-Konfiguration des Servers; die
+     * Standardkonfiguration würde die DEBUG-Meldung von {@link Game#rollDiceAndNextTurn()} bei jedem Zug ausgeben.
+     * Gemessen wird damit nur die Prüfung des Levels, wie im Server.
+     */
+    static void quietLogging() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+    }
+}
@@ -0,0 +1,98 @@
+package org.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import org.client.controller.ClientController;
+import org.client.controller.GameStateDecoder;
+import org.dataTransfer.server.ServerController.GameStateEncoding;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.view.GameView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks einer Abfrage des Spielstands: Der Server serialisiert das {@link GameView} mit Jackson, der Client
+ * liest die Antwort mit Gson in {@link ClientController.GameData}. Zum Vergleich wird auch die Entität
+ * {@link Game} direkt serialisiert, wie es der Server vor Einführung der Lesemodelle tat.
+ *
+ * <p>
+ * Die {@code binary}-Benchmarks messen denselben Weg mit der per {@code Accept} aushandelbaren Binärdarstellung
+ * ({@link GameStateEncoding} auf dem Server, {@link GameStateDecoder} im Client).
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+
+    @Param({"2", "3", "4"})
+    int players;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Gson gson = new Gson();
+    private Game game;
+    private GameView view;
+    private String json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() throws Exception {
+        game = Games.started(players).snapshot();
+        view = GameView.of(game);
+        json = objectMapper.writeValueAsString(view);
+        binary = GameStateEncoding.encode(view);
+    }
+
+    /**
+     * Serverseite: die Antwort von {@code GET /api/games/{id}}. Die {@code GameEngine} erstellt das Lesemodell
+     * je Momentaufnahme nur einmal, beim Polling wird also nur serialisiert.
+     */
+    @Benchmark
+    public byte[] jacksonSerializeGameView() throws Exception {
+        return objectMapper.writeValueAsBytes(view);
+    }
+
+    /** Serverseite vor den Lesemodellen: die Entität direkt serialisiert. */
+    @Benchmark
+    public byte[] jacksonSerializeGame() throws Exception {
+        return objectMapper.writeValueAsBytes(game);
+    }
+
+    /** Serverseite: die Antwort von {@code GET /api/games/{id}} in der Binärdarstellung. */
+    @Benchmark
+    public byte[] binaryEncodeGameView() {
+        return GameStateEncoding.encode(view);
+    }
+
+    /** Clientseite: die Binärdarstellung direkt in {@link ClientController.GameData} gelesen. */
+    @Benchmark
+    public ClientController.GameData binaryDecodeGameData() {
+        return GameStateDecoder.decode(binary);
+    }
+
+    /** Clientseite mit einer gemeinsamen {@link Gson}-Instanz. */
+    @Benchmark
+    public ClientController.GameData gsonDeserializeGameData() {
+        return gson.fromJson(json, ClientController.GameData.class);
+    }
+
+    /** Clientseite, wie der Client heute abfragt: eine neue {@link Gson}-Instanz je Abfrage. */
+    @Benchmark
+    public ClientController.GameData gsonDeserializeGameDataNewGson() {
+        return new Gson().fromJson(json, ClientController.GameData.class);
+    }
+}
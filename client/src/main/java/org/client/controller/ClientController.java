@@ -1,6 +1,11 @@
 package org.client.controller;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.client.log.Log;
 import org.client.view.ViewIF;
 import org.client.view.ErrorView;
 import org.client.view.MainView;
@@ -17,8 +22,14 @@ import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.List;
+import java.util.stream.Stream;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -38,8 +49,18 @@ import java.util.concurrent.TimeUnit;
  */
 public class ClientController {
 
+    /** Protokoll des Spielablaufs und der Verbindungen; vor der Instanz angelegt, da der Konstruktor es nutzt */
+    private static final Log log = Log.get("game");
+    /** Protokoll der gesendeten Anfragen und ihrer Antworten (-Dhorse.log.http=debug) */
+    private static final Log httpLog = Log.get("http");
+    /** Protokoll der empfangenen Spielstände; sie kommen bei jeder Abfrage, daher wird nur jeder zehnte geschrieben */
+    private static final Log updateLog = Log.sampled("updates", 10);
+    /** Protokoll der Antwortzeiten: gesamt, davon im Server und im Netz (-Dhorse.log.timing=debug) */
+    private static final Log timingLog = Log.get("timing");
     /** Singleton-Instanz von ClientController */
     private static final ClientController instance = new ClientController();
+    /** Längste Wartezeit in Sekunden, die aus einem Retry-After des Servers übernommen wird */
+    private static final long MAX_RETRY_AFTER_SECONDS = 10;
     /** Hauptansicht zur Steuerung der UI-Elemente */
     private final ViewIF mainView;
     /** Scheduler für das periodische Abrufen von Spieldaten */
@@ -50,6 +71,30 @@ public class ClientController {
     private static PlayerData playerData;
     /** Basis-URL für die API-Endpunkte des Servers */
     private final String baseUrl = "http://localhost:8080/api";
+    /** Basis-URL des WebSocket-Spielkanals */
+    private final String wsUrl = "ws://localhost:8080/ws/games/";
+    /** Art des Empfangs von Spielständen: stream (Server-Sent Events, Standard), websocket oder polling (-Dhorse.updates=...) */
+    private final String updateMode = System.getProperty("horse.updates", "stream").toLowerCase(Locale.ROOT);
+    /** Gemeinsamer HTTP-Client für alle Anfragen, damit Verbindungen wiederverwendet werden */
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    /** Kennung dieses Clients im Header X-Client-Id, nach der der Server seine Anfragen begrenzt */
+    private final String clientId = UUID.randomUUID().toString();
+    /** Zeitpunkt (System.nanoTime), vor dem laut Retry-After keine Anfrage gesendet wird */
+    private volatile long retryAfterDeadline = System.nanoTime();
+    /** Der geöffnete WebSocket-Kanal oder null, falls keiner geöffnet ist */
+    private volatile WebSocket gameSocket;
+    /** Name des Spielbretts für neue Spiele (-Dhorse.board=...), siehe GET /api/boards */
+    private final String boardChoice = System.getProperty("horse.board", "classic");
+    /** Das Spielbrett des aktuellen Spiels oder null, falls es noch nicht geladen wurde */
+    private volatile BoardData board;
+    /** Darstellung der per Polling abgefragten Spielstände: binary (kompakt, Standard) oder json (-Dhorse.encoding=...) */
+    private final boolean binaryEncoding = !"json".equalsIgnoreCase(System.getProperty("horse.encoding", "binary"));
+    /** ETag des zuletzt per GET empfangenen Spielstands, für bedingte Anfragen */
+    private volatile String lastETag;
+    /** Gibt an, ob der Stream aktuell gelesen wird */
+    private volatile boolean streamActive = false;
+    /** Die Zeilen des aktuell geöffneten Streams, zum Schließen beim Beenden */
+    private volatile Stream<String> eventStream;
     // Dummy-Daten
     private int cntr = 0;
 
@@ -132,7 +177,7 @@ public class ClientController {
 
     /**
      * Erstellt ein neues Spiel auf dem Server mit dem angegebenen Spielernamen.
-     * Es wird eine POST-Anfrage an den Server gesendet, um das Spiel zu erstellen.
+     * Es wird eine POST-Anfrage an den Server gesendet, um das Spiel auf dem gewählten Spielbrett zu erstellen.
      *
      * @param playerName der Name des Spielers, der das Spiel erstellt
      * @throws URISyntaxException wenn die URL fehlerhaft ist
@@ -148,16 +193,15 @@ public class ClientController {
         Gson gson = new Gson();
         String playerJsonBody = gson.toJson(playerData);
 
-        System.out.println("Sende Anfrage: " + playerJsonBody);
+        httpLog.debug("Sende Anfrage: {}", playerJsonBody);
 
         HttpRequest postRequest = HttpRequest.newBuilder()
-                .uri(new URI(baseUrl + "/games"))
+                .uri(new URI(baseUrl + "/games?board=" + URLEncoder.encode(boardChoice, StandardCharsets.UTF_8)))
                 .header("Content-Type", "application/json")
                 .POST(HttpRequest.BodyPublishers.ofString(playerJsonBody))
                 .build();
 
-        HttpClient client = HttpClient.newHttpClient();
-        HttpResponse<String> response = client.send(postRequest, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = send(postRequest, HttpResponse.BodyHandlers.ofString());
 
         // Aktualisiere gameData, falls die Antwort erfolgreich war
         if (response.statusCode() >= 199 && response.statusCode() < 300) {
@@ -167,17 +211,16 @@ public class ClientController {
             // Aktualisiere playerData anhand der Spielerdaten
             playerData = gameData.getPlayers().isEmpty() ? null : gameData.getPlayers().get(0);
 
-            System.out.println("Serverantwort: " + response.body());
-            System.out.println("--------------------------------------------------------------------------------------------------------------------");
+            httpLog.debug("Serverantwort: {}", response.body());
             gson = new Gson();
-            String gameJsonBody = gson.toJson(gameData);
-            System.out.println("Clientdaten: " + gameJsonBody);
-            System.out.println("--------------------------------------------------------------------------------------------------------------------");
+            if (httpLog.isEnabled(Log.Level.DEBUG)) {
+                httpLog.debug("Clientdaten: {}", gson.toJson(gameData));
+            }
 
             // Aktualisiere die UI
             mainView.toggleView("Lobby");
             mainView.getLobbyView().getGameID().setText("GameID: " + gameData.getId());
-            startPolling();
+            startUpdates();
 
         } else {
             ErrorView.showError("Spielerstellung fehlgeschlagen. HTTP-Code: " + response.statusCode());
@@ -203,7 +246,7 @@ public class ClientController {
         Gson gson = new Gson();
         String playerJsonBody = gson.toJson(playerData);
 
-        System.out.println("Spielername: " + playerData.getName());
+        httpLog.debug("Spielername: {}", playerData.getName());
 
         HttpRequest putRequest = HttpRequest.newBuilder()
                 .uri(new URI(baseUrl + "/games/" + gameId + "/join"))
@@ -211,10 +254,9 @@ public class ClientController {
                 .PUT(HttpRequest.BodyPublishers.ofString(playerJsonBody))
                 .build();
 
-        HttpClient client = HttpClient.newHttpClient();
-        HttpResponse<String> response = client.send(putRequest, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = send(putRequest, HttpResponse.BodyHandlers.ofString());
 
-        System.out.println("Antwort: " + playerData.getId());
+        httpLog.debug("Antwort: {}", playerData.getId());
         if (response.statusCode() >= 200 && response.statusCode() < 300) {
             gameData = gson.fromJson(response.body(), GameData.class);
 
@@ -224,12 +266,12 @@ public class ClientController {
             mainView.toggleView("Lobby");
 
             mainView.getLobbyView().getGameID().setText("GameID: " + gameData.getId());
-            startPolling();
+            startUpdates();
 
         } else {
             ErrorView.showError("Spielbeitritt fehlgeschlagen. HTTP-Code: " + response.statusCode());
         }
-        System.out.println("Spielername: " + playerData.getName());
+        httpLog.debug("Spielername: {}", playerData.getName());
     }
 
     // ===================================================================================
@@ -285,6 +327,10 @@ public class ClientController {
 
     /**
      * Sendet den Bereitschaftsstatus des Spielers an den Server.
+     * <p>
+     * Status und anschließendes Lesen des Spielstands laufen in einer Anfrage an {@code POST /api/batch};
+     * die Lobby-Ansicht zeigt den neuen Stand sofort, statt auf die nächste Abfrage zu warten.
+     * </p>
      *
      * @param ready der neue Bereitschaftsstatus des Spielers
      */
@@ -293,39 +339,31 @@ public class ClientController {
             // Setzt den Bereitschaftsstatus
             playerData.setReady(ready);
 
-            // Initialisiert den JSON-Body mit den Spieler-Daten
-            Gson gson = new Gson();
-            String jsonRequest = gson.toJson(playerData);
-
-            System.out.println("Sende Anfrage: " + playerData.getId());
-            System.out.println("Sende Anfrage: " + playerData.getName());
-
-            // Bereitet die PUT-Anfrage vor
-            HttpRequest putRequest = HttpRequest.newBuilder()
-                    .uri(new URI(baseUrl + "/games/" + gameData.getId() + "/players/" + playerData.getId() + "/ready"))
-                    .header("Content-Type", "application/json")
-                    .PUT(HttpRequest.BodyPublishers.ofString(jsonRequest))
-                    .build();
+            httpLog.debug("Sende Anfrage: {} {}", playerData.getId(), playerData.getName());
 
-            // Sendet die Anfrage und empfängt die Antwort
-            HttpClient client = HttpClient.newHttpClient();
-            HttpResponse<String> response = client.send(putRequest, HttpResponse.BodyHandlers.ofString());
+            JsonObject readyOperation = batchOperation("ready");
+            readyOperation.addProperty("playerIndex", playerData.getPlayerIndex());
+            readyOperation.addProperty("ready", ready);
+            JsonArray operations = new JsonArray();
+            operations.add(readyOperation);
+            operations.add(batchOperation("get"));
 
-            System.out.println("Antwort: " + response.body());
+            JsonArray results = sendBatch(operations);
+            httpLog.debug("Antwort: {}", results.get(0));
+            applyBatchGame(results.get(1).getAsJsonObject());
 
-        } catch (URISyntaxException e) {
-            System.err.println("Ungültige URL: " + e.getMessage());
         } catch (IOException e) {
-            System.err.println("Netzwerkfehler: " + e.getMessage());
+            log.warn("Netzwerkfehler", e);
         } catch (InterruptedException e) {
-            System.err.println("Anfrage unterbrochen: " + e.getMessage());
+            log.warn("Anfrage unterbrochen: {}", e.getMessage());
             Thread.currentThread().interrupt(); // Wiederherstellen des Interrupt-Status
         }
     }
 
     /**
      * Informiert den Server, dass das Spiel gestartet wurde.
-     * Es wird eine PUT-Anfrage gesendet, die den Spielstatus aktualisiert.
+     * Start und anschließendes Lesen des Spielstands laufen in einer Anfrage an {@code POST /api/batch};
+     * die Spielansicht wird danach sofort aufgebaut.
      *
      * @throws IOException bei Netzwerkfehlern
      * @throws InterruptedException wenn der Request unterbrochen wird
@@ -333,17 +371,181 @@ public class ClientController {
     public void sendGameIsStarted() throws IOException, InterruptedException {
         gameData.setGameStarted(true);
         gameData.setGameState("Game");
-        Gson gson = new Gson();
-        String gameJsonBody = gson.toJson(gameData);
 
-        HttpRequest putRequest = HttpRequest.newBuilder()
-                .uri(URI.create(baseUrl + "/games/" + gameData.getId() + "/start"))
+        JsonArray operations = new JsonArray();
+        operations.add(batchOperation("start"));
+        operations.add(batchOperation("get"));
+
+        JsonArray results = sendBatch(operations);
+        httpLog.debug("Antwort: {}", results.get(0).getAsJsonObject().get("status"));
+        applyBatchGame(results.get(1).getAsJsonObject());
+    }
+
+    /**
+     * Erstellt eine Operation für {@code POST /api/batch} auf dem aktuellen Spiel.
+     *
+     * @param op die Art der Operation, z. B. {@code "ready"} oder {@code "get"}
+     * @return die Operation, um weitere Felder ergänzbar
+     */
+    private JsonObject batchOperation(String op) {
+        JsonObject operation = new JsonObject();
+        operation.addProperty("op", op);
+        operation.addProperty("gameId", gameData.getId());
+        return operation;
+    }
+
+    /**
+     * Sendet mehrere Operationen in einer Anfrage an {@code POST /api/batch}. Der Server führt alle Operationen
+     * eines Spiels als einen Befehl aus.
+     *
+     * @param operations die Operationen in Reihenfolge
+     * @return je Operation ein Ergebnis mit {@code status} und {@code body}
+     * @throws IOException bei Netzwerkfehlern oder falls der Server den Batch ablehnt
+     * @throws InterruptedException wenn der Request unterbrochen wird
+     */
+    private JsonArray sendBatch(JsonArray operations) throws IOException, InterruptedException {
+        HttpRequest postRequest = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/batch"))
                 .header("Content-Type", "application/json")
-                .PUT(HttpRequest.BodyPublishers.ofString(gameJsonBody))
+                .POST(HttpRequest.BodyPublishers.ofString(operations.toString()))
                 .build();
 
-        HttpClient client = HttpClient.newHttpClient();
-        HttpResponse<String> response = client.send(putRequest, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = send(postRequest, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("Batch abgelehnt. HTTP-Code: " + response.statusCode() + " " + response.body());
+        }
+        return JsonParser.parseString(response.body()).getAsJsonArray();
+    }
+
+    /**
+     * Sendet eine Anfrage mit der Kennung dieses Clients im Header {@code X-Client-Id}.
+     * <p>
+     * Weist der Server die Anfrage mit 429 ab, wartet der Client die im Header {@code Retry-After} genannten
+     * Sekunden (höchstens {@value #MAX_RETRY_AFTER_SECONDS}) und sendet sie einmal erneut. Bis dahin warten auch
+     * alle übrigen Anfragen dieses Clients. Bleibt es bei 429, wird diese Antwort zurückgegeben.
+     * </p>
+     *
+     * @param request die Anfrage
+     * @param handler verarbeitet den Inhalt der Antwort
+     * @return die Antwort
+     * @throws IOException bei Netzwerkfehlern
+     * @throws InterruptedException wenn der Request unterbrochen wird
+     */
+    private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler)
+            throws IOException, InterruptedException {
+        HttpRequest identified = HttpRequest.newBuilder(request, (name, value) -> true)
+                .header("X-Client-Id", clientId)
+                .build();
+        awaitRetryAfter();
+        long start = System.nanoTime();
+        HttpResponse<T> response = httpClient.send(identified, handler);
+        logTiming(response, System.nanoTime() - start);
+        if (response.statusCode() != 429) {
+            return response;
+        }
+        if (response.body() instanceof Stream<?> lines) {
+            lines.close();
+        }
+        long seconds = response.headers().firstValue("Retry-After")
+                .map(value -> {
+                    try {
+                        return Long.parseLong(value.trim());
+                    } catch (NumberFormatException e) {
+                        return 1L;
+                    }
+                })
+                .orElse(1L);
+        seconds = Math.max(1, Math.min(MAX_RETRY_AFTER_SECONDS, seconds));
+        log.warn("Server ausgelastet (429), neuer Versuch in {} s", seconds);
+        retryAfterDeadline = Math.max(retryAfterDeadline, System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds));
+        awaitRetryAfter();
+        start = System.nanoTime();
+        response = httpClient.send(identified, handler);
+        logTiming(response, System.nanoTime() - start);
+        return response;
+    }
+
+    /**
+     * Protokolliert die Antwortzeit einer Anfrage und den Anteil des Servers laut Header {@code Server-Timing}.
+     * Die Differenz ist die Zeit im Netz, beim Verbindungsaufbau und beim Übertragen der Antwort. Bei Streams
+     * zählt die Zeit bis zum Eintreffen der Header.
+     *
+     * @param response  die Antwort
+     * @param elapsedNs die Zeit vom Senden bis zum Empfang der Antwort in Nanosekunden
+     */
+    private void logTiming(HttpResponse<?> response, long elapsedNs) {
+        if (!timingLog.isEnabled(Log.Level.DEBUG)) {
+            return;
+        }
+        double totalMs = elapsedNs / 1_000_000.0;
+        double serverMs = response.headers().firstValue("Server-Timing")
+                .map(ClientController::parseServerTotal)
+                .orElse(Double.NaN);
+        HttpRequest request = response.request();
+        if (Double.isNaN(serverMs)) {
+            timingLog.debug("{} {} -> {}: {} ms", request.method(), request.uri().getPath(), response.statusCode(),
+                    String.format(Locale.ROOT, "%.2f", totalMs));
+        } else {
+            timingLog.debug("{} {} -> {}: {} ms, davon Server {} ms, Netz {} ms", request.method(),
+                    request.uri().getPath(), response.statusCode(), String.format(Locale.ROOT, "%.2f", totalMs),
+                    String.format(Locale.ROOT, "%.2f", serverMs),
+                    String.format(Locale.ROOT, "%.2f", Math.max(0, totalMs - serverMs)));
+        }
+    }
+
+    /**
+     * Liest die Gesamtdauer im Server aus einem Header {@code Server-Timing}, z. B.
+     * {@code engine;dur=0.041, total;dur=0.380}.
+     *
+     * @param header der Wert des Headers
+     * @return die Dauer in Millisekunden oder {@code NaN}, falls sie fehlt
+     */
+    private static double parseServerTotal(String header) {
+        for (String metric : header.split(",")) {
+            String[] parts = metric.trim().split(";");
+            if (parts[0].equals("total")) {
+                for (int i = 1; i < parts.length; i++) {
+                    String param = parts[i].trim();
+                    if (param.startsWith("dur=")) {
+                        try {
+                            return Double.parseDouble(param.substring(4));
+                        } catch (NumberFormatException e) {
+                            return Double.NaN;
+                        }
+                    }
+                }
+            }
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Wartet, bis die zuletzt vom Server genannte Wartezeit (Retry-After) abgelaufen ist.
+     *
+     * @throws InterruptedException wenn das Warten unterbrochen wird
+     */
+    private void awaitRetryAfter() throws InterruptedException {
+        long remaining = retryAfterDeadline - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+
+    /**
+     * Übernimmt den Spielstand aus dem Ergebnis einer {@code get}-Operation und aktualisiert die Ansicht.
+     *
+     * @param result das Ergebnis mit {@code status} und {@code body}
+     * @throws IOException bei Netzwerkfehlern
+     * @throws InterruptedException wenn der Request unterbrochen wird
+     */
+    private void applyBatchGame(JsonObject result) throws IOException, InterruptedException {
+        int status = result.get("status").getAsInt();
+        if (status != 200) {
+            log.warn("Spielstand nicht gelesen, Status {}: {}", status, result.get("body"));
+            return;
+        }
+        applyUpdate(200, result.get("body").toString());
+        refreshView();
     }
 
     // ===================================================================================
@@ -381,26 +583,39 @@ public class ClientController {
     /**
      * Fordert einen Würfelwurf vom Server an, sofern der Spieler an der Reihe ist.
      * Aktualisiert danach den Würfelwert in der Spielansicht.
+     * <p>
+     * Mit dem Wurf werden die zuletzt gesehene Zustandsversion und der eigene Spielername gesendet.
+     * Ist der lokale Stand veraltet oder der Spieler nicht mehr am Zug, antwortet der Server mit 409;
+     * der Wurf wird dann verworfen und der Stand beim nächsten Polling aktualisiert.
+     * Ist der WebSocket-Kanal geöffnet, wird der Wurf stattdessen als binärer ROLL-Rahmen gesendet.
+     * </p>
      */
     public void requestDiceRoll() {
         if (!isMyTurn()) {
             return;
         }
+        WebSocket socket = gameSocket;
+        if (socket != null) {
+            // Über den WebSocket-Kanal: das Ergebnis kommt als MOVE-Rahmen an alle Spieler zurück
+            socket.sendBinary(ByteBuffer.allocate(9).put(FRAME_ROLL).putLong(gameData.getStateVersion()).flip(), true);
+            return;
+        }
         try {
+            String query = "?expectedVersion=" + gameData.getStateVersion()
+                    + "&player=" + URLEncoder.encode(playerData.getName(), StandardCharsets.UTF_8);
             HttpRequest request = HttpRequest.newBuilder()
-                    .uri(new URI(baseUrl + "/games/" + gameData.getId() + "/rollDice"))
+                    .uri(new URI(baseUrl + "/games/" + gameData.getId() + "/rollDice" + query))
                     .header("Content-Type", "application/json")
                     .PUT(HttpRequest.BodyPublishers.noBody())
                     .build();
 
-            HttpClient client = HttpClient.newHttpClient();
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = send(request, HttpResponse.BodyHandlers.ofString());
 
             if (response.statusCode() >= 200 && response.statusCode() < 300) {
                 Gson gson = new Gson();
                 gameData = gson.fromJson(response.body(), GameData.class);
 
-                System.out.println("Empfangener Würfelwert: " + gameData.getLastDiceRoll());
+                log.info("Empfangener Würfelwert: {}", gameData.getLastDiceRoll());
                 SwingUtilities.invokeLater(() -> {
                     try {
                         updateDiceDisplay(gameData.getLastDiceRoll());
@@ -408,6 +623,8 @@ public class ClientController {
                         throw new RuntimeException(e);
                     }
                 });
+            } else if (response.statusCode() == 409) {
+                log.info("Würfelwurf abgelehnt, Spielstand veraltet: {}", response.body());
             } else {
                 ErrorView.showError("Würfeln fehlgeschlagen. HTTP-Code: " + response.statusCode());
             }
@@ -428,7 +645,7 @@ public class ClientController {
         playerData.increasePostion(gameData.getLastDiceRoll());
         Gson gson = new Gson();
         String jsonRequest = gson.toJson(playerData);
-        System.out.println("Lokale Spielerposition: " + jsonRequest);
+        httpLog.debug("Lokale Spielerposition: {}", jsonRequest);
 
         HttpRequest putRequest = HttpRequest.newBuilder()
                 .uri(new URI(baseUrl + "/games/" + gameData.getId() + "/players/" + playerData.getId() + "/postion"))
@@ -436,10 +653,9 @@ public class ClientController {
                 .PUT(HttpRequest.BodyPublishers.ofString(jsonRequest))
                 .build();
 
-        HttpClient client = HttpClient.newHttpClient();
-        HttpResponse<String> response = client.send(putRequest, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = send(putRequest, HttpResponse.BodyHandlers.ofString());
 
-        System.out.println("Antwort des Spielers: " + response.body());
+        httpLog.debug("Antwort des Spielers: {}", response.body());
     }
 
     /**
@@ -487,7 +703,7 @@ public class ClientController {
             try (InputStream is = getClass().getResourceAsStream(imagePath)) {
                 if (is == null) {
                     // If this prints, your path might be wrong or the file isn't on the classpath
-                    System.err.println("Resource not found: " + imagePath);
+                    log.warn("Resource not found: {}", imagePath);
                     return;
                 }
                 // Read the image
@@ -546,39 +762,357 @@ public class ClientController {
     //                        < Start des Pollings und Updates >
     // ===================================================================================
 
+    /**
+     * Startet den Empfang von Spieldaten: bevorzugt über den Server-Sent-Events-Stream oder den
+     * WebSocket-Kanal, sonst (oder falls die Verbindung abbricht) über periodisches Polling.
+     */
+    public void startUpdates() {
+        switch (updateMode) {
+            case "websocket":
+                startWebSocket();
+                break;
+            case "polling":
+                startPolling();
+                break;
+            default:
+                startStreaming();
+                break;
+        }
+    }
+
     /**
      * Startet das periodische Abrufen von Spieldaten vom Server.
-     * Abhängig vom Spielstatus werden die entsprechenden Ansichten (Lobby oder Spiel) aktualisiert.
+     * Abhängig vom Spielstatus werden die entsprechenden Ansichten (Lobby oder Spiel) aktualisiert,
+     * jedoch nur, wenn sich der Spielstand seit der letzten Abfrage geändert hat.
      */
     public void startPolling() {
-        System.out.println("Polling wird gestartet");
+        log.info("Polling wird gestartet");
         scheduler.scheduleAtFixedRate(() -> {
             try {
-                if (Objects.equals(gameData.getGameState(), "Game")) {
-                    updateGameView();
-                } else if (Objects.equals(gameData.getGameState(), "Lobby")) {
-                    updateLobbyView();
+                if (receiveUpdate()) {
+                    refreshView();
                 }
-                receiveUpdate();
             } catch (IOException e) {
-                System.err.println("Netzwerkfehler: " + e.getMessage());
+                log.warn("Netzwerkfehler", e);
             } catch (InterruptedException e) {
-                System.err.println("Anfrage unterbrochen: " + e.getMessage());
+                log.warn("Anfrage unterbrochen: {}", e.getMessage());
                 Thread.currentThread().interrupt();
             }
         }, 0, 100, TimeUnit.MILLISECONDS); // Polling alle 100ms
     }
 
     /**
-     * Stoppt das periodische Abrufen von Spieldaten.
+     * Stoppt das periodische Abrufen von Spieldaten sowie einen eventuell geöffneten Stream oder WebSocket-Kanal.
      */
     public void stopPolling() {
-        System.out.println("Polling wird gestoppt...");
+        log.info("Polling wird gestoppt");
+        stopStreaming();
+        stopWebSocket();
         if (scheduler != null && !scheduler.isShutdown()) {
             scheduler.shutdownNow(); // Stoppt alle geplanten Aufgaben sofort
         }
     }
 
+    /**
+     * Aktualisiert abhängig vom Spielstatus die Lobby- oder die Spielansicht.
+     *
+     * @throws IOException bei Netzwerkfehlern
+     * @throws InterruptedException wenn der Request unterbrochen wird
+     */
+    private void refreshView() throws IOException, InterruptedException {
+        if (gameData == null) {
+            return;
+        }
+        if (Objects.equals(gameData.getGameState(), "Game")) {
+            updateGameView();
+        } else if (Objects.equals(gameData.getGameState(), "Lobby")) {
+            updateLobbyView();
+        }
+    }
+
+    // ===================================================================================
+    //                        < Server-Sent Events Stream >
+    // ===================================================================================
+
+    /**
+     * Öffnet den Server-Sent-Events-Stream des aktuellen Spiels in einem eigenen Thread.
+     * Der Server sendet den Spielstand nur bei Änderungen, sodass kein periodisches Polling nötig ist.
+     */
+    public void startStreaming() {
+        log.info("Stream wird gestartet");
+        streamActive = true;
+        long gameId = gameData.getId();
+        Thread streamThread = new Thread(() -> consumeStream(gameId), "game-stream");
+        streamThread.setDaemon(true);
+        streamThread.start();
+    }
+
+    /**
+     * Schließt den Stream, falls einer geöffnet ist.
+     */
+    public void stopStreaming() {
+        streamActive = false;
+        Stream<String> lines = eventStream;
+        if (lines != null) {
+            lines.close();
+            eventStream = null;
+        }
+    }
+
+    /**
+     * Liest den Stream zeilenweise und verarbeitet jedes vollständige Ereignis.
+     * Bricht der Stream ab, während das Spiel noch läuft, wird auf Polling umgeschaltet.
+     *
+     * @param gameId die ID des Spiels, dessen Stream gelesen wird
+     */
+    private void consumeStream(long gameId) {
+        try {
+            HttpRequest streamRequest = HttpRequest.newBuilder()
+                    .uri(URI.create(baseUrl + "/games/" + gameId + "/stream"))
+                    .header("Accept", "text/event-stream")
+                    .GET()
+                    .build();
+
+            HttpResponse<Stream<String>> response = send(streamRequest, HttpResponse.BodyHandlers.ofLines());
+
+            if (response.statusCode() == 200) {
+                eventStream = response.body();
+                String eventName = "message";
+                StringBuilder data = new StringBuilder();
+                Iterator<String> lines = eventStream.iterator();
+                while (streamActive && lines.hasNext()) {
+                    String line = lines.next();
+                    if (line.isEmpty()) {
+                        // Leerzeile: Ereignis ist vollständig
+                        handleStreamEvent(gameId, eventName, data.toString());
+                        eventName = "message";
+                        data.setLength(0);
+                    } else if (line.startsWith("event:")) {
+                        eventName = line.substring(6).trim();
+                    } else if (line.startsWith("data:")) {
+                        data.append(line.substring(5).trim());
+                    }
+                    // Kommentare (Heartbeats) und IDs werden ignoriert
+                }
+            } else {
+                log.warn("Stream nicht verfügbar. HTTP-Code: {}", response.statusCode());
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Stream abgebrochen", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Fallback: Läuft das Spiel noch, wird auf Polling umgeschaltet
+        if (streamActive && isCurrentGame(gameId)) {
+            log.info("Stream beendet, Wechsel zu Polling");
+            streamActive = false;
+            startPolling();
+        }
+    }
+
+    /**
+     * Verarbeitet ein einzelnes Ereignis aus dem Stream. Ereignisse eines Spiels, das der Spieler inzwischen
+     * verlassen hat, werden verworfen.
+     *
+     * @param gameId    die ID des Spiels, zu dem der Stream gehört
+     * @param eventName der Name des Ereignisses ({@code game} oder {@code deleted})
+     * @param data      die Daten des Ereignisses
+     * @throws IOException bei Netzwerkfehlern
+     * @throws InterruptedException wenn der Request unterbrochen wird
+     */
+    private void handleStreamEvent(long gameId, String eventName, String data)
+            throws IOException, InterruptedException {
+        if (!isCurrentGame(gameId)) {
+            streamActive = false;
+            return;
+        }
+        if ("deleted".equals(eventName)) {
+            streamActive = false;
+            applyUpdate(404, "");
+        } else if ("game".equals(eventName) && !data.isEmpty()) {
+            applyUpdate(200, data);
+            refreshView();
+        }
+    }
+
+    // ===================================================================================
+    //                        < WebSocket-Kanal >
+    // ===================================================================================
+
+    /** Rahmentyp: Würfelwurf anfordern (Client an Server) */
+    private static final byte FRAME_ROLL = 0x01;
+    /** Rahmentyp: ein Spieler wurde bewegt (Server an Client) */
+    private static final byte FRAME_MOVE = 0x11;
+    /** Rahmentyp: Würfelwurf abgelehnt (Server an Client) */
+    private static final byte FRAME_CONFLICT = 0x12;
+
+    /**
+     * Öffnet den WebSocket-Kanal des aktuellen Spiels.
+     * Der Server sendet zuerst den vollständigen Spielstand und danach bei jedem Würfelwurf nur einen
+     * 13 Byte großen MOVE-Rahmen; alle anderen Änderungen kommen als vollständiger Spielstand.
+     * Kann der Kanal nicht geöffnet werden, wird auf Polling umgeschaltet.
+     */
+    public void startWebSocket() {
+        log.info("WebSocket-Kanal wird geöffnet");
+        String player = URLEncoder.encode(playerData.getName(), StandardCharsets.UTF_8);
+        httpClient.newWebSocketBuilder()
+                .buildAsync(URI.create(wsUrl + gameData.getId() + "?player=" + player),
+                        new GameSocketListener(gameData.getId()))
+                .whenComplete((socket, error) -> {
+                    if (error != null) {
+                        log.warn("WebSocket nicht verfügbar: {}, Wechsel zu Polling", error.getMessage());
+                        startPolling();
+                    } else {
+                        gameSocket = socket;
+                    }
+                });
+    }
+
+    /**
+     * Schließt den WebSocket-Kanal, falls einer geöffnet ist.
+     */
+    public void stopWebSocket() {
+        WebSocket socket = gameSocket;
+        gameSocket = null;
+        if (socket != null) {
+            socket.sendClose(WebSocket.NORMAL_CLOSURE, "");
+        }
+    }
+
+    /**
+     * Verarbeitet einen binären Rahmen des WebSocket-Kanals.
+     * Ein MOVE-Rahmen wird nur übernommen, wenn er genau auf den lokalen Stand folgt; sonst wurde ein Rahmen
+     * verpasst und die fehlenden Änderungen werden über {@link #catchUp()} nachgeladen.
+     *
+     * @param frame der vollständige Rahmen
+     * @throws IOException bei Netzwerkfehlern
+     * @throws InterruptedException wenn der Request unterbrochen wird
+     */
+    private void handleSocketFrame(ByteBuffer frame) throws IOException, InterruptedException {
+        if (gameData == null || !frame.hasRemaining()) {
+            return;
+        }
+        byte type = frame.get();
+        long version = frame.getLong();
+        if (type == FRAME_MOVE) {
+            int mover = frame.get() & 0xFF;
+            int position = frame.get() & 0xFF;
+            int dice = frame.get() & 0xFF;
+            int next = frame.get() & 0xFF;
+            List<PlayerData> players = gameData.getPlayers();
+            if (version == gameData.getStateVersion() + 1 && mover < players.size() && next < players.size()) {
+                players.get(mover).setPostion(position);
+                gameData.setLastDiceRoll(dice);
+                gameData.setCurrentPlayerUsername(players.get(next).getName());
+                gameData.setStateVersion(version);
+            } else if (version > gameData.getStateVersion()) {
+                log.info("Rahmen verpasst, verpasste Ereignisse werden nachgeladen");
+                catchUp();
+            }
+            refreshView();
+        } else if (type == FRAME_CONFLICT) {
+            log.info("Würfelwurf abgelehnt, aktuelle Version: {}", version);
+        }
+    }
+
+    /**
+     * Listener des WebSocket-Kanals. Setzt fragmentierte Nachrichten zusammen und gibt vollständige
+     * Spielstände an {@link #applyUpdate(int, String)} bzw. binäre Rahmen an {@link #handleSocketFrame(ByteBuffer)} weiter.
+     * Nachrichten eines Spiels, das der Spieler inzwischen verlassen hat, werden verworfen.
+     */
+    private class GameSocketListener implements WebSocket.Listener {
+        private final long gameId;
+        private final StringBuilder text = new StringBuilder();
+        private ByteBuffer binary = ByteBuffer.allocate(16);
+
+        private GameSocketListener(long gameId) {
+            this.gameId = gameId;
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            text.append(data);
+            if (last) {
+                String body = text.toString();
+                text.setLength(0);
+                try {
+                    if (isCurrentGame(gameId)) {
+                        applyUpdate(200, body);
+                        refreshView();
+                    }
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Spielstand konnte nicht verarbeitet werden: {}", e.getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onBinary(WebSocket webSocket, ByteBuffer data, boolean last) {
+            if (binary.remaining() < data.remaining()) {
+                binary = ByteBuffer.allocate(binary.position() + data.remaining()).put(binary.flip());
+            }
+            binary.put(data);
+            if (last) {
+                binary.flip();
+                try {
+                    if (isCurrentGame(gameId)) {
+                        handleSocketFrame(binary);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Rahmen konnte nicht verarbeitet werden: {}", e.getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                binary.clear();
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+            log.info("WebSocket geschlossen: {} {}", statusCode, reason);
+            connectionLost(webSocket);
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket webSocket, Throwable error) {
+            log.warn("WebSocket abgebrochen: {}", error.getMessage());
+            connectionLost(webSocket);
+        }
+
+        /**
+         * Wechselt zu Polling, falls der Kanal unerwartet geschlossen wurde und das Spiel noch läuft.
+         * Ist das Spiel gelöscht, meldet das Polling dies mit 404.
+         */
+        private void connectionLost(WebSocket webSocket) {
+            if (gameSocket == webSocket) {
+                gameSocket = null;
+                if (isCurrentGame(gameId)) {
+                    log.info("WebSocket beendet, Wechsel zu Polling");
+                    startPolling();
+                }
+            }
+        }
+    }
+
+    /**
+     * Prüft, ob ein Spiel das ist, in dem sich der Spieler gerade befindet.
+     *
+     * @param gameId die ID des Spiels
+     * @return {@code true}, falls der lokale Spielstand zu diesem Spiel gehört
+     */
+    private boolean isCurrentGame(long gameId) {
+        GameData current = gameData;
+        return current != null && current.getId() == gameId;
+    }
+
     /**
      * Aktualisiert die Lobby-Ansicht basierend auf den aktuellen Spieldaten.
      * Zeigt die Liste der beigetretenen Spieler an und prüft, ob alle Spieler bereit sind.
@@ -620,7 +1154,7 @@ public class ClientController {
 
         // Überprüfen: Falls der Spieler nicht mehr im Spiel ist, zur Startansicht zurückkehren
         if (!playerStillInGame) {
-            System.out.println("Spieler ist nicht mehr im Spiel. Zurück zur Startansicht.");
+            log.info("Spieler ist nicht mehr im Spiel. Zurück zur Startansicht.");
             playerData = null;
             gameData = null;
             mainView.toggleView("Start");
@@ -629,7 +1163,7 @@ public class ClientController {
 
         // Wechsel zur Spielansicht, falls das Spiel gestartet wurde
         if (gameData.isGameStarted()) {
-            System.out.println("Spiel gestartet, Wechsel zur Spielansicht");
+            log.info("Spiel gestartet, Wechsel zur Spielansicht");
             mainView.toggleView("Game");
         }
     }
@@ -642,9 +1176,13 @@ public class ClientController {
      * @throws InterruptedException wenn der Request unterbrochen wird
      */
     public void updateGameView() throws IOException, InterruptedException {
-        // Überprüfe Gewinnbedingung: Erreicht oder überschreitet ein Spieler Feld 63, wird dieser als Gewinner erklärt.
+        BoardData currentBoard = loadBoard();
+        boolean boardChanged = currentBoard != board;
+        board = currentBoard;
+
+        // Überprüfe Gewinnbedingung: Erreicht ein Spieler das Zielfeld des Spielbretts, wird dieser als Gewinner erklärt.
         for (PlayerData p : gameData.getPlayers()) {
-            if (p.getPostion() >= 63) {  // Annahme: 63 ist das Zielfeld
+            if (p.getPostion() >= currentBoard.getFinish()) {
                 SwingUtilities.invokeLater(() -> {
                     JFrame frame = (JFrame) SwingUtilities.getWindowAncestor(mainView.getGameView());
                     WinnerView winnerView = new WinnerView(p.getName(), frame.getSize());
@@ -663,12 +1201,17 @@ public class ClientController {
             // Switch to the Game view.
             mainView.toggleView("Game");
 
+            // Render the board the server declared for this game.
+            if (boardChanged) {
+                mainView.getGameView().setBoard(currentBoard.getFields(), currentBoard.getJumpMap());
+            }
+
             // Update static UI elements.
             mainView.getGameView().getScoreArea().setText(playerData.getName());
             try {
                 updateDiceDisplay(gameData.getLastDiceRoll());
             } catch (IOException e) {
-                e.printStackTrace();
+                log.warn("Würfelbild konnte nicht geladen werden: {}", e.getMessage());
             }
 
             // Update the roll button state.
@@ -694,7 +1237,7 @@ public class ClientController {
 
             // Place players on the board.
             for (PlayerData p : gameData.getPlayers()) {
-                System.out.println("Placing " + p.getName() + " at field " + p.getPostion());
+                updateLog.debug("Placing {} at field {}", p.getName(), p.getPostion());
                 int boardIndex = p.getPostion();          // Use the position from the server or local data
                 int sectionIndex = p.getPlayerIndex() - 1;  // Adjust index if needed
                 mainView.getGameView().movePlayerPosition(boardIndex, sectionIndex, p.getName());
@@ -702,28 +1245,181 @@ public class ClientController {
         });
     }
 
+    /**
+     * Liefert das Spielbrett des aktuellen Spiels. Es wird nur beim ersten Aufruf bzw. wenn das Spiel
+     * ein anderes Brett nennt über {@code GET /api/boards/{name}} geladen.
+     *
+     * @return das Spielbrett
+     * @throws IOException bei Netzwerkfehlern oder falls der Server das Brett nicht kennt
+     * @throws InterruptedException wenn der Request unterbrochen wird
+     */
+    private BoardData loadBoard() throws IOException, InterruptedException {
+        BoardData current = board;
+        String name = gameData.getBoardName();
+        if (current != null && current.getName().equals(name)) {
+            return current;
+        }
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/boards/" + URLEncoder.encode(name, StandardCharsets.UTF_8)))
+                .GET()
+                .build();
+        HttpResponse<String> response = send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("Spielbrett " + name + " konnte nicht geladen werden: " + response.statusCode());
+        }
+        return new Gson().fromJson(response.body(), BoardData.class);
+    }
+
     /**
      * Ruft aktuelle Spieldaten vom Server ab und aktualisiert das Spiel.
      * Bei bestimmten Bedingungen (z. B. Spiel nicht gefunden) wird die Ansicht zurückgesetzt.
+     * <p>
+     * Der ETag der letzten Antwort wird im Header {@code If-None-Match} mitgesendet. Hat sich das Spiel
+     * nicht verändert, antwortet der Server mit 304 ohne Inhalt und der lokale Stand bleibt unverändert.
+     * </p>
+     * <p>
+     * Sofern nicht {@code -Dhorse.encoding=json} gesetzt ist, wird die kompakte Binärdarstellung angefordert
+     * und mit dem {@link GameStateDecoder} direkt in {@link GameData} gelesen. Antwortet der Server dennoch
+     * mit JSON, wird dieses verwendet.
+     * </p>
      *
+     * @return true, falls ein neuer Spielstand empfangen wurde, false bei 304 oder falls der Server weiterhin
+     *         ausgelastet ist (429)
      * @throws IOException bei Netzwerkfehlern
      * @throws InterruptedException wenn der Request unterbrochen wird
      */
-    public void receiveUpdate() throws IOException, InterruptedException {
-        HttpRequest getRequest = HttpRequest.newBuilder()
+    public boolean receiveUpdate() throws IOException, InterruptedException {
+        HttpRequest.Builder getRequest = HttpRequest.newBuilder()
                 .uri(URI.create(baseUrl + "/games/" + gameData.getId()))
                 .header("Content-Type", "application/json")
+                .header("Accept", binaryEncoding ? GameStateDecoder.MEDIA_TYPE + ", application/json;q=0.5"
+                        : "application/json")
+                .GET();
+        String etag = lastETag;
+        if (etag != null) {
+            getRequest.header("If-None-Match", etag);
+        }
+
+        HttpResponse<byte[]> response = send(getRequest.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() == 304 || response.statusCode() == 429) {
+            return false;
+        }
+        lastETag = response.headers().firstValue("ETag").orElse(null);
+
+        boolean binary = response.statusCode() == 200 && response.headers().firstValue("Content-Type")
+                .filter(type -> type.startsWith(GameStateDecoder.MEDIA_TYPE)).isPresent();
+        if (binary) {
+            updateLog.debug("Antwort: {} Bytes (binär)", response.body().length);
+            applyUpdate(GameStateDecoder.decode(response.body()));
+        } else {
+            String body = new String(response.body(), StandardCharsets.UTF_8);
+            updateLog.debug("Antwort: {}", body);
+            applyUpdate(response.statusCode(), body);
+        }
+        return true;
+    }
+
+    /**
+     * Lädt die seit dem lokalen Stand verpassten Ereignisse vom Server und wendet sie an.
+     * Liegt der lokale Stand zu weit zurück, liefert der Server stattdessen den vollständigen Spielstand.
+     *
+     * @throws IOException bei Netzwerkfehlern
+     * @throws InterruptedException wenn der Request unterbrochen wird
+     */
+    public void catchUp() throws IOException, InterruptedException {
+        HttpRequest getRequest = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/games/" + gameData.getId() + "/events?after=" + gameData.getStateVersion()))
                 .GET()
                 .build();
 
-        HttpClient client = HttpClient.newHttpClient();
-        HttpResponse<String> response = client.send(getRequest, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = send(getRequest, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            applyUpdate(response.statusCode(), "");
+            return;
+        }
+
+        JsonObject page = JsonParser.parseString(response.body()).getAsJsonObject();
+        JsonElement snapshot = page.get("snapshot");
+        if (snapshot != null && !snapshot.isJsonNull()) {
+            log.info("Zu weit zurück, vollständiger Spielstand wird übernommen");
+            applyUpdate(200, snapshot.toString());
+            return;
+        }
+        for (JsonElement element : page.getAsJsonArray("events")) {
+            applyEvent(element.getAsJsonObject().getAsJsonObject("event"));
+        }
+        gameData.setStateVersion(page.get("version").getAsLong());
+    }
 
-        System.out.println("Antwort: " + response.body());
+    /**
+     * Wendet ein einzelnes Ereignis aus dem Ereignis-Log des Servers auf die lokalen Spieldaten an.
+     *
+     * @param event das Ereignis mit seinem Typ im Feld {@code type}
+     */
+    private void applyEvent(JsonObject event) {
+        List<PlayerData> players = gameData.getPlayers();
+        switch (event.get("type").getAsString()) {
+            case "PlayerJoined": {
+                PlayerData joined = new PlayerData();
+                joined.setId(event.get("playerId").getAsLong());
+                joined.setName(event.get("name").getAsString());
+                joined.setPlayerIndex(event.get("playerIndex").getAsInt());
+                players.add(joined);
+                gameData.setCurrentPlayersCount(players.size());
+                gameData.setAllPlayersReady(false);
+                break;
+            }
+            case "ReadyChanged":
+                findPlayer(event.get("playerId").getAsLong())
+                        .ifPresent(p -> p.setReady(event.get("ready").getAsBoolean()));
+                gameData.setAllPlayersReady(event.get("allPlayersReady").getAsBoolean());
+                break;
+            case "GameStarted":
+                gameData.setGameStarted(true);
+                gameData.setGameState(event.get("gameState").getAsString());
+                break;
+            case "DiceRolled":
+                findPlayer(event.get("playerId").getAsLong())
+                        .ifPresent(p -> p.setPostion(event.get("target").getAsInt()));
+                gameData.setLastDiceRoll(event.get("value").getAsInt());
+                break;
+            case "TurnAdvanced":
+                gameData.setCurrentPlayerUsername(event.get("player").getAsString());
+                break;
+            case "PlayerLeft":
+                long playerId = event.get("playerId").getAsLong();
+                players.removeIf(p -> p.getId() != null && p.getId() == playerId);
+                gameData.setCurrentPlayersCount(players.size());
+                break;
+            default:
+                log.warn("Unbekanntes Ereignis: {}", event);
+                break;
+        }
+    }
+
+    /**
+     * Sucht einen Spieler in den lokalen Spieldaten.
+     *
+     * @param playerId die ID des Spielers
+     * @return der Spieler, falls vorhanden
+     */
+    private Optional<PlayerData> findPlayer(long playerId) {
+        return gameData.getPlayers().stream()
+                .filter(p -> p.getId() != null && p.getId() == playerId)
+                .findFirst();
+    }
 
+    /**
+     * Übernimmt einen vom Server empfangenen Spielstand, unabhängig davon, ob er per Polling
+     * oder über den Stream empfangen wurde.
+     *
+     * @param statusCode der HTTP-Statuscode der Antwort (404, falls das Spiel nicht mehr existiert)
+     * @param body       der Spielstand als JSON
+     */
+    private void applyUpdate(int statusCode, String body) {
         // Falls das Spiel nicht gefunden wurde, zur Startansicht wechseln
-        if (response.statusCode() == 404 || response.body().isEmpty()) {
-            System.out.println("Spiel nicht gefunden. Zurück zur Startansicht.");
+        if (statusCode == 404 || body.isEmpty()) {
+            log.info("Spiel nicht gefunden. Zurück zur Startansicht.");
             playerData = null;
             gameData = null;
             mainView.toggleView("Start");
@@ -731,17 +1427,26 @@ public class ClientController {
         }
 
         Gson gson = new Gson();
-        gameData = gson.fromJson(response.body(), GameData.class);
+        applyUpdate(gson.fromJson(body, GameData.class));
+    }
+
+    /**
+     * Übernimmt einen bereits gelesenen Spielstand, unabhängig von seiner Darstellung auf der Leitung.
+     *
+     * @param update der neue Spielstand
+     */
+    private void applyUpdate(GameData update) {
+        gameData = update;
 
         // Falls nur ein Spieler in der Lobby ist und das Spiel noch nicht gestartet wurde, ignoriere das Update
         if (gameData.getPlayers().size() == 1 && !gameData.isGameStarted()) {
-            System.out.println("Spiel noch in der Lobby mit einem Spieler. Update wird ignoriert.");
+            updateLog.debug("Spiel noch in der Lobby mit einem Spieler. Update wird ignoriert.");
             return;
         }
 
         // Falls nach Spielstart nur noch ein Spieler übrig ist, beende das Spiel
         if (gameData.getPlayers().size() == 1 && gameData.isGameStarted()) {
-            System.out.println("Spiel beendet, da nach dem Start nur noch ein Spieler übrig ist. Zurück zur Startansicht.");
+            log.info("Spiel beendet, da nach dem Start nur noch ein Spieler übrig ist. Zurück zur Startansicht.");
             playerData = null;
             gameData = null;
             mainView.toggleView("Start");
@@ -760,16 +1465,18 @@ public class ClientController {
     public void playerExitGame() {
         try {
             if (playerData != null && gameData != null) {
+                // Stream und Kanal schließen, damit ihre Nachrichten nicht mehr in die Startansicht gelangen
+                stopStreaming();
+                stopWebSocket();
                 HttpRequest deleteRequest = HttpRequest.newBuilder()
                         .uri(new URI(baseUrl + "/games/" + gameData.getId() + "/players/" + playerData.getId()))
                         .header("Content-Type", "application/json")
                         .DELETE()
                         .build();
 
-                HttpClient client = HttpClient.newHttpClient();
-                HttpResponse<String> response = client.send(deleteRequest, HttpResponse.BodyHandlers.ofString());
+                HttpResponse<String> response = send(deleteRequest, HttpResponse.BodyHandlers.ofString());
 
-                System.out.println("Antwort beim Verlassen des Spiels: " + response.body());
+                httpLog.debug("Antwort beim Verlassen des Spiels: {}", response.body());
 
                 // Lösche Spieler- und Spieldaten
                 playerData = null;
@@ -794,16 +1501,17 @@ public class ClientController {
     public void playerExitLobby() {
         try {
             if (playerData != null && gameData != null) {
+                stopStreaming();
+                stopWebSocket();
                 HttpRequest deleteRequest = HttpRequest.newBuilder()
                         .uri(new URI(baseUrl + "/games/" + gameData.getId() + "/players/" + playerData.getId()))
                         .header("Content-Type", "application/json")
                         .DELETE()
                         .build();
 
-                HttpClient client = HttpClient.newHttpClient();
-                HttpResponse<String> response = client.send(deleteRequest, HttpResponse.BodyHandlers.ofString());
+                HttpResponse<String> response = send(deleteRequest, HttpResponse.BodyHandlers.ofString());
 
-                System.out.println("Antwort beim Verlassen der Lobby: " + response.body());
+                httpLog.debug("Antwort beim Verlassen der Lobby: {}", response.body());
                 playerData = null;
                 gameData = null;
                 mainView.toggleView("Start");
@@ -844,6 +1552,28 @@ public class ClientController {
         private java.util.List<PlayerData> players = new ArrayList<>();
         /** Aktuelle Anzahl der Spieler */
         private int currentPlayersCount = 0;
+        /** Zustandsversion des Spiels, wird bei jeder Änderung auf dem Server erhöht */
+        private long stateVersion = 0;
+        /** Name des Spielbretts, auf dem das Spiel gespielt wird */
+        private String boardName = "classic";
+
+        /**
+         * Gibt den Namen des Spielbretts zurück.
+         *
+         * @return der Name des Spielbretts
+         */
+        public String getBoardName() {
+            return boardName;
+        }
+
+        /**
+         * Setzt den Namen des Spielbretts.
+         *
+         * @param boardName der Name des Spielbretts
+         */
+        public void setBoardName(String boardName) {
+            this.boardName = boardName;
+        }
 
         /**
          * Gibt den aktuellen Spielstatus zurück.
@@ -962,6 +1692,33 @@ public class ClientController {
             return lastDiceRoll;
         }
 
+        /**
+         * Setzt den zuletzt gewürfelten Wert.
+         *
+         * @param lastDiceRoll der neue Würfelwert
+         */
+        public void setLastDiceRoll(int lastDiceRoll) {
+            this.lastDiceRoll = lastDiceRoll;
+        }
+
+        /**
+         * Gibt die Zustandsversion des Spiels zurück.
+         *
+         * @return die Zustandsversion
+         */
+        public long getStateVersion() {
+            return stateVersion;
+        }
+
+        /**
+         * Setzt die Zustandsversion des Spiels.
+         *
+         * @param stateVersion die neue Zustandsversion
+         */
+        public void setStateVersion(long stateVersion) {
+            this.stateVersion = stateVersion;
+        }
+
         /**
          * Gibt den Benutzernamen des aktuellen Spielers zurück.
          *
@@ -971,6 +1728,15 @@ public class ClientController {
             return currentPlayerUsername;
         }
 
+        /**
+         * Setzt den Namen des Spielers, der aktuell am Zug ist.
+         *
+         * @param currentPlayerUsername der Name des aktuellen Spielers
+         */
+        public void setCurrentPlayerUsername(String currentPlayerUsername) {
+            this.currentPlayerUsername = currentPlayerUsername;
+        }
+
         /**
          * Gibt die Liste der Spieler zurück.
          *
@@ -1008,6 +1774,71 @@ public class ClientController {
         }
     }
 
+    /**
+     * Die Klasse BoardData beschreibt ein Spielbrett, wie es der Server unter {@code /api/boards} liefert:
+     * die Anzahl der Felder (Start 0 bis Ziel {@code fields - 1}) und die Sprünge von Feld zu Feld.
+     */
+    public static class BoardData {
+        /** Name des Spielbretts */
+        private String name;
+        /** Anzahl der Felder einschließlich Start und Ziel */
+        private int fields;
+        /** Sprünge des Spielbretts */
+        private List<JumpData> jumps = new ArrayList<>();
+
+        /**
+         * Gibt den Namen des Spielbretts zurück.
+         *
+         * @return der Name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gibt die Anzahl der Felder zurück.
+         *
+         * @return die Anzahl der Felder
+         */
+        public int getFields() {
+            return fields;
+        }
+
+        /**
+         * Gibt den Index des Zielfelds zurück.
+         *
+         * @return das Zielfeld
+         */
+        public int getFinish() {
+            return fields - 1;
+        }
+
+        /**
+         * Gibt die Sprünge als Zuordnung vom Start- zum Zielfeld zurück.
+         *
+         * @return die Sprünge
+         */
+        public Map<Integer, Integer> getJumpMap() {
+            Map<Integer, Integer> map = new TreeMap<>();
+            if (jumps != null) {
+                for (JumpData jump : jumps) {
+                    map.put(jump.from, jump.to);
+                }
+            }
+            return map;
+        }
+
+        /**
+         * Ein Sprung von einem Feld auf ein anderes.
+         */
+        public static class JumpData {
+            /** Feld, auf dem der Sprung ausgelöst wird */
+            private int from;
+            /** Feld, auf dem der Spieler danach steht */
+            private int to;
+        }
+    }
+
     /**
      * Die Klasse PlayerData repräsentiert die Daten eines Spielers.
      * Sie enthält Informationen wie die Spieler-ID, den Namen, den Bereitschaftsstatus, die Position und den Punktestand.
@@ -1044,6 +1875,15 @@ public class ClientController {
             this.postion += postion;
         }
 
+        /**
+         * Setzt die Position des Spielers.
+         *
+         * @param postion die neue Position
+         */
+        public void setPostion(int postion) {
+            this.postion = postion;
+        }
+
         /**
          * Gibt die Spieler-ID zurück.
          *
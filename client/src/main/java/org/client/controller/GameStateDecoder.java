@@ -0,0 +1,123 @@
+package org.client.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Die Klasse {@code GameStateDecoder} liest die kompakte Binärdarstellung eines Spielstands, die der Server
+ * auf {@code Accept: application/vnd.horse-racing.game} liefert, direkt in {@link ClientController.GameData}.
+ *
+ * <p>
+ * Das Format ist serverseitig in {@code GameStateEncoding} beschrieben: feste Feldreihenfolge, Varints
+ * (ZigZag für Werte, die negativ sein können) und Strings als {@code [UTF-8-Länge + 1][Bytes]}.
+ * Im Gegensatz zum JSON-Pfad entsteht dabei kein Zwischen-String und kein Parsebaum.
+ * </p>
+ */
+public final class GameStateDecoder {
+
+    /** Der Medientyp der Binärdarstellung. */
+    public static final String MEDIA_TYPE = "application/vnd.horse-racing.game";
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private final byte[] data;
+    private int position;
+
+    private GameStateDecoder(byte[] data) {
+        this.data = data;
+    }
+
+    /**
+     * Dekodiert einen Spielstand.
+     *
+     * @param data die Binärdarstellung
+     * @return die Spieldaten
+     * @throws IllegalArgumentException falls die Daten unvollständig sind oder die Formatversion unbekannt ist
+     */
+    public static ClientController.GameData decode(byte[] data) {
+        GameStateDecoder in = new GameStateDecoder(data);
+        try {
+            if (data[in.position++] != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unbekanntes Format des Spielstands: " + data[0]);
+            }
+            ClientController.GameData game = new ClientController.GameData();
+            game.setId(in.varint());
+            game.setGameHostName(in.string());
+            game.setMaxPlayersNumber((int) in.varint());
+            int flags = in.flags();
+            game.setAllPlayersReady((flags & 1) != 0);
+            game.setGameStarted((flags & 2) != 0);
+            game.setLastDiceRoll((int) in.varint());
+            game.setCurrentPlayerUsername(in.string());
+            game.setGameState(in.string());
+            game.setStateVersion(in.varint());
+            game.setBoardName(in.string());
+            in.varint(); // Erstellungszeitpunkt, im Client nicht verwendet
+            in.zigzag(); // Index des Spielers am Zug, der Client verwendet currentPlayerUsername
+            int count = in.count();
+            List<ClientController.PlayerData> players = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                ClientController.PlayerData player = new ClientController.PlayerData();
+                long id = in.varint();
+                player.setId(id == 0 ? null : id - 1);
+                player.setPlayerIndex((int) in.varint());
+                player.setName(in.string());
+                player.setPostion((int) in.zigzag());
+                player.setReady((in.flags() & 1) != 0);
+                players.add(player);
+            }
+            game.setPlayers(players);
+            game.setCurrentPlayersCount(count);
+            return game;
+        } catch (IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Unvollständiger Spielstand", e);
+        }
+    }
+
+    private int flags() {
+        return data[position++] & 0xFF;
+    }
+
+    private long varint() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = data[position++];
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Ungültiger Varint");
+    }
+
+    private long zigzag() {
+        long value = varint();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Liest eine Anzahl von Einträgen, von denen jeder mindestens ein Byte belegt.
+     */
+    private int count() {
+        long count = varint();
+        if (count < 0 || count > data.length - position) {
+            throw new IllegalArgumentException("Unvollständiger Spielstand");
+        }
+        return (int) count;
+    }
+
+    private String string() {
+        long encoded = varint();
+        if (encoded == 0) {
+            return null;
+        }
+        if (encoded < 0 || encoded - 1 > data.length - position) {
+            throw new IllegalArgumentException("Unvollständiger Spielstand");
+        }
+        int length = (int) encoded - 1;
+        String value = new String(data, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+}
@@ -0,0 +1,426 @@
+package org.client.log;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Die Klasse {@code Log} schreibt die Meldungen des Clients über eine begrenzte Warteschlange auf einem eigenen
+ * Schreib-Thread, damit Swing-, Polling- und Stream-Threads nicht um {@code System.out} konkurrieren.
+ *
+ * <p>
+ * Meldungen sind parametrisiert ({@code "Antwort: {} Bytes"}); die Platzhalter werden nur für Meldungen ersetzt,
+ * deren Level eingeschaltet ist und die die Ausdünnung passieren. Eine abgeschaltete Meldung kostet daher nur den
+ * Vergleich des Levels; bis zu zwei Argumente werden ohne Array übergeben. Ersetzt wird noch auf dem aufrufenden
+ * Thread, sodass die Argumente mit ihrem Stand zum Zeitpunkt des Aufrufs geschrieben werden und nicht über die
+ * Warteschlange hinaus festgehalten werden. Ist die Warteschlange voll, wird die Meldung verworfen statt zu
+ * warten; der Schreib-Thread meldet später die Anzahl der verworfenen Meldungen.
+ * </p>
+ *
+ * <p>
+ * Jede Kategorie hat ein eigenes Level: {@code -Dhorse.log.<kategorie>=debug}, sonst {@code -Dhorse.log.level}
+ * (Standard {@code info}). Für die häufigsten Meldungen kann eine Kategorie ausgedünnt werden: Von ihr wird
+ * unterhalb von {@link Level#WARN} nur jede {@code every}-te Meldung geschrieben
+ * ({@code -Dhorse.log.<kategorie>.every=...}, siehe {@link #sampled(String, int)}).
+ * </p>
+ */
+public final class Log {
+
+    /** Die Level in aufsteigender Dringlichkeit; {@link #OFF} schaltet eine Kategorie ab. */
+    public enum Level {
+        DEBUG, INFO, WARN, ERROR, OFF
+    }
+
+    private static final Writer WRITER = new Writer(Integer.getInteger("horse.log.queue-size", 4096));
+
+    private final String category;
+    private final Level level;
+    private final int every;
+    private final AtomicLong counter = new AtomicLong();
+
+    private Log(String category, Level level, int every) {
+        this.category = category;
+        this.level = level;
+        this.every = Math.max(1, every);
+    }
+
+    /**
+     * Liefert den Logger einer Kategorie.
+     *
+     * @param category der Name der Kategorie, z. B. {@code http}
+     * @return der Logger
+     */
+    public static Log get(String category) {
+        return sampled(category, 1);
+    }
+
+    /**
+     * Liefert den Logger einer Kategorie, von der unterhalb von {@link Level#WARN} nur jede {@code every}-te
+     * Meldung geschrieben wird. {@code -Dhorse.log.<kategorie>.every} überschreibt den Wert.
+     *
+     * @param category der Name der Kategorie
+     * @param every    das wievielte Ereignis geschrieben wird; 1 schreibt alle
+     * @return der Logger
+     */
+    public static Log sampled(String category, int every) {
+        String configured = System.getProperty("horse.log." + category, System.getProperty("horse.log.level", "info"));
+        Level level;
+        try {
+            level = Level.valueOf(configured.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            level = Level.INFO;
+        }
+        return new Log(category, level, Integer.getInteger("horse.log." + category + ".every", every));
+    }
+
+    /**
+     * Prüft, ob Meldungen eines Levels geschrieben werden.
+     *
+     * @param level das Level
+     * @return {@code true}, falls das Level eingeschaltet ist
+     */
+    public boolean isEnabled(Level level) {
+        return level.compareTo(this.level) >= 0 && level != Level.OFF;
+    }
+
+    /**
+     * Schreibt eine Meldung auf DEBUG.
+     *
+     * @param message die Meldung
+     */
+    public void debug(String message) {
+        log(Level.DEBUG, message, 0, null, null, null);
+    }
+
+    /**
+     * Schreibt eine Meldung mit einem Argument auf DEBUG.
+     *
+     * @param pattern die Meldung mit dem Platzhalter {@code {}}
+     * @param arg     das Argument
+     */
+    public void debug(String pattern, Object arg) {
+        log(Level.DEBUG, pattern, 1, arg, null, null);
+    }
+
+    /**
+     * Schreibt eine Meldung mit zwei Argumenten auf DEBUG.
+     *
+     * @param pattern die Meldung mit Platzhaltern {@code {}}
+     * @param arg1    das erste Argument
+     * @param arg2    das zweite Argument
+     */
+    public void debug(String pattern, Object arg1, Object arg2) {
+        log(Level.DEBUG, pattern, 2, arg1, arg2, null);
+    }
+
+    /**
+     * Schreibt eine Meldung mit beliebig vielen Argumenten auf DEBUG.
+     *
+     * @param pattern die Meldung mit Platzhaltern {@code {}}
+     * @param args    die Argumente
+     */
+    public void debug(String pattern, Object... args) {
+        log(Level.DEBUG, pattern, args.length, null, null, args);
+    }
+
+    /**
+     * Schreibt eine Meldung auf INFO.
+     *
+     * @param message die Meldung
+     */
+    public void info(String message) {
+        log(Level.INFO, message, 0, null, null, null);
+    }
+
+    /**
+     * Schreibt eine Meldung mit einem Argument auf INFO.
+     *
+     * @param pattern die Meldung mit dem Platzhalter {@code {}}
+     * @param arg     das Argument
+     */
+    public void info(String pattern, Object arg) {
+        log(Level.INFO, pattern, 1, arg, null, null);
+    }
+
+    /**
+     * Schreibt eine Meldung mit zwei Argumenten auf INFO.
+     *
+     * @param pattern die Meldung mit Platzhaltern {@code {}}
+     * @param arg1    das erste Argument
+     * @param arg2    das zweite Argument
+     */
+    public void info(String pattern, Object arg1, Object arg2) {
+        log(Level.INFO, pattern, 2, arg1, arg2, null);
+    }
+
+    /**
+     * Schreibt eine Meldung mit beliebig vielen Argumenten auf INFO.
+     *
+     * @param pattern die Meldung mit Platzhaltern {@code {}}
+     * @param args    die Argumente
+     */
+    public void info(String pattern, Object... args) {
+        log(Level.INFO, pattern, args.length, null, null, args);
+    }
+
+    /**
+     * Schreibt eine Meldung auf WARN.
+     *
+     * @param message die Meldung
+     */
+    public void warn(String message) {
+        log(Level.WARN, message, 0, null, null, null);
+    }
+
+    /**
+     * Schreibt eine Meldung mit einem Argument auf WARN.
+     *
+     * @param pattern die Meldung mit dem Platzhalter {@code {}}
+     * @param arg     das Argument
+     */
+    public void warn(String pattern, Object arg) {
+        log(Level.WARN, pattern, 1, arg, null, null);
+    }
+
+    /**
+     * Schreibt eine Meldung mit zwei Argumenten auf WARN.
+     *
+     * @param pattern die Meldung mit Platzhaltern {@code {}}
+     * @param arg1    das erste Argument
+     * @param arg2    das zweite Argument
+     */
+    public void warn(String pattern, Object arg1, Object arg2) {
+        log(Level.WARN, pattern, 2, arg1, arg2, null);
+    }
+
+    /**
+     * Schreibt eine Meldung mit beliebig vielen Argumenten auf WARN.
+     *
+     * @param pattern die Meldung mit Platzhaltern {@code {}}
+     * @param args    die Argumente
+     */
+    public void warn(String pattern, Object... args) {
+        log(Level.WARN, pattern, args.length, null, null, args);
+    }
+
+    /**
+     * Schreibt einen Fehler.
+     *
+     * @param message die Meldung
+     */
+    public void error(String message) {
+        log(Level.ERROR, message, 0, null, null, null);
+    }
+
+    /**
+     * Schreibt einen Fehler. Ist das letzte Argument ein {@link Throwable}, wird dessen Stacktrace angehängt.
+     *
+     * @param pattern die Meldung mit Platzhaltern {@code {}}
+     * @param arg     das Argument
+     */
+    public void error(String pattern, Object arg) {
+        log(Level.ERROR, pattern, 1, arg, null, null);
+    }
+
+    /**
+     * Schreibt einen Fehler. Ist das letzte Argument ein {@link Throwable}, wird dessen Stacktrace angehängt.
+     *
+     * @param pattern die Meldung mit Platzhaltern {@code {}}
+     * @param arg1    das erste Argument
+     * @param arg2    das zweite Argument
+     */
+    public void error(String pattern, Object arg1, Object arg2) {
+        log(Level.ERROR, pattern, 2, arg1, arg2, null);
+    }
+
+    /**
+     * Schreibt einen Fehler mit beliebig vielen Argumenten. Ist das letzte Argument ein {@link Throwable}, wird
+     * dessen Stacktrace angehängt.
+     *
+     * @param pattern die Meldung mit Platzhaltern {@code {}}
+     * @param args    die Argumente
+     */
+    public void error(String pattern, Object... args) {
+        log(Level.ERROR, pattern, args.length, null, null, args);
+    }
+
+    private void log(Level level, String pattern, int count, Object arg1, Object arg2, Object[] args) {
+        if (level.compareTo(this.level) < 0) {
+            return;
+        }
+        if (every > 1 && level.compareTo(Level.WARN) < 0 && counter.getAndIncrement() % every != 0) {
+            return;
+        }
+        long time = System.currentTimeMillis();
+        if (count == 0) {
+            WRITER.offer(new Entry(time, level, category, pattern, null));
+            return;
+        }
+        StringBuilder message = new StringBuilder(pattern.length() + 32);
+        Throwable throwable = format(message, pattern, count, arg1, arg2, args);
+        WRITER.offer(new Entry(time, level, category, message.toString(), throwable));
+    }
+
+    /**
+     * Gibt die Anzahl der Meldungen zurück, die wegen einer vollen Warteschlange verworfen wurden.
+     *
+     * @return die Anzahl der verworfenen Meldungen
+     */
+    public static long getDroppedCount() {
+        return WRITER.dropped.get();
+    }
+
+    /**
+     * Wartet, bis alle bis jetzt eingereihten Meldungen geschrieben sind, höchstens die angegebene Zeit.
+     *
+     * @param timeoutMs die längste Wartezeit in Millisekunden
+     * @throws InterruptedException wenn das Warten unterbrochen wird
+     */
+    public static void flush(long timeoutMs) throws InterruptedException {
+        WRITER.flush(timeoutMs);
+    }
+
+    /**
+     * Ersetzt die Platzhalter {@code {}} einer Meldung der Reihe nach durch die Argumente. Überzählige
+     * Platzhalter bleiben stehen; ein überzähliges {@link Throwable} am Ende wird zurückgegeben.
+     *
+     * @param out     das Ziel
+     * @param pattern die Meldung
+     * @param count   die Anzahl der Argumente
+     * @param arg1    das erste Argument, falls {@code args} {@code null} ist
+     * @param arg2    das zweite Argument, falls {@code args} {@code null} ist
+     * @param args    alle Argumente oder {@code null}
+     * @return ein nicht eingesetztes {@link Throwable} am Ende der Argumente oder {@code null}
+     */
+    static Throwable format(StringBuilder out, String pattern, int count, Object arg1, Object arg2, Object[] args) {
+        int used = 0;
+        int start = 0;
+        int index;
+        while (used < count && (index = pattern.indexOf("{}", start)) >= 0) {
+            out.append(pattern, start, index).append(argument(used++, arg1, arg2, args));
+            start = index + 2;
+        }
+        out.append(pattern, start, pattern.length());
+        if (used < count && argument(count - 1, arg1, arg2, args) instanceof Throwable throwable) {
+            return throwable;
+        }
+        return null;
+    }
+
+    private static Object argument(int index, Object arg1, Object arg2, Object[] args) {
+        if (args != null) {
+            return args[index];
+        }
+        return index == 0 ? arg1 : arg2;
+    }
+
+    /** Eine eingereihte, bereits formatierte Meldung. */
+    private record Entry(long time, Level level, String category, String message, Throwable throwable) {
+    }
+
+    /**
+     * Der Schreib-Thread mit seiner Warteschlange. Er schreibt stapelweise und leert die Ausgabe erst, wenn die
+     * Warteschlange leer ist.
+     */
+    private static final class Writer implements Runnable {
+
+        private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+
+        private final BlockingQueue<Entry> queue;
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicLong enqueued = new AtomicLong();
+        private final AtomicLong written = new AtomicLong();
+        private final StringBuilder line = new StringBuilder(256);
+        private final ZoneId zone = ZoneId.systemDefault();
+        /** Eigene gepufferte Ströme; sie werden nur von diesem Thread beschrieben und je Stapel geleert. */
+        private final PrintStream out = stream(FileDescriptor.out);
+        private final PrintStream err = stream(FileDescriptor.err);
+        private long reportedDropped;
+
+        Writer(int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            Thread thread = new Thread(this, "log-writer");
+            thread.setDaemon(true);
+            thread.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    flush(1000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, "log-flush"));
+        }
+
+        void offer(Entry entry) {
+            if (queue.offer(entry)) {
+                enqueued.incrementAndGet();
+            } else {
+                dropped.incrementAndGet();
+            }
+        }
+
+        void flush(long timeoutMs) throws InterruptedException {
+            long target = enqueued.get();
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            while (written.get() < target && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+        }
+
+        @Override
+        public void run() {
+            List<Entry> batch = new ArrayList<>();
+            while (true) {
+                try {
+                    batch.add(queue.take());
+                } catch (InterruptedException e) {
+                    return;
+                }
+                queue.drainTo(batch);
+                for (Entry entry : batch) {
+                    write(entry);
+                }
+                int size = batch.size();
+                batch.clear();
+                long droppedNow = dropped.get();
+                if (droppedNow != reportedDropped) {
+                    err.println("Log: " + (droppedNow - reportedDropped) + " Meldungen verworfen");
+                    reportedDropped = droppedNow;
+                }
+                out.flush();
+                err.flush();
+                written.addAndGet(size);
+            }
+        }
+
+        private static PrintStream stream(FileDescriptor descriptor) {
+            return new PrintStream(new BufferedOutputStream(new FileOutputStream(descriptor), 1 << 16), false,
+                    StandardCharsets.UTF_8);
+        }
+
+        private void write(Entry entry) {
+            line.setLength(0);
+            TIME.formatTo(LocalTime.ofInstant(Instant.ofEpochMilli(entry.time()), zone), line);
+            line.append(' ').append(entry.level()).append(" [").append(entry.category()).append("] ")
+                    .append(entry.message());
+            PrintStream target = entry.level().compareTo(Level.WARN) >= 0 ? err : out;
+            target.append(line).append(System.lineSeparator());
+            if (entry.throwable() != null) {
+                entry.throwable().printStackTrace(target);
+            }
+        }
+    }
+}
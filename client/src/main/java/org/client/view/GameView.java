@@ -1,5 +1,7 @@
 package org.client.view;
 
+import org.client.log.Log;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionListener;
@@ -16,6 +18,9 @@ import java.util.Map;
  */
 public class GameView extends JPanel implements ViewIF.GameViewIF {
 
+    /** Protokoll der Ansicht */
+    private static final Log log = Log.get("view");
+
     private JPanel gameViewForm;
     private JPanel leftSidePane;
     private JPanel rightSidePane;
@@ -40,9 +45,13 @@ public class GameView extends JPanel implements ViewIF.GameViewIF {
     /** Map für spezielle Feldbezeichnungen (z. B. "Start" oder "End") */
     private Map<Integer, String> specialFieldLabels = null;
 
+    /** Anzahl der Felder je Zeile des Spielfelds */
+    private static final int FIELDS_PER_ROW = 8;
+
     /**
      * Konstruktor für die GameView.
-     * Initialisiert das Spielfeld, legt das Layout fest und färbt spezielle Felder.
+     * Initialisiert das Spielfeld und legt das Layout fest. Die speziellen Felder werden erst über
+     * {@link #setBoard(int, Map)} gesetzt, sobald das Spielbrett des Spiels bekannt ist.
      */
     public GameView() {
         cells = new ArrayList<>();
@@ -50,29 +59,47 @@ public class GameView extends JPanel implements ViewIF.GameViewIF {
         // (wird in createUIComponents() initialisiert, falls noch nicht vorhanden)
         setLayout(new BorderLayout());
         add(gameViewForm, BorderLayout.CENTER);
-        settingUpSpecialFields();
+    }
+
+    /**
+     * Baut das Spielfeld für ein Spielbrett neu auf: eine Zelle je Feld, Sprünge und Ziel werden markiert.
+     *
+     * @param fieldCount die Anzahl der Felder einschließlich Start und Ziel
+     * @param jumps      die Sprünge des Bretts als Zuordnung vom Start- zum Zielfeld
+     */
+    @Override
+    public void setBoard(int fieldCount, Map<Integer, Integer> jumps) {
+        int finish = fieldCount - 1;
+        specialFieldLabels = new HashMap<>();
+        specialFieldLabels.put(0, "Start");
+        for (Map.Entry<Integer, Integer> jump : jumps.entrySet()) {
+            specialFieldLabels.put(jump.getKey(), jump.getKey() + " \u2192 " + jump.getValue());
+        }
+        specialFieldLabels.put(finish, "END");
 
+        gameBoardPane.removeAll();
+        for (int fieldNumber = 0; fieldNumber < fieldCount; fieldNumber++) {
+            gameBoardPane.add(createCell(fieldNumber));
+        }
+        settingUpSpecialFields(jumps, finish);
+        gameBoardPane.revalidate();
+        gameBoardPane.repaint();
     }
 
-    public void settingUpSpecialFields(){
-        // Set field colors
-        setFieldColorByIndex(6, new Color(205, 141, 122));
-        setFieldColorByIndex(19, new Color(195, 226, 194));
-        setFieldColorByIndex(31, new Color(205, 141, 122));
-        setFieldColorByIndex(42, new Color(205, 141, 122));
-        setFieldColorByIndex(52, new Color(195, 226, 194));
-        setFieldColorByIndex(58, new Color(205, 141, 122));
-        setFieldColorByIndex(63, new Color(255, 242, 242));
-
-        // Set field text
-        setFieldText(6, "S");
-        setFieldText(19, "H");
-        setFieldText(31, "S");
-        setFieldText(42, "H");
-        setFieldText(52, "S");
-        setFieldText(58, "S");
-        setFieldText(63, "END");
-        return;
+    /**
+     * Färbt die speziellen Felder: Sprünge nach vorne grün, Sprünge zurück rot und das Ziel hell.
+     *
+     * @param jumps  die Sprünge des Bretts
+     * @param finish der Index des Zielfelds
+     */
+    public void settingUpSpecialFields(Map<Integer, Integer> jumps, int finish){
+        for (Map.Entry<Integer, Integer> jump : jumps.entrySet()) {
+            boolean forward = jump.getValue() > jump.getKey();
+            setFieldColorByIndex(jump.getKey(), forward ? new Color(195, 226, 194) : new Color(205, 141, 122));
+            setFieldText(jump.getKey(), forward ? "H" : "S");
+        }
+        setFieldColorByIndex(finish, new Color(255, 242, 242));
+        setFieldText(finish, "END");
     }
     public void setFieldText(int fieldIndex, String text) {
         JLabel script = new JLabel(text);
@@ -101,7 +128,8 @@ public class GameView extends JPanel implements ViewIF.GameViewIF {
 
     /**
      * Wird von der GUI-Builder-Umgebung aufgerufen, um benutzerdefinierte Komponenten zu erstellen.
-     * Hier wird das Spielfeld (gameBoardPane) als 8x8-Grid initialisiert und die Zellen erstellt.
+     * Hier wird das Spielfeld (gameBoardPane) mit 8 Feldern je Zeile initialisiert und 64 Zellen erstellt,
+     * bis {@link #setBoard(int, Map)} das Spielbrett des Spiels setzt.
      */
     private void createUIComponents() {
         // Initialisiere die Map für spezielle Feldbezeichnungen, falls noch nicht vorhanden.
@@ -110,54 +138,62 @@ public class GameView extends JPanel implements ViewIF.GameViewIF {
             specialFieldLabels.put(0, "Start");
         }
 
-        // Erstelle ein Panel für das Spielfeld mit einem 8x8 Grid und definierten Abständen.
-        gameBoardPane = new JPanel(new GridLayout(8, 8, 1, 1));
+        // Erstelle ein Panel für das Spielfeld mit 8 Feldern je Zeile und definierten Abständen.
+        gameBoardPane = new JPanel(new GridLayout(0, FIELDS_PER_ROW, 1, 1));
         gameBoardPane.setBackground(Color.BLACK);
 
         // Erstelle 64 Zellen (Index 0 bis 63)
         for (int fieldNumber = 0; fieldNumber < 64; fieldNumber++) {
-            JPanel cell = new JPanel(new BorderLayout());
-            cell.setPreferredSize(new Dimension(50, 50));
-            cell.setBorder(BorderFactory.createLineBorder(Color.BLACK, 1));
-
-            // Erstelle ein Panel für gestapelte Bereiche (Sections)
-            JPanel stackedSections = new JPanel(new GridLayout(4, 1, 0, 0));
-            stackedSections.setPreferredSize(new Dimension(50, 40));
-
-            // Erstelle vier Sektionen mit unterschiedlichen Hintergründen
-            JPanel section1 = new JPanel();
-            section1.setBackground(new Color(136, 158, 115));
-            JPanel section2 = new JPanel();
-            section2.setBackground(new Color(169, 74, 74));
-            JPanel section3 = new JPanel();
-            section3.setBackground(new Color(244, 215, 147));
-            JPanel section4 = new JPanel();
-            section4.setBackground(new Color(41, 115, 178));
-
-            // Füge die Sektionen zum gestapelten Panel hinzu
-            stackedSections.add(section1);
-            stackedSections.add(section2);
-            stackedSections.add(section3);
-            stackedSections.add(section4);
-
-            // Bestimme den anzuzeigenden Text: Verwende spezielle Beschriftung, falls definiert, ansonsten den Feldindex.
-            String labelText = specialFieldLabels.containsKey(fieldNumber)
-                    ? specialFieldLabels.get(fieldNumber)
-                    : String.valueOf(fieldNumber);
-            JLabel fieldLabel = new JLabel(labelText, SwingConstants.CENTER);
-            fieldLabel.setOpaque(true);
-            fieldLabel.setBackground(Color.WHITE);
-            fieldLabel.setForeground(Color.BLACK);
-
-            // Füge das gestapelte Panel und das Label zur Zelle hinzu.
-            cell.add(stackedSections, BorderLayout.CENTER);
-            cell.add(fieldLabel, BorderLayout.SOUTH);
-
-            // Füge die Zelle dem Spielfeld hinzu.
-            gameBoardPane.add(cell);
+            gameBoardPane.add(createCell(fieldNumber));
         }
     }
 
+    /**
+     * Erstellt die Zelle eines Feldes mit vier Sektionen (eine je Spieler) und der Feldbeschriftung.
+     *
+     * @param fieldNumber der Index des Feldes
+     * @return die Zelle
+     */
+    private JPanel createCell(int fieldNumber) {
+        JPanel cell = new JPanel(new BorderLayout());
+        cell.setPreferredSize(new Dimension(50, 50));
+        cell.setBorder(BorderFactory.createLineBorder(Color.BLACK, 1));
+
+        // Erstelle ein Panel für gestapelte Bereiche (Sections)
+        JPanel stackedSections = new JPanel(new GridLayout(4, 1, 0, 0));
+        stackedSections.setPreferredSize(new Dimension(50, 40));
+
+        // Erstelle vier Sektionen mit unterschiedlichen Hintergründen
+        JPanel section1 = new JPanel();
+        section1.setBackground(new Color(136, 158, 115));
+        JPanel section2 = new JPanel();
+        section2.setBackground(new Color(169, 74, 74));
+        JPanel section3 = new JPanel();
+        section3.setBackground(new Color(244, 215, 147));
+        JPanel section4 = new JPanel();
+        section4.setBackground(new Color(41, 115, 178));
+
+        // Füge die Sektionen zum gestapelten Panel hinzu
+        stackedSections.add(section1);
+        stackedSections.add(section2);
+        stackedSections.add(section3);
+        stackedSections.add(section4);
+
+        // Bestimme den anzuzeigenden Text: Verwende spezielle Beschriftung, falls definiert, ansonsten den Feldindex.
+        String labelText = specialFieldLabels.containsKey(fieldNumber)
+                ? specialFieldLabels.get(fieldNumber)
+                : String.valueOf(fieldNumber);
+        JLabel fieldLabel = new JLabel(labelText, SwingConstants.CENTER);
+        fieldLabel.setOpaque(true);
+        fieldLabel.setBackground(Color.WHITE);
+        fieldLabel.setForeground(Color.BLACK);
+
+        // Füge das gestapelte Panel und das Label zur Zelle hinzu.
+        cell.add(stackedSections, BorderLayout.CENTER);
+        cell.add(fieldLabel, BorderLayout.SOUTH);
+        return cell;
+    }
+
     /**
      * Gibt die Zelle (als JPanel) am angegebenen Index des Spielfelds zurück.
      *
@@ -170,10 +206,10 @@ public class GameView extends JPanel implements ViewIF.GameViewIF {
             if (cell instanceof JPanel) {
                 return (JPanel) cell;
             } else {
-                System.out.println("ERROR: Komponente am Index " + index + " ist kein JPanel");
+                log.error("Komponente am Index {} ist kein JPanel", index);
             }
         } else {
-            System.out.println("ERROR: Index " + index + " liegt außerhalb des gültigen Bereichs!");
+            log.error("Index {} liegt außerhalb des gültigen Bereichs", index);
         }
         return null;
     }
@@ -195,13 +231,13 @@ public class GameView extends JPanel implements ViewIF.GameViewIF {
                 if (stackedSectionsComponents.length > sectionIndex && stackedSectionsComponents[sectionIndex] instanceof JPanel) {
                     return (JPanel) stackedSectionsComponents[sectionIndex];
                 } else {
-                    System.out.println("ERROR: Section-Index " + sectionIndex + " liegt außerhalb des gültigen Bereichs!");
+                    log.error("Section-Index {} liegt außerhalb des gültigen Bereichs", sectionIndex);
                 }
             } else {
-                System.out.println("ERROR: Keine gestapelten Sektionen in Zelle " + cellIndex + " gefunden!");
+                log.error("Keine gestapelten Sektionen in Zelle {} gefunden", cellIndex);
             }
         } else {
-            System.out.println("ERROR: Zelle am Index " + cellIndex + " existiert nicht!");
+            log.error("Zelle am Index {} existiert nicht", cellIndex);
         }
         return null;
     }
@@ -220,7 +256,7 @@ public class GameView extends JPanel implements ViewIF.GameViewIF {
             section.revalidate();
             section.repaint();
         } else {
-            System.out.println("ERROR: Sektion nicht gefunden für fieldIndex " + fieldIndex + " und sectionIndex " + sectionIndex);
+            log.error("Sektion nicht gefunden für fieldIndex {} und sectionIndex {}", fieldIndex, sectionIndex);
         }
     }
 
@@ -264,7 +300,7 @@ public class GameView extends JPanel implements ViewIF.GameViewIF {
     @Override
     public void movePlayerPosition(int fieldIndex, int playerIndex, String playerName) {
         if (gameBoardPane == null) {
-            System.out.println("ERROR: gameBoardPane ist nicht initialisiert!");
+            log.error("gameBoardPane ist nicht initialisiert");
             return;
         }
         JPanel section = getCellSection(fieldIndex, playerIndex);
@@ -279,7 +315,7 @@ public class GameView extends JPanel implements ViewIF.GameViewIF {
             // Load the icon from the classpath
             URL iconUrl = getClass().getResource("/DicePics/chess-knight.png");
             if (iconUrl == null) {
-                System.err.println("Resource not found: /DicePics/chess-knight.png");
+                log.warn("Resource not found: /DicePics/chess-knight.png");
             } else {
                 ImageIcon icon = new ImageIcon(iconUrl);
                 figure.setIcon(icon);
@@ -293,7 +329,7 @@ public class GameView extends JPanel implements ViewIF.GameViewIF {
             gameBoardPane.repaint();
 
         } else {
-            System.out.println("ERROR: Section at index " + playerIndex + " in field " + fieldIndex + " not found!");
+            log.error("Section at index {} in field {} not found", playerIndex, fieldIndex);
         }
     }
 
@@ -2,6 +2,7 @@ package org.client.view;
 
 import javax.swing.*;
 import java.awt.event.ActionListener;
+import java.util.Map;
 
 /**
  * Das Interface ViewIF definiert die Methoden, die von den verschiedenen Ansichten (Game, Lobby und Start) genutzt werden.
@@ -242,6 +243,14 @@ public interface ViewIF {
          */
         void movePlayerPosition(int fieldIndex, int playerIndex, String playerName);
 
+        /**
+         * Baut das Spielfeld für ein Spielbrett neu auf.
+         *
+         * @param fieldCount die Anzahl der Felder einschließlich Start und Ziel
+         * @param jumps      die Sprünge des Bretts als Zuordnung vom Start- zum Zielfeld
+         */
+        void setBoard(int fieldCount, Map<Integer, Integer> jumps);
+
         /**
          * Gibt den "Würfeln"-Button zurück.
          *
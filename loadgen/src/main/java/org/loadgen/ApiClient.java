@@ -0,0 +1,143 @@
+package org.loadgen;
+
+import com.google.gson.Gson;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Ein dünner Wrapper um den gemeinsamen {@link HttpClient}, der jede Anfrage unter ihrer Endpunkt-Vorlage misst.
+ *
+ * <p>
+ * Alle simulierten Spieler teilen sich eine Instanz und damit den Verbindungspool. Die Aufrufe blockieren; da sie
+ * auf virtuellen Threads laufen, belegt ein wartender Spieler keinen Plattform-Thread.
+ * </p>
+ *
+ * <p>
+ * Jeder Spieler sendet seinen Namen im Header {@code X-Client-Id}, damit der Server das Budget der gemeinsamen
+ * Adresse auf die Spieler aufteilt; für viele Spieler ist {@code game.admission.address-rate} zu erhöhen. Weist der Server eine Anfrage mit 429 ab, wartet der Spieler die in {@code Retry-After} genannten
+ * Sekunden und versucht es bis zu {@value #MAX_RETRIES}-mal erneut; jeder Versuch wird gemessen.
+ * </p>
+ */
+final class ApiClient {
+
+    /** Anzahl der Wiederholungen nach einer Antwort 429. */
+    private static final int MAX_RETRIES = 3;
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Metrics metrics;
+    private final Gson gson = new Gson();
+
+    /**
+     * Erstellt den Client.
+     *
+     * @param baseUrl die Basis-URL der API, z. B. {@code http://localhost:8080/api}
+     * @param metrics die Messwerte, in die alle Anfragen eingehen
+     */
+    ApiClient(String baseUrl, Metrics metrics) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        this.baseUrl = baseUrl;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Sendet eine Anfrage ohne Client-Kennung und misst sie; der Server ordnet sie der Adresse zu.
+     *
+     * @param endpoint die Vorlage des Endpunkts für die Messwerte
+     * @param method   die HTTP-Methode
+     * @param path     der Pfad relativ zur Basis-URL
+     * @param body     der JSON-Inhalt oder {@code null}
+     * @param etag     der ETag für {@code If-None-Match} oder {@code null}
+     * @return die Antwort oder {@code null} bei einem Verbindungsfehler
+     * @throws InterruptedException falls der Thread unterbrochen wurde
+     */
+    HttpResponse<String> send(String endpoint, String method, String path, Object body, String etag)
+            throws InterruptedException {
+        return send(null, endpoint, method, path, body, etag);
+    }
+
+    /**
+     * Sendet eine Anfrage und misst sie.
+     *
+     * @param clientId die Kennung für {@code X-Client-Id} oder {@code null}
+     * @param endpoint die Vorlage des Endpunkts für die Messwerte
+     * @param method   die HTTP-Methode
+     * @param path     der Pfad relativ zur Basis-URL
+     * @param body     der JSON-Inhalt oder {@code null}
+     * @param etag     der ETag für {@code If-None-Match} oder {@code null}
+     * @return die Antwort oder {@code null} bei einem Verbindungsfehler
+     * @throws InterruptedException falls der Thread unterbrochen wurde
+     */
+    HttpResponse<String> send(String clientId, String endpoint, String method, String path, Object body,
+                              String etag) throws InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(gson.toJson(body)));
+        if (etag != null) {
+            builder.header("If-None-Match", etag);
+        }
+        if (clientId != null) {
+            builder.header("X-Client-Id", clientId);
+        }
+        HttpRequest request = builder.build();
+        Metrics.Endpoint stats = metrics.endpoint(endpoint);
+        for (int attempt = 0; ; attempt++) {
+            HttpResponse<String> response = sendOnce(request, stats);
+            if (response == null || response.statusCode() != 429 || attempt == MAX_RETRIES) {
+                return response;
+            }
+            long seconds = response.headers().firstValue("Retry-After").map(String::trim)
+                    .filter(value -> !value.isEmpty() && value.length() < 10
+                            && value.chars().allMatch(Character::isDigit))
+                    .map(Long::parseLong).orElse(1L);
+            Thread.sleep(Math.max(1, seconds) * 1000);
+        }
+    }
+
+    private HttpResponse<String> sendOnce(HttpRequest request, Metrics.Endpoint stats) throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            stats.latency.record((System.nanoTime() - start) / 1_000);
+            int status = response.statusCode();
+            if (status == 304) {
+                stats.notModified.increment();
+            } else if (status == 409) {
+                stats.conflicts.increment();
+            } else if (status == 429) {
+                stats.rateLimited.increment();
+            } else if (status >= 400) {
+                stats.errors.increment();
+            }
+            return response;
+        } catch (IOException e) {
+            stats.latency.record((System.nanoTime() - start) / 1_000);
+            stats.errors.increment();
+            return null;
+        }
+    }
+
+    /**
+     * Wandelt eine erfolgreiche JSON-Antwort um.
+     *
+     * @param response die Antwort
+     * @param type     die Zielklasse
+     * @param <T>      der Zieltyp
+     * @return das Objekt oder {@code null}, falls die Antwort fehlt oder nicht erfolgreich war
+     */
+    <T> T parse(HttpResponse<String> response, Class<T> type) {
+        if (response == null || response.statusCode() / 100 != 2) {
+            return null;
+        }
+        return gson.fromJson(response.body(), type);
+    }
+}
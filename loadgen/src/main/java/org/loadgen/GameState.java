@@ -0,0 +1,57 @@
+package org.loadgen;
+
+import java.util.List;
+
+/**
+ * Der Teil eines Spielstands, den die simulierten Spieler auswerten. Wird von Gson befüllt.
+ */
+final class GameState {
+    long id;
+    String currentPlayerUsername;
+    boolean allPlayersAreReady;
+    boolean gameStarted;
+    long stateVersion;
+    String boardName;
+    List<PlayerState> players;
+
+    /**
+     * Sucht einen Spieler anhand seines Namens.
+     *
+     * @param name der Name
+     * @return der Spieler oder {@code null}
+     */
+    PlayerState player(String name) {
+        for (PlayerState player : players) {
+            if (name.equals(player.name)) {
+                return player;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Prüft, ob ein Spieler das Ziel erreicht hat.
+     *
+     * @param finish das Zielfeld des Bretts
+     * @return {@code true}, falls das Rennen entschieden ist
+     */
+    boolean isFinished(int finish) {
+        for (PlayerState player : players) {
+            if (player.postion >= finish) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Ein Spieler im Spielstand.
+     */
+    static final class PlayerState {
+        long id;
+        int playerIndex;
+        String name;
+        boolean ready;
+        int postion;
+    }
+}
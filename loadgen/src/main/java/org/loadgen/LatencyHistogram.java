@@ -0,0 +1,118 @@
+package org.loadgen;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Ein sperrfreies Histogramm für Antwortzeiten in Mikrosekunden.
+ *
+ * <p>
+ * Werte unter 64 µs haben je einen eigenen Eimer. Darüber wird jede Zweierpotenz in 32 gleich breite Eimer
+ * geteilt, sodass jedes Perzentil höchstens etwa 3 % vom wahren Wert abweicht. Aufzeichnen ist ein einziges
+ * {@code incrementAndGet}; beliebig viele virtuelle Threads können gleichzeitig schreiben.
+ * </p>
+ */
+public final class LatencyHistogram {
+
+    private static final int LINEAR = 64;
+    private static final int SUB_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    /** Exponenten 6 bis 62 decken alle positiven {@code long}-Werte ab. */
+    private static final int BUCKETS = LINEAR + (63 - 6) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Zeichnet eine Antwortzeit auf.
+     *
+     * @param micros die Antwortzeit in Mikrosekunden; negative Werte zählen als 0
+     */
+    public void record(long micros) {
+        counts.incrementAndGet(index(Math.max(0, micros)));
+    }
+
+    /**
+     * Addiert alle Werte eines anderen Histogramms, z. B. für die Summe über alle Endpunkte.
+     *
+     * @param other das andere Histogramm
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+    }
+
+    /**
+     * Gibt die Anzahl der aufgezeichneten Werte zurück.
+     *
+     * @return die Anzahl
+     */
+    public long count() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Berechnet ein Perzentil.
+     *
+     * @param quantile das Quantil zwischen 0 und 1, z. B. {@code 0.999}
+     * @return der Wert in Mikrosekunden (Mitte des Eimers) oder 0 ohne Werte
+     */
+    public long percentile(double quantile) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * quantile));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return (lowerBound(i) + lowerBound(i + 1) - 1) / 2;
+            }
+        }
+        return lowerBound(BUCKETS - 1);
+    }
+
+    /**
+     * Gibt den größten aufgezeichneten Wert zurück, auf die Obergrenze seines Eimers gerundet.
+     *
+     * @return der Höchstwert in Mikrosekunden oder 0 ohne Werte
+     */
+    public long max() {
+        for (int i = BUCKETS - 1; i >= 0; i--) {
+            if (counts.get(i) > 0) {
+                return lowerBound(i + 1) - 1;
+            }
+        }
+        return 0;
+    }
+
+    static int index(long value) {
+        if (value < LINEAR) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR + (exponent - 6) * SUB_BUCKETS + sub;
+    }
+
+    static long lowerBound(int index) {
+        if (index < LINEAR) {
+            return index;
+        }
+        int exponent = 6 + (index - LINEAR) / SUB_BUCKETS;
+        int sub = (index - LINEAR) % SUB_BUCKETS;
+        return (1L << exponent) + ((long) sub << (exponent - SUB_BITS));
+    }
+}
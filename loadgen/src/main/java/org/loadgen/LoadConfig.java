@@ -0,0 +1,86 @@
+package org.loadgen;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Die Einstellungen eines Lastlaufs, gelesen aus den Kommandozeilenargumenten ({@code --name=wert} oder
+ * {@code --name wert}).
+ *
+ * @param server         die Adresse des Servers
+ * @param players        die Anzahl gleichzeitiger simulierter Spieler
+ * @param playersPerGame die Anzahl der Spieler je Spiel (1 bis 4)
+ * @param games          die Anzahl der Spiele, die jede Gruppe nacheinander spielt (ohne Dauertest)
+ * @param pollMs         der Abstand der Abfragen des Spielstands je Spieler
+ * @param board          das Spielbrett der Spiele
+ * @param soak           ob als Dauertest gespielt wird: Gruppen beginnen bis {@code durationS} immer neue Spiele
+ * @param durationS      die Dauer des Dauertests bzw. die Obergrenze eines normalen Laufs in Sekunden
+ * @param probeS         der Abstand der Abfragen von {@code /api/admin/stats} in Sekunden
+ * @param rampMs         der Zeitraum, über den die Spieler gestaffelt starten
+ * @param stallMs        die Zeit ohne Änderung des Spiels, nach der ein Spielablauf als hängend abgebrochen wird
+ * @param report         die Datei des JSON-Berichts
+ */
+record LoadConfig(String server, int players, int playersPerGame, int games, long pollMs, String board,
+                  boolean soak, long durationS, long probeS, long rampMs, long stallMs, String report) {
+
+    /**
+     * Liest die Einstellungen; nicht angegebene Werte erhalten ihre Vorgabe.
+     *
+     * @param args die Kommandozeilenargumente
+     * @return die Einstellungen
+     * @throws IllegalArgumentException bei unbekannten oder ungültigen Argumenten
+     */
+    static LoadConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            String key = args[i].substring(2);
+            int equals = key.indexOf('=');
+            if (equals >= 0) {
+                values.put(key.substring(0, equals), key.substring(equals + 1));
+            } else if (key.equals("soak")) {
+                values.put(key, "true");
+            } else if (i + 1 < args.length) {
+                values.put(key, args[++i]);
+            } else {
+                throw new IllegalArgumentException("Missing value for --" + key);
+            }
+        }
+        boolean soak = Boolean.parseBoolean(values.remove("soak"));
+        LoadConfig config = new LoadConfig(
+                values.getOrDefault("server", "http://localhost:8080").replaceAll("/+$", ""),
+                Integer.parseInt(values.getOrDefault("players", "100")),
+                Integer.parseInt(values.getOrDefault("players-per-game", "4")),
+                Integer.parseInt(values.getOrDefault("games", "1")),
+                Long.parseLong(values.getOrDefault("poll-ms", "1000")),
+                values.getOrDefault("board", "classic"),
+                soak,
+                Long.parseLong(values.getOrDefault("duration-s", soak ? "3600" : "600")),
+                Long.parseLong(values.getOrDefault("probe-s", "5")),
+                Long.parseLong(values.getOrDefault("ramp-ms", "2000")),
+                Long.parseLong(values.getOrDefault("stall-ms", "60000")),
+                values.getOrDefault("report", "loadgen-report.json"));
+        for (String key : new String[]{"server", "players", "players-per-game", "games", "poll-ms", "board",
+                "duration-s", "probe-s", "ramp-ms", "stall-ms", "report"}) {
+            values.remove(key);
+        }
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        if (config.players < 1 || config.playersPerGame < 1 || config.playersPerGame > 4) {
+            throw new IllegalArgumentException("Need at least one player and 1 to 4 players per game");
+        }
+        return config;
+    }
+
+    /**
+     * Gibt die Basis-URL der REST-API zurück.
+     *
+     * @return die Basis-URL
+     */
+    String apiUrl() {
+        return server + "/api";
+    }
+}
@@ -0,0 +1,111 @@
+package org.loadgen;
+
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Der {@code LoadGenerator} simuliert viele gleichzeitige Spieler gegen die REST-API des Servers.
+ *
+ * <p>
+ * Jeder Spieler läuft als {@link SimulatedPlayer} auf einem eigenen virtuellen Thread; alle teilen sich einen
+ * HTTP-Client. Am Ende werden Perzentile der Antwortzeiten je Endpunkt, Durchsatz, Fehlerraten und die
+ * serverseitigen Würfe pro Sekunde als Text ausgegeben und als JSON gespeichert. Im Dauertest ({@code --soak})
+ * beginnen die Spieler bis zum Ablauf von {@code --duration-s} immer neue Spiele, während der Heap des Servers
+ * über die Spielabläufe hinweg beobachtet wird.
+ * </p>
+ *
+ * <p>
+ * Beispiel: {@code java -jar LoadGenerator.jar --players 1000 --poll-ms 500 --report report.json}
+ * </p>
+ */
+public final class LoadGenerator {
+
+    private LoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadConfig config = LoadConfig.parse(args);
+        Metrics metrics = new Metrics();
+        ApiClient api = new ApiClient(config.apiUrl(), metrics);
+        ServerProbe probe = new ServerProbe(api, metrics);
+
+        int finish = finishField(api, config.board());
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(config.durationS());
+        System.out.printf(Locale.ROOT, "Starting %d players against %s (board %s, finish %d)%n",
+                config.players(), config.server(), config.board(), finish);
+
+        List<SimulatedPlayer> players = new ArrayList<>();
+        int groupNumber = 0;
+        for (int seated = 0; seated < config.players(); groupNumber++) {
+            int size = Math.min(config.playersPerGame(), config.players() - seated);
+            SimulatedPlayer.Group group = new SimulatedPlayer.Group(groupNumber, size);
+            for (int seat = 0; seat < size; seat++) {
+                players.add(new SimulatedPlayer(api, metrics, config, group, seat, finish,
+                        () -> System.nanoTime() < deadline));
+            }
+            seated += size;
+        }
+
+        probe.sample();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            players.forEach(executor::submit);
+            executor.shutdown();
+            long probeNanos = TimeUnit.SECONDS.toNanos(config.probeS());
+            while (!executor.awaitTermination(probeNanos, TimeUnit.NANOSECONDS)) {
+                if (System.nanoTime() - deadline > TimeUnit.MILLISECONDS.toNanos(config.stallMs())) {
+                    System.out.println("Deadline exceeded, interrupting remaining players");
+                    executor.shutdownNow();
+                }
+                ServerProbe.Sample sample = probe.sample();
+                printProgress(start, metrics, sample);
+            }
+        }
+        probe.sample();
+
+        Report report = new Report(config, metrics, probe, System.nanoTime() - start);
+        System.out.print(report.toText());
+        report.writeJson(Path.of(config.report()));
+        System.out.println("JSON report written to " + config.report());
+    }
+
+    /**
+     * Ermittelt das Zielfeld des Bretts über {@code GET /api/boards/{name}}.
+     */
+    private static int finishField(ApiClient api, String board) throws InterruptedException {
+        HttpResponse<String> response = api.send("GET /api/boards/{name}", "GET", "/boards/" + board, null, null);
+        BoardInfo info = api.parse(response, BoardInfo.class);
+        if (info == null) {
+            throw new IllegalStateException("Board not found with name " + board
+                    + (response == null ? " (server not reachable)" : " (HTTP " + response.statusCode() + ")"));
+        }
+        return info.fields - 1;
+    }
+
+    private static void printProgress(long start, Metrics metrics, ServerProbe.Sample sample) {
+        long seconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start);
+        if (sample == null) {
+            System.out.printf(Locale.ROOT, "t=%ds games=%d failed=%d rolls=%d (server stats unavailable)%n",
+                    seconds, metrics.gamesCompleted.sum(), metrics.lifecyclesFailed.sum(), metrics.rolls.sum());
+            return;
+        }
+        System.out.printf(Locale.ROOT,
+                "t=%ds games=%d failed=%d rolls=%d live=%d heapAfterGc=%.1fMB heap=%.1fMB threads=%d%n",
+                seconds, metrics.gamesCompleted.sum(), metrics.lifecyclesFailed.sum(), metrics.rolls.sum(),
+                sample.liveGames(), sample.heapAfterGcBytes() / 1048576.0, sample.heapUsedBytes() / 1048576.0,
+                sample.threads());
+    }
+
+    /**
+     * Die benötigten Felder von {@code GET /api/boards/{name}}.
+     */
+    private static final class BoardInfo {
+        int fields;
+    }
+}
@@ -0,0 +1,60 @@
+package org.loadgen;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sammelt die Messwerte aller simulierten Spieler je Endpunkt.
+ *
+ * <p>
+ * Endpunkte werden unter ihrer Vorlage geführt, z. B. {@code PUT /api/games/{id}/rollDice}, damit sich die
+ * Werte aller Spiele zusammenfassen lassen.
+ * </p>
+ */
+public final class Metrics {
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    /** Anzahl der von den simulierten Spielern erfolgreich ausgeführten Würfe. */
+    final LongAdder rolls = new LongAdder();
+    /** Anzahl vollständig durchlaufener Spiele (je Spiel einmal gezählt, vom Host). */
+    final LongAdder gamesCompleted = new LongAdder();
+    /** Anzahl abgebrochener Spielabläufe, z. B. weil sich ein Spiel nicht mehr veränderte. */
+    final LongAdder lifecyclesFailed = new LongAdder();
+
+    /**
+     * Liefert die Messwerte eines Endpunkts und legt sie beim ersten Zugriff an.
+     *
+     * @param name die Vorlage des Endpunkts
+     * @return die Messwerte
+     */
+    public Endpoint endpoint(String name) {
+        return endpoints.computeIfAbsent(name, key -> new Endpoint());
+    }
+
+    /**
+     * Liefert alle Endpunkte nach Namen sortiert.
+     *
+     * @return die Endpunkte
+     */
+    public Map<String, Endpoint> endpoints() {
+        return new TreeMap<>(endpoints);
+    }
+
+    /**
+     * Die Messwerte eines Endpunkts.
+     */
+    public static final class Endpoint {
+        final LatencyHistogram latency = new LatencyHistogram();
+        /** Antworten mit 4xx/5xx (außer 409 und 429) und Verbindungsfehler. */
+        final LongAdder errors = new LongAdder();
+        /** Versionskonflikte (409), die bei gleichzeitigen Zugriffen erwartet werden. */
+        final LongAdder conflicts = new LongAdder();
+        /** Antworten 304 Not Modified. */
+        final LongAdder notModified = new LongAdder();
+        /** Antworten 429, mit denen der Server Anfragen wegen Überlast oder Ratenlimit abgewiesen hat. */
+        final LongAdder rateLimited = new LongAdder();
+    }
+}
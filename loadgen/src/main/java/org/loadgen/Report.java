@@ -0,0 +1,147 @@
+package org.loadgen;
+
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Der Abschlussbericht eines Lastlaufs, als Texttabelle für die Konsole und als JSON-Datei.
+ */
+final class Report {
+
+    final LoadConfig config;
+    final double durationSeconds;
+    final Map<String, EndpointReport> endpoints = new LinkedHashMap<>();
+    final EndpointReport total;
+    final long gamesCompleted;
+    final long lifecyclesFailed;
+    final double clientRollsPerSecond;
+    final double serverRollsPerSecond;
+    final double heapGrowthBytesPerMinute;
+    final double heapGrowthBytesPerGame;
+    final List<ServerProbe.Sample> serverSamples;
+
+    /**
+     * Erstellt den Bericht aus den gesammelten Messwerten.
+     *
+     * @param config        die Einstellungen des Laufs
+     * @param metrics       die Messwerte der simulierten Spieler
+     * @param probe         die Stichproben des Servers
+     * @param durationNanos die Dauer des Laufs
+     */
+    Report(LoadConfig config, Metrics metrics, ServerProbe probe, long durationNanos) {
+        this.config = config;
+        this.durationSeconds = durationNanos / 1e9;
+        long count = 0;
+        long errors = 0;
+        long conflicts = 0;
+        long notModified = 0;
+        long rateLimited = 0;
+        LatencyHistogram all = new LatencyHistogram();
+        for (Map.Entry<String, Metrics.Endpoint> entry : metrics.endpoints().entrySet()) {
+            Metrics.Endpoint endpoint = entry.getValue();
+            EndpointReport report = EndpointReport.of(endpoint.latency, endpoint.errors.sum(),
+                    endpoint.conflicts.sum(), endpoint.notModified.sum(), endpoint.rateLimited.sum(), durationSeconds);
+            endpoints.put(entry.getKey(), report);
+            count += report.count;
+            errors += report.errors;
+            conflicts += report.conflicts;
+            notModified += report.notModified;
+            rateLimited += report.rateLimited;
+            all.add(endpoint.latency);
+        }
+        this.total = EndpointReport.of(all, errors, conflicts, notModified, rateLimited, durationSeconds);
+        this.gamesCompleted = metrics.gamesCompleted.sum();
+        this.lifecyclesFailed = metrics.lifecyclesFailed.sum();
+        this.clientRollsPerSecond = metrics.rolls.sum() / durationSeconds;
+        this.serverRollsPerSecond = probe.serverRollsPerSecond();
+        this.heapGrowthBytesPerMinute = probe.heapGrowthBytesPerMinute();
+        this.heapGrowthBytesPerGame = probe.heapGrowthBytesPerGame();
+        this.serverSamples = new ArrayList<>(probe.samples());
+    }
+
+    /**
+     * Formatiert den Bericht als Texttabelle.
+     *
+     * @return der Bericht
+     */
+    String toText() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "%d players, %d per game, %.1f s%n",
+                config.players(), config.playersPerGame(), durationSeconds));
+        out.append(String.format(Locale.ROOT, "%-44s %9s %8s %7s %6s %8s %6s %9s %9s %9s %9s%n",
+                "endpoint", "count", "rps", "err%", "409", "304", "429", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+        endpoints.forEach((name, report) -> row(out, name, report));
+        row(out, "total", total);
+        out.append(String.format(Locale.ROOT, "games completed %d, failed %d%n", gamesCompleted, lifecyclesFailed));
+        out.append(String.format(Locale.ROOT, "rolls/s client %.1f, server %.1f%n",
+                clientRollsPerSecond, serverRollsPerSecond));
+        if (!serverSamples.isEmpty()) {
+            ServerProbe.Sample first = serverSamples.get(0);
+            ServerProbe.Sample last = serverSamples.get(serverSamples.size() - 1);
+            out.append(String.format(Locale.ROOT,
+                    "heap after GC %.1f MB -> %.1f MB (%+.1f KB/min, %+.1f B/game), live games %d, threads %d%n",
+                    first.heapAfterGcBytes() / 1048576.0, last.heapAfterGcBytes() / 1048576.0,
+                    heapGrowthBytesPerMinute / 1024, heapGrowthBytesPerGame, last.liveGames(), last.threads()));
+        }
+        return out.toString();
+    }
+
+    private static void row(StringBuilder out, String name, EndpointReport r) {
+        out.append(String.format(Locale.ROOT, "%-44s %9d %8.1f %7.2f %6d %8d %6d %9.2f %9.2f %9.2f %9.2f%n",
+                name, r.count, r.requestsPerSecond, r.errorRate * 100, r.conflicts, r.notModified, r.rateLimited,
+                r.p50Ms, r.p99Ms, r.p999Ms, r.maxMs));
+    }
+
+    /**
+     * Schreibt den Bericht als JSON.
+     *
+     * @param path die Zieldatei
+     * @throws IOException falls die Datei nicht geschrieben werden kann
+     */
+    void writeJson(Path path) throws IOException {
+        Files.writeString(path, new GsonBuilder().setPrettyPrinting().serializeSpecialFloatingPointValues()
+                .create().toJson(this));
+    }
+
+    /**
+     * Die ausgewerteten Messwerte eines Endpunkts.
+     */
+    static final class EndpointReport {
+        long count;
+        long errors;
+        long conflicts;
+        long notModified;
+        long rateLimited;
+        double errorRate;
+        double requestsPerSecond;
+        double p50Ms;
+        double p99Ms;
+        double p999Ms;
+        double maxMs;
+
+        static EndpointReport of(LatencyHistogram latency, long errors, long conflicts, long notModified,
+                                 long rateLimited, double seconds) {
+            EndpointReport report = new EndpointReport();
+            report.count = latency.count();
+            report.errors = errors;
+            report.conflicts = conflicts;
+            report.notModified = notModified;
+            report.rateLimited = rateLimited;
+            report.errorRate = report.count == 0 ? 0 : (double) errors / report.count;
+            report.requestsPerSecond = report.count / seconds;
+            report.p50Ms = latency.percentile(0.5) / 1000.0;
+            report.p99Ms = latency.percentile(0.99) / 1000.0;
+            report.p999Ms = latency.percentile(0.999) / 1000.0;
+            report.maxMs = latency.max() / 1000.0;
+            return report;
+        }
+    }
+}
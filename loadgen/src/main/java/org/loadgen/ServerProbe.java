@@ -0,0 +1,151 @@
+package org.loadgen;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fragt in festen Abständen {@code GET /api/admin/stats} ab und sammelt die Werte des Servers.
+ *
+ * <p>
+ * Aus den Stichproben ergeben sich die serverseitigen Würfe pro Sekunde sowie das Wachstum des Heaps. Für das
+ * Heap-Wachstum wird der belegte Speicher nach der letzten Garbage Collection verwendet, da der momentan belegte
+ * Speicher zwischen zwei Sammlungen stark schwankt. Die Steigung wird per linearer Regression bestimmt, einmal über
+ * die Zeit und einmal über die Zahl der abgeschlossenen Spiele.
+ * </p>
+ */
+final class ServerProbe {
+
+    private final ApiClient api;
+    private final Metrics metrics;
+    private final long startNanos = System.nanoTime();
+    private final List<Sample> samples = new ArrayList<>();
+
+    /**
+     * Erstellt die Abfrage.
+     *
+     * @param api     der gemeinsame HTTP-Client
+     * @param metrics die Messwerte der simulierten Spieler (für die Zahl abgeschlossener Spiele)
+     */
+    ServerProbe(ApiClient api, Metrics metrics) {
+        this.api = api;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Nimmt eine Stichprobe.
+     *
+     * @return die Stichprobe oder {@code null}, falls der Server nicht antwortete
+     * @throws InterruptedException falls der Thread unterbrochen wurde
+     */
+    Sample sample() throws InterruptedException {
+        ServerStats stats = api.parse(api.send("GET /api/admin/stats", "GET", "/admin/stats", null, null),
+                ServerStats.class);
+        if (stats == null) {
+            return null;
+        }
+        Sample sample = new Sample((System.nanoTime() - startNanos) / 1_000_000, metrics.gamesCompleted.sum(),
+                stats.liveGames, stats.rolls, stats.heapUsedBytes, stats.heapAfterGcBytes, stats.gcCount,
+                stats.threads);
+        synchronized (samples) {
+            samples.add(sample);
+        }
+        return sample;
+    }
+
+    /**
+     * Gibt eine Kopie aller bisherigen Stichproben zurück.
+     *
+     * @return die Stichproben in zeitlicher Reihenfolge
+     */
+    List<Sample> samples() {
+        synchronized (samples) {
+            return new ArrayList<>(samples);
+        }
+    }
+
+    /**
+     * Berechnet die serverseitigen Würfe pro Sekunde zwischen erster und letzter Stichprobe.
+     *
+     * @return die Würfe pro Sekunde oder 0 bei weniger als zwei Stichproben
+     */
+    double serverRollsPerSecond() {
+        List<Sample> all = samples();
+        if (all.size() < 2) {
+            return 0;
+        }
+        Sample first = all.get(0);
+        Sample last = all.get(all.size() - 1);
+        long millis = last.elapsedMs - first.elapsedMs;
+        return millis == 0 ? 0 : (last.serverRolls - first.serverRolls) * 1000.0 / millis;
+    }
+
+    /**
+     * Berechnet das Wachstum des Heaps nach der Garbage Collection in Bytes pro Minute.
+     *
+     * @return die Steigung der Regressionsgeraden oder 0 bei weniger als zwei Stichproben
+     */
+    double heapGrowthBytesPerMinute() {
+        return slope(samples(), s -> s.elapsedMs / 60_000.0);
+    }
+
+    /**
+     * Berechnet das Wachstum des Heaps nach der Garbage Collection in Bytes je abgeschlossenem Spiel.
+     * Bleibt der Wert über einen langen Dauertest deutlich über 0, behält der Server Daten beendeter Spiele.
+     *
+     * @return die Steigung der Regressionsgeraden oder 0, falls keine Spiele abgeschlossen wurden
+     */
+    double heapGrowthBytesPerGame() {
+        return slope(samples(), s -> s.gamesCompleted);
+    }
+
+    private static double slope(List<Sample> all, java.util.function.ToDoubleFunction<Sample> x) {
+        int n = all.size();
+        if (n < 2) {
+            return 0;
+        }
+        double meanX = 0;
+        double meanY = 0;
+        for (Sample s : all) {
+            meanX += x.applyAsDouble(s);
+            meanY += s.heapAfterGcBytes;
+        }
+        meanX /= n;
+        meanY /= n;
+        double covariance = 0;
+        double variance = 0;
+        for (Sample s : all) {
+            double dx = x.applyAsDouble(s) - meanX;
+            covariance += dx * (s.heapAfterGcBytes - meanY);
+            variance += dx * dx;
+        }
+        return variance == 0 ? 0 : covariance / variance;
+    }
+
+    /**
+     * Eine Stichprobe der Serverwerte.
+     *
+     * @param elapsedMs        die Zeit seit Beginn des Laufs
+     * @param gamesCompleted   die bis dahin abgeschlossenen Spiele des Lastgenerators
+     * @param liveGames        die Anzahl der Spiele im Speicher des Servers
+     * @param serverRolls      die Anzahl aller Würfe seit dem Start des Servers
+     * @param heapUsedBytes    der momentan belegte Heap
+     * @param heapAfterGcBytes der nach der letzten Garbage Collection belegte Heap
+     * @param gcCount          die Anzahl der Garbage Collections seit dem Start des Servers
+     * @param threads          die Anzahl der Threads des Servers
+     */
+    record Sample(long elapsedMs, long gamesCompleted, int liveGames, long serverRolls, long heapUsedBytes,
+                  long heapAfterGcBytes, long gcCount, int threads) {
+    }
+
+    /**
+     * Die Antwort von {@code GET /api/admin/stats}.
+     */
+    private static final class ServerStats {
+        int liveGames;
+        long rolls;
+        long heapUsedBytes;
+        long heapAfterGcBytes;
+        long gcCount;
+        int threads;
+    }
+}
@@ -0,0 +1,189 @@
+package org.loadgen;
+
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Ein simulierter Spieler, der auf einem eigenen virtuellen Thread denselben Ablauf wie der echte Client durchläuft:
+ * Lobby erstellen bzw. beitreten, bereit melden, (als Host) starten, den Spielstand in festen Abständen abfragen,
+ * im eigenen Zug würfeln und nach dem Ende das Spiel verlassen.
+ *
+ * <p>
+ * Die Spieler einer {@link Group} spielen gemeinsam: Der Host (Sitz 0) erstellt je Runde ein Spiel und teilt
+ * dessen ID über ein {@link CompletableFuture}, die übrigen Sitze treten ihm bei.
+ * </p>
+ */
+final class SimulatedPlayer implements Runnable {
+
+    private static final String GAME = "GET /api/games/{id}";
+
+    private final ApiClient api;
+    private final Metrics metrics;
+    private final LoadConfig config;
+    private final Group group;
+    private final int seat;
+    private final String name;
+    private final int finish;
+    private final BooleanSupplier keepRunning;
+
+    /**
+     * Erstellt einen simulierten Spieler.
+     *
+     * @param api         der gemeinsame HTTP-Client
+     * @param metrics     die gemeinsamen Messwerte
+     * @param config      die Einstellungen des Laufs
+     * @param group       die Gruppe, mit der der Spieler spielt
+     * @param seat        der Sitz in der Gruppe; Sitz 0 ist der Host
+     * @param finish      das Zielfeld des Bretts
+     * @param keepRunning ob nach einem Spiel ein weiteres begonnen werden darf
+     */
+    SimulatedPlayer(ApiClient api, Metrics metrics, LoadConfig config, Group group, int seat, int finish,
+                    BooleanSupplier keepRunning) {
+        this.api = api;
+        this.metrics = metrics;
+        this.config = config;
+        this.group = group;
+        this.seat = seat;
+        this.name = "lg" + group.number + "-" + seat;
+        this.finish = finish;
+        this.keepRunning = keepRunning;
+    }
+
+    @Override
+    public void run() {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(config.rampMs() + 1));
+            for (int round = 0; (config.soak() || round < config.games()) && keepRunning.getAsBoolean(); round++) {
+                if (!playOneGame(round)) {
+                    metrics.lifecyclesFailed.increment();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Spielt ein Spiel vom Erstellen bzw. Beitreten bis zum Verlassen.
+     *
+     * @param round die Nummer des Spiels dieser Gruppe
+     * @return {@code true}, falls das Spiel regulär beendet wurde
+     */
+    private boolean playOneGame(int round) throws InterruptedException {
+        CompletableFuture<Long> gameId = group.round(round);
+        GameState state;
+        if (seat == 0) {
+            state = api.parse(api.send(name, "POST /api/games", "POST", "/games?board=" + config.board(),
+                    Map.of("name", name), null), GameState.class);
+            if (state == null) {
+                gameId.complete(-1L);
+                return false;
+            }
+            gameId.complete(state.id);
+        } else {
+            long id;
+            try {
+                id = gameId.get(config.stallMs(), TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                return false;
+            }
+            if (id < 0) {
+                return false;
+            }
+            state = api.parse(api.send(name, "PUT /api/games/{id}/join", "PUT", "/games/" + id + "/join",
+                    Map.of("name", name), null), GameState.class);
+            if (state == null) {
+                return false;
+            }
+        }
+        long id = state.id;
+        GameState.PlayerState me = state.player(name);
+        if (me == null) {
+            return false;
+        }
+        api.send(name, "PUT /api/games/{id}/players/{index}/ready", "PUT",
+                "/games/" + id + "/players/" + me.playerIndex + "/ready",
+                Map.of("playerIndex", me.playerIndex, "ready", true), null);
+
+        boolean finished = pollAndRoll(id, state);
+        api.send(name, "DELETE /api/games/{id}/players/{playerId}", "DELETE", "/games/" + id + "/players/" + me.id, null, null);
+        if (finished && seat == 0) {
+            metrics.gamesCompleted.increment();
+        }
+        return finished;
+    }
+
+    /**
+     * Fragt den Spielstand ab, bis das Rennen entschieden ist, und würfelt im eigenen Zug.
+     *
+     * @return {@code true}, falls das Rennen entschieden wurde, {@code false} bei einem hängenden Spiel
+     */
+    private boolean pollAndRoll(long id, GameState initial) throws InterruptedException {
+        GameState state = initial;
+        String etag = null;
+        long lastVersion = -1;
+        long lastChange = System.currentTimeMillis();
+        while (true) {
+            HttpResponse<String> response = api.send(GAME, "GET", "/games/" + id, null, etag);
+            if (response != null && response.statusCode() == 200) {
+                state = api.parse(response, GameState.class);
+                etag = response.headers().firstValue("ETag").orElse(null);
+            } else if (response == null || response.statusCode() != 304 && response.statusCode() != 429) {
+                return false;
+            }
+            if (state.stateVersion != lastVersion) {
+                lastVersion = state.stateVersion;
+                lastChange = System.currentTimeMillis();
+            } else if (System.currentTimeMillis() - lastChange > config.stallMs()) {
+                return false;
+            }
+
+            if (state.gameStarted && state.isFinished(finish)) {
+                return true;
+            }
+            if (!state.gameStarted) {
+                if (seat == 0 && state.allPlayersAreReady && state.players.size() == group.size) {
+                    api.send(name, "PUT /api/games/{id}/start", "PUT", "/games/" + id + "/start",
+                            Map.of("gameStarted", true, "gameState", "Game"), null);
+                    continue;
+                }
+            } else if (name.equals(state.currentPlayerUsername)) {
+                HttpResponse<String> rolled = api.send(name, "PUT /api/games/{id}/rollDice", "PUT",
+                        "/games/" + id + "/rollDice?player=" + name + "&expectedVersion=" + state.stateVersion,
+                        null, null);
+                if (rolled != null && rolled.statusCode() == 200) {
+                    metrics.rolls.increment();
+                }
+            }
+            Thread.sleep(config.pollMs());
+        }
+    }
+
+    /**
+     * Eine Gruppe von Spielern, die gemeinsam ein Spiel nach dem anderen spielen.
+     */
+    static final class Group {
+        final int number;
+        final int size;
+        private final Map<Integer, CompletableFuture<Long>> rounds = new ConcurrentHashMap<>();
+
+        Group(int number, int size) {
+            this.number = number;
+            this.size = size;
+        }
+
+        /**
+         * Liefert die Spiel-ID einer Runde, sobald der Host das Spiel erstellt hat (-1, falls das scheiterte).
+         * Ältere Runden werden dabei vergessen.
+         */
+        CompletableFuture<Long> round(int round) {
+            rounds.remove(round - 2);
+            return rounds.computeIfAbsent(round, key -> new CompletableFuture<>());
+        }
+    }
+}
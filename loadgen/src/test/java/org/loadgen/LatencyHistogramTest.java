@@ -0,0 +1,54 @@
+package org.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void bucketsAreContiguous() {
+        for (int i = 0; i < 1800; i++) {
+            assertEquals(i, LatencyHistogram.index(LatencyHistogram.lowerBound(i)));
+            assertEquals(i, LatencyHistogram.index(LatencyHistogram.lowerBound(i + 1) - 1));
+        }
+    }
+
+    @Test
+    void percentilesAreWithinBucketPrecision() {
+        Random random = new Random(42);
+        LatencyHistogram histogram = new LatencyHistogram();
+        long[] values = new long[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(random.nextGaussian() * 1.5 + 8);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        assertEquals(values.length, histogram.count());
+        for (double q : new double[]{0.5, 0.9, 0.99, 0.999}) {
+            long exact = values[(int) Math.ceil(values.length * q) - 1];
+            long estimate = histogram.percentile(q);
+            assertTrue(Math.abs(estimate - exact) <= exact * 0.032 + 1,
+                    "q=" + q + " exact=" + exact + " estimate=" + estimate);
+        }
+        assertTrue(histogram.max() >= values[values.length - 1]);
+    }
+
+    @Test
+    void addMergesCounts() {
+        LatencyHistogram a = new LatencyHistogram();
+        LatencyHistogram b = new LatencyHistogram();
+        a.record(10);
+        b.record(10_000);
+        b.record(20_000);
+        a.add(b);
+
+        assertEquals(3, a.count());
+        assertEquals(10, a.percentile(0.3));
+    }
+}
@@ -2,6 +2,7 @@ package org.dataTransfer.server;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Die Hauptklasse der Server-Anwendung.
@@ -9,7 +10,8 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * <p>
  * Diese Klasse dient als Einstiegspunkt für die Spring Boot-Anwendung. Durch die Annotation
  * {@code @SpringBootApplication} wird die automatische Konfiguration, Komponenten-Scan und
- * weitere Spring Boot-Funktionalitäten aktiviert.
+ * weitere Spring Boot-Funktionalitäten aktiviert. {@code @EnableScheduling} aktiviert die periodischen
+ * Aufgaben, z. B. das verzögerte Schreiben der Spielstände in die Datenbank.
  * </p>
  *
  * <p>
@@ -17,6 +19,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * </p>
  */
 @SpringBootApplication
+@EnableScheduling
 public class Application {
 
 	/**
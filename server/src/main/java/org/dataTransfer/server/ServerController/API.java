@@ -1,48 +1,105 @@
 package org.dataTransfer.server.ServerController;
 
+import org.dataTransfer.server.ServerModell.analytics.GameOdds;
+import org.dataTransfer.server.ServerModell.event.GameEvents;
 import org.dataTransfer.server.ServerModell.game.Game;
 import org.dataTransfer.server.ServerModell.player.Player;
+import org.dataTransfer.server.ServerModell.view.GameSummary;
+import org.dataTransfer.server.ServerModell.view.GameView;
+import org.dataTransfer.server.ServerModell.view.PlayerView;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
  * REST API interface for game and player management.
+ * Responses are read models ({@link GameView}, {@link PlayerView}, {@link GameSummary}), never JPA entities.
  */
 @RequestMapping("/api/games")
 public interface API {
 
     /**
-     * Retrieves all available games.
-     * @return A list of all games.
+     * Retrieves one page of games, newest first, optionally filtered.
+     * The page is a JSON array; if more games follow, the {@code Link} header ({@code rel="next"}) and the
+     * {@code X-Next-Cursor} header point to the next page.
+     * @param state Only games in this state, e.g. {@code Lobby}.
+     * @param freeSeat {@code true} for games with a free seat, {@code false} for full games.
+     * @param host Only games hosted by this player name.
+     * @param createdAfter Only games created after this ISO-8601 instant.
+     * @param cursor The {@code X-Next-Cursor} of the previous page; omit for the first page.
+     * @param limit The maximum number of games on the page.
+     * @return The summaries of the games on the page, without their players.
      */
     @GetMapping
-    List<Game> getAllGames();
+    ResponseEntity<List<GameSummary>> getAllGames(@RequestParam(required = false) String state,
+                                                  @RequestParam(required = false) Boolean freeSeat,
+                                                  @RequestParam(required = false) String host,
+                                                  @RequestParam(required = false) Instant createdAfter,
+                                                  @RequestParam(required = false) Long cursor,
+                                                  @RequestParam(required = false) Integer limit);
 
     /**
      * Retrieves a specific game by its ID.
+     * Answers 304 Not Modified if the {@code If-None-Match} header matches the game's current ETag.
      * @param id The game ID.
-     * @return The game with the given ID.
+     * @param request The current request, used for the conditional check.
+     * @return The encoded game (JSON, or the compact binary state if requested via {@code Accept}) and its ETag.
      */
     @GetMapping("/{id}")
-    Game getGameById(@PathVariable Long id);
+    ResponseEntity<byte[]> getGameById(@PathVariable Long id, WebRequest request);
+
+    /**
+     * Opens a Server-Sent Events stream that pushes the game state whenever it changes.
+     * @param id The game ID.
+     * @return The emitter of the stream.
+     */
+    @GetMapping(path = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter streamGame(@PathVariable Long id);
+
+    /**
+     * Retrieves the events of a game since the given state version.
+     * Falls back to a full snapshot if the client is too far behind or {@code after} is omitted.
+     * @param id The game ID.
+     * @param after The last state version the client has seen.
+     * @return The missing events, or the current snapshot.
+     */
+    @GetMapping("/{id}/events")
+    GameEvents getEvents(@PathVariable Long id, @RequestParam(defaultValue = "-1") long after);
+
+    /**
+     * Retrieves the live win probability and expected turns to finish of every player, computed exactly from the
+     * board's Markov chain. Cheap enough to be polled freely by spectators.
+     * Answers 304 Not Modified if the {@code If-None-Match} header matches the game's current ETag.
+     * @param id The game ID.
+     * @param request The current request, used for the conditional check.
+     * @return The odds of all players and the game's ETag.
+     */
+    @GetMapping("/{id}/odds")
+    ResponseEntity<GameOdds> getOdds(@PathVariable Long id, WebRequest request);
 
     /**
      * Retrieves all players in a specific game.
+     * Answers 304 Not Modified if the {@code If-None-Match} header matches the game's current ETag.
      * @param gameID The ID of the game.
-     * @return A list of players in the specified game.
+     * @param request The current request, used for the conditional check.
+     * @return A list of players in the specified game and the game's ETag.
      */
     @GetMapping("/{gameID}/players")
-    List<Player> getAllPlayersInGame(@PathVariable Long gameID);
+    ResponseEntity<List<PlayerView>> getAllPlayersInGame(@PathVariable Long gameID, WebRequest request);
 
     /**
-     * Creates a new game lobby with a host player.
+     * Creates a new game lobby with a host player on the chosen board.
      * @param player The player creating the lobby.
+     * @param board The name of the board, see {@code GET /api/boards}.
      * @return The newly created game.
      */
     @PostMapping
-    Game createLobby(@RequestBody Player player);
+    GameView createLobby(@RequestBody Player player, @RequestParam(defaultValue = "classic") String board);
 
     /**
      * Allows a player to join an existing game lobby.
@@ -51,52 +108,62 @@ public interface API {
      * @return The updated game instance.
      */
     @PutMapping("/{id}/join")
-    Game joinLobby(@PathVariable Long id, @RequestBody Player player);
+    GameView joinLobby(@PathVariable Long id, @RequestBody Player player);
 
     /**
      * Rolls the dice for the current player and advances to the next turn.
      * @param gameID The ID of the game.
+     * @param expectedVersion The state version the client last saw (optional, 409 on mismatch).
+     * @param player The name of the rolling player (optional, 409 if not on turn).
      * @return The updated game state.
      */
     @PutMapping("/{gameID}/rollDice")
-    ResponseEntity<Game> rollDice(@PathVariable Long gameID);
+    ResponseEntity<GameView> rollDice(@PathVariable Long gameID,
+                                      @RequestParam(required = false) Long expectedVersion,
+                                      @RequestParam(required = false) String player);
 
     /**
      * Updates a player's position in the game.
      * @param gameID The game ID.
      * @param playerID The player ID.
      * @param player The updated player details.
-     * @return The updated player entity.
+     * @return The updated player.
      */
     @PutMapping("/{gameID}/players/{playerID}/position")
-    ResponseEntity<Player> updatePosition(@PathVariable Long gameID, @PathVariable Long playerID, @RequestBody Player player);
+    ResponseEntity<PlayerView> updatePosition(@PathVariable Long gameID, @PathVariable Long playerID, @RequestBody Player player);
 
     /**
      * Updates the game details.
      * @param gameID The game ID.
      * @param game The updated game data.
-     * @return The updated game entity.
+     * @param expectedVersion The state version the client last saw (optional, retried server-side on mismatch).
+     * @return The updated game.
      */
     @PutMapping("/{gameID}/update")
-    ResponseEntity<Game> updatePlayer(@PathVariable Long gameID, @RequestBody Game game);
+    ResponseEntity<GameView> updatePlayer(@PathVariable Long gameID, @RequestBody Game game,
+                                          @RequestParam(required = false) Long expectedVersion);
 
     /**
      * Updates the readiness status of a player.
      * @param gameId The game ID.
      * @param player The updated player data.
-     * @return The updated player entity.
+     * @param expectedVersion The state version the client last saw (optional, retried server-side on mismatch).
+     * @return The updated player.
      */
     @PutMapping("/{gameId}/players/{playerIndex}/ready")
-    ResponseEntity<Player> updateReadyStatus(@PathVariable Long gameId, @RequestBody Player player);
+    ResponseEntity<PlayerView> updateReadyStatus(@PathVariable Long gameId, @RequestBody Player player,
+                                                 @RequestParam(required = false) Long expectedVersion);
 
     /**
      * Starts the game when all conditions are met.
      * @param gameID The ID of the game.
      * @param game The game instance (optional).
+     * @param expectedVersion The state version the client last saw (optional, 409 on mismatch).
      * @return The updated game state.
      */
     @PutMapping("/{gameID}/start")
-    ResponseEntity<Game> startGame(@PathVariable Long gameID, @RequestBody Game game);
+    ResponseEntity<GameView> startGame(@PathVariable Long gameID, @RequestBody Game game,
+                                       @RequestParam(required = false) Long expectedVersion);
 
     /**
      * Removes a player from a game.
@@ -0,0 +1,41 @@
+package org.dataTransfer.server.ServerController;
+
+import org.dataTransfer.server.ServerModell.admin.ServerStats;
+import org.dataTransfer.server.ServerModell.admin.SlowRequest;
+import org.dataTransfer.server.ServerModell.metrics.PrometheusWriter;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.util.List;
+
+/**
+ * REST API interface for operational insight into the running server.
+ */
+@RequestMapping("/api/admin")
+public interface AdminAPI {
+
+    /**
+     * Retrieves runtime statistics: live games, total rolls, heap usage and GC counters.
+     * Load generators poll it to compute server-side throughput and heap growth.
+     * @return The current server statistics.
+     */
+    @GetMapping("/stats")
+    ServerStats getStats();
+
+    /**
+     * Retrieves all server metrics in the Prometheus text format: per-endpoint latency histograms, the roll
+     * counter, lobbies and running games, players online, persistence flush latency and poll hits/misses.
+     * @return The metrics as Prometheus exposition text.
+     */
+    @GetMapping(value = "/metrics", produces = PrometheusWriter.CONTENT_TYPE)
+    String getMetrics();
+
+    /**
+     * Retrieves the slowest requests since startup with the time spent per phase (lookup, queue, engine,
+     * persist, notify, serialize), slowest first. The same phases are sent in the Server-Timing header of
+     * every response.
+     * @return The slowest requests.
+     */
+    @GetMapping("/slow-requests")
+    List<SlowRequest> getSlowRequests();
+}
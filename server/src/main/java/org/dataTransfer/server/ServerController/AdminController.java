@@ -0,0 +1,173 @@
+package org.dataTransfer.server.ServerController;
+
+import org.dataTransfer.server.ServerModell.admin.ServerStats;
+import org.dataTransfer.server.ServerModell.admin.SlowRequest;
+import org.dataTransfer.server.ServerModell.admission.Priority;
+import org.dataTransfer.server.ServerModell.engine.GameEngine;
+import org.dataTransfer.server.ServerModell.engine.GamePersistence;
+import org.dataTransfer.server.ServerModell.metrics.GameCounts;
+import org.dataTransfer.server.ServerModell.metrics.PrometheusWriter;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+
+/**
+ * Der {@code AdminController} stellt Betriebskennzahlen des Servers bereit, als JSON unter {@code /stats}
+ * und im Textformat von Prometheus unter {@code /metrics}, sowie die langsamsten Anfragen unter
+ * {@code /slow-requests}.
+ *
+ * <p>
+ * Die Metriken werden erst bei der Abfrage zusammengestellt. Auf den Anfrage- und Würfelpfaden werden nur
+ * sperrfreie Zähler und {@link org.dataTransfer.server.ServerModell.metrics.Histogram}s erhöht.
+ * </p>
+ */
+@RestController
+@RequestMapping("api/admin")
+public class AdminController implements AdminAPI {
+
+    private final GameEngine gameEngine;
+    private final GamePersistence persistence;
+    private final RequestMetricsFilter requestMetrics;
+    private final GameResponseCache responseCache;
+    private final AdmissionFilter admission;
+
+    /**
+     * Konstruktor des AdminControllers.
+     *
+     * @param gameEngine     die Engine, die alle laufenden Spiele verwaltet
+     * @param persistence    der Schreibpfad der Engine, dessen Schreibdauern gemeldet werden
+     * @param requestMetrics misst die HTTP-Anfragen je Endpunkt
+     * @param responseCache  hält die kodierten Spielstände, deren Trefferquote gemeldet wird
+     * @param admission      die Zugangskontrolle, deren Limit und Abweisungen gemeldet werden
+     */
+    public AdminController(GameEngine gameEngine, GamePersistence persistence, RequestMetricsFilter requestMetrics,
+                           GameResponseCache responseCache, AdmissionFilter admission) {
+        this.gameEngine = gameEngine;
+        this.persistence = persistence;
+        this.requestMetrics = requestMetrics;
+        this.responseCache = responseCache;
+        this.admission = admission;
+    }
+
+    /**
+     * Liefert die aktuellen Kennzahlen des Servers.
+     *
+     * @return die Kennzahlen
+     */
+    @GetMapping("/stats")
+    public ServerStats getStats() {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        long afterGc = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage collected = pool.getCollectionUsage();
+            if (pool.getType() == MemoryType.HEAP && collected != null) {
+                afterGc += collected.getUsed();
+            }
+        }
+        long gcCount = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(0, collector.getCollectionCount());
+        }
+        return new ServerStats(ManagementFactory.getRuntimeMXBean().getUptime(), gameEngine.getLiveGameCount(),
+                gameEngine.getRollCount(), heap.getUsed(), heap.getCommitted(), afterGc, gcCount,
+                ManagementFactory.getThreadMXBean().getThreadCount());
+    }
+
+    /**
+     * Liefert alle Metriken im Textformat von Prometheus.
+     *
+     * @return die Metriken
+     */
+    @GetMapping(value = "/metrics", produces = PrometheusWriter.CONTENT_TYPE)
+    public String getMetrics() {
+        PrometheusWriter out = new PrometheusWriter();
+
+        out.header("http_server_requests_seconds", "histogram", "Duration of HTTP requests per endpoint.");
+        for (RequestMetricsFilter.Endpoint endpoint : requestMetrics.getEndpoints()) {
+            out.histogram("http_server_requests_seconds", endpoint.getLatency(),
+                    "method", endpoint.getMethod(), "uri", endpoint.getUri());
+        }
+        out.header("http_server_errors_total", "counter", "HTTP requests answered with a 5xx status.");
+        for (RequestMetricsFilter.Endpoint endpoint : requestMetrics.getEndpoints()) {
+            out.sample("http_server_errors_total", endpoint.getServerErrors(),
+                    "method", endpoint.getMethod(), "uri", endpoint.getUri());
+        }
+        out.header("game_poll_requests_total", "counter",
+                "GET requests of resources with an ETag; hit = 304 Not Modified, miss = full body.");
+        for (RequestMetricsFilter.Endpoint endpoint : requestMetrics.getEndpoints()) {
+            if (endpoint.getPollHits() + endpoint.getPollMisses() > 0) {
+                out.sample("game_poll_requests_total", endpoint.getPollHits(), "uri", endpoint.getUri(), "result", "hit");
+                out.sample("game_poll_requests_total", endpoint.getPollMisses(), "uri", endpoint.getUri(), "result", "miss");
+            }
+        }
+
+        GameCounts counts = gameEngine.getGameCounts();
+        out.header("game_rolls_total", "counter", "Dice rolls since server start.")
+                .sample("game_rolls_total", gameEngine.getRollCount());
+        out.header("game_games", "gauge", "Games held in memory by state.")
+                .sample("game_games", counts.lobbies(), "state", "lobby")
+                .sample("game_games", counts.running(), "state", "running");
+        out.header("game_players_online", "gauge", "Players in games held in memory.")
+                .sample("game_players_online", counts.humanPlayers(), "kind", "human")
+                .sample("game_players_online", counts.botPlayers(), "kind", "bot");
+        out.header("game_evictions_total", "counter", "Finished or idle games removed from memory.")
+                .sample("game_evictions_total", gameEngine.getEvictedCount());
+        out.header("game_persistence_flush_seconds", "histogram",
+                "Duration of persistence writes (write-behind flush, write-through write or journal fsync).")
+                .histogram("game_persistence_flush_seconds", persistence.getFlushLatency());
+
+        long hits = responseCache.getHits();
+        long misses = responseCache.getMisses();
+        out.header("game_response_cache_requests_total", "counter",
+                "Lookups of encoded game states; hit = cached bytes sent, miss = encoded on demand.")
+                .sample("game_response_cache_requests_total", hits, "result", "hit")
+                .sample("game_response_cache_requests_total", misses, "result", "miss");
+        out.header("game_response_cache_hit_ratio", "gauge", "Share of lookups answered from the cache since start.")
+                .sample("game_response_cache_hit_ratio", hits + misses == 0 ? 0 : (double) hits / (hits + misses));
+        out.header("game_response_cache_evictions_total", "counter", "Entries evicted by the size limit.")
+                .sample("game_response_cache_evictions_total", responseCache.getEvictions());
+        out.header("game_response_cache_entries", "gauge", "Games with cached encoded states.")
+                .sample("game_response_cache_entries", responseCache.getEntryCount());
+        out.header("game_response_cache_bytes", "gauge",
+                "Memory held by the cache; payload = encoded bytes, estimated = payload plus per-entry overhead.")
+                .sample("game_response_cache_bytes", responseCache.getPayloadBytes(), "kind", "payload")
+                .sample("game_response_cache_bytes", responseCache.getEstimatedBytes(), "kind", "estimated");
+        out.header("game_read_collapsed_total", "counter",
+                "Game reads served by a concurrent identical read instead of their own work; "
+                        + "load = database load of a game, encode = encoding of a game state.")
+                .sample("game_read_collapsed_total", gameEngine.getCollapsedLoadCount(), "stage", "load")
+                .sample("game_read_collapsed_total", responseCache.getCollapsedCount(), "stage", "encode");
+        out.header("game_admission_requests_total", "counter",
+                "API requests by priority class and admission result; rejected requests were answered with 429.");
+        for (Priority priority : Priority.values()) {
+            for (AdmissionFilter.Outcome outcome : AdmissionFilter.Outcome.values()) {
+                out.sample("game_admission_requests_total", admission.getCount(priority, outcome),
+                        "class", priority.name().toLowerCase(), "result", outcome.name().toLowerCase());
+            }
+        }
+        out.header("game_admission_concurrency_limit", "gauge", "Current adaptive limit of concurrent API requests.")
+                .sample("game_admission_concurrency_limit", admission.getConcurrencyLimit());
+        out.header("game_admission_in_flight", "gauge", "API requests currently being processed.")
+                .sample("game_admission_in_flight", admission.getInFlight());
+        out.header("game_admission_addresses", "gauge", "Client addresses with a partially drained budget.")
+                .sample("game_admission_addresses", admission.getAddressCount());
+        return out.toString();
+    }
+
+    /**
+     * Liefert die langsamsten Anfragen seit dem Start samt der Dauer ihrer Phasen.
+     *
+     * @return die Anfragen, die langsamste zuerst
+     */
+    @GetMapping("/slow-requests")
+    public List<SlowRequest> getSlowRequests() {
+        return requestMetrics.getSlowRequests();
+    }
+}
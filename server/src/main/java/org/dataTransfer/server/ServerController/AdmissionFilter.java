@@ -0,0 +1,240 @@
+package org.dataTransfer.server.ServerController;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.dataTransfer.server.ServerModell.admission.AdaptiveConcurrencyLimit;
+import org.dataTransfer.server.ServerModell.admission.AddressBudget;
+import org.dataTransfer.server.ServerModell.admission.Priority;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Der {@code AdmissionFilter} entscheidet vor den Controllern unter {@code /api}, ob eine Anfrage bearbeitet wird.
+ *
+ * <p>
+ * Jede Adresse hat ein {@link AddressBudget} mit {@code game.admission.address-rate} Anfragen pro Sekunde und einer
+ * Kapazität von {@code game.admission.address-burst}. Der Header {@code X-Client-Id} wählt der Client selbst; er
+ * teilt das Budget der Adresse nur auf (je Kennung {@code game.admission.client-rate} und {@code client-burst},
+ * höchstens {@code game.admission.max-ids-per-address} Kennungen) und verschafft keine zusätzlichen Anfragen.
+ * Zusätzlich begrenzt ein {@link AdaptiveConcurrencyLimit} die Anfragen, die gleichzeitig in
+ * Bearbeitung sind; es sinkt, sobald die Latenz steigt.
+ * </p>
+ *
+ * <p>
+ * Anfragen werden nach {@link Priority} eingeteilt: Würfe und Spielstarts sind zugkritisch, andere verändernde
+ * Anfragen sind Befehle, alles Übrige sind Abfragen. Niedrigere Klassen lassen einen Teil des Limits und der Tokens
+ * frei, sodass unter Last zuerst das Polling abgewiesen wird. Abgewiesene Anfragen erhalten 429 mit
+ * {@code Retry-After} in Sekunden. Die Endpunkte unter {@code /api/admin} sind ausgenommen, damit die Kennzahlen auch
+ * unter Last abrufbar bleiben.
+ * </p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AdmissionFilter extends OncePerRequestFilter {
+
+    /** Header, unter dem ein Client eine eigene Kennung senden kann. */
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    /** Das Ergebnis der Zugangskontrolle. */
+    public enum Outcome {
+        /** Die Anfrage wurde bearbeitet. */
+        ADMITTED,
+        /** Das Budget der Adresse oder der Kennung war erschöpft. */
+        RATE_LIMITED,
+        /** Das Nebenläufigkeitslimit der Prioritätsklasse war erreicht. */
+        OVERLOADED
+    }
+
+    /** Längste Kennung aus {@code X-Client-Id}, die übernommen wird. */
+    private static final int MAX_CLIENT_ID_LENGTH = 64;
+
+    private final boolean enabled;
+    private final double addressRate;
+    private final double addressBurst;
+    private final double clientRate;
+    private final double clientBurst;
+    private final int maxIdsPerAddress;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+
+    /** Die Budgets der Adressen. */
+    private final Map<String, AddressBudget> budgets = new ConcurrentHashMap<>();
+
+    /** Zähler je Prioritätsklasse und Ergebnis. */
+    private final LongAdder[][] counts = new LongAdder[Priority.values().length][Outcome.values().length];
+
+    /**
+     * Konstruktor des AdmissionFilters.
+     *
+     * @param enabled          ob die Zugangskontrolle aktiv ist
+     * @param addressRate      die Anfragen pro Sekunde je Adresse
+     * @param addressBurst     die Kapazität des Token-Buckets je Adresse
+     * @param clientRate       die Anfragen pro Sekunde je Kennung aus {@code X-Client-Id}
+     * @param clientBurst      die Kapazität des Token-Buckets je Kennung
+     * @param maxIdsPerAddress die höchste Anzahl von Kennungen je Adresse; weitere teilen sich einen Bucket
+     * @param initialLimit     das Nebenläufigkeitslimit beim Start
+     * @param minLimit         das kleinste Nebenläufigkeitslimit
+     * @param maxLimit         das größte Nebenläufigkeitslimit
+     * @param latencyTolerance ab welchem Vielfachen der üblichen Latenz das Limit sinkt
+     * @param window           die Anzahl der Anfragen, nach denen das Limit angepasst wird
+     */
+    public AdmissionFilter(@Value("${game.admission.enabled:true}") boolean enabled,
+                           @Value("${game.admission.address-rate:500}") double addressRate,
+                           @Value("${game.admission.address-burst:1000}") double addressBurst,
+                           @Value("${game.admission.client-rate:50}") double clientRate,
+                           @Value("${game.admission.client-burst:100}") double clientBurst,
+                           @Value("${game.admission.max-ids-per-address:64}") int maxIdsPerAddress,
+                           @Value("${game.admission.initial-limit:100}") int initialLimit,
+                           @Value("${game.admission.min-limit:10}") int minLimit,
+                           @Value("${game.admission.max-limit:200}") int maxLimit,
+                           @Value("${game.admission.latency-tolerance:2.0}") double latencyTolerance,
+                           @Value("${game.admission.window-size:100}") int window) {
+        this.enabled = enabled;
+        this.addressRate = addressRate;
+        this.addressBurst = addressBurst;
+        this.clientRate = clientRate;
+        this.clientBurst = clientBurst;
+        this.maxIdsPerAddress = maxIdsPerAddress;
+        this.concurrencyLimit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, latencyTolerance, window);
+        for (LongAdder[] row : counts) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = new LongAdder();
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !enabled || !path.startsWith("/api/") || path.startsWith("/api/admin/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Priority priority = classify(request);
+        long now = System.nanoTime();
+        long wait = budget(request, now).tryAcquire(clientId(request), priority.getTokenReserve(), now);
+        if (wait > 0) {
+            reject(response, priority, Outcome.RATE_LIMITED, wait);
+            return;
+        }
+        if (!concurrencyLimit.tryAcquire(priority.getLimitShare())) {
+            reject(response, priority, Outcome.OVERLOADED, TimeUnit.SECONDS.toNanos(1));
+            return;
+        }
+        counts[priority.ordinal()][Outcome.ADMITTED.ordinal()].increment();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            concurrencyLimit.release(System.nanoTime() - now, !request.isAsyncStarted());
+        }
+    }
+
+    /**
+     * Entfernt die Token-Buckets, die wieder voll sind; ihre Clients waren lange genug still.
+     */
+    @Scheduled(fixedDelayString = "${game.admission.sweep-interval-ms:10000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        budgets.values().removeIf(budget -> budget.sweep(now));
+    }
+
+    /**
+     * Gibt die Anzahl der Anfragen einer Prioritätsklasse mit dem angegebenen Ergebnis zurück.
+     *
+     * @param priority die Prioritätsklasse
+     * @param outcome  das Ergebnis
+     * @return die Anzahl der Anfragen
+     */
+    public long getCount(Priority priority, Outcome outcome) {
+        return counts[priority.ordinal()][outcome.ordinal()].sum();
+    }
+
+    /**
+     * Gibt das aktuelle Nebenläufigkeitslimit zurück.
+     *
+     * @return das Limit
+     */
+    public int getConcurrencyLimit() {
+        return concurrencyLimit.getLimit();
+    }
+
+    /**
+     * Gibt die Anzahl der Anfragen in Bearbeitung zurück.
+     *
+     * @return die Anfragen in Bearbeitung
+     */
+    public int getInFlight() {
+        return concurrencyLimit.getInFlight();
+    }
+
+    /**
+     * Gibt die Anzahl der Adressen mit angebrochenem Budget zurück.
+     *
+     * @return die Anzahl der Adressen
+     */
+    public int getAddressCount() {
+        return budgets.size();
+    }
+
+    /**
+     * Ordnet eine Anfrage ihrer Prioritätsklasse zu.
+     *
+     * @param request die Anfrage
+     * @return die Prioritätsklasse
+     */
+    static Priority classify(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (path.startsWith("/api/games/") && (path.endsWith("/rollDice") || path.endsWith("/start"))) {
+            return Priority.CRITICAL;
+        }
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) ? Priority.READ : Priority.COMMAND;
+    }
+
+    /**
+     * Liefert das Budget der Adresse, von der die Anfrage kommt.
+     */
+    private AddressBudget budget(HttpServletRequest request, long now) {
+        String address = request.getRemoteAddr();
+        AddressBudget budget = budgets.get(address);
+        if (budget == null) {
+            budget = budgets.computeIfAbsent(address, a -> new AddressBudget(addressRate, addressBurst, clientRate,
+                    clientBurst, maxIdsPerAddress, now));
+        }
+        return budget;
+    }
+
+    /**
+     * Liefert die Kennung aus {@code X-Client-Id} oder {@code null}, falls sie fehlt oder zu lang ist.
+     */
+    private static String clientId(HttpServletRequest request) {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        return clientId != null && !clientId.isBlank() && clientId.length() <= MAX_CLIENT_ID_LENGTH ? clientId : null;
+    }
+
+    private void reject(HttpServletResponse response, Priority priority, Outcome outcome, long waitNanos)
+            throws IOException {
+        counts[priority.ordinal()][outcome.ordinal()].increment();
+        long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        response.setContentType("text/plain");
+        response.getWriter().write(outcome == Outcome.RATE_LIMITED
+                ? "Too many requests from this client" : "Server overloaded");
+    }
+}
@@ -0,0 +1,26 @@
+package org.dataTransfer.server.ServerController;
+
+import org.dataTransfer.server.ServerModell.batch.BatchOperation;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST API interface for executing several game reads and commands in one request.
+ */
+@RequestMapping("/api/batch")
+public interface BatchAPI {
+
+    /**
+     * Executes an ordered list of operations ({@code get}, {@code ready}, {@code start}, {@code roll}) across one
+     * or more games. All operations on one game run as a single command: the game is loaded once, gets one new
+     * state version and is written once. If an operation fails, the following operations on the same game are
+     * skipped with status 424.
+     * @param operations The operations in order.
+     * @return One result per operation, in the same order, each with the status and body the single endpoint would
+     * have returned; 400 if the batch has more operations than allowed.
+     */
+    @PostMapping
+    ResponseEntity<?> executeBatch(@RequestBody List<BatchOperation> operations);
+}
@@ -0,0 +1,50 @@
+package org.dataTransfer.server.ServerController;
+
+import org.dataTransfer.server.ServerModell.batch.BatchOperation;
+import org.dataTransfer.server.ServerModell.batch.BatchService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Der {@code BatchController} stellt den Endpunkt {@code POST /api/batch} bereit, über den ein Client mehrere
+ * Lese- und Spieloperationen in einer einzigen Anfrage ausführt. Die Ausführung übernimmt der {@link BatchService}.
+ */
+@RestController
+@RequestMapping("api/batch")
+public class BatchController implements BatchAPI {
+
+    private final BatchService batchService;
+
+    /** Höchste Anzahl von Operationen je Anfrage. */
+    private final int maxOperations;
+
+    /**
+     * Konstruktor des BatchControllers.
+     *
+     * @param batchService  führt die Operationen aus
+     * @param maxOperations die höchste Anzahl von Operationen je Anfrage
+     */
+    public BatchController(BatchService batchService,
+                           @Value("${game.batch.max-operations:64}") int maxOperations) {
+        this.batchService = batchService;
+        this.maxOperations = maxOperations;
+    }
+
+    /**
+     * Führt die Operationen aus.
+     *
+     * @param operations die Operationen in Reihenfolge
+     * @return je Operation ein Ergebnis in derselben Reihenfolge oder 400, falls es zu viele Operationen sind
+     */
+    @PostMapping
+    public ResponseEntity<?> executeBatch(@RequestBody List<BatchOperation> operations) {
+        if (operations.size() > maxOperations) {
+            return ResponseEntity.badRequest()
+                    .body("Batch has " + operations.size() + " operations, at most " + maxOperations + " allowed");
+        }
+        return ResponseEntity.ok(batchService.execute(operations));
+    }
+}
@@ -0,0 +1,37 @@
+package org.dataTransfer.server.ServerController;
+
+import org.dataTransfer.server.ServerModell.board.BoardDefinition;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST API interface for board definitions.
+ */
+@RequestMapping("/api/boards")
+public interface BoardAPI {
+
+    /**
+     * Retrieves all known boards.
+     * @return A list of all board definitions.
+     */
+    @GetMapping
+    List<BoardDefinition> getAllBoards();
+
+    /**
+     * Retrieves a board by its name. Clients use it to render the board a game declares in {@code boardName}.
+     * @param name The board name.
+     * @return The board definition, or 404 if no board has this name.
+     */
+    @GetMapping("/{name}")
+    ResponseEntity<BoardDefinition> getBoard(@PathVariable String name);
+
+    /**
+     * Creates a new board. Boards are immutable, so a name can only be used once.
+     * @param definition The board definition.
+     * @return The created board, 400 if the definition is invalid, or 409 if the name is taken.
+     */
+    @PostMapping
+    ResponseEntity<?> createBoard(@RequestBody BoardDefinition definition);
+}
@@ -0,0 +1,75 @@
+package org.dataTransfer.server.ServerController;
+
+import org.dataTransfer.server.ServerModell.board.BoardDefinition;
+import org.dataTransfer.server.ServerModell.board.BoardRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Der {@code BoardController} stellt die REST-Endpunkte für Spielbretter bereit.
+ * Die Bretter selbst verwaltet die {@link BoardRegistry}.
+ */
+@RestController
+@RequestMapping("api/boards")
+public class BoardController implements BoardAPI {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardController.class);
+
+    private final BoardRegistry boardRegistry;
+
+    /**
+     * Konstruktor des BoardControllers.
+     *
+     * @param boardRegistry die bekannten Spielbretter
+     */
+    public BoardController(BoardRegistry boardRegistry) {
+        this.boardRegistry = boardRegistry;
+    }
+
+    /**
+     * Liefert alle bekannten Bretter.
+     *
+     * @return die Brettbeschreibungen
+     */
+    @GetMapping
+    public List<BoardDefinition> getAllBoards() {
+        return boardRegistry.getAll();
+    }
+
+    /**
+     * Liefert ein Brett anhand seines Namens.
+     *
+     * @param name der Name des Bretts
+     * @return die Brettbeschreibung oder 404, falls es kein Brett mit diesem Namen gibt
+     */
+    @GetMapping("/{name}")
+    public ResponseEntity<BoardDefinition> getBoard(@PathVariable String name) {
+        return boardRegistry.find(name)
+                .map(board -> ResponseEntity.ok(board.getDefinition()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Legt ein neues Brett an.
+     *
+     * @param definition die Beschreibung des Bretts
+     * @return das angelegte Brett, 400 bei einer ungültigen Beschreibung oder 409, falls der Name vergeben ist
+     */
+    @PostMapping
+    public ResponseEntity<?> createBoard(@RequestBody BoardDefinition definition) {
+        try {
+            boardRegistry.register(definition);
+            log.info("Board {} with {} fields created", definition.name(), definition.fields());
+            return ResponseEntity.status(HttpStatus.CREATED).body(definition);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+}
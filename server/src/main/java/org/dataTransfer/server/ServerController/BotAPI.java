@@ -0,0 +1,39 @@
+package org.dataTransfer.server.ServerController;
+
+import org.dataTransfer.server.ServerModell.bot.BotStats;
+import org.dataTransfer.server.ServerModell.view.GameView;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST API interface for server-side bot players.
+ */
+@RequestMapping("/api")
+public interface BotAPI {
+
+    /**
+     * Adds bots to a lobby, at most until it is full. Bots ready themselves and roll on their own turn.
+     * @param gameId The game ID.
+     * @param count The number of bots to add.
+     * @return The updated game instance.
+     */
+    @PostMapping("/games/{gameId}/bots")
+    GameView addBots(@PathVariable Long gameId, @RequestParam(defaultValue = "1") int count);
+
+    /**
+     * Retrieves bot counters such as rolls, finished bot games and running soak games.
+     * @return The bot statistics.
+     */
+    @GetMapping("/bots")
+    BotStats getBotStats();
+
+    /**
+     * Sets the soak-test target: the number of bot-only games kept running at the same time.
+     * Finished games are replaced until the target is lowered; 0 stops the soak test.
+     * @param games The number of concurrent bot-only games.
+     * @param players The number of bots per game.
+     * @return The bot statistics, or 400 if a number is invalid.
+     */
+    @PutMapping("/bots/soak")
+    ResponseEntity<?> setSoak(@RequestParam int games, @RequestParam(defaultValue = "4") int players);
+}
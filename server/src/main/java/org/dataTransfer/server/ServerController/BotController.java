@@ -0,0 +1,74 @@
+package org.dataTransfer.server.ServerController;
+
+import org.dataTransfer.server.ServerModell.bot.BotService;
+import org.dataTransfer.server.ServerModell.bot.BotStats;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.view.GameView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Der {@code BotController} stellt die REST-Endpunkte für serverseitige Bots bereit.
+ * Die Bots selbst steuert der {@link BotService}.
+ */
+@RestController
+@RequestMapping("api")
+public class BotController implements BotAPI {
+
+    private static final Logger log = LoggerFactory.getLogger(BotController.class);
+
+    private final BotService botService;
+
+    /**
+     * Konstruktor des BotControllers.
+     *
+     * @param botService der Dienst, der die Bots steuert
+     */
+    public BotController(BotService botService) {
+        this.botService = botService;
+    }
+
+    /**
+     * Fügt einer Lobby Bots hinzu, höchstens bis sie voll ist.
+     *
+     * @param gameId die ID des Spiels
+     * @param count  die Anzahl der Bots
+     * @return das aktualisierte Spiel
+     * @throws RuntimeException falls das Spiel nicht existiert, bereits läuft oder voll ist
+     */
+    @PostMapping("/games/{gameId}/bots")
+    public GameView addBots(@PathVariable Long gameId, @RequestParam(defaultValue = "1") int count) {
+        Game game = botService.addBots(gameId, count);
+        log.info("Bots added to game {}: {} players", gameId, game.getCurrentPlayersCount());
+        return GameView.of(game);
+    }
+
+    /**
+     * Liefert die Kennzahlen der Bots.
+     *
+     * @return die Kennzahlen
+     */
+    @GetMapping("/bots")
+    public BotStats getBotStats() {
+        return botService.getStats();
+    }
+
+    /**
+     * Setzt die Anzahl der Dauertest-Spiele.
+     *
+     * @param games   die Anzahl gleichzeitiger reiner Bot-Spiele
+     * @param players die Anzahl der Bots je Spiel
+     * @return die Kennzahlen oder 400 bei einer ungültigen Anzahl
+     */
+    @PutMapping("/bots/soak")
+    public ResponseEntity<?> setSoak(@RequestParam int games, @RequestParam(defaultValue = "4") int players) {
+        try {
+            botService.setSoakTarget(games, players);
+            return ResponseEntity.ok(botService.getStats());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.dataTransfer.server.ServerController;
+
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.player.Player;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Die Klasse {@code GameFrames} definiert das binäre Rahmenformat des WebSocket-Spielkanals.
+ *
+ * <p>
+ * Alle Zahlen werden in Big-Endian-Reihenfolge übertragen. Das erste Byte eines Rahmens gibt seinen Typ an:
+ * </p>
+ * <ul>
+ *     <li>{@link #ROLL} (Client → Server, 9 Bytes): {@code [Typ][erwartete Version: int64]}</li>
+ *     <li>{@link #MOVE} (Server → Client, 13 Bytes): {@code [Typ][Version: int64][Spielerindex: uint8]
+ *     [neue Position: uint8][Würfelwert: uint8][Index des nächsten Spielers: uint8]}</li>
+ *     <li>{@link #CONFLICT} (Server → Client, 9 Bytes): {@code [Typ][aktuelle Version: int64]}</li>
+ * </ul>
+ *
+ * <p>
+ * Ein {@code MOVE}-Rahmen ersetzt das vollständige JSON-Dokument des Spiels, wenn sich zwischen zwei
+ * aufeinanderfolgenden Versionen nur ein Würfelwurf ereignet hat. Alle anderen Änderungen (Beitritt,
+ * Ready-Status, Start) werden als vollständiger Spielstand in einem Textrahmen gesendet.
+ * </p>
+ */
+public final class GameFrames {
+
+    /** Würfelwurf anfordern. */
+    public static final byte ROLL = 0x01;
+    /** Ein Spieler hat gewürfelt und wurde bewegt. */
+    public static final byte MOVE = 0x11;
+    /** Der Befehl wurde wegen einer veralteten Version oder eines falschen Spielers abgelehnt. */
+    public static final byte CONFLICT = 0x12;
+
+    /** Länge eines ROLL-Rahmens in Bytes. */
+    public static final int ROLL_LENGTH = 9;
+    /** Länge eines MOVE-Rahmens in Bytes. */
+    public static final int MOVE_LENGTH = 13;
+
+    private GameFrames() {
+    }
+
+    /**
+     * Erstellt einen MOVE-Rahmen.
+     *
+     * @param version     die Zustandsversion nach dem Wurf
+     * @param playerIndex der Index (ab 0) des bewegten Spielers
+     * @param position    die neue Position des Spielers
+     * @param dice        der gewürfelte Wert
+     * @param nextTurn    der Index (ab 0) des Spielers, der als Nächstes am Zug ist
+     * @return der Rahmen, bereit zum Lesen
+     */
+    public static ByteBuffer move(long version, int playerIndex, int position, int dice, int nextTurn) {
+        return ByteBuffer.allocate(MOVE_LENGTH)
+                .put(MOVE)
+                .putLong(version)
+                .put((byte) playerIndex)
+                .put((byte) position)
+                .put((byte) dice)
+                .put((byte) nextTurn)
+                .flip();
+    }
+
+    /**
+     * Erstellt einen CONFLICT-Rahmen.
+     *
+     * @param currentVersion die aktuelle Zustandsversion des Spiels
+     * @return der Rahmen, bereit zum Lesen
+     */
+    public static ByteBuffer conflict(long currentVersion) {
+        return ByteBuffer.allocate(9).put(CONFLICT).putLong(currentVersion).flip();
+    }
+
+    /**
+     * Ermittelt, ob sich zwei aufeinanderfolgende Momentaufnahmen nur durch einen Würfelwurf unterscheiden,
+     * und erstellt in diesem Fall den passenden MOVE-Rahmen.
+     *
+     * @param previous die vorherige Momentaufnahme
+     * @param next     die neue Momentaufnahme
+     * @return der MOVE-Rahmen oder {@code null}, falls ein vollständiger Spielstand gesendet werden muss
+     */
+    public static ByteBuffer diff(Game previous, Game next) {
+        if (next.getStateVersion() != previous.getStateVersion() + 1
+                || previous.isGameStarted() != next.isGameStarted()
+                || previous.isAllPlayersAreReady() != next.isAllPlayersAreReady()
+                || previous.getMaxPlayersNumber() != next.getMaxPlayersNumber()
+                || !Objects.equals(previous.getGameState(), next.getGameState())
+                || !Objects.equals(previous.getGameHostName(), next.getGameHostName())) {
+            return null;
+        }
+        List<Player> before = previous.getPlayers();
+        List<Player> after = next.getPlayers();
+        if (before.size() != after.size() || after.isEmpty()) {
+            return null;
+        }
+        int mover = previous.getCurrentPlayerIndex();
+        for (int i = 0; i < after.size(); i++) {
+            Player a = before.get(i);
+            Player b = after.get(i);
+            if (!Objects.equals(a.getId(), b.getId()) || a.isReady() != b.isReady()
+                    || (i != mover && a.getPostion() != b.getPostion())) {
+                return null;
+            }
+        }
+        return move(next.getStateVersion(), mover, after.get(mover).getPostion(),
+                next.getLastDiceRoll(), next.getCurrentPlayerIndex());
+    }
+}
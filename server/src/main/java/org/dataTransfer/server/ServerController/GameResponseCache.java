@@ -0,0 +1,370 @@
+package org.dataTransfer.server.ServerController;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.dataTransfer.server.ServerModell.engine.GameChangeListener;
+import org.dataTransfer.server.ServerModell.engine.GameEngine;
+import org.dataTransfer.server.ServerModell.engine.SingleFlight;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.trace.RequestTrace;
+import org.dataTransfer.server.ServerModell.view.GameView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Der {@code GameResponseCache} hält die bereits kodierten Antworten eines Spielstands, damit Polling und
+ * Streams desselben Stands nur einmal serialisieren.
+ *
+ * <p>
+ * Ein Eintrag gilt für genau eine Zustandsversion eines Spiels und enthält je {@link Encoding} die fertigen
+ * Bytes. Jede Änderung des Spiels entfernt den Eintrag über {@link #gameChanged(Game)}; ein Leser mit einem
+ * veralteten Stand erkennt die abweichende Version und legt keinen älteren Eintrag über einen neueren.
+ * </p>
+ *
+ * <p>
+ * Die Größe ist über {@code game.response-cache.max-bytes} (Summe der gespeicherten Bytes) begrenzt. Wird sie
+ * überschritten, werden die am längsten nicht abgefragten Einträge entfernt, bis drei Viertel der Grenze
+ * erreicht sind. Das Aufräumen übernimmt jeweils nur ein Thread; die übrigen lesen und schreiben weiter.
+ * </p>
+ *
+ * <p>
+ * Fragen mehrere Clients denselben noch nicht kodierten Stand gleichzeitig an, etwa zu Beginn eines
+ * Polling-Takts, kodiert nur der erste; die übrigen warten auf sein Ergebnis und erhalten dasselbe Array.
+ * </p>
+ */
+@Component
+public class GameResponseCache implements GameChangeListener {
+
+    /** Die Darstellungen einer Antwort. */
+    public enum Encoding {
+        /** JSON, wie es Jackson für den {@link GameView} schreibt. */
+        JSON(MediaType.APPLICATION_JSON),
+        /** Die Binärdarstellung aus {@link GameStateEncoding}. */
+        BINARY(GameStateEncoding.MEDIA_TYPE);
+
+        private final MediaType mediaType;
+
+        Encoding(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        /**
+         * Gibt den Medientyp der Darstellung zurück.
+         *
+         * @return der Medientyp
+         */
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        /**
+         * Wählt die Darstellung anhand des {@code Accept}-Headers. Die Binärdarstellung wird nur geliefert, wenn
+         * sie ausdrücklich und mindestens so hoch gewichtet wie JSON angefordert wird; sonst, auch ohne Header,
+         * wird JSON geliefert.
+         *
+         * @param accept der Wert des {@code Accept}-Headers oder {@code null}
+         * @return die Darstellung der Antwort
+         */
+        public static Encoding negotiate(String accept) {
+            if (accept == null || !accept.contains(GameStateEncoding.MEDIA_TYPE_VALUE)) {
+                return JSON;
+            }
+            double binary = 0;
+            double json = 0;
+            for (MediaType type : MediaType.parseMediaTypes(accept)) {
+                if (type.equalsTypeAndSubtype(GameStateEncoding.MEDIA_TYPE)) {
+                    binary = Math.max(binary, type.getQualityValue());
+                } else if (type.includes(MediaType.APPLICATION_JSON)) {
+                    json = Math.max(json, type.getQualityValue());
+                }
+            }
+            return binary > 0 && binary >= json ? BINARY : JSON;
+        }
+    }
+
+    /** Geschätzter Speicherbedarf eines Eintrags ohne Nutzdaten (Map-Knoten, Eintrag, Array). */
+    private static final int ENTRY_OVERHEAD = 96;
+
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong bytes = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /** Fasst gleichzeitige Kodierungen desselben Stands in derselben Darstellung zusammen. */
+    private final SingleFlight<Flight, byte[]> encodes = new SingleFlight<>();
+
+    /**
+     * Konstruktor des GameResponseCaches.
+     *
+     * @param gameEngine   die Engine, deren Änderungen die Einträge ungültig machen
+     * @param objectMapper der ObjectMapper von Spring, damit das JSON dem der übrigen Endpunkte entspricht
+     * @param maxBytes     die höchste Summe der gespeicherten Bytes
+     */
+    public GameResponseCache(GameEngine gameEngine, ObjectMapper objectMapper,
+                             @Value("${game.response-cache.max-bytes:16777216}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.maxBytes = maxBytes;
+        gameEngine.addListener(this);
+    }
+
+    /**
+     * Liefert die kodierte Antwort eines Spielstands und kodiert sie nur, falls sie für diese Version noch
+     * nicht vorliegt.
+     *
+     * @param game     der Spielstand
+     * @param encoding die Darstellung
+     * @return die kodierte Antwort; das Array darf nicht verändert werden
+     */
+    public byte[] get(GameView game, Encoding encoding) {
+        Entry entry = entries.get(game.id());
+        if (entry == null || entry.version != game.stateVersion()) {
+            entry = install(game);
+        }
+        entry.lastAccess = System.nanoTime();
+        byte[] cached = entry.bodies.get(encoding.ordinal());
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        Entry target = entry;
+        return encodes.execute(new Flight(game.id(), game.stateVersion(), encoding),
+                () -> encodeInto(target, game, encoding));
+    }
+
+    /**
+     * Kodiert den Stand und legt das Ergebnis im Eintrag ab, sofern ein vorheriger Vorgang es nicht bereits
+     * abgelegt hat.
+     */
+    private byte[] encodeInto(Entry entry, GameView game, Encoding encoding) {
+        byte[] cached = entry.bodies.get(encoding.ordinal());
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        byte[] encoded = encode(game, encoding);
+        if (entry.bodies.compareAndSet(encoding.ordinal(), null, encoded)) {
+            // Nur zählen, solange der Eintrag noch gespeichert ist; sonst wurde er bereits abgezogen
+            synchronized (entry) {
+                if (!entry.removed) {
+                    entry.size += encoded.length;
+                    bytes.addAndGet(encoded.length);
+                }
+            }
+            if (bytes.get() > maxBytes) {
+                evict();
+            }
+        }
+        return encoded;
+    }
+
+    /**
+     * Entfernt den Eintrag des geänderten Spiels, sofern er einer älteren Version gilt. Ein Listener, der vor
+     * diesem benachrichtigt wurde, kann den neuen Stand bereits eingetragen haben.
+     *
+     * @param snapshot die neue Momentaufnahme
+     */
+    @Override
+    public void gameChanged(Game snapshot) {
+        entries.computeIfPresent(snapshot.getId(), (id, entry) -> {
+            if (entry.version >= snapshot.getStateVersion()) {
+                return entry;
+            }
+            release(entry);
+            return null;
+        });
+    }
+
+    @Override
+    public void gameDeleted(long gameId) {
+        remove(gameId);
+    }
+
+    @Override
+    public void gameEvicted(long gameId) {
+        remove(gameId);
+    }
+
+    /**
+     * Gibt die Anzahl der Abfragen zurück, die aus dem Cache beantwortet wurden.
+     *
+     * @return die Anzahl der Treffer
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gibt die Anzahl der Abfragen zurück, für die kodiert werden musste.
+     *
+     * @return die Anzahl der Fehlschläge
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gibt die Anzahl der Abfragen zurück, die auf die gleichzeitige Kodierung desselben Stands gewartet haben.
+     * Sie zählen weder als Treffer noch als Fehlschlag.
+     *
+     * @return die Anzahl der zusammengefassten Abfragen
+     */
+    public long getCollapsedCount() {
+        return encodes.getCollapsedCount();
+    }
+
+    /**
+     * Gibt die Anzahl der wegen der Größengrenze entfernten Einträge zurück.
+     *
+     * @return die Anzahl der Verdrängungen
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gibt die Anzahl der Einträge zurück.
+     *
+     * @return die Anzahl der Einträge
+     */
+    public int getEntryCount() {
+        return entries.size();
+    }
+
+    /**
+     * Gibt die Summe der gespeicherten Bytes zurück.
+     *
+     * @return die gespeicherten Bytes
+     */
+    public long getPayloadBytes() {
+        return bytes.get();
+    }
+
+    /**
+     * Schätzt den Speicherbedarf des Caches: die gespeicherten Bytes zuzüglich eines festen Anteils je Eintrag.
+     *
+     * @return der geschätzte Speicherbedarf in Bytes
+     */
+    public long getEstimatedBytes() {
+        return bytes.get() + (long) ENTRY_OVERHEAD * entries.size();
+    }
+
+    /**
+     * Legt einen leeren Eintrag für die Version des Spielstands an, sofern kein neuerer vorliegt.
+     */
+    private Entry install(GameView game) {
+        Entry fresh = new Entry(game.stateVersion());
+        Entry current = entries.compute(game.id(), (id, existing) -> {
+            if (existing != null && existing.version >= game.stateVersion()) {
+                return existing;
+            }
+            if (existing != null) {
+                release(existing);
+            }
+            return fresh;
+        });
+        if (current != fresh && current.version != game.stateVersion()) {
+            // Ein älterer Stand wird trotzdem kodiert, aber weder gespeichert noch mitgezählt
+            fresh.removed = true;
+        }
+        return current.version == game.stateVersion() ? current : fresh;
+    }
+
+    private void remove(long gameId) {
+        Entry removed = entries.remove(gameId);
+        if (removed != null) {
+            release(removed);
+        }
+    }
+
+    private void release(Entry entry) {
+        synchronized (entry) {
+            entry.removed = true;
+            bytes.addAndGet(-entry.size);
+        }
+    }
+
+    /**
+     * Entfernt die am längsten nicht abgefragten Einträge, bis drei Viertel der Größengrenze erreicht sind.
+     */
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            List<Map.Entry<Long, Entry>> candidates = new ArrayList<>(entries.entrySet());
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastAccess));
+            long target = maxBytes / 4 * 3;
+            for (Map.Entry<Long, Entry> candidate : candidates) {
+                if (bytes.get() <= target) {
+                    break;
+                }
+                if (entries.remove(candidate.getKey(), candidate.getValue())) {
+                    release(candidate.getValue());
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private byte[] encode(GameView game, Encoding encoding) {
+        long start = System.nanoTime();
+        try {
+            if (encoding == Encoding.BINARY) {
+                return GameStateEncoding.encode(game);
+            }
+            return objectMapper.writeValueAsBytes(game);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            RequestTrace.record(RequestTrace.Phase.SERIALIZE, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Schlüssel einer laufenden Kodierung.
+     *
+     * @param gameId   die ID des Spiels
+     * @param version  die Zustandsversion
+     * @param encoding die Darstellung
+     */
+    private record Flight(long gameId, long version, Encoding encoding) {
+    }
+
+    /**
+     * Die kodierten Antworten einer Zustandsversion eines Spiels.
+     */
+    private static final class Entry {
+        private final long version;
+        private final AtomicReferenceArray<byte[]> bodies = new AtomicReferenceArray<>(Encoding.values().length);
+        /** Zeitpunkt des letzten Zugriffs ({@link System#nanoTime()}). */
+        private volatile long lastAccess;
+        /** Die mitgezählten Bytes; geschützt durch den Monitor des Eintrags. */
+        private long size;
+        private boolean removed;
+
+        private Entry(long version) {
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package org.dataTransfer.server.ServerController;
+
+import org.dataTransfer.server.ServerModell.view.GameView;
+import org.dataTransfer.server.ServerModell.view.PlayerView;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Die Klasse {@code GameStateEncoding} definiert die kompakte Binärdarstellung eines Spielstands
+ * ({@link #MEDIA_TYPE}), die ein Client per {@code Accept}-Header statt JSON anfordern kann.
+ *
+ * <p>
+ * Feldnamen werden nicht übertragen, die Reihenfolge ist fest. Ganze Zahlen sind Varints (7 Bit je Byte,
+ * niederwertige Gruppe zuerst, das oberste Bit kennzeichnet ein Folgebyte); Werte, die negativ sein können,
+ * werden vorher ZigZag-kodiert. Ein String ist {@code [Länge in UTF-8-Bytes + 1: varint][Bytes]}, die Länge
+ * {@code 0} steht für {@code null}. Ein Spielstand mit vier Spielern belegt so rund 70 statt 600 Bytes.
+ * </p>
+ * <pre>
+ * [Formatversion: uint8 = 1]
+ * [id: varint] [gameHostName: string] [maxPlayersNumber: varint] [Flags: uint8 (1 = allPlayersAreReady,
+ * 2 = gameStarted)] [lastDiceRoll: varint] [currentPlayerUsername: string] [gameState: string]
+ * [stateVersion: varint] [boardName: string] [createdAt: varint, Epoch-Millisekunden + 1, 0 = unbekannt]
+ * [currentPlayerIndex: zigzag] [Anzahl Spieler: varint]
+ * je Spieler: [id: varint, + 1, 0 = null] [playerIndex: varint] [name: string] [postion: zigzag]
+ *             [Flags: uint8 (1 = ready, 2 = bot)]
+ * </pre>
+ */
+public final class GameStateEncoding {
+
+    /** Der Medientyp der Binärdarstellung. */
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.horse-racing.game";
+    /** Der Medientyp der Binärdarstellung. */
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    /** Die Formatversion im ersten Byte. */
+    public static final byte FORMAT_VERSION = 1;
+
+    private static final int READY = 1;
+    private static final int BOT = 2;
+    private static final int ALL_READY = 1;
+    private static final int STARTED = 2;
+
+    private GameStateEncoding() {
+    }
+
+    /**
+     * Kodiert einen Spielstand.
+     *
+     * @param game der Spielstand
+     * @return die Binärdarstellung
+     */
+    public static byte[] encode(GameView game) {
+        Writer out = new Writer(48 + 24 * game.players().size());
+        out.buffer[out.length++] = FORMAT_VERSION;
+        out.varint(game.id());
+        out.string(game.gameHostName());
+        out.varint(game.maxPlayersNumber());
+        out.flags((game.allPlayersAreReady() ? ALL_READY : 0) | (game.gameStarted() ? STARTED : 0));
+        out.varint(game.lastDiceRoll());
+        out.string(game.currentPlayerUsername());
+        out.string(game.gameState());
+        out.varint(game.stateVersion());
+        out.string(game.boardName());
+        out.varint(game.createdAt() != null ? game.createdAt().toEpochMilli() + 1 : 0);
+        out.zigzag(game.currentPlayerIndex());
+        out.varint(game.players().size());
+        for (PlayerView player : game.players()) {
+            out.varint(player.id() != null ? player.id() + 1 : 0);
+            out.varint(player.playerIndex());
+            out.string(player.name());
+            out.zigzag(player.postion());
+            out.flags((player.ready() ? READY : 0) | (player.bot() ? BOT : 0));
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Dekodiert einen Spielstand.
+     *
+     * @param data die Binärdarstellung
+     * @return der Spielstand
+     * @throws IllegalArgumentException falls die Daten unvollständig sind oder die Formatversion unbekannt ist
+     */
+    public static GameView decode(byte[] data) {
+        Reader in = new Reader(data);
+        try {
+            if (in.data[in.position++] != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unknown game state format " + data[0]);
+            }
+            long id = in.varint();
+            String host = in.string();
+            int maxPlayers = (int) in.varint();
+            int flags = in.flags();
+            int lastDiceRoll = (int) in.varint();
+            String currentPlayer = in.string();
+            String state = in.string();
+            long stateVersion = in.varint();
+            String board = in.string();
+            long createdAt = in.varint();
+            int currentPlayerIndex = (int) in.zigzag();
+            PlayerView[] players = new PlayerView[in.count()];
+            for (int i = 0; i < players.length; i++) {
+                long playerId = in.varint();
+                int playerIndex = (int) in.varint();
+                String name = in.string();
+                int postion = (int) in.zigzag();
+                int playerFlags = in.flags();
+                players[i] = new PlayerView(playerId == 0 ? null : playerId - 1, playerIndex, name, postion,
+                        (playerFlags & BOT) != 0, (playerFlags & READY) != 0);
+            }
+            return new GameView(id, host, maxPlayers, (flags & ALL_READY) != 0, lastDiceRoll, currentPlayer,
+                    (flags & STARTED) != 0, state, stateVersion, board,
+                    createdAt == 0 ? null : Instant.ofEpochMilli(createdAt - 1), List.of(players), players.length,
+                    currentPlayerIndex);
+        } catch (IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated game state", e);
+        }
+    }
+
+    /**
+     * Ein wachsender Puffer für das Kodieren.
+     */
+    private static final class Writer {
+        private byte[] buffer;
+        private int length;
+
+        private Writer(int capacity) {
+            buffer = new byte[capacity];
+        }
+
+        private void ensure(int bytes) {
+            if (length + bytes > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + bytes));
+            }
+        }
+
+        private void flags(int value) {
+            ensure(1);
+            buffer[length++] = (byte) value;
+        }
+
+        private void varint(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[length++] = (byte) value;
+        }
+
+        private void zigzag(long value) {
+            varint((value << 1) ^ (value >> 63));
+        }
+
+        private void string(String value) {
+            if (value == null) {
+                varint(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            varint(bytes.length + 1L);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, length, bytes.length);
+            length += bytes.length;
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, length);
+        }
+    }
+
+    /**
+     * Liest die Felder der Reihe nach aus den kodierten Daten.
+     */
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        private Reader(byte[] data) {
+            this.data = data;
+        }
+
+        private int flags() {
+            return data[position++] & 0xFF;
+        }
+
+        private long varint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        private long zigzag() {
+            long value = varint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        /**
+         * Liest eine Anzahl von Einträgen, von denen jeder mindestens ein Byte belegt.
+         */
+        private int count() {
+            long count = varint();
+            if (count < 0 || count > data.length - position) {
+                throw new IllegalArgumentException("Truncated game state");
+            }
+            return (int) count;
+        }
+
+        private String string() {
+            long encoded = varint();
+            if (encoded == 0) {
+                return null;
+            }
+            if (encoded < 0 || encoded - 1 > data.length - position) {
+                throw new IllegalArgumentException("Truncated game state");
+            }
+            int length = (int) encoded - 1;
+            String value = new String(data, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.dataTransfer.server.ServerController;
+
+import org.dataTransfer.server.ServerModell.trace.RequestTrace;
+import org.dataTransfer.server.ServerModell.view.GameView;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Der {@code GameStateMessageConverter} schreibt einen {@link GameView} in der Binärdarstellung aus
+ * {@link GameStateEncoding}, wenn der Client sie per {@code Accept}-Header anfordert.
+ *
+ * <p>
+ * Er wird in {@link WebConfig} hinter den Standard-Konvertern registriert. Clients, die nur
+ * {@code application/json} oder {@code *}{@code /*} akzeptieren, erhalten daher weiterhin JSON.
+ * </p>
+ */
+public class GameStateMessageConverter extends AbstractHttpMessageConverter<GameView> {
+
+    /**
+     * Konstruktor des GameStateMessageConverters.
+     */
+    public GameStateMessageConverter() {
+        super(GameStateEncoding.MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return GameView.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected GameView readInternal(Class<? extends GameView> clazz, HttpInputMessage inputMessage)
+            throws IOException {
+        try {
+            return GameStateEncoding.decode(inputMessage.getBody().readAllBytes());
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotReadableException(e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected Long getContentLength(GameView game, MediaType contentType) {
+        // Die Länge steht erst nach dem Kodieren fest; writeInternal setzt sie selbst
+        return null;
+    }
+
+    @Override
+    protected void writeInternal(GameView game, HttpOutputMessage outputMessage) throws IOException {
+        long start = System.nanoTime();
+        byte[] body = GameStateEncoding.encode(game);
+        RequestTrace.record(RequestTrace.Phase.SERIALIZE, System.nanoTime() - start);
+        outputMessage.getHeaders().setContentLength(body.length);
+        outputMessage.getBody().write(body);
+    }
+}
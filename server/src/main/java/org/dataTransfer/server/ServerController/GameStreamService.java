@@ -0,0 +1,230 @@
+package org.dataTransfer.server.ServerController;
+
+import jakarta.annotation.PreDestroy;
+import org.dataTransfer.server.ServerModell.engine.GameChangeListener;
+import org.dataTransfer.server.ServerModell.engine.GameEngine;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.view.GameView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Der {@code GameStreamService} verwaltet die Server-Sent-Events-Verbindungen der Clients.
+ *
+ * <p>
+ * Ein Client abonniert über {@link #subscribe(long)} den Spielstand eines Spiels und erhält sofort die
+ * aktuelle Momentaufnahme, danach nur noch bei Änderungen eine neue. Schnell aufeinanderfolgende Änderungen
+ * werden zusammengefasst, sodass immer nur der neueste Stand gesendet wird. Das Senden erfolgt auf
+ * virtuellen Threads, damit langsame Clients die Spur des Spiels nicht blockieren.
+ * </p>
+ *
+ * <p>
+ * Ereignisse: {@code game} (Daten: das Spiel als JSON, ID: die Zustandsversion) und {@code deleted},
+ * wenn das Spiel gelöscht wurde. Zusätzlich wird periodisch ein Kommentar als Heartbeat gesendet,
+ * um abgebrochene Verbindungen zu erkennen.
+ * </p>
+ */
+@Component
+public class GameStreamService implements GameChangeListener {
+
+    private final GameEngine gameEngine;
+    private final GameResponseCache responseCache;
+
+    /** Maximale Dauer einer Verbindung in Millisekunden; danach verbindet sich der Client neu. */
+    private final long timeoutMs;
+
+    /** Die abonnierten Streams (Schlüssel: Spiel-ID). */
+    private final Map<Long, GameStream> streams = new ConcurrentHashMap<>();
+
+    /** Executor für das Senden der Ereignisse. */
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Konstruktor des GameStreamService. Registriert sich als Listener bei der GameEngine.
+     *
+     * @param gameEngine    die Engine, deren Änderungen gesendet werden
+     * @param responseCache liefert die Spielstände als fertig kodiertes JSON, für alle Abonnenten nur einmal
+     * @param timeoutMs     die maximale Dauer einer Verbindung in Millisekunden
+     */
+    public GameStreamService(GameEngine gameEngine, GameResponseCache responseCache,
+                             @Value("${game.stream.timeout-ms:1800000}") long timeoutMs) {
+        this.gameEngine = gameEngine;
+        this.responseCache = responseCache;
+        this.timeoutMs = timeoutMs;
+        gameEngine.addListener(this);
+    }
+
+    /**
+     * Öffnet einen Stream für das angegebene Spiel und sendet sofort dessen aktuellen Stand.
+     *
+     * <p>
+     * Der Abonnent wird registriert, bevor der Stand gelesen wird: Jede spätere Änderung erreicht ihn dann über
+     * {@link #gameChanged(Game)}, eine frühere ist im gelesenen Stand enthalten. Welcher Stand zuerst gesendet
+     * wird, ist gleich, da ein Abonnent nie einen älteren nach einem neueren erhält. Das Anlegen des Streams und
+     * das Eintragen geschehen in einem Schritt, damit ein gleichzeitiges {@link #unsubscribe} den Stream nicht
+     * dazwischen entfernt.
+     * </p>
+     *
+     * @param gameId die ID des Spiels
+     * @return der SseEmitter der neuen Verbindung
+     * @throws RuntimeException falls das Spiel nicht gefunden wird
+     */
+    public SseEmitter subscribe(long gameId) {
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeoutMs));
+        streams.compute(gameId, (id, stream) -> {
+            GameStream current = stream != null ? stream : new GameStream();
+            current.subscribers.add(subscriber);
+            return current;
+        });
+
+        GameView snapshot;
+        try {
+            snapshot = gameEngine.getGameView(gameId);
+        } catch (RuntimeException e) {
+            unsubscribe(gameId, subscriber);
+            throw e;
+        }
+
+        subscriber.emitter.onCompletion(() -> unsubscribe(gameId, subscriber));
+        subscriber.emitter.onTimeout(subscriber.emitter::complete);
+        subscriber.emitter.onError(e -> unsubscribe(gameId, subscriber));
+
+        subscriber.send(snapshot.stateVersion(), responseCache.get(snapshot, GameResponseCache.Encoding.JSON));
+        return subscriber.emitter;
+    }
+
+    /**
+     * Merkt die neue Momentaufnahme vor und plant das Senden, falls nicht bereits geplant.
+     *
+     * @param snapshot die neue Momentaufnahme
+     */
+    @Override
+    public void gameChanged(Game snapshot) {
+        GameStream stream = streams.get(snapshot.getId());
+        if (stream == null) {
+            return;
+        }
+        stream.latest = snapshot;
+        if (stream.scheduled.compareAndSet(false, true)) {
+            sender.execute(() -> {
+                stream.scheduled.set(false);
+                GameView latest = GameView.of(stream.latest);
+                byte[] body = responseCache.get(latest, GameResponseCache.Encoding.JSON);
+                for (Subscriber subscriber : stream.subscribers) {
+                    subscriber.send(latest.stateVersion(), body);
+                }
+            });
+        }
+    }
+
+    /**
+     * Informiert alle Abonnenten über das Löschen des Spiels und schließt ihre Verbindungen.
+     *
+     * @param gameId die ID des gelöschten Spiels
+     */
+    @Override
+    public void gameDeleted(long gameId) {
+        GameStream stream = streams.remove(gameId);
+        if (stream == null) {
+            return;
+        }
+        sender.execute(() -> {
+            for (Subscriber subscriber : stream.subscribers) {
+                try {
+                    subscriber.emitter.send(SseEmitter.event().name("deleted").data(gameId));
+                    subscriber.emitter.complete();
+                } catch (IOException | IllegalStateException e) {
+                    subscriber.emitter.completeWithError(e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Sendet periodisch einen Kommentar an alle Verbindungen, um abgebrochene Verbindungen zu erkennen.
+     */
+    @Scheduled(fixedRateString = "${game.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        streams.forEach((gameId, stream) -> {
+            for (Subscriber subscriber : stream.subscribers) {
+                try {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    unsubscribe(gameId, subscriber);
+                }
+            }
+        });
+    }
+
+    /**
+     * Gibt die Anzahl der offenen Verbindungen zurück.
+     *
+     * @return die Anzahl der Abonnenten über alle Spiele
+     */
+    public int getSubscriberCount() {
+        return streams.values().stream().mapToInt(stream -> stream.subscribers.size()).sum();
+    }
+
+    private void unsubscribe(long gameId, Subscriber subscriber) {
+        streams.computeIfPresent(gameId, (id, stream) -> {
+            stream.subscribers.remove(subscriber);
+            return stream.subscribers.isEmpty() ? null : stream;
+        });
+    }
+
+    /**
+     * Beendet den Sende-Executor beim Herunterfahren der Anwendung.
+     */
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    /**
+     * Die Abonnenten eines Spiels und die zuletzt veröffentlichte, noch zu sendende Momentaufnahme.
+     */
+    private static final class GameStream {
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile Game latest;
+    }
+
+    /**
+     * Eine einzelne Verbindung. Merkt sich die zuletzt gesendete Version, damit ein Client nie einen
+     * älteren Stand nach einem neueren erhält.
+     */
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private long sentVersion = -1;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private synchronized void send(long version, byte[] json) {
+            if (version <= sentVersion) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event()
+                        .name("game")
+                        .id(Long.toString(version))
+                        .data(json, MediaType.APPLICATION_JSON));
+                sentVersion = version;
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package org.dataTransfer.server.ServerController;
+
+import jakarta.annotation.PreDestroy;
+import org.dataTransfer.server.ServerModell.engine.GameChangeListener;
+import org.dataTransfer.server.ServerModell.engine.GameConflictException;
+import org.dataTransfer.server.ServerModell.engine.GameEngine;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.view.GameView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Der {@code GameWebSocketHandler} stellt den binären WebSocket-Kanal unter
+ * <code>/ws/games/{id}?player={name}</code> bereit.
+ *
+ * <p>
+ * Nach dem Verbindungsaufbau erhält der Client den aktuellen Spielstand als JSON-Textrahmen. Danach wird jede
+ * Änderung als Delta gesendet: ein Würfelwurf als 13 Byte großer {@link GameFrames#MOVE}-Rahmen, alle anderen
+ * Änderungen als vollständiger Spielstand in einem Textrahmen. Über denselben Kanal kann der Client mit einem
+ * {@link GameFrames#ROLL}-Rahmen würfeln; wird der Wurf abgelehnt, antwortet der Server mit
+ * {@link GameFrames#CONFLICT}.
+ * </p>
+ *
+ * <p>
+ * Die Deltas werden auf der Spur des Spiels berechnet und sind daher korrekt geordnet. Gesendet wird auf
+ * virtuellen Threads über eine Warteschlange je Verbindung; läuft die Warteschlange eines langsamen Clients
+ * über, wird seine Verbindung geschlossen und er synchronisiert sich beim Neuverbinden neu.
+ * </p>
+ */
+@Component
+public class GameWebSocketHandler extends AbstractWebSocketHandler implements GameChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(GameWebSocketHandler.class);
+
+    private final GameEngine gameEngine;
+    private final GameResponseCache responseCache;
+
+    /** Maximale Anzahl noch nicht gesendeter Nachrichten je Verbindung. */
+    private final int maxQueuedMessages;
+
+    /** Die offenen Kanäle (Schlüssel: Spiel-ID). */
+    private final Map<Long, GameChannels> games = new ConcurrentHashMap<>();
+
+    /** Executor für das Senden der Nachrichten. */
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Konstruktor des GameWebSocketHandlers. Registriert sich als Listener bei der GameEngine.
+     *
+     * @param gameEngine        die Engine, deren Änderungen gesendet werden
+     * @param responseCache     liefert vollständige Spielstände als fertig kodiertes JSON
+     * @param maxQueuedMessages die maximale Anzahl noch nicht gesendeter Nachrichten je Verbindung
+     */
+    public GameWebSocketHandler(GameEngine gameEngine, GameResponseCache responseCache,
+                                @Value("${game.ws.max-queued-messages:256}") int maxQueuedMessages) {
+        this.gameEngine = gameEngine;
+        this.responseCache = responseCache;
+        this.maxQueuedMessages = maxQueuedMessages;
+        gameEngine.addListener(this);
+    }
+
+    /**
+     * Registriert die neue Verbindung und sendet den aktuellen Spielstand.
+     *
+     * @param session die neue Verbindung
+     * @throws IOException falls die Verbindung nicht geschlossen werden kann
+     */
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws IOException {
+        URI uri = session.getUri();
+        Long gameId = uri == null ? null : parseGameId(uri.getPath());
+        if (gameId == null) {
+            session.close(CloseStatus.BAD_DATA);
+            return;
+        }
+        Game snapshot;
+        try {
+            snapshot = gameEngine.getGame(gameId);
+        } catch (RuntimeException e) {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("Game not found with id " + gameId));
+            return;
+        }
+        String player = UriComponentsBuilder.fromUri(uri).build().getQueryParams().getFirst("player");
+        Channel channel = new Channel(session, gameId, player);
+        session.getAttributes().put(Channel.class.getName(), channel);
+        games.computeIfAbsent(gameId, id -> new GameChannels(snapshot)).channels.add(channel);
+        channel.enqueue(new TextMessage(responseCache.get(GameView.of(snapshot), GameResponseCache.Encoding.JSON)));
+    }
+
+    /**
+     * Verarbeitet einen {@link GameFrames#ROLL}-Rahmen. Das Ergebnis erhalten alle Verbindungen des Spiels
+     * über {@link #gameChanged(Game)}; nur eine Ablehnung wird direkt an den Absender beantwortet.
+     *
+     * @param session die Verbindung des würfelnden Clients
+     * @param message der empfangene Rahmen
+     * @throws IOException falls der Rahmen ungültig ist und die Verbindung nicht geschlossen werden kann
+     */
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws IOException {
+        Channel channel = (Channel) session.getAttributes().get(Channel.class.getName());
+        ByteBuffer frame = message.getPayload();
+        if (channel == null || frame.remaining() != GameFrames.ROLL_LENGTH || frame.get() != GameFrames.ROLL) {
+            session.close(CloseStatus.BAD_DATA);
+            return;
+        }
+        long expectedVersion = frame.getLong();
+        try {
+            gameEngine.rollDice(channel.gameId, expectedVersion < 0 ? null : expectedVersion, channel.player);
+        } catch (GameConflictException e) {
+            channel.enqueue(new BinaryMessage(GameFrames.conflict(e.getCurrentVersion())));
+        }
+    }
+
+    /**
+     * Entfernt die geschlossene Verbindung.
+     *
+     * @param session die geschlossene Verbindung
+     * @param status  der Grund des Schließens
+     */
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Channel channel = (Channel) session.getAttributes().get(Channel.class.getName());
+        if (channel != null) {
+            remove(channel);
+        }
+    }
+
+    /**
+     * Berechnet das Delta zur zuletzt gesendeten Momentaufnahme und reiht es bei allen Verbindungen ein.
+     * Wird auf der Spur des Spiels aufgerufen.
+     *
+     * @param snapshot die neue Momentaufnahme
+     */
+    @Override
+    public void gameChanged(Game snapshot) {
+        GameChannels game = games.get(snapshot.getId());
+        if (game == null) {
+            return;
+        }
+        Game previous = game.last;
+        game.last = snapshot;
+        ByteBuffer move = GameFrames.diff(previous, snapshot);
+        WebSocketMessage<?> message;
+        if (move != null) {
+            message = new BinaryMessage(move);
+        } else {
+            try {
+                message = new TextMessage(responseCache.get(GameView.of(snapshot), GameResponseCache.Encoding.JSON));
+            } catch (UncheckedIOException e) {
+                log.warn("Could not serialize game {}", snapshot.getId(), e);
+                return;
+            }
+        }
+        for (Channel channel : game.channels) {
+            // Das Senden verschiebt die Position des Puffers, daher erhält jede Verbindung eine eigene Sicht
+            channel.enqueue(move != null ? new BinaryMessage(move.duplicate()) : message);
+        }
+    }
+
+    /**
+     * Schließt alle Verbindungen des gelöschten Spiels.
+     *
+     * @param gameId die ID des gelöschten Spiels
+     */
+    @Override
+    public void gameDeleted(long gameId) {
+        GameChannels game = games.remove(gameId);
+        if (game == null) {
+            return;
+        }
+        for (Channel channel : game.channels) {
+            sender.execute(() -> channel.close(CloseStatus.GOING_AWAY.withReason("Game deleted")));
+        }
+    }
+
+    /**
+     * Gibt die Anzahl der offenen Verbindungen zurück.
+     *
+     * @return die Anzahl der Verbindungen über alle Spiele
+     */
+    public int getSessionCount() {
+        return games.values().stream().mapToInt(game -> game.channels.size()).sum();
+    }
+
+    private void remove(Channel channel) {
+        games.computeIfPresent(channel.gameId, (id, game) -> {
+            game.channels.remove(channel);
+            return game.channels.isEmpty() ? null : game;
+        });
+    }
+
+    /**
+     * Liest die Spiel-ID aus dem letzten Pfadsegment.
+     *
+     * @param path der Pfad der Verbindung, z. B. {@code /ws/games/42}
+     * @return die Spiel-ID oder {@code null}, falls der Pfad keine gültige ID enthält
+     */
+    static Long parseGameId(String path) {
+        if (path == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(path.substring(path.lastIndexOf('/') + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Beendet den Sende-Executor beim Herunterfahren der Anwendung.
+     */
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    /**
+     * Die Verbindungen eines Spiels und die zuletzt an sie verteilte Momentaufnahme.
+     * {@code last} wird mit dem Stand der ersten Verbindung belegt und danach nur auf der Spur des Spiels
+     * geschrieben. Ist dieser Stand bereits veraltet, führt die Versionslücke zu einem vollständigen Spielstand.
+     */
+    private static final class GameChannels {
+        private final Set<Channel> channels = ConcurrentHashMap.newKeySet();
+        private volatile Game last;
+
+        private GameChannels(Game last) {
+            this.last = last;
+        }
+    }
+
+    /**
+     * Eine einzelne Verbindung mit ihrer Sende-Warteschlange. Höchstens ein virtueller Thread leert die
+     * Warteschlange gleichzeitig, sodass die Reihenfolge der Rahmen erhalten bleibt.
+     */
+    private final class Channel {
+        private final WebSocketSession session;
+        private final long gameId;
+        private final String player;
+        private final Queue<WebSocketMessage<?>> outbound = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Channel(WebSocketSession session, long gameId, String player) {
+            this.session = session;
+            this.gameId = gameId;
+            this.player = player;
+        }
+
+        private void enqueue(WebSocketMessage<?> message) {
+            if (queued.incrementAndGet() > maxQueuedMessages) {
+                remove(this);
+                sender.execute(() -> close(CloseStatus.SESSION_NOT_RELIABLE));
+                return;
+            }
+            outbound.add(message);
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                WebSocketMessage<?> message;
+                while ((message = outbound.poll()) != null) {
+                    queued.decrementAndGet();
+                    try {
+                        session.sendMessage(message);
+                    } catch (IOException | IllegalStateException e) {
+                        remove(this);
+                        outbound.clear();
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (!outbound.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private void close(CloseStatus status) {
+            try {
+                session.close(status);
+            } catch (IOException e) {
+                log.debug("Could not close WebSocket session {}: {}", session.getId(), e.getMessage());
+            }
+        }
+    }
+}
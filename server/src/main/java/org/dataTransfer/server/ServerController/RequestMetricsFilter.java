@@ -0,0 +1,258 @@
+package org.dataTransfer.server.ServerController;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.dataTransfer.server.ServerModell.admin.SlowRequest;
+import org.dataTransfer.server.ServerModell.metrics.Histogram;
+import org.dataTransfer.server.ServerModell.trace.RequestTrace;
+import org.dataTransfer.server.ServerModell.trace.SlowRequestLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Der {@code RequestMetricsFilter} misst die Dauer jeder HTTP-Anfrage je Endpunkt und zählt Treffer und
+ * Fehlschläge beim Abfragen zwischenspeicherbarer Ressourcen.
+ *
+ * <p>
+ * Endpunkte werden über die aufgerufene Controller-Methode erkannt, deren {@link Method}-Objekt für alle Anfragen
+ * dasselbe ist. Nur beim ersten Aufruf einer Methode wird ein Eintrag samt Label aus HTTP-Methode und
+ * Pfadvorlage (z. B. {@code /api/games/{id}}) angelegt; danach erzeugt das Messen keine Objekte mehr.
+ * Anfragen ohne Controller-Methode (z. B. 404) werden unter {@code uri="other"} zusammengefasst.
+ * </p>
+ *
+ * <p>
+ * Eine Abfrage ({@code GET}) einer Ressource mit ETag zählt als Treffer, wenn mit 304 geantwortet wurde, und als
+ * Fehlschlag, wenn der Inhalt neu übertragen werden musste. Eine Ausnahme aus dem Controller, die erst der Container
+ * in eine Fehlerantwort umsetzt, zählt als Status 500, auch wenn die Antwort beim Verlassen des Filters noch 200
+ * zeigt. Asynchrone Antworten wie Server-Sent Events werden
+ * nicht gemessen, da die Anfrage beim Verlassen des Filters noch nicht beendet ist.
+ * </p>
+ *
+ * <p>
+ * Zusätzlich misst der Filter die Phasen jeder Anfrage ({@link RequestTrace}). Sie stehen im Header
+ * {@code Server-Timing}, der gesetzt wird, sobald die Antwort zu schreiben beginnt, und damit alles bis
+ * einschließlich der Serialisierung enthält. Die langsamsten Anfragen werden samt Phasen im {@link SlowRequestLog}
+ * gehalten und über {@code GET /api/admin/slow-requests} abgefragt.
+ * </p>
+ */
+@Component
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    /** Die Messwerte je Controller-Methode. */
+    private final Map<Method, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    /** Die Messwerte aller Anfragen ohne Controller-Methode. */
+    private final Endpoint other = new Endpoint("*", "other");
+
+    /** Die langsamsten Anfragen seit dem Start. */
+    private final SlowRequestLog slowRequests;
+
+    /**
+     * Erstellt den Filter.
+     *
+     * @param slowRequests die Anzahl der langsamsten Anfragen, die samt Phasen gehalten werden
+     */
+    public RequestMetricsFilter(@Value("${game.trace.slow-requests:50}") int slowRequests) {
+        this.slowRequests = new SlowRequestLog(slowRequests);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTrace trace = RequestTrace.begin();
+        ServerTimingResponse timed = new ServerTimingResponse(response, trace);
+        boolean failed = false;
+        try {
+            chain.doFilter(request, timed);
+        } catch (ServletException | IOException | RuntimeException e) {
+            failed = true;
+            throw e;
+        } finally {
+            timed.applyServerTiming();
+            if (!request.isAsyncStarted()) {
+                long nanos = trace.getElapsedNanos();
+                int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+                Endpoint endpoint = record(request, response, status, nanos);
+                if (slowRequests.qualifies(nanos)) {
+                    slowRequests.offer(nanos, toSlowRequest(request, status, endpoint, trace, nanos));
+                }
+            }
+            RequestTrace.end();
+        }
+    }
+
+    /**
+     * Liefert die Messwerte aller bisher aufgerufenen Endpunkte.
+     *
+     * @return die Endpunkte
+     */
+    public Collection<Endpoint> getEndpoints() {
+        List<Endpoint> all = new ArrayList<>(endpoints.values());
+        all.add(other);
+        return all;
+    }
+
+    /**
+     * Liefert die langsamsten Anfragen seit dem Start, die langsamste zuerst.
+     *
+     * @return die Anfragen
+     */
+    public List<SlowRequest> getSlowRequests() {
+        return slowRequests.getSlowest();
+    }
+
+    private Endpoint record(HttpServletRequest request, HttpServletResponse response, int status, long nanos) {
+        Endpoint endpoint = other;
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            endpoint = endpoints.get(handler.getMethod());
+            if (endpoint == null) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                endpoint = endpoints.computeIfAbsent(handler.getMethod(),
+                        method -> new Endpoint(request.getMethod(), String.valueOf(pattern)));
+            }
+        }
+        endpoint.latency.record(nanos);
+        if (status >= 500) {
+            endpoint.serverErrors.increment();
+        }
+        if ("GET".equals(request.getMethod()) && response.getHeader(HttpHeaders.ETAG) != null) {
+            if (status == HttpServletResponse.SC_NOT_MODIFIED) {
+                endpoint.pollHits.increment();
+            } else if (status == HttpServletResponse.SC_OK) {
+                endpoint.pollMisses.increment();
+            }
+        }
+        return endpoint;
+    }
+
+    private static SlowRequest toSlowRequest(HttpServletRequest request, int status, Endpoint endpoint,
+                                             RequestTrace trace, long nanos) {
+        Map<String, Double> phases = new LinkedHashMap<>();
+        for (RequestTrace.Phase phase : RequestTrace.Phase.values()) {
+            long phaseNanos = trace.getPhaseNanos(phase);
+            if (phaseNanos > 0) {
+                phases.put(phase.getMetricName(), toMillis(phaseNanos));
+            }
+        }
+        return new SlowRequest(request.getMethod(), endpoint.getUri(), request.getRequestURI(), status,
+                trace.getStartedAt(), toMillis(nanos), phases);
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    /**
+     * Setzt den Header {@code Server-Timing}, bevor die Antwort festgeschrieben wird. Danach lassen sich keine
+     * Header mehr setzen; Antworten ohne Inhalt erhalten ihn beim Verlassen des Filters.
+     */
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestTrace trace;
+        private boolean applied;
+
+        ServerTimingResponse(HttpServletResponse response, RequestTrace trace) {
+            super(response);
+            this.trace = trace;
+        }
+
+        void applyServerTiming() {
+            if (!applied) {
+                applied = true;
+                if (!isCommitted()) {
+                    setHeader("Server-Timing", trace.toServerTiming());
+                }
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            applyServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            applyServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            applyServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            applyServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            applyServerTiming();
+            super.sendError(sc);
+        }
+    }
+
+    /**
+     * Die Messwerte eines Endpunkts.
+     */
+    public static final class Endpoint {
+        private final String method;
+        private final String uri;
+        private final Histogram latency = new Histogram();
+        private final LongAdder serverErrors = new LongAdder();
+        private final LongAdder pollHits = new LongAdder();
+        private final LongAdder pollMisses = new LongAdder();
+
+        private Endpoint(String method, String uri) {
+            this.method = method;
+            this.uri = uri;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getUri() {
+            return uri;
+        }
+
+        public Histogram getLatency() {
+            return latency;
+        }
+
+        public long getServerErrors() {
+            return serverErrors.sum();
+        }
+
+        public long getPollHits() {
+            return pollHits.sum();
+        }
+
+        public long getPollMisses() {
+            return pollMisses.sum();
+        }
+    }
+}
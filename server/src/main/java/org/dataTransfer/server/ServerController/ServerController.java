@@ -1,12 +1,32 @@
 package org.dataTransfer.server.ServerController;
 
+import org.dataTransfer.server.ServerModell.analytics.GameOdds;
+import org.dataTransfer.server.ServerModell.analytics.OddsService;
+import org.dataTransfer.server.ServerModell.engine.GameConflictException;
+import org.dataTransfer.server.ServerModell.engine.GameEngine;
+import org.dataTransfer.server.ServerModell.event.GameEvent;
+import org.dataTransfer.server.ServerModell.event.GameEvents;
 import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.game.GameFilter;
+import org.dataTransfer.server.ServerModell.game.GamePage;
 import org.dataTransfer.server.ServerModell.player.Player;
-import org.dataTransfer.server.ServerModell.GameRepository;
-import org.dataTransfer.server.ServerModell.PlayerRepository;
+import org.dataTransfer.server.ServerModell.view.GameSummary;
+import org.dataTransfer.server.ServerModell.view.GameView;
+import org.dataTransfer.server.ServerModell.view.PlayerView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -16,81 +36,219 @@ import java.util.List;
  *
  * <p>
  * Die Endpunkte werden unter dem Pfad <code>api/games</code> bereitgestellt.
+ * Alle Lese- und Schreibzugriffe laufen über die {@link GameEngine}, die die Spiele im Speicher hält
+ * und Änderungen asynchron in die Datenbank schreibt.
+ * </p>
+ *
+ * <p>
+ * Verändernde Endpunkte akzeptieren optional den Parameter {@code expectedVersion}. Stimmt er nicht mit der
+ * aktuellen Zustandsversion des Spiels überein, wird mit HTTP 409 geantwortet; der Header
+ * {@code X-Game-Version} enthält dann die aktuelle Version.
+ * </p>
+ *
+ * <p>
+ * Lesende Endpunkte eines einzelnen Spiels liefern einen starken ETag aus Spiel-ID und Zustandsversion.
+ * Sendet der Client diesen im Header {@code If-None-Match} zurück und hat sich das Spiel nicht verändert,
+ * wird mit HTTP 304 ohne Inhalt geantwortet, ohne das Spiel zu serialisieren.
+ * </p>
+ *
+ * <p>
+ * Spielstände werden als JSON geliefert oder, falls der Client {@link GameStateEncoding#MEDIA_TYPE_VALUE} im
+ * Header {@code Accept} angibt, in der kompakten Binärdarstellung. Beide Darstellungen haben unterschiedliche
+ * ETags.
+ * </p>
+ *
+ * <p>
+ * Geantwortet wird nie mit Entitäten, sondern mit den Lesemodellen {@link GameView}, {@link PlayerView} und
+ * {@link GameSummary}. Sie werden aus den Momentaufnahmen der Engine bzw. direkt in der Datenbankabfrage erstellt,
+ * sodass die Serialisierung keine Datenbankzugriffe auslösen kann ({@code spring.jpa.open-in-view=false}).
  * </p>
  */
 @RestController
 @RequestMapping("api/games")
 public class ServerController implements API{
 
-    private final GameRepository gameRepository;
-    private final PlayerRepository playerRepository;
+    private static final Logger log = LoggerFactory.getLogger(ServerController.class);
+
+    private final GameEngine gameEngine;
+    private final GameStreamService gameStreamService;
+    private final OddsService oddsService;
+    private final GameResponseCache responseCache;
+
+    /** Anzahl der Spiele je Seite der Spieleliste, falls kein {@code limit} angegeben ist. */
+    private final int pageSize;
+
+    /** Höchste Anzahl der Spiele je Seite der Spieleliste. */
+    private final int maxPageSize;
+
+    /**
+     * Kennung dieses Serverstarts. Nach einem Neustart können Zustandsversionen erneut vergeben werden,
+     * falls verzögerte Schreibvorgänge verloren gingen; durch die Kennung werden alte ETags dann ungültig.
+     */
+    private final String etagEpoch = Long.toString(System.currentTimeMillis(), 36);
 
     /**
      * Konstruktor des ServerControllers.
      *
-     * @param gameRepository   das Repository für Spiele
-     * @param playerRepository das Repository für Spieler
+     * @param gameEngine        die Engine, die alle laufenden Spiele verwaltet
+     * @param gameStreamService verwaltet die Server-Sent-Events-Verbindungen
+     * @param oddsService       berechnet die Gewinnchancen der Spiele
+     * @param responseCache     hält die kodierten Antworten von {@code GET /api/games/{id}}
+     * @param pageSize          die Anzahl der Spiele je Seite ohne {@code limit}
+     * @param maxPageSize       die höchste Anzahl der Spiele je Seite
      */
-    public ServerController(GameRepository gameRepository, PlayerRepository playerRepository) {
-        this.gameRepository = gameRepository;
-        this.playerRepository = playerRepository;
+    public ServerController(GameEngine gameEngine, GameStreamService gameStreamService, OddsService oddsService,
+                            GameResponseCache responseCache,
+                            @Value("${game.lobbies.page-size:50}") int pageSize,
+                            @Value("${game.lobbies.max-page-size:200}") int maxPageSize) {
+        this.gameEngine = gameEngine;
+        this.gameStreamService = gameStreamService;
+        this.oddsService = oddsService;
+        this.responseCache = responseCache;
+        this.pageSize = pageSize;
+        this.maxPageSize = maxPageSize;
     }
 
     /**
-     * Liefert eine Liste aller existierenden Spiele.
+     * Liefert eine Seite der Spieleliste, die neuesten Spiele zuerst. Folgen weitere Spiele, verweisen der
+     * Header {@code Link} ({@code rel="next"}) und der Header {@code X-Next-Cursor} auf die nächste Seite.
      *
-     * @return Liste der Spiele
+     * @param state        nur Spiele in diesem Status, z. B. {@code Lobby}
+     * @param freeSeat     {@code true}: nur Spiele mit freiem Platz, {@code false}: nur volle Spiele
+     * @param host         nur Spiele dieses Hosts
+     * @param createdAfter nur Spiele, die nach diesem Zeitpunkt (ISO-8601) erstellt wurden
+     * @param cursor       der Cursor aus {@code X-Next-Cursor} der vorigen Seite
+     * @param limit        die höchste Anzahl von Spielen auf der Seite, begrenzt auf {@code game.lobbies.max-page-size}
+     * @return die Listeneinträge der Spiele der Seite
      */
     @GetMapping
-    public List<Game> getAllGames(){
-        System.out.println("Fetching all games...");
-        return gameRepository.findAll();
+    public ResponseEntity<List<GameSummary>> getAllGames(@RequestParam(required = false) String state,
+                                                         @RequestParam(required = false) Boolean freeSeat,
+                                                         @RequestParam(required = false) String host,
+                                                         @RequestParam(required = false) Instant createdAfter,
+                                                         @RequestParam(required = false) Long cursor,
+                                                         @RequestParam(required = false) Integer limit){
+        int size = limit == null ? pageSize : Math.max(1, Math.min(limit, maxPageSize));
+        GamePage page = gameEngine.listGames(new GameFilter(state, freeSeat, host, createdAfter, cursor, size));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.nextCursor())
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"")
+                    .header("X-Next-Cursor", Long.toString(page.nextCursor()));
+        }
+        return response.body(page.games());
     }
 
     /**
      * Liefert das Spiel mit der angegebenen ID.
      *
-     * @param id die ID des gesuchten Spiels
-     * @return das Spiel, falls gefunden
+     * Stimmt der ETag im Header {@code If-None-Match} überein, wird mit 304 geantwortet. Andernfalls werden die
+     * bereits kodierten Bytes aus dem {@link GameResponseCache} gesendet; serialisiert wird je Zustandsversion
+     * und Darstellung nur einmal.
+     *
+     * @param id      die ID des gesuchten Spiels
+     * @param request die aktuelle Anfrage für die Prüfung des ETags
+     * @return das kodierte Spiel samt ETag oder {@code null}, falls bereits mit 304 geantwortet wurde
      * @throws RuntimeException falls kein Spiel mit der angegebenen ID existiert
      */
     @GetMapping("/{id}")
-    public Game getGameById(@PathVariable Long id){
-        return gameRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Game not found with id " + id));
+    public ResponseEntity<byte[]> getGameById(@PathVariable Long id, WebRequest request){
+        GameView game = gameEngine.getGameView(id);
+        GameResponseCache.Encoding encoding =
+                GameResponseCache.Encoding.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        String etag = etag(game.id(), game.stateVersion(), encoding);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(encoding.getMediaType())
+                .body(responseCache.get(game, encoding));
+    }
+
+    /**
+     * Öffnet einen Server-Sent-Events-Stream für das angegebene Spiel.
+     * Der aktuelle Spielstand wird sofort gesendet, danach nur noch bei Änderungen.
+     *
+     * @param id die ID des Spiels
+     * @return der SseEmitter der Verbindung
+     * @throws RuntimeException falls kein Spiel mit der angegebenen ID existiert
+     */
+    @GetMapping(path = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamGame(@PathVariable Long id){
+        return gameStreamService.subscribe(id);
+    }
+
+    /**
+     * Liefert die Ereignisse eines Spiels seit der angegebenen Zustandsversion. Liegt der Client zu weit zurück
+     * oder wird {@code after} nicht angegeben, enthält die Antwort stattdessen den vollständigen Spielstand.
+     *
+     * @param id    die ID des Spiels
+     * @param after die zuletzt vom Client gesehene Zustandsversion (optional)
+     * @return die fehlenden Ereignisse oder der vollständige Spielstand
+     * @throws RuntimeException falls kein Spiel mit der angegebenen ID existiert
+     */
+    @GetMapping("/{id}/events")
+    public GameEvents getEvents(@PathVariable Long id, @RequestParam(defaultValue = "-1") long after){
+        return gameEngine.getEvents(id, after);
+    }
+
+    /**
+     * Liefert die aktuellen Gewinnchancen aller Spieler, exakt berechnet aus der Markow-Kette des Spielbretts.
+     *
+     * Stimmt der ETag im Header {@code If-None-Match} überein, wird mit 304 geantwortet.
+     *
+     * @param id      die ID des Spiels
+     * @param request die aktuelle Anfrage für die Prüfung des ETags
+     * @return die Chancen samt ETag oder {@code null}, falls bereits mit 304 geantwortet wurde
+     * @throws RuntimeException falls kein Spiel mit der angegebenen ID existiert
+     */
+    @GetMapping("/{id}/odds")
+    public ResponseEntity<GameOdds> getOdds(@PathVariable Long id, WebRequest request){
+        Game game = gameEngine.getGame(id);
+        String etag = etag(game.getId(), game.getStateVersion());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(oddsService.getOdds(game));
     }
 
     /**
      * Liefert alle Spieler, die einem bestimmten Spiel beigetreten sind.
      *
-     * @param gameID die ID des Spiels
-     * @return Liste der Spieler im Spiel
+     * Stimmt der ETag im Header {@code If-None-Match} überein, wird mit 304 geantwortet.
+     *
+     * @param gameID  die ID des Spiels
+     * @param request die aktuelle Anfrage für die Prüfung des ETags
+     * @return Liste der Spieler im Spiel samt ETag oder {@code null}, falls bereits mit 304 geantwortet wurde
      * @throws RuntimeException falls das Spiel nicht gefunden wird
      */
     @GetMapping("/{gameID}/players")
-    public List<Player> getAllPlayersInGame(@PathVariable Long gameID){
-        System.out.println("Fetching all players...");
-        Game savedGame = gameRepository.findById(gameID)
-                .orElseThrow(() -> new RuntimeException("Game not found with id " + gameID));
-        return savedGame.getPlayers();
+    public ResponseEntity<List<PlayerView>> getAllPlayersInGame(@PathVariable Long gameID, WebRequest request){
+        GameView game = gameEngine.getGameView(gameID);
+        String etag = etag(game.id(), game.stateVersion());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        log.debug("Fetching players of game {}", game.id());
+        return ResponseEntity.ok().eTag(etag).body(game.players());
     }
 
     /**
      * Erstellt eine neue Lobby (Spiel) und fügt den übergebenen Spieler als Host hinzu.
      *
      * @param player der Spieler, der das Spiel erstellt (wird als Host gesetzt)
+     * @param board  der Name des Spielbretts, standardmäßig {@code classic}
      * @return das neu erstellte Spiel
      */
     @PostMapping
-    public Game createLobby (@RequestBody Player player){
-        Player hostPlayer = playerRepository.save(player);
-        Game newGame = new Game();
-        newGame.setGameHostName(hostPlayer.getName());
-        newGame.addPlayer(hostPlayer);
-        gameRepository.save(newGame);
-        hostPlayer = playerRepository.save(hostPlayer);
-        System.out.println("Creating new game by player " + hostPlayer.getName() + " ...");
-        return newGame;
+    public GameView createLobby (@RequestBody Player player, @RequestParam(defaultValue = "classic") String board){
+        Game newGame = gameEngine.createLobby(player, board);
+        log.info("Game {} created by player {}", newGame.getId(), newGame.getGameHostName());
+        return GameView.of(newGame);
     }
 
     /**
@@ -102,45 +260,31 @@ public class ServerController implements API{
      * @throws RuntimeException falls das Spiel nicht existiert oder voll ist
      */
     @PutMapping("/{id}/join")
-    public Game joinLobby (@PathVariable Long id, @RequestBody Player player){
-        System.out.println("Joining game with id: " + id);
-        Game savedGame = gameRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Game not found with id" + id));
-        savedGame.setAllPlayersAreReady(false);
-        System.out.println("players count: " + savedGame.getCurrentPlayersCount());
-
-        if(savedGame.getCurrentPlayersCount() < savedGame.getMaxPlayersNumber()){
-            savedGame.addPlayer(player);
-            gameRepository.save(savedGame);
-            return savedGame;
-        } else {
-            throw new RuntimeException("Game with ID " + id + " is full");
-        }
+    public GameView joinLobby (@PathVariable Long id, @RequestBody Player player){
+        log.debug("Joining game with id {}", id);
+        // Bots kann nur der Server anlegen
+        player.setBot(false);
+        return GameView.of(gameEngine.joinLobby(id, player));
     }
 
     /**
      * Führt einen Würfelwurf im Spiel durch und aktualisiert den Zugstatus.
+     * Ein Würfelwurf wird bei einem Konflikt nie serverseitig wiederholt, da sonst doppelt gewürfelt würde.
      *
-     * @param gameID die ID des Spiels, in dem gewürfelt wird
-     * @return ResponseEntity, die das aktualisierte Spiel enthält, oder einen Bad Request, falls der aktuelle Spieler nicht an der Reihe ist
+     * @param gameID          die ID des Spiels, in dem gewürfelt wird
+     * @param expectedVersion die vom Client zuletzt gesehene Zustandsversion (optional)
+     * @param player          der Name des würfelnden Spielers (optional)
+     * @return ResponseEntity, die das aktualisierte Spiel enthält
+     * @throws GameConflictException falls die Version veraltet ist, der Spieler nicht am Zug ist oder der aktuelle
+     *                               Spieler nicht im Spiel ist
      * @throws RuntimeException falls das Spiel nicht gefunden wird
      */
     @PutMapping("/{gameID}/rollDice")
-    public ResponseEntity<Game> rollDice(@PathVariable Long gameID) {
-        Game game = gameRepository.findById(gameID)
-                .orElseThrow(() -> new RuntimeException("Game not found with ID " + gameID));
-
-        // Überprüfe, ob es der korrekte Zug des aktuellen Spielers ist
-        if (!game.getCurrentPlayerUsername().equals(
-                game.getPlayers().get(game.getCurrentPlayerIndex()).getName())) {
-            return ResponseEntity.badRequest().body(null);
-        }
-
-        int rolledValue = game.rollDiceAndNextTurn();
-        gameRepository.save(game);
-
-        System.out.println("Dice rolled: " + rolledValue + " by " + game.getCurrentPlayerUsername());
-        return ResponseEntity.ok(game);
+    public ResponseEntity<GameView> rollDice(@PathVariable Long gameID,
+                                             @RequestParam(required = false) Long expectedVersion,
+                                             @RequestParam(required = false) String player) {
+        Game updatedGame = gameEngine.rollDice(gameID, expectedVersion, player);
+        return ResponseEntity.ok(GameView.of(updatedGame));
     }
 
     /**
@@ -154,103 +298,105 @@ public class ServerController implements API{
      * @throws RuntimeException falls der Spieler nicht gefunden wird
      */
     @PutMapping("/{gameID}/players/{playerID}/postion")
-    public ResponseEntity<Player> updatePosition(@PathVariable Long gameID,
-                                                @PathVariable Long playerID,
-                                                @RequestBody Player player){
-        Player currentPlayer = playerRepository.findById(playerID)
+    public ResponseEntity<PlayerView> updatePosition(@PathVariable Long gameID,
+                                                     @PathVariable Long playerID,
+                                                     @RequestBody Player player){
+        Player currentPlayer = gameEngine.findPlayer(gameID, playerID)
                 .orElseThrow(() -> new RuntimeException("Player not found with ID: " + playerID));
-        System.out.println("Server updatePostion called. Current computed position: "
-                + currentPlayer.getPostion());
+        log.debug("updatePostion called, current computed position {}", currentPlayer.getPostion());
 
         // Statt den übergebenen Wert zu übernehmen, wird der Serverwert verwendet.
-        playerRepository.save(currentPlayer);
-        return ResponseEntity.ok(currentPlayer);
+        return ResponseEntity.ok(PlayerView.of(currentPlayer));
     }
 
     /**
      * Aktualisiert bestimmte Attribute eines Spiels, wie den Hostnamen, die maximale Spielerzahl
      * und den Ready-Status der Spieler.
      *
-     * @param gameID die ID des Spiels, das aktualisiert werden soll
-     * @param game   das Spielobjekt mit den neuen Werten
+     * Da absolute Werte gesetzt werden, wird der Befehl bei einer veralteten Version serverseitig
+     * auf dem aktuellen Spielstand wiederholt.
+     *
+     * @param gameID          die ID des Spiels, das aktualisiert werden soll
+     * @param game            das Spielobjekt mit den neuen Werten
+     * @param expectedVersion die vom Client zuletzt gesehene Zustandsversion (optional)
      * @return ResponseEntity, die das aktualisierte Spiel enthält
      * @throws RuntimeException falls das Spiel nicht gefunden wird
      */
     @PutMapping("/{gameID}/update")
-    public ResponseEntity<Game> updatePlayer(@PathVariable Long gameID, @RequestBody Game game) {
-        // Hole das bestehende Spiel aus der Datenbank
-        Game savedGame = gameRepository.findById(gameID)
-                .orElseThrow(() -> new RuntimeException("Game not found with ID " + gameID));
-
-        if (game.getGameHostName() != null) {
-            savedGame.setGameHostName(game.getGameHostName());
-        }
-        if (game.getMaxPlayersNumber() > 0) {
-            savedGame.setMaxPlayersNumber(game.getMaxPlayersNumber());
-        }
+    public ResponseEntity<GameView> updatePlayer(@PathVariable Long gameID, @RequestBody Game game,
+                                                 @RequestParam(required = false) Long expectedVersion) {
+        Game savedGame = gameEngine.execute(gameID, expectedVersion, true, current -> {
+            // Host und Spielerzahl haben kein eigenes Ereignis; ändern sie sich, entsteht eine Lücke im Ereignis-Log
+            boolean describedByEvents = true;
+            if (game.getGameHostName() != null) {
+                describedByEvents = game.getGameHostName().equals(current.getGameHostName());
+                current.setGameHostName(game.getGameHostName());
+            }
+            if (game.getMaxPlayersNumber() > 0) {
+                describedByEvents &= game.getMaxPlayersNumber() == current.getMaxPlayersNumber();
+                current.setMaxPlayersNumber(game.getMaxPlayersNumber());
+            }
 
-        if (game.getPlayers() != null) {
-            for (int i = 0; i < savedGame.getPlayers().size(); i++) {
-                if (i < game.getPlayers().size() && game.getPlayers().get(i) != null) {
-                    savedGame.getPlayers().get(i).setReady(game.getPlayers().get(i).isReady());
+            List<GameEvent> events = new ArrayList<>();
+            if (game.getPlayers() != null) {
+                for (int i = 0; i < current.getPlayers().size(); i++) {
+                    if (i < game.getPlayers().size() && game.getPlayers().get(i) != null) {
+                        Player currentPlayer = current.getPlayers().get(i);
+                        currentPlayer.setReady(game.getPlayers().get(i).isReady());
+                        events.add(new GameEvent.ReadyChanged(currentPlayer.getId(), currentPlayer.isReady(),
+                                current.isAllPlayersAreReady()));
+                    }
                 }
             }
-        }
+            if (describedByEvents) {
+                events.forEach(event -> gameEngine.recordEvent(current, event));
+            }
+            return current;
+        });
 
-        gameRepository.save(savedGame);
-        System.out.println("Updated Game: " + savedGame);
-        return ResponseEntity.ok(savedGame);
+        log.debug("Updated game {}", savedGame.getId());
+        return ResponseEntity.ok(GameView.of(savedGame));
     }
 
     /**
      * Aktualisiert den Bereitschaftsstatus eines Spielers und prüft, ob alle Spieler bereit sind.
+     * Der Ready-Status ist ein absoluter Wert, daher wird der Befehl bei einer veralteten Version
+     * serverseitig auf dem aktuellen Spielstand wiederholt.
      *
-     * @param gameId die ID des Spiels
-     * @param player der Spieler, dessen Ready-Status aktualisiert werden soll
+     * @param gameId          die ID des Spiels
+     * @param player          der Spieler, dessen Ready-Status aktualisiert werden soll
+     * @param expectedVersion die vom Client zuletzt gesehene Zustandsversion (optional)
      * @return ResponseEntity, die den aktualisierten Spieler enthält
      * @throws RuntimeException falls das Spiel nicht gefunden wird
      */
     @PutMapping("/{gameId}/players/{playerIndex}/ready")
-    public ResponseEntity<Player> updateReadyStatus(@PathVariable Long gameId, @RequestBody Player player) {
-        // Hole das Spiel anhand der gameID
-        Game savedGame = gameRepository.findById(gameId)
-                .orElseThrow(() -> new RuntimeException("Game not found with ID " + gameId));
-
-        // Überprüfe, ob der Spielerindex im gültigen Bereich liegt
-        if (0 > player.getPlayerIndex() || player.getPlayerIndex() > savedGame.getCurrentPlayersCount()){
-            return ResponseEntity.badRequest().body(player);
+    public ResponseEntity<PlayerView> updateReadyStatus(@PathVariable Long gameId, @RequestBody Player player,
+                                                        @RequestParam(required = false) Long expectedVersion) {
+        Player updatedPlayer;
+        try {
+            updatedPlayer = gameEngine.setReady(gameId, expectedVersion, true,
+                    player.getPlayerIndex(), player.isReady());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(PlayerView.of(player));
         }
-
-        // Aktualisiere den Ready-Status des entsprechenden Spielers
-        Player updatedPlayer = savedGame.getPlayers().get(player.getPlayerIndex() - 1);
-        updatedPlayer.setReady(player.isReady());
-        playerRepository.save(updatedPlayer);
-
-        // Prüfe, ob alle Spieler bereit sind
-        boolean allPlayersReady = savedGame.getPlayers().stream().allMatch(Player::isReady);
-        savedGame.setAllPlayersAreReady(allPlayersReady);
-        gameRepository.save(savedGame);
-
-        System.out.println("Updated Game: " + savedGame.isAllPlayersAreReady());
-        return ResponseEntity.ok(updatedPlayer);
+        return ResponseEntity.ok(PlayerView.of(updatedPlayer));
     }
 
     /**
      * Startet ein Spiel, indem der Status auf "Game" gesetzt und das Spiel als gestartet markiert wird.
      *
-     * @param gameID die ID des zu startenden Spiels
-     * @param game   das Spielobjekt mit den neuen Start-Parametern (z. B. {@code gameStarted} und {@code gameState})
+     * @param gameID          die ID des zu startenden Spiels
+     * @param game            das Spielobjekt mit den neuen Start-Parametern (z. B. {@code gameStarted} und {@code gameState})
+     * @param expectedVersion die vom Client zuletzt gesehene Zustandsversion (optional)
      * @return ResponseEntity, die das aktualisierte Spiel enthält
+     * @throws GameConflictException falls die Version veraltet ist
      * @throws RuntimeException falls das Spiel nicht gefunden wird
      */
     @PutMapping("/{gameID}/start")
-    public ResponseEntity<Game> startGame(@PathVariable Long gameID, @RequestBody Game game) {
-        Game savedGame = gameRepository.findById(gameID)
-                .orElseThrow(() -> new RuntimeException("Game not found with ID " + gameID));
-        savedGame.setGameStarted(game.isGameStarted());
-        savedGame.setGameState(game.getGameState());
-        gameRepository.save(savedGame);
-        return ResponseEntity.ok(savedGame);
+    public ResponseEntity<GameView> startGame(@PathVariable Long gameID, @RequestBody Game game,
+                                              @RequestParam(required = false) Long expectedVersion) {
+        Game savedGame = gameEngine.startGame(gameID, expectedVersion, game.isGameStarted(), game.getGameState());
+        return ResponseEntity.ok(GameView.of(savedGame));
     }
 
     /**
@@ -264,24 +410,66 @@ public class ServerController implements API{
      */
     @DeleteMapping("/{gameId}/players/{playerId}")
     public ResponseEntity<String> removePlayer(@PathVariable Long gameId, @PathVariable Long playerId) {
-        Game game = gameRepository.findById(gameId)
-                .orElseThrow(() -> new RuntimeException("Game not found with ID " + gameId));
-
-        Player player = playerRepository.findById(playerId)
-                .orElseThrow(() -> new RuntimeException("Player not found with ID " + playerId));
+        return gameEngine.execute(gameId, game -> {
+            Player player = game.getPlayers().stream()
+                    .filter(p -> playerId.equals(p.getId()))
+                    .findFirst()
+                    .orElseThrow(() -> new RuntimeException("Player not found with ID " + playerId));
+
+            log.info("Removing player {} from game {}", player.getName(), gameId);
+            game.getPlayers().remove(player);
+            gameEngine.deletePlayer(game, player);
+            gameEngine.recordEvent(game, new GameEvent.PlayerLeft(player.getId()));
+
+            // Falls das Spiel nach Entfernen leer ist, wird es gelöscht
+            if (game.getPlayers().isEmpty()) {
+                log.info("No players left, deleting game {}", gameId);
+                gameEngine.deleteGame(game);
+                return ResponseEntity.ok("Game deleted because it had no players left.");
+            }
 
-        System.out.println("🔹 Entferne Spieler " + player.getName() + " aus Spiel " + gameId);
-        game.getPlayers().remove(player);
-        playerRepository.delete(player);
+            return ResponseEntity.ok("Player removed successfully.");
+        });
+    }
 
-        // Falls das Spiel nach Entfernen leer ist, wird es gelöscht
-        if (game.getPlayers().isEmpty()) {
-            System.out.println("⚠️ Keine Spieler mehr in der Lobby. Lösche Spiel " + gameId);
-            gameRepository.delete(game);
-            return ResponseEntity.ok("Game deleted because it had no players left.");
+    /**
+     * Bildet den ETag eines Spielstands wie {@link #etag(long, long)}, mit eigenem Suffix für die
+     * Binärdarstellung, da ein starker ETag nur eine Darstellung bezeichnen darf.
+     *
+     * @param gameId       die ID des Spiels
+     * @param stateVersion die Zustandsversion des Spiels
+     * @param encoding     die ausgehandelte Darstellung
+     * @return der starke ETag in Anführungszeichen
+     */
+    private String etag(long gameId, long stateVersion, GameResponseCache.Encoding encoding) {
+        if (encoding == GameResponseCache.Encoding.BINARY) {
+            return "\"" + etagEpoch + "-" + gameId + "-" + stateVersion + "-b\"";
         }
+        return etag(gameId, stateVersion);
+    }
 
-        gameRepository.save(game);
-        return ResponseEntity.ok("Player removed successfully.");
+    /**
+     * Bildet den ETag eines Spielstands aus Serverstart, Spiel-ID und Zustandsversion.
+     *
+     * @param gameId       die ID des Spiels
+     * @param stateVersion die Zustandsversion des Spiels
+     * @return der starke ETag in Anführungszeichen
+     */
+    private String etag(long gameId, long stateVersion) {
+        return "\"" + etagEpoch + "-" + gameId + "-" + stateVersion + "\"";
+    }
+
+    /**
+     * Beantwortet einen Versionskonflikt mit HTTP 409 und liefert die aktuelle Zustandsversion im
+     * Header {@code X-Game-Version}, damit der Client ohne zusätzliche Anfrage neu synchronisieren kann.
+     *
+     * @param e der aufgetretene Konflikt
+     * @return ResponseEntity mit Status 409 und der Fehlermeldung
+     */
+    @ExceptionHandler(GameConflictException.class)
+    public ResponseEntity<String> handleConflict(GameConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header("X-Game-Version", Long.toString(e.getCurrentVersion()))
+                .body(e.getMessage());
     }
 }
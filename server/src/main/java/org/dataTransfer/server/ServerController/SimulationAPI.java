@@ -0,0 +1,56 @@
+package org.dataTransfer.server.ServerController;
+
+import org.dataTransfer.server.ServerModell.simulation.SimulationJob;
+import org.dataTransfer.server.ServerModell.simulation.SimulationRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * REST API interface for Monte Carlo race simulations.
+ */
+@RequestMapping("/api/simulations")
+public interface SimulationAPI {
+
+    /**
+     * Starts a simulation. It runs asynchronously; poll or stream the returned job for progress.
+     * @param request The board, number of players, number of races and optional seed.
+     * @return 202 with the queued job and its location, or 400 if the request is invalid.
+     */
+    @PostMapping
+    ResponseEntity<?> startSimulation(@RequestBody SimulationRequest request);
+
+    /**
+     * Retrieves all retained simulations, newest first.
+     * @return A list of simulation jobs.
+     */
+    @GetMapping
+    List<SimulationJob> getAllSimulations();
+
+    /**
+     * Retrieves a simulation including its current (partial) result.
+     * @param id The ID of the simulation.
+     * @return The simulation job, or 404 if it is unknown.
+     */
+    @GetMapping("/{id}")
+    ResponseEntity<SimulationJob> getSimulation(@PathVariable long id);
+
+    /**
+     * Cancels a simulation. Races already played stay in the result.
+     * @param id The ID of the simulation.
+     * @return The simulation job, or 404 if it is unknown.
+     */
+    @DeleteMapping("/{id}")
+    ResponseEntity<SimulationJob> cancelSimulation(@PathVariable long id);
+
+    /**
+     * Opens a Server-Sent Events stream that pushes the progress of a simulation until it is finished.
+     * @param id The ID of the simulation.
+     * @return The emitter of the stream.
+     */
+    @GetMapping(path = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter streamSimulation(@PathVariable long id);
+}
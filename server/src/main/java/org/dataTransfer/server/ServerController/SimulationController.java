@@ -0,0 +1,131 @@
+package org.dataTransfer.server.ServerController;
+
+import org.dataTransfer.server.ServerModell.simulation.SimulationJob;
+import org.dataTransfer.server.ServerModell.simulation.SimulationRequest;
+import org.dataTransfer.server.ServerModell.simulation.SimulationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Der {@code SimulationController} stellt die REST-Endpunkte für Simulationen bereit.
+ *
+ * <p>
+ * Der Fortschrittsstrom sendet in festen Abständen ({@code game.simulation.progress-interval-ms}) ein
+ * {@code progress}-Ereignis mit dem aktuellen Stand und zum Schluss ein {@code done}-Ereignis. Jeder Strom
+ * belegt dafür einen virtuellen Thread, der die meiste Zeit schläft.
+ * </p>
+ */
+@RestController
+@RequestMapping("api/simulations")
+public class SimulationController implements SimulationAPI {
+
+    private static final Logger log = LoggerFactory.getLogger(SimulationController.class);
+
+    private final SimulationService simulationService;
+    private final long progressIntervalMs;
+
+    /**
+     * Konstruktor des SimulationControllers.
+     *
+     * @param simulationService  der Dienst, der die Simulationen ausführt
+     * @param progressIntervalMs der Abstand der Fortschrittsereignisse in Millisekunden
+     */
+    public SimulationController(SimulationService simulationService,
+                                @Value("${game.simulation.progress-interval-ms:250}") long progressIntervalMs) {
+        this.simulationService = simulationService;
+        this.progressIntervalMs = progressIntervalMs;
+    }
+
+    /**
+     * Startet eine Simulation.
+     *
+     * @param request der Auftrag
+     * @return 202 mit der eingereihten Simulation oder 400 bei einem ungültigen Auftrag
+     */
+    @PostMapping
+    public ResponseEntity<?> startSimulation(@RequestBody SimulationRequest request) {
+        try {
+            SimulationJob job = simulationService.submit(request);
+            if (log.isInfoEnabled()) {
+                log.info("Simulation {} queued: {} races on {} with {} players",
+                        job.getId(), job.getRaces(), job.getBoard(), job.getPlayers());
+            }
+            return ResponseEntity.accepted().location(URI.create("/api/simulations/" + job.getId())).body(job);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Liefert alle abrufbaren Simulationen, die neueste zuerst.
+     *
+     * @return die Simulationen
+     */
+    @GetMapping
+    public List<SimulationJob> getAllSimulations() {
+        return simulationService.getAll();
+    }
+
+    /**
+     * Liefert eine Simulation mit ihrem aktuellen Ergebnis.
+     *
+     * @param id die ID der Simulation
+     * @return die Simulation oder 404, falls sie unbekannt ist
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<SimulationJob> getSimulation(@PathVariable long id) {
+        return ResponseEntity.of(simulationService.find(id));
+    }
+
+    /**
+     * Bricht eine Simulation ab.
+     *
+     * @param id die ID der Simulation
+     * @return die Simulation oder 404, falls sie unbekannt ist
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<SimulationJob> cancelSimulation(@PathVariable long id) {
+        return ResponseEntity.of(simulationService.cancel(id));
+    }
+
+    /**
+     * Öffnet einen Fortschrittsstrom per Server-Sent Events.
+     *
+     * @param id die ID der Simulation
+     * @return der SseEmitter der Verbindung
+     */
+    @GetMapping(path = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSimulation(@PathVariable long id) {
+        SimulationJob job = simulationService.find(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Simulation not found with ID " + id));
+        SseEmitter emitter = new SseEmitter(0L);
+        Thread.ofVirtual().name("simulation-stream-" + id).start(() -> {
+            try {
+                while (!job.isFinished()) {
+                    emitter.send(SseEmitter.event().name("progress").data(job));
+                    Thread.sleep(progressIntervalMs);
+                }
+                emitter.send(SseEmitter.event().name("done").data(job));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                // Der Client hat die Verbindung geschlossen
+                emitter.completeWithError(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                emitter.complete();
+            }
+        });
+        return emitter;
+    }
+}
@@ -0,0 +1,56 @@
+package org.dataTransfer.server.ServerController;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.dataTransfer.server.ServerModell.trace.RequestTrace;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Der {@code TimedJsonMessageConverter} schreibt JSON wie der Standard-Konverter, misst dabei aber die Dauer der
+ * Serialisierung als {@link RequestTrace.Phase#SERIALIZE}.
+ *
+ * <p>
+ * Der Standard-Konverter schreibt direkt in die Antwort; die Antwort wäre damit festgeschrieben, bevor die
+ * Serialisierung endet, und der Header {@code Server-Timing} könnte sie nicht mehr enthalten. Die Antwort wird
+ * deshalb zuerst in einen Puffer geschrieben und danach in einem Stück übertragen. Die Antworten der Schnittstelle
+ * sind klein; die eine zusätzliche Kopie fällt nicht ins Gewicht und ermöglicht nebenbei den Header
+ * {@code Content-Length}.
+ * </p>
+ */
+public class TimedJsonMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    /**
+     * Konstruktor des TimedJsonMessageConverters.
+     *
+     * @param objectMapper der zu verwendende {@code ObjectMapper}
+     */
+    public TimedJsonMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        long start = System.nanoTime();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(512);
+        super.writeInternal(object, type, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return buffer;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        RequestTrace.record(RequestTrace.Phase.SERIALIZE, System.nanoTime() - start);
+        outputMessage.getHeaders().setContentLength(buffer.size());
+        buffer.writeTo(outputMessage.getBody());
+    }
+}
@@ -0,0 +1,37 @@
+package org.dataTransfer.server.ServerController;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * Die Klasse {@code WebConfig} ergänzt die Spring-MVC-Konfiguration um den {@link GameStateMessageConverter} und
+ * ersetzt den JSON-Konverter durch den {@link TimedJsonMessageConverter}.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    /**
+     * Hängt den Konverter der Binärdarstellung hinter die Standard-Konverter, damit JSON bei
+     * gleichwertigem {@code Accept}-Header Vorrang behält. Der JSON-Konverter wird an seiner Stelle und mit
+     * seinem {@code ObjectMapper} durch den messenden ersetzt.
+     *
+     * @param converters die bereits konfigurierten Konverter
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        ListIterator<HttpMessageConverter<?>> iterator = converters.listIterator();
+        while (iterator.hasNext()) {
+            HttpMessageConverter<?> converter = iterator.next();
+            if (converter.getClass() == MappingJackson2HttpMessageConverter.class) {
+                iterator.set(new TimedJsonMessageConverter(
+                        ((MappingJackson2HttpMessageConverter) converter).getObjectMapper()));
+            }
+        }
+        converters.add(new GameStateMessageConverter());
+    }
+}
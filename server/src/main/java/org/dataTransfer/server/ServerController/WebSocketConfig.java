@@ -0,0 +1,36 @@
+package org.dataTransfer.server.ServerController;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * Die Klasse {@code WebSocketConfig} registriert den {@link GameWebSocketHandler} unter dem Pfad
+ * <code>/ws/games/{id}</code>.
+ */
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final GameWebSocketHandler gameWebSocketHandler;
+
+    /**
+     * Konstruktor der WebSocketConfig.
+     *
+     * @param gameWebSocketHandler der Handler für den Spielkanal
+     */
+    public WebSocketConfig(GameWebSocketHandler gameWebSocketHandler) {
+        this.gameWebSocketHandler = gameWebSocketHandler;
+    }
+
+    /**
+     * Registriert den Spielkanal.
+     *
+     * @param registry die Registry der WebSocket-Handler
+     */
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(gameWebSocketHandler, "/ws/games/*").setAllowedOrigins("*");
+    }
+}
@@ -0,0 +1,15 @@
+package org.dataTransfer.server.ServerModell;
+
+import org.dataTransfer.server.ServerModell.board.StoredBoard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Das Interface BoardRepository dient als Repository für die zur Laufzeit angelegten Spielbretter
+ * ({@link StoredBoard}). Die Bretter aus dem Klassenpfad werden nicht gespeichert.
+ *
+ * @see JpaRepository
+ */
+@Repository
+public interface BoardRepository extends JpaRepository<StoredBoard, String> {
+}
@@ -2,6 +2,11 @@ package org.dataTransfer.server.ServerModell;
 
 /**
  * Interface representing a Dice.
+ *
+ * <p>
+ * A dice is a strategy owned by a single game. Implementations are not thread-safe; a game only rolls
+ * its dice from the command lane that owns it.
+ * </p>
  */
 public interface DiceIF {
 
@@ -10,7 +15,12 @@ public interface DiceIF {
      *
      * @return A random number between 1 and 6.
      */
-    static int rollDice() {
-        return (int) (Math.random() * 6 + 1);
-    }
+    int rollDice();
+
+    /**
+     * Checks if the sequence of rolls is fully determined by the seed it was created with.
+     *
+     * @return True if a game using this dice can be replayed from its seed, otherwise false.
+     */
+    boolean isReproducible();
 }
@@ -75,6 +75,12 @@ public interface GameIF {
      */
     void setGameState(String gameState);
 
+    /**
+     * Gets the state version of the game, increased with every change.
+     * @return The current state version.
+     */
+    long getStateVersion();
+
     /**
      * Gets the list of players in the game.
      * @return The list of players.
@@ -2,20 +2,37 @@ package org.dataTransfer.server.ServerModell;
 
 import org.dataTransfer.server.ServerModell.game.Game;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 /**
  * Das Interface GameRepository dient als Repository für die Entität {@link Game}.
  * Es erweitert {@link JpaRepository} und ermöglicht somit grundlegende CRUD-Operationen
  * auf Game-Objekten.
  *
  * <p>
- * Weitere benutzerdefinierte Abfragemethoden können bei Bedarf hinzugefügt werden.
+ * Über {@link JpaSpecificationExecutor} lassen sich gefilterte Abfragen zusammensetzen, z. B. die seitenweise
+ * Lobby-Liste aus {@link org.dataTransfer.server.ServerModell.game.GameFilter}. Die Liste selbst liest
+ * {@link GameRepositoryCustom#findSummaries} ohne Entitäten.
  * </p>
  *
  * @see JpaRepository
  */
 @Repository
-public interface GameRepository extends JpaRepository<Game, Long> {
+public interface GameRepository extends JpaRepository<Game, Long>, JpaSpecificationExecutor<Game>,
+        GameRepositoryCustom {
 
+    /**
+     * Lädt ein Spiel zusammen mit seinen Spielern in einer einzigen Abfrage (Fetch-Join),
+     * damit das Spiel auch außerhalb einer offenen Session vollständig verwendet werden kann.
+     *
+     * @param id die ID des Spiels
+     * @return das Spiel inklusive Spielerliste, falls vorhanden
+     */
+    @Query("select distinct g from Game g left join fetch g.players where g.id = :id")
+    Optional<Game> findWithPlayersById(@Param("id") Long id);
 }
@@ -0,0 +1,21 @@
+package org.dataTransfer.server.ServerModell;
+
+import org.dataTransfer.server.ServerModell.game.GameFilter;
+import org.dataTransfer.server.ServerModell.view.GameSummary;
+
+import java.util.List;
+
+/**
+ * Ergänzt das {@link GameRepository} um Abfragen, die sich nicht als abgeleitete Repository-Methode
+ * ausdrücken lassen.
+ */
+public interface GameRepositoryCustom {
+
+    /**
+     * Lädt eine Seite der Spieleliste als Listeneinträge, absteigend nach ID.
+     *
+     * @param filter die Filter und die Position der Seite
+     * @return höchstens {@code filter.limit()} Einträge
+     */
+    List<GameSummary> findSummaries(GameFilter filter);
+}
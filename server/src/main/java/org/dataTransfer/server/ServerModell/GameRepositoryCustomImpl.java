@@ -0,0 +1,56 @@
+package org.dataTransfer.server.ServerModell;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.game.GameFilter;
+import org.dataTransfer.server.ServerModell.player.Player;
+import org.dataTransfer.server.ServerModell.view.GameSummary;
+
+import java.util.List;
+
+/**
+ * Implementierung von {@link GameRepositoryCustom}.
+ *
+ * <p>
+ * Die Seite der Spieleliste wird in einer einzigen Abfrage direkt als {@link GameSummary} gelesen: Die Spalten
+ * von {@code games} werden per Konstruktor-Projektion übernommen, die Spieleranzahl per korrelierter
+ * Unterabfrage über {@code idx_players_game_id}. Es werden keine Entitäten geladen und keine Spieler gelesen.
+ * </p>
+ */
+public class GameRepositoryCustomImpl implements GameRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<GameSummary> findSummaries(GameFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<GameSummary> query = cb.createQuery(GameSummary.class);
+        Root<Game> game = query.from(Game.class);
+
+        Subquery<Long> playerCount = query.subquery(Long.class);
+        Root<Player> player = playerCount.from(Player.class);
+        playerCount.select(cb.count(player)).where(cb.equal(player.get("game"), game));
+
+        query.select(cb.construct(GameSummary.class,
+                        game.get("id"),
+                        game.get("gameHostName"),
+                        game.get("gameState"),
+                        game.get("gameStarted"),
+                        game.get("boardName"),
+                        game.get("createdAt"),
+                        playerCount,
+                        game.get("maxPlayersNumber"),
+                        game.get("stateVersion")))
+                .where(filter.toSpecification().toPredicate(game, query, cb))
+                .orderBy(cb.desc(game.get("id")));
+        return entityManager.createQuery(query)
+                .setMaxResults(filter.limit())
+                .getResultList();
+    }
+}
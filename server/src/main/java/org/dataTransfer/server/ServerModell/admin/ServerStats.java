@@ -0,0 +1,23 @@
+package org.dataTransfer.server.ServerModell.admin;
+
+/**
+ * Kennzahlen des laufenden Servers, wie sie {@code GET /api/admin/stats} liefert.
+ *
+ * <p>
+ * {@code heapAfterGcBytes} ist die Summe der Heap-Belegung direkt nach der jeweils letzten Garbage Collection
+ * aller Speicherbereiche. Anders als {@code heapUsedBytes} schwankt der Wert nicht mit dem gerade erzeugten Müll
+ * und eignet sich daher, um über viele Spiele hinweg ein Speicherleck zu erkennen.
+ * </p>
+ *
+ * @param uptimeMs           die Laufzeit des Servers in Millisekunden
+ * @param liveGames          die Anzahl der im Speicher gehaltenen Spiele
+ * @param rolls              die Anzahl aller Würfelwürfe seit dem Start
+ * @param heapUsedBytes      die aktuelle Heap-Belegung
+ * @param heapCommittedBytes der vom Heap reservierte Speicher
+ * @param heapAfterGcBytes   die Heap-Belegung nach der letzten Garbage Collection
+ * @param gcCount            die Anzahl der bisherigen Garbage Collections
+ * @param threads            die Anzahl der Plattform-Threads
+ */
+public record ServerStats(long uptimeMs, int liveGames, long rolls, long heapUsedBytes, long heapCommittedBytes,
+                          long heapAfterGcBytes, long gcCount, int threads) {
+}
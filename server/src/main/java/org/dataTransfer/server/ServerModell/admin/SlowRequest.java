@@ -0,0 +1,20 @@
+package org.dataTransfer.server.ServerModell.admin;
+
+import java.util.Map;
+
+/**
+ * Eine der langsamsten Anfragen seit dem Start, wie sie {@code GET /api/admin/slow-requests} liefert.
+ *
+ * @param method    die HTTP-Methode
+ * @param uri       die Pfadvorlage des Endpunkts, z. B. {@code /api/games/{id}/rollDice}, oder {@code other}
+ * @param path      der tatsächlich aufgerufene Pfad
+ * @param status    der HTTP-Status der Antwort
+ * @param startedAt der Beginn der Anfrage in Millisekunden seit 1970
+ * @param totalMs   die Dauer der Anfrage im Server in Millisekunden
+ * @param phasesMs  die Dauer je Phase in Millisekunden (siehe
+ *                  {@link org.dataTransfer.server.ServerModell.trace.RequestTrace.Phase}); der Rest bis
+ *                  {@code totalMs} entfällt auf Spring, Filter und das Schreiben der Antwort
+ */
+public record SlowRequest(String method, String uri, String path, int status, long startedAt, double totalMs,
+                          Map<String, Double> phasesMs) {
+}
@@ -0,0 +1,124 @@
+package org.dataTransfer.server.ServerModell.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ein globales Limit gleichzeitig bearbeiteter Anfragen, das sich an der beobachteten Latenz ausrichtet.
+ *
+ * <p>
+ * Die Latenzen der abgeschlossenen Anfragen werden in Fenstern von {@code windowSize} Anfragen gemittelt und mit
+ * einem langfristigen Mittel verglichen. Liegt ein Fenster um mehr als den Faktor {@code tolerance} darüber, stauen
+ * sich Anfragen im Server, und das Limit sinkt um 10 % (nicht unter {@code minLimit}). Andernfalls wächst es um
+ * seine Quadratwurzel, sofern es im Fenster zumindest zur Hälfte ausgeschöpft war (nicht über {@code maxLimit}).
+ * Das langfristige Mittel folgt den Fenstern langsam, sodass sich das Limit an eine dauerhaft andere Mischung von
+ * Anfragen anpasst.
+ * </p>
+ */
+public final class AdaptiveConcurrencyLimit {
+
+    /** Anzahl der Fenster, über die das langfristige Mittel gebildet wird. */
+    private static final int LONG_WINDOWS = 20;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final int windowSize;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // Fensterzustand; geschützt durch den Monitor
+    private long windowSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private double longRtt;
+
+    /**
+     * Erstellt das Limit.
+     *
+     * @param initialLimit das Limit beim Start
+     * @param minLimit     das kleinste Limit
+     * @param maxLimit     das größte Limit
+     * @param tolerance    ab welchem Vielfachen des langfristigen Mittels das Limit sinkt
+     * @param windowSize   die Anzahl der Anfragen je Fenster
+     */
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, int windowSize) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.windowSize = windowSize;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Belegt einen Platz, sofern die Anfragen in Bearbeitung den Anteil des Limits noch nicht erreichen.
+     *
+     * @param share der Anteil des Limits, den die Prioritätsklasse belegen darf
+     * @return {@code true}, falls ein Platz belegt wurde; er muss mit {@link #release(long, boolean)} freigegeben werden
+     */
+    public boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gibt einen Platz frei und verbucht die Dauer der Anfrage.
+     *
+     * @param rttNanos die Dauer der Anfrage in Nanosekunden
+     * @param sample   ob die Dauer in die Anpassung eingeht; asynchrone Antworten wie Streams zählen nicht
+     */
+    public void release(long rttNanos, boolean sample) {
+        int before = inFlight.getAndDecrement();
+        if (sample) {
+            onSample(rttNanos, before);
+        }
+    }
+
+    /**
+     * Gibt das aktuelle Limit zurück.
+     *
+     * @return das Limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Gibt die Anzahl der Anfragen in Bearbeitung zurück.
+     *
+     * @return die Anfragen in Bearbeitung
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtEnd) {
+        windowSum += rttNanos;
+        windowSamples++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtEnd);
+        if (windowSamples < windowSize) {
+            return;
+        }
+        double shortRtt = (double) windowSum / windowSamples;
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        }
+        if (shortRtt > longRtt * tolerance) {
+            limit = Math.max(minLimit, (int) (limit * 0.9));
+        } else if (windowMaxInFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + Math.max(1, (int) Math.sqrt(limit)));
+        }
+        longRtt += (shortRtt - longRtt) / LONG_WINDOWS;
+        windowSum = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+    }
+}
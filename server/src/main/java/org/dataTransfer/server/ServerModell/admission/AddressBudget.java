@@ -0,0 +1,104 @@
+package org.dataTransfer.server.ServerModell.admission;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Das Anfragebudget einer Adresse: ein {@link TokenBucket} für alle Anfragen der Adresse und darin je Kennung aus
+ * {@code X-Client-Id} ein eigener Bucket.
+ *
+ * <p>
+ * Die Adresse begrenzt, die Kennung teilt nur auf: Eine Anfrage braucht ein Token ihrer Kennung und eines der
+ * Adresse. Mehrere Clients hinter einer Adresse (NAT) bremsen sich so nicht gegenseitig aus, solange die Adresse
+ * Budget hat, und neue Kennungen verschaffen keine zusätzlichen Tokens. Je Adresse werden höchstens
+ * {@code maxIds} Kennungen angelegt; Anfragen ohne Kennung und mit jeder weiteren Kennung teilen sich einen
+ * gemeinsamen Bucket.
+ * </p>
+ */
+public final class AddressBudget {
+
+    private final double clientRate;
+    private final double clientBurst;
+    private final int maxIds;
+
+    private final TokenBucket address;
+    private final TokenBucket shared;
+    private final Map<String, TokenBucket> ids = new ConcurrentHashMap<>();
+
+    /**
+     * Erstellt ein volles Budget.
+     *
+     * @param addressRate  die Anfragen pro Sekunde der ganzen Adresse
+     * @param addressBurst die Kapazität des Buckets der Adresse
+     * @param clientRate   die Anfragen pro Sekunde je Kennung
+     * @param clientBurst  die Kapazität des Buckets je Kennung
+     * @param maxIds       die höchste Anzahl eigener Kennungen der Adresse
+     * @param now          der aktuelle Zeitpunkt in Nanosekunden
+     */
+    public AddressBudget(double addressRate, double addressBurst, double clientRate, double clientBurst, int maxIds,
+                         long now) {
+        this.clientRate = clientRate;
+        this.clientBurst = clientBurst;
+        this.maxIds = maxIds;
+        this.address = new TokenBucket(addressRate, addressBurst, now);
+        this.shared = new TokenBucket(clientRate, clientBurst, now);
+    }
+
+    /**
+     * Entnimmt ein Token der Kennung und eines der Adresse. Scheitert die Adresse, erhält die Kennung ihr Token
+     * zurück.
+     *
+     * @param clientId die Kennung oder {@code null}
+     * @param reserve  der Anteil der Kapazität, der nicht unterschritten werden darf (0 bis 1)
+     * @param now      der aktuelle Zeitpunkt in Nanosekunden
+     * @return 0, falls die Anfrage zugelassen ist, sonst die Wartezeit in Nanosekunden
+     */
+    public long tryAcquire(String clientId, double reserve, long now) {
+        TokenBucket client = client(clientId, now);
+        long wait = client.tryAcquire(reserve, now);
+        if (wait > 0) {
+            return wait;
+        }
+        wait = address.tryAcquire(reserve, now);
+        if (wait > 0) {
+            client.refund();
+        }
+        return wait;
+    }
+
+    /**
+     * Entfernt die vollen Buckets der Kennungen, damit ihre Plätze frei werden, und prüft, ob das ganze Budget
+     * wieder voll ist.
+     *
+     * @param now der aktuelle Zeitpunkt in Nanosekunden
+     * @return {@code true}, falls das Budget voll ist und verworfen werden kann
+     */
+    public boolean sweep(long now) {
+        ids.values().removeIf(bucket -> bucket.isFull(now));
+        return ids.isEmpty() && shared.isFull(now) && address.isFull(now);
+    }
+
+    /**
+     * Gibt die Anzahl der Kennungen mit eigenem Bucket zurück.
+     *
+     * @return die Anzahl der Kennungen
+     */
+    public int getIdCount() {
+        return ids.size();
+    }
+
+    private TokenBucket client(String clientId, long now) {
+        if (clientId == null) {
+            return shared;
+        }
+        TokenBucket bucket = ids.get(clientId);
+        if (bucket != null) {
+            return bucket;
+        }
+        // Die Grenze kann bei gleichzeitigem Anlegen knapp überschritten werden; sie soll nur das Fluten verhindern
+        if (ids.size() >= maxIds) {
+            return shared;
+        }
+        return ids.computeIfAbsent(clientId, id -> new TokenBucket(clientRate, clientBurst, now));
+    }
+}
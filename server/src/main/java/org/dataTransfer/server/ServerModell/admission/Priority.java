@@ -0,0 +1,46 @@
+package org.dataTransfer.server.ServerModell.admission;
+
+/**
+ * Die Prioritätsklassen der Zugangskontrolle.
+ *
+ * <p>
+ * Jede Klasse darf nur einen Teil des globalen Nebenläufigkeitslimits belegen und muss im Token-Bucket ihres
+ * Clients einen Rest übrig lassen. Unter Last werden dadurch zuerst Abfragen abgewiesen, während Würfe und
+ * Spielstarts noch zugelassen werden.
+ * </p>
+ */
+public enum Priority {
+
+    /** Zugkritische Befehle ({@code rollDice}, {@code start}); dürfen das gesamte Limit und alle Tokens nutzen. */
+    CRITICAL(1.0, 0.0),
+    /** Übrige verändernde Anfragen. */
+    COMMAND(0.9, 0.1),
+    /** Lesende Anfragen wie das Polling. */
+    READ(0.75, 0.25);
+
+    private final double limitShare;
+    private final double tokenReserve;
+
+    Priority(double limitShare, double tokenReserve) {
+        this.limitShare = limitShare;
+        this.tokenReserve = tokenReserve;
+    }
+
+    /**
+     * Gibt den Anteil des Nebenläufigkeitslimits zurück, bis zu dem Anfragen dieser Klasse zugelassen werden.
+     *
+     * @return der Anteil zwischen 0 und 1
+     */
+    public double getLimitShare() {
+        return limitShare;
+    }
+
+    /**
+     * Gibt den Anteil der Bucket-Kapazität zurück, den Anfragen dieser Klasse höheren Klassen übrig lassen.
+     *
+     * @return der Anteil zwischen 0 und 1
+     */
+    public double getTokenReserve() {
+        return tokenReserve;
+    }
+}
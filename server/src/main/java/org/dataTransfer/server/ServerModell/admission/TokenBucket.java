@@ -0,0 +1,77 @@
+package org.dataTransfer.server.ServerModell.admission;
+
+/**
+ * Ein Token-Bucket je Client: Er füllt sich mit einer festen Rate bis zu seiner Kapazität, jede zugelassene Anfrage
+ * entnimmt ein Token.
+ *
+ * <p>
+ * Die Zeit wird übergeben ({@link System#nanoTime()}), damit sich der Bucket ohne Warten testen lässt. Ein Bucket
+ * gehört genau einem Client; die Methoden sind synchronisiert, da ein Client mehrere Anfragen gleichzeitig
+ * stellen kann.
+ * </p>
+ */
+public final class TokenBucket {
+
+    private final double tokensPerNano;
+    private final double capacity;
+
+    private double tokens;
+    private long lastRefill;
+
+    /**
+     * Erstellt einen vollen Bucket.
+     *
+     * @param tokensPerSecond die Füllrate
+     * @param capacity        die Kapazität, also die größte Zahl von Anfragen in einem Schub
+     * @param now             der aktuelle Zeitpunkt in Nanosekunden
+     */
+    public TokenBucket(double tokensPerSecond, double capacity, long now) {
+        this.tokensPerNano = tokensPerSecond / 1e9;
+        this.capacity = capacity;
+        this.tokens = capacity;
+        this.lastRefill = now;
+    }
+
+    /**
+     * Entnimmt ein Token, sofern danach noch mindestens der angegebene Anteil der Kapazität übrig bleibt.
+     *
+     * @param reserve der Anteil der Kapazität, der nicht unterschritten werden darf (0 bis 1)
+     * @param now     der aktuelle Zeitpunkt in Nanosekunden
+     * @return 0, falls das Token entnommen wurde, sonst die Wartezeit in Nanosekunden bis zum nächsten Erfolg
+     */
+    public synchronized long tryAcquire(double reserve, long now) {
+        refill(now);
+        double needed = 1 + reserve * capacity;
+        if (tokens >= needed) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((needed - tokens) / tokensPerNano));
+    }
+
+    /**
+     * Gibt ein zuvor entnommenes Token zurück, etwa wenn die Anfrage an einer weiteren Grenze gescheitert ist.
+     */
+    public synchronized void refund() {
+        tokens = Math.min(capacity, tokens + 1);
+    }
+
+    /**
+     * Prüft, ob der Bucket wieder voll ist; ein voller Bucket kann verworfen und bei Bedarf neu angelegt werden.
+     *
+     * @param now der aktuelle Zeitpunkt in Nanosekunden
+     * @return {@code true}, falls der Bucket voll ist
+     */
+    public synchronized boolean isFull(long now) {
+        refill(now);
+        return tokens >= capacity;
+    }
+
+    private void refill(long now) {
+        long elapsed = now - lastRefill;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+            lastRefill = now;
+        }
+    }
+}
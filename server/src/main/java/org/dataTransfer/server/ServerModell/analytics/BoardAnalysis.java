@@ -0,0 +1,247 @@
+package org.dataTransfer.server.ServerModell.analytics;
+
+import org.dataTransfer.server.ServerModell.board.CompiledBoard;
+
+import java.util.Arrays;
+
+/**
+ * Die {@code BoardAnalysis} berechnet die Kennzahlen eines Spielbretts als absorbierende Markow-Kette.
+ *
+ * <p>
+ * Jeder Spieler bewegt sich unabhängig von den anderen: Von Feld {@code p} führt jeder der sechs Würfe mit
+ * Wahrscheinlichkeit 1/6 auf {@link CompiledBoard#move(int, int)}; das Zielfeld ist absorbierend. Daraus
+ * ergeben sich einmal je Brett
+ * </p>
+ * <ul>
+ *     <li>die erwartete Anzahl eigener Würfe bis zum Ziel von jedem Feld, exakt als Lösung von
+ *     {@code (I - Q) e = 1} (Q: Übergangsmatrix der nicht absorbierenden Felder), und</li>
+ *     <li>die Überlebensfunktion {@code S_p(t)}, die Wahrscheinlichkeit, von Feld {@code p} aus nach {@code t}
+ *     Würfen das Ziel noch nicht erreicht zu haben, über {@code S_p(t) = 1/6 * Σ S_move(p,r)(t - 1)}.
+ *     Sie wird berechnet, bis sie für alle Felder unter {@link #EPSILON} liegt.</li>
+ * </ul>
+ *
+ * <p>
+ * Da die Spieler unabhängig sind, gewinnt der Spieler an Stelle {@code j} der Zugreihenfolge mit
+ * {@code Σ_t P(T_j = t) · Π_{k<j} S_k(t) · Π_{k>j} S_k(t - 1)}: Alle vor ihm dürfen in Runde {@code t}
+ * noch nicht im Ziel sein, alle nach ihm nicht schon in einer früheren Runde. Eine Abfrage kostet damit nur
+ * einige hundert Multiplikationen je Spieler.
+ * </p>
+ *
+ * <p>
+ * Objekte dieser Klasse sind nach der Erzeugung unveränderlich und threadsicher.
+ * </p>
+ */
+public final class BoardAnalysis {
+
+    /** Restwahrscheinlichkeit, ab der die Überlebensfunktion abgeschnitten wird. */
+    static final double EPSILON = 1e-12;
+
+    /** Höchste Anzahl berechneter Würfe, falls die Überlebensfunktion nicht unter {@link #EPSILON} fällt. */
+    static final int MAX_HORIZON = 4_096;
+
+    private final int fields;
+    private final int finish;
+
+    /** Erwartete Anzahl Würfe bis zum Ziel je Feld; unendlich, falls das Ziel nicht sicher erreicht wird. */
+    private final double[] expectedTurns;
+
+    /** {@code survival[t * fields + p] = S_p(t)} für {@code t} von 0 bis {@link #horizon}. */
+    private final double[] survival;
+
+    private final int horizon;
+
+    /**
+     * Analysiert ein Spielbrett.
+     *
+     * @param board das Spielbrett
+     */
+    public BoardAnalysis(CompiledBoard board) {
+        this.fields = board.getFinish() + 1;
+        this.finish = board.getFinish();
+        this.expectedTurns = solveExpectedTurns(board);
+
+        double[] table = new double[fields * 64];
+        Arrays.fill(table, 0, finish, 1.0);
+        int t = 0;
+        double remaining = 1.0;
+        while (remaining > EPSILON && t < MAX_HORIZON) {
+            t++;
+            if ((t + 1) * fields > table.length) {
+                table = Arrays.copyOf(table, table.length * 2);
+            }
+            int previous = (t - 1) * fields;
+            remaining = 0;
+            for (int p = 0; p < finish; p++) {
+                double sum = 0;
+                for (int roll = 1; roll <= CompiledBoard.MAX_ROLL; roll++) {
+                    sum += table[previous + board.move(p, roll)];
+                }
+                double s = sum / CompiledBoard.MAX_ROLL;
+                table[t * fields + p] = s;
+                remaining = Math.max(remaining, s);
+            }
+        }
+        this.horizon = t;
+        this.survival = Arrays.copyOf(table, (t + 1) * fields);
+    }
+
+    /**
+     * Gibt die erwartete Anzahl eigener Würfe bis zum Ziel zurück.
+     *
+     * @param position das aktuelle Feld
+     * @return die erwartete Anzahl Würfe, 0 im Ziel oder {@link Double#POSITIVE_INFINITY}, falls das Ziel von hier
+     * nicht sicher erreicht wird
+     */
+    public double expectedTurns(int position) {
+        return expectedTurns[position];
+    }
+
+    /**
+     * Berechnet die Siegwahrscheinlichkeiten für Spieler in Zugreihenfolge.
+     *
+     * <p>
+     * Steht bereits ein Spieler im Ziel, ist das Rennen entschieden; die Wahrscheinlichkeit wird dann gleichmäßig
+     * auf alle Spieler im Ziel verteilt, da der Spielstand nicht verrät, wer es zuerst erreicht hat.
+     * </p>
+     *
+     * @param positions die Felder der Spieler, beginnend mit dem Spieler, der am Zug ist
+     * @return die Siegwahrscheinlichkeiten in derselben Reihenfolge; sie summieren sich zu 1
+     */
+    public double[] winProbabilities(int[] positions) {
+        int players = positions.length;
+        double[] result = new double[players];
+        int finished = 0;
+        for (int position : positions) {
+            if (position == finish) {
+                finished++;
+            }
+        }
+        if (finished > 0) {
+            for (int j = 0; j < players; j++) {
+                result[j] = positions[j] == finish ? 1.0 / finished : 0;
+            }
+            return result;
+        }
+
+        double total = 0;
+        for (int t = 1; t <= horizon; t++) {
+            int now = t * fields;
+            int before = now - fields;
+            for (int j = 0; j < players; j++) {
+                double p = survival[before + positions[j]] - survival[now + positions[j]];
+                for (int k = 0; k < players && p > 0; k++) {
+                    if (k != j) {
+                        p *= survival[(k < j ? now : before) + positions[k]];
+                    }
+                }
+                result[j] += p;
+                total += p;
+            }
+        }
+        if (total > 0) {
+            // Gleicht die abgeschnittene Restwahrscheinlichkeit hinter dem Horizont aus
+            for (int j = 0; j < players; j++) {
+                result[j] /= total;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gibt die Anzahl der Würfe zurück, bis zu der die Überlebensfunktion berechnet wurde.
+     *
+     * @return der Horizont
+     */
+    public int getHorizon() {
+        return horizon;
+    }
+
+    /**
+     * Löst {@code (I - Q) e = 1} per Gauß-Elimination mit Spaltenpivotsuche.
+     *
+     * <p>
+     * Felder, von denen aus ein Feld erreichbar ist, das das Ziel nie erreicht (etwa hinter einem Ring aus
+     * Schlangen), haben eine unendliche Erwartung und werden vorab aus dem Gleichungssystem genommen;
+     * das verbleibende System ist regulär.
+     * </p>
+     */
+    private static double[] solveExpectedTurns(CompiledBoard board) {
+        int fields = board.getFinish() + 1;
+        int finish = board.getFinish();
+
+        // Felder, die das Ziel erreichen können: Rückwärtssuche vom Ziel
+        boolean[] reachesFinish = new boolean[fields];
+        reachesFinish[finish] = true;
+        for (boolean changed = true; changed; ) {
+            changed = false;
+            for (int p = 0; p < finish; p++) {
+                for (int roll = 1; !reachesFinish[p] && roll <= CompiledBoard.MAX_ROLL; roll++) {
+                    if (reachesFinish[board.move(p, roll)]) {
+                        reachesFinish[p] = changed = true;
+                    }
+                }
+            }
+        }
+        // Felder, die ein gefangenes Feld erreichen können
+        boolean[] infinite = new boolean[fields];
+        for (int p = 0; p < finish; p++) {
+            infinite[p] = !reachesFinish[p];
+        }
+        for (boolean changed = true; changed; ) {
+            changed = false;
+            for (int p = 0; p < finish; p++) {
+                for (int roll = 1; !infinite[p] && roll <= CompiledBoard.MAX_ROLL; roll++) {
+                    if (infinite[board.move(p, roll)]) {
+                        infinite[p] = changed = true;
+                    }
+                }
+            }
+        }
+
+        int[] index = new int[fields];
+        int n = 0;
+        for (int p = 0; p < finish; p++) {
+            index[p] = infinite[p] ? -1 : n++;
+        }
+        double[][] a = new double[n][n + 1];
+        for (int p = 0; p < finish; p++) {
+            int row = index[p];
+            if (row < 0) {
+                continue;
+            }
+            a[row][row] += 1.0;
+            a[row][n] = 1.0;
+            for (int roll = 1; roll <= CompiledBoard.MAX_ROLL; roll++) {
+                int next = board.move(p, roll);
+                if (next != finish) {
+                    a[row][index[next]] -= 1.0 / CompiledBoard.MAX_ROLL;
+                }
+            }
+        }
+        for (int col = 0; col < n; col++) {
+            int pivot = col;
+            for (int row = col + 1; row < n; row++) {
+                if (Math.abs(a[row][col]) > Math.abs(a[pivot][col])) {
+                    pivot = row;
+                }
+            }
+            double[] swap = a[col];
+            a[col] = a[pivot];
+            a[pivot] = swap;
+            for (int row = 0; row < n; row++) {
+                double factor = a[row][col] / a[col][col];
+                if (row != col && factor != 0) {
+                    for (int k = col; k <= n; k++) {
+                        a[row][k] -= factor * a[col][k];
+                    }
+                }
+            }
+        }
+
+        double[] expected = new double[fields];
+        for (int p = 0; p < finish; p++) {
+            expected[p] = index[p] < 0 ? Double.POSITIVE_INFINITY : a[index[p]][n] / a[index[p]][index[p]];
+        }
+        return expected;
+    }
+}
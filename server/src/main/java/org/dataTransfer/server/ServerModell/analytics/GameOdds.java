@@ -0,0 +1,27 @@
+package org.dataTransfer.server.ServerModell.analytics;
+
+import java.util.List;
+
+/**
+ * Die aktuellen Gewinnchancen eines Spiels, wie sie {@code GET /api/games/{id}/odds} liefert.
+ *
+ * @param gameId        die ID des Spiels
+ * @param stateVersion  die Zustandsversion, für die die Chancen gelten
+ * @param board         der Name des Spielbretts
+ * @param currentPlayer der Spieler, der am Zug ist
+ * @param players       die Chancen je Spieler in Sitzreihenfolge
+ */
+public record GameOdds(long gameId, long stateVersion, String board, String currentPlayer, List<PlayerOdds> players) {
+
+    /**
+     * Die Chancen eines Spielers.
+     *
+     * @param playerId       die ID des Spielers
+     * @param name           der Name des Spielers
+     * @param position       das aktuelle Feld
+     * @param winProbability die Wahrscheinlichkeit, das Rennen zu gewinnen
+     * @param expectedTurns  die erwartete Anzahl eigener Würfe bis zum Ziel
+     */
+    public record PlayerOdds(long playerId, String name, int position, double winProbability, double expectedTurns) {
+    }
+}
@@ -0,0 +1,105 @@
+package org.dataTransfer.server.ServerModell.analytics;
+
+import org.dataTransfer.server.ServerModell.board.CompiledBoard;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.player.Player;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Der {@code OddsService} berechnet die Gewinnchancen laufender Spiele.
+ *
+ * <p>
+ * Die {@link BoardAnalysis} wird einmal je Brett erstellt und aufbewahrt; Bretter sind unter ihrem Namen
+ * unveränderlich. Die Siegwahrscheinlichkeiten hängen nur von Brett, Positionen und dem Spieler am Zug ab und
+ * werden unter diesem Schlüssel zwischengespeichert. Da die Positionen eines Rennens nur wenige Kombinationen
+ * durchlaufen, beantworten Zuschauer derselben Spiele fast jede Abfrage aus dem Zwischenspeicher.
+ * Überschreitet er {@code game.odds.cache-size} Einträge, wird er geleert.
+ * </p>
+ */
+@Service
+public class OddsService {
+
+    /** Höchste Anzahl Spieler, deren Positionen (je 8 Bit) in einen Schlüssel passen. */
+    private static final int MAX_KEY_PLAYERS = Long.BYTES;
+
+    private final Map<String, BoardAnalysis> analyses = new ConcurrentHashMap<>();
+    private final Map<OddsKey, double[]> odds = new ConcurrentHashMap<>();
+    private final int cacheSize;
+
+    /**
+     * Konstruktor des OddsService.
+     *
+     * @param cacheSize die höchste Anzahl zwischengespeicherter Stellungen
+     */
+    public OddsService(@Value("${game.odds.cache-size:65536}") int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * Berechnet die Gewinnchancen eines Spielstands.
+     *
+     * @param game die Momentaufnahme des Spiels
+     * @return die Chancen aller Spieler in Sitzreihenfolge
+     */
+    public GameOdds getOdds(Game game) {
+        CompiledBoard board = game.getBoard();
+        BoardAnalysis analysis = getAnalysis(board);
+        List<Player> players = game.getPlayers();
+        int count = players.size();
+        int turn = count == 0 ? 0 : game.getCurrentPlayerIndex();
+
+        // Positionen in Zugreihenfolge, beginnend mit dem Spieler am Zug
+        int[] positions = new int[count];
+        long packed = 0;
+        for (int i = 0; i < count; i++) {
+            positions[i] = players.get((turn + i) % count).getPostion();
+            packed = packed << 8 | positions[i];
+        }
+        double[] chances;
+        if (count <= MAX_KEY_PLAYERS) {
+            OddsKey key = new OddsKey(board.getDefinition().name(), count, packed);
+            chances = odds.get(key);
+            if (chances == null) {
+                chances = analysis.winProbabilities(positions);
+                if (odds.size() >= cacheSize) {
+                    odds.clear();
+                }
+                odds.put(key, chances);
+            }
+        } else {
+            chances = analysis.winProbabilities(positions);
+        }
+
+        List<GameOdds.PlayerOdds> result = new ArrayList<>(count);
+        for (int seat = 0; seat < count; seat++) {
+            Player player = players.get(seat);
+            int order = Math.floorMod(seat - turn, count);
+            result.add(new GameOdds.PlayerOdds(player.getId(), player.getName(), player.getPostion(),
+                    chances[order], analysis.expectedTurns(player.getPostion())));
+        }
+        return new GameOdds(game.getId(), game.getStateVersion(), board.getDefinition().name(),
+                game.getCurrentPlayerUsername(), result);
+    }
+
+    /**
+     * Liefert die Analyse eines Bretts und erstellt sie beim ersten Zugriff.
+     *
+     * @param board das Spielbrett
+     * @return die Analyse
+     */
+    public BoardAnalysis getAnalysis(CompiledBoard board) {
+        return analyses.computeIfAbsent(board.getDefinition().name(), name -> new BoardAnalysis(board));
+    }
+
+    /**
+     * Schlüssel einer Stellung: Brett, Anzahl der Spieler und ihre Positionen in Zugreihenfolge.
+     */
+    private record OddsKey(String board, int players, long positions) {
+    }
+}
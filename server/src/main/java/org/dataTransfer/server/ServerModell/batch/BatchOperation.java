@@ -0,0 +1,39 @@
+package org.dataTransfer.server.ServerModell.batch;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Eine einzelne Operation einer Anfrage an {@code POST /api/batch}.
+ *
+ * <p>
+ * Welche Felder ausgewertet werden, hängt von {@link #op()} ab; die übrigen bleiben leer. In JSON wird die Art
+ * klein geschrieben, z. B. {@code {"op":"ready","gameId":1,"playerIndex":2,"ready":true}}.
+ * </p>
+ *
+ * @param op              die Art der Operation
+ * @param gameId          die ID des Spiels
+ * @param expectedVersion die vom Client zuletzt gesehene Zustandsversion vor dem Batch (optional, nur
+ *                        {@code start} und {@code roll})
+ * @param playerIndex     der Spielerindex ab 1 ({@code ready})
+ * @param ready           der neue Ready-Status ({@code ready})
+ * @param player          der Name des würfelnden Spielers ({@code roll}, optional)
+ */
+public record BatchOperation(Type op, Long gameId, Long expectedVersion, Integer playerIndex, Boolean ready,
+                             String player) {
+
+    /** Die Arten von Operationen; sie entsprechen den gleichnamigen Endpunkten unter {@code /api/games}. */
+    public enum Type {
+        /** Liest den Spielstand wie {@code GET /api/games/{id}}. */
+        @JsonProperty("get")
+        GET,
+        /** Setzt den Ready-Status eines Spielers wie {@code PUT .../players/{index}/ready}. */
+        @JsonProperty("ready")
+        READY,
+        /** Startet das Spiel wie {@code PUT .../start}. */
+        @JsonProperty("start")
+        START,
+        /** Würfelt für den Spieler am Zug wie {@code PUT .../rollDice}. */
+        @JsonProperty("roll")
+        ROLL
+    }
+}
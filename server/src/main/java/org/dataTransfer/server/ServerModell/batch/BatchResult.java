@@ -0,0 +1,21 @@
+package org.dataTransfer.server.ServerModell.batch;
+
+/**
+ * Das Ergebnis einer {@link BatchOperation}, an derselben Stelle der Antwort wie die Operation in der Anfrage.
+ *
+ * @param status der HTTP-Status, den der entsprechende Einzelendpunkt geliefert hätte; 424, falls die Operation
+ *               nach einer gescheiterten Operation desselben Spiels übersprungen wurde
+ * @param body   das Ergebnis wie beim Einzelendpunkt oder die Fehlermeldung
+ */
+public record BatchResult(int status, Object body) {
+
+    /**
+     * Erstellt ein erfolgreiches Ergebnis.
+     *
+     * @param body das Ergebnis
+     * @return das Ergebnis mit Status 200
+     */
+    public static BatchResult ok(Object body) {
+        return new BatchResult(200, body);
+    }
+}
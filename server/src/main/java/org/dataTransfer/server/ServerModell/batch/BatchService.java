@@ -0,0 +1,173 @@
+package org.dataTransfer.server.ServerModell.batch;
+
+import org.dataTransfer.server.ServerModell.engine.GameConflictException;
+import org.dataTransfer.server.ServerModell.engine.GameEngine;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.player.Player;
+import org.dataTransfer.server.ServerModell.view.GameView;
+import org.dataTransfer.server.ServerModell.view.PlayerView;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Der {@code BatchService} führt eine geordnete Liste von Lese- und Spieloperationen über ein oder mehrere Spiele
+ * aus ({@code POST /api/batch}).
+ *
+ * <p>
+ * Die Operationen werden nach Spiel gruppiert. Alle Operationen eines Spiels laufen in ihrer Reihenfolge als ein
+ * einziger Befehl auf der Spur des Spiels: Das Spiel wird einmal geladen, erhält genau eine neue Zustandsversion
+ * und wird einmal zum Schreiben vorgemerkt, unabhängig davon, wie viele Operationen es betreffen. Operationen
+ * verschiedener Spiele sind unabhängig voneinander; ihre Reihenfolge untereinander bleibt nur in der Antwort
+ * erhalten. Enthält die Gruppe eines Spiels nur Leseoperationen, wird kein Befehl ausgeführt.
+ * </p>
+ *
+ * <p>
+ * Eine Leseoperation sieht die vorangehenden Operationen desselben Spiels. Nach einer Spieloperation trägt sie
+ * bereits die Version, mit der der Batch abgeschlossen wird. {@code expectedVersion} bezieht sich auf den Stand
+ * vor dem Batch. Scheitert eine Operation, werden die folgenden Operationen desselben Spiels mit Status 424
+ * übersprungen; bereits ausgeführte Operationen bleiben gültig. Hatte bis dahin keine Operation das Spiel verändert,
+ * entsteht keine neue Version.
+ * </p>
+ */
+@Service
+public class BatchService {
+
+    private final GameEngine gameEngine;
+
+    /**
+     * Konstruktor des BatchService.
+     *
+     * @param gameEngine die Engine, die alle laufenden Spiele verwaltet
+     */
+    public BatchService(GameEngine gameEngine) {
+        this.gameEngine = gameEngine;
+    }
+
+    /**
+     * Führt die Operationen aus.
+     *
+     * @param operations die Operationen in Reihenfolge
+     * @return die Ergebnisse in derselben Reihenfolge
+     */
+    public List<BatchResult> execute(List<BatchOperation> operations) {
+        BatchResult[] results = new BatchResult[operations.size()];
+        Map<Long, List<Integer>> byGame = new LinkedHashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            BatchOperation operation = operations.get(i);
+            if (operation == null || operation.op() == null || operation.gameId() == null) {
+                results[i] = new BatchResult(400, "Operation " + i + " needs op and gameId");
+                continue;
+            }
+            byGame.computeIfAbsent(operation.gameId(), id -> new ArrayList<>()).add(i);
+        }
+        byGame.forEach((gameId, indices) -> executeGame(gameId, indices, operations, results));
+        return List.of(results);
+    }
+
+    /**
+     * Führt die Operationen eines Spiels aus. Ohne Spieloperation genügt die aktuelle Momentaufnahme.
+     */
+    private void executeGame(long gameId, List<Integer> indices, List<BatchOperation> operations,
+                             BatchResult[] results) {
+        try {
+            boolean readOnly = indices.stream()
+                    .allMatch(i -> operations.get(i).op() == BatchOperation.Type.GET);
+            if (readOnly) {
+                GameView view = gameEngine.getGameView(gameId);
+                for (int i : indices) {
+                    results[i] = BatchResult.ok(view);
+                }
+                return;
+            }
+            gameEngine.execute(gameId, game -> {
+                apply(game, indices, operations, results);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // Ergebnisse der Operationen vor dem Fehler bleiben erhalten
+            for (int i : indices) {
+                if (results[i] == null) {
+                    results[i] = failure(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Wendet die Operationen eines Spiels innerhalb des Befehls an.
+     *
+     * @throws RuntimeException falls eine Operation scheitert, bevor das Spiel verändert wurde; der Befehl wird
+     *                          dann ohne neue Version verworfen
+     */
+    private void apply(Game game, List<Integer> indices, List<BatchOperation> operations, BatchResult[] results) {
+        long version = game.getStateVersion();
+        boolean changed = false;
+        for (int k = 0; k < indices.size(); k++) {
+            int index = indices.get(k);
+            BatchOperation operation = operations.get(index);
+            try {
+                results[index] = apply(game, operation, version, changed);
+                changed |= operation.op() != BatchOperation.Type.GET;
+            } catch (RuntimeException e) {
+                results[index] = failure(e);
+                for (int skipped : indices.subList(k + 1, indices.size())) {
+                    results[skipped] = new BatchResult(424, "Skipped after failed operation " + index);
+                }
+                if (!changed) {
+                    throw e;
+                }
+                return;
+            }
+        }
+    }
+
+    private BatchResult apply(Game game, BatchOperation operation, long version, boolean changed) {
+        return switch (operation.op()) {
+            case GET -> BatchResult.ok(GameView.of(game, changed ? version + 1 : version));
+            case READY -> {
+                // Der Ready-Status ist absolut und wird wie beim Einzelendpunkt auch bei abweichender Version gesetzt
+                int playerIndex = operation.playerIndex() != null ? operation.playerIndex() : 0;
+                Player player = gameEngine.setReady(game, playerIndex, Boolean.TRUE.equals(operation.ready()));
+                if (player == null) {
+                    throw new IllegalArgumentException("Player not found with index " + playerIndex
+                            + " in game " + game.getId());
+                }
+                yield BatchResult.ok(PlayerView.of(player));
+            }
+            case START -> {
+                checkVersion(game, operation, version);
+                gameEngine.startGame(game, true, "Game");
+                yield BatchResult.ok(GameView.of(game, version + 1));
+            }
+            case ROLL -> {
+                checkVersion(game, operation, version);
+                gameEngine.rollDice(game, operation.player());
+                yield BatchResult.ok(GameView.of(game, version + 1));
+            }
+        };
+    }
+
+    private static void checkVersion(Game game, BatchOperation operation, long version) {
+        if (operation.expectedVersion() != null && operation.expectedVersion() != version) {
+            throw new GameConflictException("Game " + game.getId() + " is at version " + version
+                    + ", expected " + operation.expectedVersion(), version);
+        }
+    }
+
+    /**
+     * Bildet den Status, den der Einzelendpunkt für den Fehler geliefert hätte.
+     */
+    private static BatchResult failure(RuntimeException e) {
+        if (e instanceof GameConflictException) {
+            return new BatchResult(409, e.getMessage());
+        }
+        if (e instanceof IllegalArgumentException) {
+            return new BatchResult(400, e.getMessage());
+        }
+        return new BatchResult(500, e.getMessage());
+    }
+}
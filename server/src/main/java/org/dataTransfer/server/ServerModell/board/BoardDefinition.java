@@ -0,0 +1,69 @@
+package org.dataTransfer.server.ServerModell.board;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Die Beschreibung eines Spielbretts, wie sie aus einer Ressourcendatei ({@code boards/*.json}) geladen oder
+ * über {@code POST /api/boards} angelegt wird.
+ *
+ * <p>
+ * Das Brett besteht aus {@code fields} Feldern mit den Indizes {@code 0} (Start) bis {@code fields - 1} (Ziel).
+ * Ein Sprung versetzt einen Spieler, der auf {@code from} landet, auf {@code to}: nach vorne wie eine Leiter,
+ * nach hinten wie eine Schlange. Sprünge werden nicht verkettet; landet ein Spieler durch einen Sprung auf
+ * einem weiteren Sprungfeld, bleibt er dort stehen.
+ * </p>
+ *
+ * @param name   der eindeutige Name des Bretts
+ * @param fields die Anzahl der Felder einschließlich Start und Ziel
+ * @param jumps  die Sprünge des Bretts
+ */
+public record BoardDefinition(String name, int fields, List<Jump> jumps) {
+
+    /** Die höchste Anzahl an Feldern; Positionen werden im WebSocket-Kanal als ein Byte übertragen. */
+    public static final int MAX_FIELDS = 256;
+
+    /**
+     * Erstellt eine Brettbeschreibung; fehlende Sprünge werden als leere Liste übernommen.
+     */
+    public BoardDefinition {
+        jumps = jumps == null ? List.of() : List.copyOf(jumps);
+    }
+
+    /**
+     * Überprüft die Beschreibung.
+     *
+     * @throws IllegalArgumentException falls Name, Feldanzahl oder ein Sprung ungültig ist
+     */
+    public void validate() {
+        if (name == null || !name.matches("[a-z0-9-]{1,32}")) {
+            throw new IllegalArgumentException("Board name must be 1 to 32 characters of a-z, 0-9 or '-': " + name);
+        }
+        if (fields < 2 || fields > MAX_FIELDS) {
+            throw new IllegalArgumentException("Board must have between 2 and " + MAX_FIELDS + " fields: " + fields);
+        }
+        int finish = fields - 1;
+        Set<Integer> sources = new HashSet<>();
+        for (Jump jump : jumps) {
+            if (jump.from() <= 0 || jump.from() >= finish) {
+                throw new IllegalArgumentException("Jump must start between the start and the finish field: " + jump);
+            }
+            if (jump.to() < 0 || jump.to() > finish || jump.to() == jump.from()) {
+                throw new IllegalArgumentException("Jump must lead to another field on the board: " + jump);
+            }
+            if (!sources.add(jump.from())) {
+                throw new IllegalArgumentException("Field " + jump.from() + " has more than one jump");
+            }
+        }
+    }
+
+    /**
+     * Ein Sprung von einem Feld auf ein anderes.
+     *
+     * @param from das Feld, auf dem der Sprung ausgelöst wird
+     * @param to   das Feld, auf dem der Spieler danach steht
+     */
+    public record Jump(int from, int to) {
+    }
+}
@@ -0,0 +1,145 @@
+package org.dataTransfer.server.ServerModell.board;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.dataTransfer.server.ServerModell.BoardRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Die {@code BoardRegistry} verwaltet alle bekannten Spielbretter.
+ *
+ * <p>
+ * Beim Start werden alle Dateien {@code boards/*.json} aus dem Klassenpfad geladen; weitere Bretter können
+ * zur Laufzeit über {@link #register(BoardDefinition)} angelegt werden. Bretter sind unveränderlich: Ein Name
+ * kann nur einmal vergeben werden, damit laufende Spiele und Clients immer dasselbe Brett sehen.
+ * </p>
+ *
+ * <p>
+ * Spiele speichern nur den Namen ihres Bretts. Zur Laufzeit angelegte Bretter werden deshalb im
+ * {@link BoardRepository} gespeichert und beim Start wieder geladen; ein Name bleibt so auch über einen Neustart
+ * hinweg an dieselbe Beschreibung gebunden.
+ * </p>
+ */
+@Component
+public class BoardRegistry {
+
+    private final Map<String, CompiledBoard> boards = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final BoardRepository boardRepository;
+
+    /**
+     * Lädt nur die Bretter aus dem Klassenpfad; zur Laufzeit angelegte Bretter werden nicht gespeichert.
+     *
+     * @param objectMapper der ObjectMapper der Anwendung
+     * @throws IOException falls die Bretter nicht gelesen werden können
+     */
+    public BoardRegistry(ObjectMapper objectMapper) throws IOException {
+        this(objectMapper, null);
+    }
+
+    /**
+     * Lädt die Bretter aus dem Klassenpfad und die gespeicherten Bretter aus der Datenbank.
+     *
+     * @param objectMapper    der ObjectMapper der Anwendung
+     * @param boardRepository das Repository der zur Laufzeit angelegten Bretter oder {@code null}
+     * @throws IOException falls die Bretter nicht gelesen werden können
+     */
+    @Autowired
+    public BoardRegistry(ObjectMapper objectMapper, BoardRepository boardRepository) throws IOException {
+        this.objectMapper = objectMapper;
+        this.boardRepository = boardRepository;
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources("classpath*:boards/*.json");
+        for (Resource resource : resources) {
+            try (InputStream in = resource.getInputStream()) {
+                add(objectMapper.readValue(in, BoardDefinition.class));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Board resource " + resource.getFilename() + " could not be read", e);
+            }
+        }
+        boards.putIfAbsent(CompiledBoard.CLASSIC, CompiledBoard.classic());
+        if (boardRepository != null) {
+            for (StoredBoard stored : boardRepository.findAll()) {
+                BoardDefinition definition = objectMapper.readValue(stored.getDefinition(), BoardDefinition.class);
+                boards.putIfAbsent(definition.name(), new CompiledBoard(definition));
+            }
+        }
+    }
+
+    /**
+     * Übersetzt ein neues Brett, speichert es und nimmt es auf. Scheitert das Speichern, wird das Brett wieder
+     * entfernt.
+     *
+     * @param definition die Beschreibung des Bretts
+     * @return das übersetzte Brett
+     * @throws IllegalArgumentException falls die Beschreibung ungültig ist
+     * @throws IllegalStateException    falls es bereits ein Brett mit diesem Namen gibt
+     */
+    public CompiledBoard register(BoardDefinition definition) {
+        CompiledBoard board = add(definition);
+        if (boardRepository != null) {
+            try {
+                boardRepository.save(new StoredBoard(definition.name(), objectMapper.writeValueAsString(definition)));
+            } catch (JsonProcessingException e) {
+                boards.remove(definition.name(), board);
+                throw new UncheckedIOException("Board " + definition.name() + " could not be serialized", e);
+            } catch (RuntimeException e) {
+                boards.remove(definition.name(), board);
+                throw e;
+            }
+        }
+        return board;
+    }
+
+    private CompiledBoard add(BoardDefinition definition) {
+        CompiledBoard board = new CompiledBoard(definition);
+        if (boards.putIfAbsent(definition.name(), board) != null) {
+            throw new IllegalStateException("Board already exists with name " + definition.name());
+        }
+        return board;
+    }
+
+    /**
+     * Liefert das Brett mit dem angegebenen Namen.
+     *
+     * @param name der Name des Bretts
+     * @return das übersetzte Brett
+     * @throws RuntimeException falls kein Brett mit diesem Namen existiert
+     */
+    public CompiledBoard get(String name) {
+        return find(name).orElseThrow(() -> new RuntimeException("Board not found with name " + name));
+    }
+
+    /**
+     * Sucht das Brett mit dem angegebenen Namen.
+     *
+     * @param name der Name des Bretts
+     * @return das übersetzte Brett, falls vorhanden
+     */
+    public Optional<CompiledBoard> find(String name) {
+        return Optional.ofNullable(name).map(boards::get);
+    }
+
+    /**
+     * Liefert die Beschreibungen aller Bretter, sortiert nach Namen.
+     *
+     * @return die Brettbeschreibungen
+     */
+    public List<BoardDefinition> getAll() {
+        return boards.values().stream()
+                .map(CompiledBoard::getDefinition)
+                .sorted(Comparator.comparing(BoardDefinition::name))
+                .toList();
+    }
+}
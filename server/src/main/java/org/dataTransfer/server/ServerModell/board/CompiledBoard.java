@@ -0,0 +1,131 @@
+package org.dataTransfer.server.ServerModell.board;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Ein in eine Übergangstabelle übersetztes Spielbrett.
+ *
+ * <p>
+ * Für jede Position und jeden Würfelwert enthält {@code transitions[position][roll]} die endgültige Position
+ * nach dem Zug: Die Position wird um den Wurf erhöht, auf das Ziel begrenzt und ein eventueller Sprung
+ * angewendet. Ein Zug ist damit ein einzelner Array-Zugriff. Die Tabelle wird beim Anlegen des Bretts einmalig
+ * erzeugt und danach nur noch gelesen, sodass alle Spiele mit diesem Brett sie gemeinsam verwenden.
+ * </p>
+ */
+public final class CompiledBoard {
+
+    /** Der Name des Standardbretts. */
+    public static final String CLASSIC = "classic";
+
+    /** Der höchste Würfelwert. */
+    public static final int MAX_ROLL = 6;
+
+    private final BoardDefinition definition;
+    private final int finish;
+    private final int[][] transitions;
+
+    /**
+     * Übersetzt eine Brettbeschreibung.
+     *
+     * @param definition die Beschreibung
+     * @throws IllegalArgumentException falls die Beschreibung ungültig ist
+     */
+    public CompiledBoard(BoardDefinition definition) {
+        definition.validate();
+        this.definition = definition;
+        this.finish = definition.fields() - 1;
+
+        int[] jumpTarget = new int[definition.fields()];
+        for (int field = 0; field < jumpTarget.length; field++) {
+            jumpTarget[field] = field;
+        }
+        for (BoardDefinition.Jump jump : definition.jumps()) {
+            jumpTarget[jump.from()] = jump.to();
+        }
+
+        this.transitions = new int[definition.fields()][MAX_ROLL + 1];
+        for (int position = 0; position < transitions.length; position++) {
+            for (int roll = 0; roll <= MAX_ROLL; roll++) {
+                transitions[position][roll] = jumpTarget[landing(position, roll)];
+            }
+        }
+    }
+
+    /**
+     * Liefert die endgültige Position nach einem Wurf.
+     *
+     * @param position die aktuelle Position
+     * @param roll     der Würfelwert (1 bis {@link #MAX_ROLL})
+     * @return die Position nach dem Zug einschließlich eines Sprungs
+     */
+    public int move(int position, int roll) {
+        return transitions[position][roll];
+    }
+
+    /**
+     * Liefert das Feld, auf dem ein Wurf landet, bevor ein Sprung angewendet wird.
+     *
+     * @param position die aktuelle Position
+     * @param roll     der Würfelwert
+     * @return das Landefeld, höchstens das Ziel
+     */
+    public int landing(int position, int roll) {
+        return Math.min(position + roll, finish);
+    }
+
+    /**
+     * Gibt den Index des Zielfelds zurück.
+     *
+     * @return das Zielfeld
+     */
+    public int getFinish() {
+        return finish;
+    }
+
+    /**
+     * Gibt die Beschreibung des Bretts zurück.
+     *
+     * @return die Brettbeschreibung
+     */
+    public BoardDefinition getDefinition() {
+        return definition;
+    }
+
+    /**
+     * Liefert das Standardbrett aus {@code boards/classic.json}. Es wird verwendet, solange einem Spiel
+     * kein Brett zugewiesen wurde.
+     *
+     * @return das Standardbrett
+     */
+    public static CompiledBoard classic() {
+        return ClassicHolder.BOARD;
+    }
+
+    /**
+     * Liest eine Brettbeschreibung aus einer JSON-Datei im Klassenpfad.
+     *
+     * @param mapper   der zu verwendende ObjectMapper
+     * @param resource der Pfad im Klassenpfad, z. B. {@code boards/classic.json}
+     * @return die Brettbeschreibung
+     */
+    static BoardDefinition read(ObjectMapper mapper, String resource) {
+        try (InputStream in = CompiledBoard.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Board resource not found: " + resource);
+            }
+            return mapper.readValue(in, BoardDefinition.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Board resource " + resource + " could not be read", e);
+        }
+    }
+
+    /** Lädt das Standardbrett erst beim ersten Zugriff. */
+    private static final class ClassicHolder {
+        private static final CompiledBoard BOARD =
+                new CompiledBoard(read(new ObjectMapper(), "boards/" + CLASSIC + ".json"));
+    }
+}
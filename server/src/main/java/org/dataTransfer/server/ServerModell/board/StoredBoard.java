@@ -0,0 +1,45 @@
+package org.dataTransfer.server.ServerModell.board;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+/**
+ * Die Klasse {@code StoredBoard} speichert ein zur Laufzeit angelegtes Spielbrett in der Datenbank, damit Spiele
+ * auf diesem Brett auch nach einem Neustart geladen werden können. Die Beschreibung liegt als JSON vor, wie sie
+ * {@code POST /api/boards} annimmt.
+ */
+@Entity
+@Table(name = "boards")
+@Getter
+public class StoredBoard {
+
+    /**
+     * Der eindeutige Name des Bretts.
+     */
+    @Id
+    private String name;
+
+    /**
+     * Die Beschreibung des Bretts als JSON.
+     */
+    @Lob
+    @Column(nullable = false)
+    private String definition;
+
+    /**
+     * Für JPA.
+     */
+    protected StoredBoard() {
+    }
+
+    /**
+     * Erstellt einen Eintrag für ein Brett.
+     *
+     * @param name       der Name des Bretts
+     * @param definition die Beschreibung des Bretts als JSON
+     */
+    public StoredBoard(String name, String definition) {
+        this.name = name;
+        this.definition = definition;
+    }
+}
@@ -0,0 +1,426 @@
+package org.dataTransfer.server.ServerModell.bot;
+
+import jakarta.annotation.PreDestroy;
+import org.dataTransfer.server.ServerModell.engine.GameChangeListener;
+import org.dataTransfer.server.ServerModell.engine.GameConflictException;
+import org.dataTransfer.server.ServerModell.engine.GameEngine;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.player.Player;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Der {@code BotService} lässt serverseitige Bots an Spielen teilnehmen.
+ *
+ * <p>
+ * Bots sind gewöhnliche Spieler mit gesetztem {@code bot}-Flag. Sie werden nicht über HTTP gesteuert: Der Service
+ * ist als {@link GameChangeListener} registriert und leitet aus jeder neuen Momentaufnahme eines Spiels mit Bots
+ * höchstens eine fällige Aktion ab – einen Bot bereit melden, ein Spiel ohne Menschen starten oder für den Bot
+ * am Zug würfeln. Die Aktion läuft nach einer Bedenkzeit auf einem eigenen virtuellen Thread, sodass auch
+ * zehntausende Bots keine Plattform-Threads belegen; wartende Bots kosten nur ihren schlafenden Thread.
+ * </p>
+ *
+ * <p>
+ * Jede Aktion wird mit der Zustandsversion der Momentaufnahme ausgeführt, aus der sie abgeleitet wurde.
+ * Hat sich das Spiel inzwischen geändert, scheitert sie mit einem Versionskonflikt und wird verworfen; die
+ * neuere Momentaufnahme hat dann bereits ihre eigene Aktion ausgelöst. Dadurch würfelt ein Bot nie doppelt.
+ * </p>
+ *
+ * <p>
+ * Bots kommen auf zwei Wegen ins Spiel: Der Host fügt sie über {@link #addBots(long, int)} hinzu, oder eine
+ * Lobby mit freien Plätzen, die sich {@code game.bots.fill-after-ms} Millisekunden lang nicht verändert hat, wird
+ * automatisch aufgefüllt (0 schaltet das ab). Spiele, an denen nur noch Bots teilnehmen, werden nach dem Ende
+ * gelöscht.
+ * </p>
+ *
+ * <p>
+ * Im Dauertest ({@link #setSoakTarget(int, int)} bzw. {@code game.bots.soak-games}) hält der Service eine feste
+ * Anzahl reiner Bot-Spiele am Laufen und ersetzt jedes beendete Spiel durch ein neues. Die Bedenkzeit der Bots
+ * beträgt dort {@code game.bots.soak-think-ms} statt {@code game.bots.think-ms}.
+ * </p>
+ */
+@Service
+public class BotService implements GameChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(BotService.class);
+
+    /** Namensprefix der Bots; die Nummer macht den Namen innerhalb eines Spiels eindeutig. */
+    static final String NAME_PREFIX = "Bot ";
+
+    private final GameEngine gameEngine;
+    private final long thinkMs;
+    private final long soakThinkMs;
+    private final long fillAfterMs;
+
+    private final ExecutorService actions = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("bot-", 0).factory());
+
+    /** Lobbys mit freien Plätzen und die Zeit ihrer letzten Änderung (Schlüssel: Spiel-ID). */
+    private final Map<Long, IdleLobby> idleLobbies = new ConcurrentHashMap<>();
+
+    /** Die laufenden Dauertest-Spiele. */
+    private final Set<Long> soakGames = ConcurrentHashMap.newKeySet();
+    private volatile int soakTarget;
+    private volatile int soakPlayers;
+    private final AtomicBoolean replenishing = new AtomicBoolean();
+
+    private final AtomicLong botsCreated = new AtomicLong();
+    private final AtomicLong rolls = new AtomicLong();
+    private final AtomicLong finishedGames = new AtomicLong();
+    private final AtomicLong conflicts = new AtomicLong();
+    private final AtomicLong pendingActions = new AtomicLong();
+
+    /**
+     * Konstruktor des BotService. Registriert den Service als Listener der GameEngine.
+     *
+     * @param gameEngine  die Engine, die alle laufenden Spiele verwaltet
+     * @param thinkMs     die Bedenkzeit eines Bots vor jeder Aktion in Millisekunden
+     * @param soakThinkMs die Bedenkzeit in Dauertest-Spielen
+     * @param fillAfterMs die Wartezeit, nach der eine unveränderte Lobby mit Bots aufgefüllt wird, oder 0
+     * @param soakGames   die Anzahl der Dauertest-Spiele beim Start
+     * @param soakPlayers die Anzahl der Bots je Dauertest-Spiel
+     */
+    public BotService(GameEngine gameEngine,
+                      @Value("${game.bots.think-ms:700}") long thinkMs,
+                      @Value("${game.bots.soak-think-ms:0}") long soakThinkMs,
+                      @Value("${game.bots.fill-after-ms:120000}") long fillAfterMs,
+                      @Value("${game.bots.soak-games:0}") int soakGames,
+                      @Value("${game.bots.soak-players:4}") int soakPlayers) {
+        this.gameEngine = gameEngine;
+        this.thinkMs = thinkMs;
+        this.soakThinkMs = soakThinkMs;
+        this.fillAfterMs = fillAfterMs;
+        this.soakTarget = soakGames;
+        this.soakPlayers = soakPlayers;
+        gameEngine.addListener(this);
+    }
+
+    /**
+     * Fügt einer Lobby Bots hinzu, höchstens bis sie voll ist.
+     *
+     * @param gameId die ID des Spiels
+     * @param count  die Anzahl der gewünschten Bots
+     * @return die neue Momentaufnahme
+     * @throws RuntimeException falls das Spiel nicht existiert, bereits läuft oder voll ist
+     */
+    public Game addBots(long gameId, int count) {
+        Game current = gameEngine.getGame(gameId);
+        List<Player> bots = newBots(Math.min(count, current.getMaxPlayersNumber() - current.getCurrentPlayersCount()));
+        try {
+            return gameEngine.execute(gameId, game -> {
+                if (game.isGameStarted()) {
+                    throw new RuntimeException("Game with ID " + gameId + " has already started");
+                }
+                int free = game.getMaxPlayersNumber() - game.getCurrentPlayersCount();
+                if (free <= 0) {
+                    throw new RuntimeException("Game with ID " + gameId + " is full");
+                }
+                addBots(game, bots, Math.min(count, free));
+                return game;
+            });
+        } finally {
+            gameEngine.discardPlayers(bots);
+        }
+    }
+
+    /**
+     * Entscheidet anhand der neuen Momentaufnahme, ob ein Bot handeln muss. Läuft auf der Spur des Spiels und
+     * plant die Aktion daher nur ein.
+     *
+     * @param snapshot die neue, unveränderliche Momentaufnahme
+     */
+    @Override
+    public void gameChanged(Game snapshot) {
+        List<Player> players = snapshot.getPlayers();
+        trackLobby(snapshot);
+        boolean anyBot = false;
+        boolean anyHuman = false;
+        Player winner = null;
+        int finish = snapshot.getBoard().getFinish();
+        for (Player player : players) {
+            anyBot |= player.isBot();
+            anyHuman |= !player.isBot();
+            if (player.getPostion() == finish && winner == null) {
+                winner = player;
+            }
+        }
+        if (!anyBot) {
+            return;
+        }
+        long gameId = snapshot.getId();
+        long version = snapshot.getStateVersion();
+
+        if (winner != null) {
+            if (!anyHuman) {
+                schedule(gameId, 0, () -> retire(gameId, version));
+            }
+            return;
+        }
+        long delay = soakGames.contains(gameId) ? soakThinkMs : thinkMs;
+        if (!snapshot.isGameStarted()) {
+            for (Player player : players) {
+                if (player.isBot() && !player.isReady()) {
+                    long playerId = player.getId();
+                    schedule(gameId, delay, () -> gameEngine.setReadyById(gameId, version, playerId, true));
+                    return;
+                }
+            }
+            // Menschen starten ihre Spiele selbst
+            if (!anyHuman && snapshot.isAllPlayersAreReady()) {
+                schedule(gameId, delay, () -> gameEngine.startGame(gameId, version, true, "Game"));
+            }
+            return;
+        }
+        Player current = players.get(snapshot.getCurrentPlayerIndex());
+        if (current.isBot() && current.getName().equals(snapshot.getCurrentPlayerUsername())) {
+            String name = current.getName();
+            schedule(gameId, delay, () -> {
+                gameEngine.rollDice(gameId, version, name);
+                rolls.incrementAndGet();
+            });
+        }
+    }
+
+    @Override
+    public void gameDeleted(long gameId) {
+        idleLobbies.remove(gameId);
+        if (soakGames.remove(gameId)) {
+            replenishSoak();
+        }
+    }
+
+    /**
+     * Füllt Lobbys auf, die sich seit {@code game.bots.fill-after-ms} nicht verändert haben.
+     */
+    @Scheduled(fixedDelayString = "${game.bots.fill-check-ms:1000}")
+    public void fillIdleLobbies() {
+        if (fillAfterMs <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        idleLobbies.forEach((gameId, idle) -> {
+            if (now - idle.since >= fillAfterMs && idleLobbies.remove(gameId, idle)) {
+                schedule(gameId, 0, () -> {
+                    Game current = gameEngine.getGame(gameId);
+                    List<Player> bots = newBots(current.getMaxPlayersNumber() - current.getCurrentPlayersCount());
+                    Game filled;
+                    try {
+                        filled = gameEngine.execute(gameId, idle.version, false, game -> {
+                            addBots(game, bots, game.getMaxPlayersNumber() - game.getCurrentPlayersCount());
+                            return game;
+                        });
+                    } finally {
+                        gameEngine.discardPlayers(bots);
+                    }
+                    log.info("Lobby {} filled with bots after {} ms: {} players",
+                            gameId, fillAfterMs, filled.getCurrentPlayersCount());
+                });
+            }
+        });
+    }
+
+    /**
+     * Setzt die Anzahl der Dauertest-Spiele. Fehlende Spiele werden sofort angelegt; bei einem kleineren Ziel
+     * laufen die überzähligen Spiele zu Ende und werden nicht ersetzt.
+     *
+     * @param games   die Anzahl gleichzeitiger reiner Bot-Spiele
+     * @param players die Anzahl der Bots je Spiel (1 bis 4)
+     * @throws IllegalArgumentException falls eine Anzahl ungültig ist
+     */
+    public void setSoakTarget(int games, int players) {
+        if (games < 0 || players < 1 || players > 4) {
+            throw new IllegalArgumentException("Soak needs games >= 0 and 1 to 4 players: " + games + ", " + players);
+        }
+        soakPlayers = players;
+        soakTarget = games;
+        log.info("Bot soak target: {} games with {} bots each", games, players);
+        replenishSoak();
+    }
+
+    /**
+     * Startet beim Hochfahren die konfigurierten Dauertest-Spiele.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startSoak() {
+        if (soakTarget > 0) {
+            setSoakTarget(soakTarget, soakPlayers);
+        }
+    }
+
+    /**
+     * Liefert die aktuellen Kennzahlen.
+     *
+     * @return die Kennzahlen
+     */
+    public BotStats getStats() {
+        return new BotStats(soakTarget, soakGames.size(), botsCreated.get(), rolls.get(), finishedGames.get(),
+                conflicts.get(), pendingActions.get());
+    }
+
+    /**
+     * Legt fehlende Dauertest-Spiele auf einem virtuellen Thread an.
+     */
+    private void replenishSoak() {
+        schedule(null, 0, () -> {
+            // Nur ein Thread legt Spiele an; wer den Platz verpasst, prüft nach dessen Ende erneut
+            while (soakGames.size() < soakTarget && replenishing.compareAndSet(false, true)) {
+                try {
+                    while (soakGames.size() < soakTarget) {
+                        Player host = new Player();
+                        host.setName(NAME_PREFIX + 1);
+                        host.setBot(true);
+                        botsCreated.incrementAndGet();
+                        Game game = gameEngine.createLobby(host);
+                        soakGames.add(game.getId());
+                        if (soakPlayers > 1) {
+                            addBots(game.getId(), soakPlayers - 1);
+                        }
+                    }
+                } finally {
+                    replenishing.set(false);
+                }
+            }
+        });
+    }
+
+    /**
+     * Löscht ein beendetes Spiel, an dem nur noch Bots teilnehmen.
+     */
+    private void retire(long gameId, long version) {
+        gameEngine.execute(gameId, version, false, game -> {
+            game.getPlayers().forEach(player -> gameEngine.deletePlayer(game, player));
+            gameEngine.deleteGame(game);
+            return null;
+        });
+        finishedGames.incrementAndGet();
+    }
+
+    /**
+     * Merkt Lobbys mit freien Plätzen für das automatische Auffüllen vor. Jede Änderung setzt die Wartezeit zurück.
+     */
+    private void trackLobby(Game snapshot) {
+        if (fillAfterMs <= 0) {
+            return;
+        }
+        if (snapshot.isGameStarted() || snapshot.getCurrentPlayersCount() >= snapshot.getMaxPlayersNumber()) {
+            idleLobbies.remove(snapshot.getId());
+        } else {
+            idleLobbies.put(snapshot.getId(), new IdleLobby(snapshot.getStateVersion(), System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * Speichert neue Bots vor dem Befehl, damit sie ihre IDs erhalten, ohne die Spur des Spiels zu blockieren.
+     * Ihre Namen erhalten sie erst beim Hinzufügen, da sie vom Spielstand abhängen.
+     */
+    private List<Player> newBots(int count) {
+        List<Player> bots = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Player bot = new Player();
+            bot.setName(NAME_PREFIX.trim());
+            bot.setBot(true);
+            bots.add(bot);
+        }
+        return gameEngine.registerPlayers(bots);
+    }
+
+    /**
+     * Fügt dem Spiel bis zu {@code count} der vorab gespeicherten Bots hinzu und nimmt sie aus der Liste; die
+     * übrigen löscht der Aufrufer. Scheitert der Befehl, bleiben alle Bots in der Liste.
+     */
+    private void addBots(Game game, List<Player> bots, int count) {
+        int added = Math.min(count, bots.size());
+        for (int i = 0; i < added; i++) {
+            Player bot = bots.get(i);
+            int number = game.getCurrentPlayersCount() + 1;
+            while (hasPlayerNamed(game, NAME_PREFIX + number)) {
+                number++;
+            }
+            bot.setName(NAME_PREFIX + number);
+            gameEngine.addPlayer(game, bot);
+        }
+        bots.subList(0, added).clear();
+        botsCreated.addAndGet(added);
+    }
+
+    private static boolean hasPlayerNamed(Game game, String name) {
+        for (Player player : game.getPlayers()) {
+            if (name.equals(player.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Führt eine Aktion nach der Bedenkzeit auf einem virtuellen Thread aus. Versionskonflikte werden gezählt und
+     * verworfen, da eine neuere Momentaufnahme die Aktion bereits neu bewertet hat. Dasselbe gilt für Aktionen
+     * auf Spielen, die inzwischen gelöscht wurden.
+     *
+     * @param gameId das betroffene Spiel oder {@code null}, falls die Aktion kein bestehendes Spiel betrifft
+     */
+    private void schedule(Long gameId, long delayMs, Runnable action) {
+        pendingActions.incrementAndGet();
+        try {
+            actions.execute(() -> {
+                try {
+                    if (delayMs > 0) {
+                        Thread.sleep(delayMs);
+                    }
+                    if (gameId != null && !gameEngine.isLive(gameId)) {
+                        conflicts.incrementAndGet();
+                        return;
+                    }
+                    action.run();
+                } catch (GameConflictException e) {
+                    conflicts.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    if (gameId != null && !gameEngine.isLive(gameId)) {
+                        // Das Spiel wurde gelöscht, während die Aktion wartete
+                        conflicts.incrementAndGet();
+                    } else {
+                        log.warn("Bot action failed: {}", e.getMessage());
+                    }
+                } finally {
+                    pendingActions.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Beim Herunterfahren werden keine Aktionen mehr angenommen
+            pendingActions.decrementAndGet();
+        }
+    }
+
+    /**
+     * Beendet beim Herunterfahren alle wartenden Aktionen.
+     */
+    @PreDestroy
+    public void shutdown() {
+        soakTarget = 0;
+        actions.shutdownNow();
+    }
+
+    /**
+     * Eine Lobby mit freien Plätzen: die Zustandsversion und die Zeit, seit der sie unverändert ist.
+     */
+    private record IdleLobby(long version, long since) {
+    }
+}
@@ -0,0 +1,16 @@
+package org.dataTransfer.server.ServerModell.bot;
+
+/**
+ * Die Kennzahlen der Bots, wie sie {@code GET /api/bots} liefert.
+ *
+ * @param soakTarget     die angestrebte Anzahl gleichzeitiger Dauertest-Spiele
+ * @param soakGames      die Anzahl laufender Dauertest-Spiele
+ * @param botsCreated    die Anzahl seit dem Start angelegter Bots
+ * @param rolls          die Anzahl der Würfe aller Bots
+ * @param finishedGames  die Anzahl beendeter Spiele, an denen nur Bots teilnahmen
+ * @param conflicts      die Anzahl verworfener Aktionen, weil sich das Spiel inzwischen geändert hatte
+ * @param pendingActions die Anzahl der Aktionen, die gerade auf ihren virtuellen Threads warten oder laufen
+ */
+public record BotStats(int soakTarget, int soakGames, long botsCreated, long rolls, long finishedGames,
+                       long conflicts, long pendingActions) {
+}
@@ -0,0 +1,54 @@
+package org.dataTransfer.server.ServerModell.dice;
+
+import org.dataTransfer.server.ServerModell.DiceIF;
+
+import java.util.SplittableRandom;
+
+/**
+ * Ein Würfel, der seine Würfe blockweise im Voraus erzeugt.
+ *
+ * <p>
+ * Der Puffer wird in einem Durchgang aus einem {@link SplittableRandom} gefüllt; ein Wurf ist danach nur noch
+ * ein Array-Zugriff. Da der Puffer in derselben Reihenfolge gefüllt wird, liefert der Würfel bei gleichem Seed
+ * genau dieselben Würfe wie {@link Dice} und ist ebenso reproduzierbar.
+ * </p>
+ */
+public class BufferedDice implements DiceIF {
+
+    private final SplittableRandom random;
+    private final byte[] buffer;
+
+    /** Position des nächsten Wurfs im Puffer; bei {@code buffer.length} ist der Puffer leer. */
+    private int next;
+
+    /**
+     * Erstellt einen gepufferten Würfel.
+     *
+     * @param seed     der Seed des Spiels
+     * @param capacity die Anzahl der Würfe, die auf einmal erzeugt werden
+     */
+    public BufferedDice(long seed, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Dice buffer capacity must be positive: " + capacity);
+        }
+        this.random = new SplittableRandom(seed);
+        this.buffer = new byte[capacity];
+        this.next = capacity;
+    }
+
+    @Override
+    public int rollDice() {
+        if (next == buffer.length) {
+            for (int i = 0; i < buffer.length; i++) {
+                buffer[i] = (byte) random.nextInt(1, 7);
+            }
+            next = 0;
+        }
+        return buffer[next++];
+    }
+
+    @Override
+    public boolean isReproducible() {
+        return true;
+    }
+}
@@ -1,34 +1,44 @@
 package org.dataTransfer.server.ServerModell.dice;
 
-import jakarta.persistence.Entity;
-import jakarta.persistence.Id;
-import jakarta.persistence.Table;
-import lombok.Getter;
-import lombok.Setter;
 import org.dataTransfer.server.ServerModell.DiceIF;
 
-import java.io.Serializable;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Diese Klasse repräsentiert einen Würfel im Server-Modell.
  *
  * <p>
- * Mithilfe von Lombok (@Getter, @Setter) werden automatisch Getter- und Setter-Methoden für die Attribute generiert.
- * </p>
- *
- * <p>
- * Die statische Methode {@link #rollDice()} simuliert einen Würfelwurf und gibt einen Wert zwischen 1 und 6 zurück.
+ * Jedes Spiel besitzt einen eigenen Würfel, der mit dem im Spiel gespeicherten Seed erzeugt wird.
+ * Die Würfe stammen aus einem {@link SplittableRandom}; dieselbe Kombination aus Seed und Anzahl bisheriger
+ * Würfe ergibt daher immer dieselben folgenden Würfe, sodass ein Spiel exakt nachgespielt werden kann.
+ * Ein Wurf erzeugt keine neuen Objekte.
  * </p>
  */
 public class Dice implements DiceIF {
+
+    private final SplittableRandom random;
+
+    /**
+     * Erstellt einen Würfel mit dem angegebenen Seed.
+     *
+     * @param seed der Seed des Spiels
+     */
+    public Dice(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
     /**
      * Simuliert einen Würfelwurf und gibt einen zufälligen Wert zwischen 1 und 6 zurück.
      *
      * @return ein int-Wert zwischen 1 und 6, der den Würfelwurf repräsentiert
      */
-    public static int rollDice() {
-        Random random = new Random();
-        return random.nextInt(6) + 1;
+    @Override
+    public int rollDice() {
+        return random.nextInt(1, 7);
+    }
+
+    @Override
+    public boolean isReproducible() {
+        return true;
     }
 }
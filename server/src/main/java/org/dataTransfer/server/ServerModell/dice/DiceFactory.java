@@ -0,0 +1,71 @@
+package org.dataTransfer.server.ServerModell.dice;
+
+import org.dataTransfer.server.ServerModell.DiceIF;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Die {@code DiceFactory} erzeugt die Würfel der Spiele gemäß der Eigenschaft {@code game.dice.strategy}:
+ *
+ * <ul>
+ *     <li>{@code seeded} (Standard): {@link Dice}, ein {@link java.util.SplittableRandom} je Spiel</li>
+ *     <li>{@code buffered}: {@link BufferedDice}, blockweise im Voraus erzeugte Würfe
+ *     ({@code game.dice.buffer-size} je Block); liefert dieselben Würfe wie {@code seeded}</li>
+ *     <li>{@code thread-local}: {@link ThreadLocalDice}; schnell, aber nicht reproduzierbar</li>
+ * </ul>
+ */
+@Component
+public class DiceFactory {
+
+    private final String strategy;
+    private final int bufferSize;
+
+    /**
+     * Konstruktor der DiceFactory.
+     *
+     * @param strategy   {@code seeded}, {@code buffered} oder {@code thread-local}
+     * @param bufferSize die Anzahl der Würfe je Block für {@code buffered}
+     * @throws IllegalArgumentException falls die Strategie unbekannt ist
+     */
+    public DiceFactory(@Value("${game.dice.strategy:seeded}") String strategy,
+                       @Value("${game.dice.buffer-size:256}") int bufferSize) {
+        if (!strategy.equals("seeded") && !strategy.equals("buffered") && !strategy.equals("thread-local")) {
+            throw new IllegalArgumentException("Unknown dice strategy: " + strategy);
+        }
+        this.strategy = strategy;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Erzeugt einen neuen, zufälligen Seed für ein Spiel.
+     *
+     * @return der Seed
+     */
+    public long newSeed() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * Erzeugt den Würfel eines Spiels und spult ihn um die bereits erfolgten Würfe vor, sodass er genau dort
+     * fortsetzt, wo das Spiel zuletzt gewürfelt hat (z. B. nach dem Laden aus der Datenbank oder dem Journal).
+     *
+     * @param seed  der Seed des Spiels
+     * @param rolls die Anzahl der bisherigen Würfe im Spiel
+     * @return der Würfel
+     */
+    public DiceIF create(long seed, long rolls) {
+        DiceIF dice = switch (strategy) {
+            case "buffered" -> new BufferedDice(seed, bufferSize);
+            case "thread-local" -> ThreadLocalDice.INSTANCE;
+            default -> new Dice(seed);
+        };
+        if (dice.isReproducible()) {
+            for (long i = 0; i < rolls; i++) {
+                dice.rollDice();
+            }
+        }
+        return dice;
+    }
+}
@@ -0,0 +1,32 @@
+package org.dataTransfer.server.ServerModell.dice;
+
+import org.dataTransfer.server.ServerModell.DiceIF;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Ein Würfel ohne eigenen Zustand, der den {@link ThreadLocalRandom} des würfelnden Threads verwendet.
+ *
+ * <p>
+ * Dies ist der schnellste Würfel, die Würfe hängen jedoch nicht vom Seed des Spiels ab.
+ * Spiele mit diesem Würfel lassen sich daher nicht nachspielen.
+ * </p>
+ */
+public class ThreadLocalDice implements DiceIF {
+
+    /** Der Würfel hat keinen Zustand und kann von allen Spielen gemeinsam verwendet werden. */
+    public static final ThreadLocalDice INSTANCE = new ThreadLocalDice();
+
+    private ThreadLocalDice() {
+    }
+
+    @Override
+    public int rollDice() {
+        return ThreadLocalRandom.current().nextInt(1, 7);
+    }
+
+    @Override
+    public boolean isReproducible() {
+        return false;
+    }
+}
@@ -0,0 +1,142 @@
+package org.dataTransfer.server.ServerModell.engine;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Die Klasse {@code CommandShards} verteilt Spielbefehle auf eine feste Anzahl von Single-Writer-Spuren.
+ *
+ * <p>
+ * Jede Spur besteht aus genau einem Thread. Alle Befehle eines Spiels landen anhand der Spiel-ID immer
+ * auf derselben Spur und werden dort strikt in Eingangsreihenfolge ausgeführt. Dadurch benötigt der
+ * Spielzustand selbst keine Sperren, während verschiedene Spiele parallel auf allen Kernen laufen.
+ * </p>
+ *
+ * <p>
+ * Die Anzahl der Spuren wird über {@code game.engine.shards} festgelegt; bei {@code 0} wird die Anzahl
+ * der verfügbaren Prozessoren verwendet.
+ * </p>
+ */
+@Component
+public class CommandShards {
+
+    /** Die Single-Thread-Executors der einzelnen Spuren. */
+    private final ExecutorService[] shards;
+
+    /** Die Threads der Spuren, um verschachtelte Aufrufe auf derselben Spur zu erkennen. */
+    private final Thread[] shardThreads;
+
+    /**
+     * Konstruktor der CommandShards.
+     *
+     * @param configuredShards die gewünschte Anzahl der Spuren oder {@code 0} für die Anzahl der Prozessoren
+     */
+    public CommandShards(@Value("${game.engine.shards:0}") int configuredShards) {
+        int count = configuredShards > 0 ? configuredShards : Runtime.getRuntime().availableProcessors();
+        this.shards = new ExecutorService[count];
+        this.shardThreads = new Thread[count];
+        for (int i = 0; i < count; i++) {
+            final int shardIndex = i;
+            shards[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "game-shard-" + shardIndex);
+                thread.setDaemon(true);
+                shardThreads[shardIndex] = thread;
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Führt einen Befehl auf der Spur des Spiels aus und wartet auf das Ergebnis.
+     * Wird die Methode bereits von der zuständigen Spur aus aufgerufen, läuft der Befehl direkt.
+     *
+     * @param gameId  die ID des Spiels, die die Spur bestimmt
+     * @param command der auszuführende Befehl
+     * @param <R>     der Rückgabetyp des Befehls
+     * @return das Ergebnis des Befehls
+     * @throws RuntimeException falls der Befehl eine Ausnahme wirft oder unterbrochen wird
+     */
+    public <R> R submit(long gameId, Callable<R> command) {
+        int shard = shardOf(gameId);
+        try {
+            if (Thread.currentThread() == shardThreads[shard]) {
+                return command.call();
+            }
+            Future<R> future = shards[shard].submit(command);
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Command for game " + gameId + " interrupted", e);
+        } catch (Exception e) {
+            throw unwrap(e);
+        }
+    }
+
+    /**
+     * Reiht einen Befehl auf der Spur des Spiels ein, ohne auf das Ergebnis zu warten.
+     *
+     * @param gameId  die ID des Spiels, die die Spur bestimmt
+     * @param command der auszuführende Befehl
+     */
+    public void post(long gameId, Runnable command) {
+        shards[shardOf(gameId)].execute(command);
+    }
+
+    /**
+     * Gibt die Anzahl der Spuren zurück.
+     *
+     * @return die Anzahl der Spuren
+     */
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    /**
+     * Ermittelt die Spur eines Spiels. Die ID wird gemischt, damit fortlaufende IDs gleichmäßig verteilt werden.
+     *
+     * @param gameId die ID des Spiels
+     * @return der Index der Spur
+     */
+    int shardOf(long gameId) {
+        long mixed = gameId * 0x9E3779B97F4A7C15L;
+        return (int) ((mixed >>> 32) % shards.length);
+    }
+
+    /**
+     * Beendet alle Spuren, nachdem die bereits eingereihten Befehle abgearbeitet wurden.
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService shard : shards) {
+            shard.shutdown();
+        }
+        for (ExecutorService shard : shards) {
+            try {
+                shard.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new RuntimeException(cause);
+    }
+}
@@ -0,0 +1,39 @@
+package org.dataTransfer.server.ServerModell.engine;
+
+import org.dataTransfer.server.ServerModell.game.Game;
+
+/**
+ * Listener, der von der {@link GameEngine} über Änderungen an Spielen informiert wird.
+ *
+ * <p>
+ * Die Methoden werden auf der Spur des jeweiligen Spiels aufgerufen und müssen daher schnell
+ * zurückkehren; aufwendige Arbeit (z. B. Netzwerkzugriffe) ist an einen eigenen Executor abzugeben.
+ * </p>
+ */
+public interface GameChangeListener {
+
+    /**
+     * Wird aufgerufen, nachdem eine neue Momentaufnahme eines Spiels veröffentlicht wurde. Für ein neu angelegtes
+     * Spiel geschieht das einmalig im anlegenden Thread, bevor andere das Spiel kennen.
+     *
+     * @param snapshot die neue, unveränderliche Momentaufnahme
+     */
+    void gameChanged(Game snapshot);
+
+    /**
+     * Wird aufgerufen, nachdem ein Spiel gelöscht wurde.
+     *
+     * @param gameId die ID des gelöschten Spiels
+     */
+    default void gameDeleted(long gameId) {
+    }
+
+    /**
+     * Wird aufgerufen, nachdem ein unverändertes Spiel aus dem Speicher der Engine entfernt wurde. Das Spiel
+     * besteht weiter und wird beim nächsten Zugriff neu geladen; Abonnements bleiben bestehen.
+     *
+     * @param gameId die ID des entfernten Spiels
+     */
+    default void gameEvicted(long gameId) {
+    }
+}
@@ -0,0 +1,37 @@
+package org.dataTransfer.server.ServerModell.engine;
+
+/**
+ * Die {@code GameConflictException} signalisiert, dass ein Spielbefehl auf einem veralteten Spielstand
+ * beruht, z. B. weil die vom Client erwartete Zustandsversion nicht mehr aktuell ist oder der anfragende
+ * Spieler nicht am Zug ist.
+ *
+ * <p>
+ * Die Ausnahme wird vom Controller als HTTP 409 beantwortet. Da sie ein erwarteter Teil des Protokolls ist,
+ * wird auf das teure Erfassen eines Stacktraces verzichtet.
+ * </p>
+ */
+public class GameConflictException extends RuntimeException {
+
+    /** Die aktuelle Zustandsversion des Spiels zum Zeitpunkt des Konflikts. */
+    private final long currentVersion;
+
+    /**
+     * Erstellt eine neue GameConflictException.
+     *
+     * @param message        die Fehlermeldung
+     * @param currentVersion die aktuelle Zustandsversion des Spiels
+     */
+    public GameConflictException(String message, long currentVersion) {
+        super(message, null, false, false);
+        this.currentVersion = currentVersion;
+    }
+
+    /**
+     * Gibt die aktuelle Zustandsversion des Spiels zurück.
+     *
+     * @return die aktuelle Zustandsversion
+     */
+    public long getCurrentVersion() {
+        return currentVersion;
+    }
+}
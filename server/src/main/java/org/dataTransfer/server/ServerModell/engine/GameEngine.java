@@ -0,0 +1,998 @@
+package org.dataTransfer.server.ServerModell.engine;
+
+import org.dataTransfer.server.ServerModell.GameRepository;
+import org.dataTransfer.server.ServerModell.PlayerRepository;
+import org.dataTransfer.server.ServerModell.board.BoardRegistry;
+import org.dataTransfer.server.ServerModell.board.CompiledBoard;
+import org.dataTransfer.server.ServerModell.dice.DiceFactory;
+import org.dataTransfer.server.ServerModell.event.GameEvent;
+import org.dataTransfer.server.ServerModell.event.GameEventLog;
+import org.dataTransfer.server.ServerModell.event.GameEvents;
+import org.dataTransfer.server.ServerModell.event.SequencedEvent;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.game.GameFilter;
+import org.dataTransfer.server.ServerModell.game.GamePage;
+import org.dataTransfer.server.ServerModell.metrics.GameCounts;
+import org.dataTransfer.server.ServerModell.player.Player;
+import org.dataTransfer.server.ServerModell.trace.RequestTrace;
+import org.dataTransfer.server.ServerModell.view.GameSummary;
+import org.dataTransfer.server.ServerModell.view.GameView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Die {@code GameEngine} hält alle laufenden Spiele im Speicher und ist deren maßgebliche Datenquelle.
+ *
+ * <p>
+ * Lesende Zugriffe (z. B. das Polling der Clients) werden vollständig aus dem Speicher bedient.
+ * Ein Spiel wird nur beim ersten Zugriff aus der Datenbank geladen. Änderungen werden über
+ * {@link #execute(long, Function)} auf das Spiel angewendet und anschließend an die gewählte
+ * {@link GamePersistence} übergeben, z. B. an den {@link WriteBehindFlusher}, der sie asynchron in
+ * {@link GameRepository} bzw. {@link PlayerRepository} schreibt.
+ * </p>
+ *
+ * <p>
+ * Jedes Spiel besitzt einen veränderlichen Zustand, der ausschließlich von seiner Spur in den
+ * {@link CommandShards} verändert wird, und eine unveränderliche Momentaufnahme, die nach jedem Befehl
+ * neu veröffentlicht wird. Lesende Zugriffe und die Persistenz sehen immer nur Momentaufnahmen und
+ * benötigen daher keine Sperren. Registrierte {@link GameChangeListener} werden über jede neue
+ * Momentaufnahme informiert.
+ * </p>
+ *
+ * <p>
+ * Befehle erfassen ihre Zustandsänderungen zusätzlich über {@link #recordEvent(Game, GameEvent)} als Ereignisse.
+ * Diese werden mit der neuen Zustandsversion in einem {@link GameEventLog} je Spiel gehalten, sodass Clients
+ * über {@link #getEvents(long, long)} nur die verpassten Änderungen abrufen können.
+ * </p>
+ *
+ * <p>
+ * Spiele, die beendet sind oder lange nicht abgefragt wurden, entfernt {@link #evictIdleGames(long, long)} wieder
+ * aus dem Speicher, sobald ihr Stand dauerhaft in der Datenbank steht; beim nächsten Zugriff werden sie neu geladen.
+ * </p>
+ *
+ * <p>
+ * Nur das Anlegen von Spielen und Spielern erfolgt synchron, da die Clients die von der
+ * Datenbank vergebenen IDs sofort benötigen.
+ * </p>
+ */
+@Service
+public class GameEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(GameEngine.class);
+    /** Eigene Kategorie für die Würfe, damit sie getrennt eingeschaltet und ausgedünnt werden können. */
+    private static final Logger rollLog = LoggerFactory.getLogger(GameEngine.class.getName() + ".rolls");
+
+    private final GameRepository gameRepository;
+    private final PlayerRepository playerRepository;
+    private final GamePersistence persistence;
+    private final CommandShards shards;
+    private final TransactionTemplate transactionTemplate;
+    private final DiceFactory diceFactory;
+    private final BoardRegistry boardRegistry;
+
+    /** Anzahl der Ereignisse, die je Spiel im Speicher gehalten werden. */
+    private final int eventCapacity;
+
+    /** Die im Speicher gehaltenen Spiele (Schlüssel: Spiel-ID). */
+    private final Map<Long, LiveGame> liveGames = new ConcurrentHashMap<>();
+
+    /** Listener, die über Änderungen an Spielen informiert werden. */
+    private final List<GameChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    /** Anzahl aller Würfelwürfe seit dem Start. */
+    private final LongAdder rolls = new LongAdder();
+
+    /** Fasst gleichzeitige Ladevorgänge desselben Spiels aus der Datenbank zusammen. */
+    private final SingleFlight<Long, LiveGame> loads = new SingleFlight<>();
+
+    /** Anzahl der aus dem Speicher entfernten Spiele seit dem Start. */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Konstruktor der GameEngine.
+     *
+     * @param gameRepository      das Repository für Spiele
+     * @param playerRepository    das Repository für Spieler
+     * @param persistence         der Schreibpfad für Änderungen
+     * @param shards              die Single-Writer-Spuren für Spielbefehle
+     * @param transactionTemplate für das synchrone Anlegen neuer Entitäten
+     * @param diceFactory         erzeugt die Würfel der Spiele
+     * @param boardRegistry       die bekannten Spielbretter
+     * @param eventCapacity       die Anzahl der Ereignisse, die je Spiel im Speicher gehalten werden
+     */
+    public GameEngine(GameRepository gameRepository,
+                      PlayerRepository playerRepository,
+                      GamePersistence persistence,
+                      CommandShards shards,
+                      TransactionTemplate transactionTemplate,
+                      DiceFactory diceFactory,
+                      BoardRegistry boardRegistry,
+                      @Value("${game.events.capacity:256}") int eventCapacity) {
+        this.gameRepository = gameRepository;
+        this.playerRepository = playerRepository;
+        this.persistence = persistence;
+        this.shards = shards;
+        this.transactionTemplate = transactionTemplate;
+        this.diceFactory = diceFactory;
+        this.boardRegistry = boardRegistry;
+        this.eventCapacity = eventCapacity;
+        for (Game recovered : persistence.recover()) {
+            // Ein unbekanntes Brett soll nur dieses Spiel betreffen, nicht den Start des Servers verhindern
+            if (boardRegistry.find(recovered.getBoardName()).isEmpty()) {
+                log.error("Game {} uses unknown board {} and is not recovered", recovered.getId(),
+                        recovered.getBoardName());
+                continue;
+            }
+            liveGames.put(recovered.getId(), newLiveGame(recovered));
+        }
+    }
+
+    /**
+     * Liefert die aktuelle Momentaufnahme des Spiels mit der angegebenen ID. Ist das Spiel noch nicht
+     * im Speicher, wird es einmalig samt Spielern aus der Datenbank geladen.
+     *
+     * @param id die ID des Spiels
+     * @return die Momentaufnahme des Spiels
+     * @throws RuntimeException falls kein Spiel mit der angegebenen ID existiert
+     */
+    public Game getGame(long id) {
+        return liveGame(id).snapshot;
+    }
+
+    /**
+     * Liefert das Lesemodell der aktuellen Momentaufnahme. Es wird je Momentaufnahme nur einmal erstellt,
+     * sodass wiederholte Abfragen desselben Stands (Polling) keine neuen Objekte erzeugen.
+     *
+     * @param id die ID des Spiels
+     * @return das Lesemodell des Spiels
+     * @throws RuntimeException falls kein Spiel mit der angegebenen ID existiert
+     */
+    public GameView getGameView(long id) {
+        return liveGame(id).view();
+    }
+
+    /**
+     * Liefert eine Seite der Spieleliste, die neuesten Spiele zuerst.
+     *
+     * <p>
+     * Für Spiele, die im Speicher gehalten werden, ist die Datenbank nicht maßgeblich: Im Journal-Modus werden ihre
+     * Zeilen erst beim Entfernen aus dem Speicher geschrieben, bei Write-Behind bis zu ein Flush-Intervall später.
+     * Ihre Einträge werden deshalb aus den aktuellen Momentaufnahmen gebildet und im Speicher gefiltert. Die
+     * Datenbank liefert über die Indizes auf {@code games} nur die übrigen Spiele in einer Abfrage je
+     * {@code limit} Zeilen als {@link GameSummary}; beide Listen werden nach ID zusammengeführt. Spiele im Speicher
+     * werden nur bis zur letzten gelesenen Zeile übernommen, da darunter noch unbekannte Zeilen liegen können.
+     * Fehlen der Seite danach Einträge, weil Zeilen zu Spielen im Speicher gehörten, wird die nächste Abfrage
+     * ab dieser Zeile angehängt. Eine Seite mit weniger als {@code limit} Einträgen ist damit immer die letzte.
+     * </p>
+     *
+     * @param filter die Filter und die Position der Seite
+     * @return die Seite
+     */
+    public GamePage listGames(GameFilter filter) {
+        NavigableMap<Long, GameSummary> candidates = new TreeMap<>(Comparator.reverseOrder());
+        for (LiveGame live : liveGames.values()) {
+            Game snapshot = live.snapshot;
+            if ((filter.cursor() == null || snapshot.getId() < filter.cursor()) && filter.matches(snapshot)) {
+                candidates.put(snapshot.getId(), GameSummary.of(snapshot));
+            }
+        }
+        List<GameSummary> games = new ArrayList<>(filter.limit());
+        GameFilter query = filter;
+        while (true) {
+            List<GameSummary> rows = gameRepository.findSummaries(query);
+            boolean more = rows.size() == query.limit();
+            for (GameSummary row : rows) {
+                if (!liveGames.containsKey(row.id())) {
+                    candidates.putIfAbsent(row.id(), row);
+                }
+            }
+            long lastRow = more ? rows.get(rows.size() - 1).id() : Long.MIN_VALUE;
+            Iterator<GameSummary> next = candidates.headMap(lastRow, true).values().iterator();
+            while (games.size() < filter.limit() && next.hasNext()) {
+                games.add(next.next());
+                next.remove();
+            }
+            if (games.size() == filter.limit()) {
+                boolean last = !more && candidates.isEmpty();
+                return new GamePage(games, last ? null : games.get(games.size() - 1).id());
+            }
+            if (!more) {
+                return new GamePage(games, null);
+            }
+            query = query.after(lastRow);
+        }
+    }
+
+    /**
+     * Sucht einen Spieler innerhalb eines Spiels.
+     *
+     * @param gameId   die ID des Spiels
+     * @param playerId die ID des Spielers
+     * @return der Spieler, falls er dem Spiel angehört
+     */
+    public Optional<Player> findPlayer(long gameId, Long playerId) {
+        return getGame(gameId).getPlayers().stream()
+                .filter(p -> playerId.equals(p.getId()))
+                .findFirst();
+    }
+
+    /**
+     * Liefert die Ereignisse eines Spiels seit der angegebenen Version. Liegen sie nicht mehr lückenlos vor
+     * (oder ist {@code after} negativ bzw. neuer als der Server), wird stattdessen die aktuelle Momentaufnahme
+     * geliefert.
+     *
+     * @param gameId die ID des Spiels
+     * @param after  die zuletzt vom Client gesehene Zustandsversion
+     * @return die fehlenden Ereignisse oder die Momentaufnahme
+     * @throws RuntimeException falls kein Spiel mit der angegebenen ID existiert
+     */
+    public GameEvents getEvents(long gameId, long after) {
+        LiveGame live = liveGame(gameId);
+        // Die Momentaufnahme wird nach den Ereignissen veröffentlicht; alle Ereignisse bis zu ihrer Version liegen vor
+        Game snapshot = live.snapshot;
+        long version = snapshot.getStateVersion();
+        if (after >= 0 && after <= version) {
+            List<SequencedEvent> events = live.events.since(after, version);
+            if (events != null) {
+                return new GameEvents(version, events, null);
+            }
+        }
+        return new GameEvents(version, List.of(), GameView.of(snapshot));
+    }
+
+    /**
+     * Führt einen Befehl auf der Spur des Spiels aus, veröffentlicht anschließend eine neue
+     * Momentaufnahme und merkt diese zum Speichern vor. Befehle auf demselben Spiel werden strikt
+     * nacheinander ausgeführt.
+     *
+     * <p>
+     * Gibt der Befehl den veränderlichen Spielzustand selbst zurück, wird stattdessen die neue
+     * Momentaufnahme zurückgegeben, damit der Zustand die Spur nicht verlässt.
+     * </p>
+     *
+     * <p>
+     * Wirft der Befehl eine Ausnahme, wird der Spielzustand auf die letzte Momentaufnahme zurückgesetzt; es
+     * entsteht keine neue Version. Was scheitern kann, ohne das Spiel zu betreffen, etwa das Speichern neuer
+     * Spieler, gehört deshalb vor den Befehl.
+     * </p>
+     *
+     * @param gameId  die ID des Spiels
+     * @param command der auszuführende Befehl
+     * @param <R>     der Rückgabetyp des Befehls
+     * @return das Ergebnis des Befehls
+     * @throws RuntimeException falls das Spiel nicht existiert oder der Befehl fehlschlägt
+     */
+    public <R> R execute(long gameId, Function<Game, R> command) {
+        return execute(gameId, null, false, command);
+    }
+
+    /**
+     * Führt einen Befehl wie {@link #execute(long, Function)} aus, jedoch nur, wenn die Zustandsversion
+     * des Spiels der vom Client erwarteten Version entspricht (Compare-and-Set).
+     *
+     * <p>
+     * Ist {@code expectedVersion} {@code null}, wird nicht geprüft. Weicht die Version ab, wird eine
+     * {@link GameConflictException} geworfen. Nur für Befehle, die einen absoluten Zielzustand setzen
+     * (z. B. den Ready-Status), kann {@code retryOnConflict} gesetzt werden: Der Befehl wird dann
+     * serverseitig erneut auf dem aktuellen Spielstand ausgeführt, statt den Client scheitern zu lassen.
+     * </p>
+     *
+     * @param gameId          die ID des Spiels
+     * @param expectedVersion die vom Client erwartete Zustandsversion oder {@code null}
+     * @param retryOnConflict ob der Befehl bei abweichender Version auf dem aktuellen Stand ausgeführt werden darf
+     * @param command         der auszuführende Befehl
+     * @param <R>             der Rückgabetyp des Befehls
+     * @return das Ergebnis des Befehls
+     * @throws GameConflictException falls die Version abweicht und kein erneuter Versuch erlaubt ist
+     * @throws RuntimeException      falls das Spiel nicht existiert oder der Befehl fehlschlägt
+     */
+    public <R> R execute(long gameId, Long expectedVersion, boolean retryOnConflict, Function<Game, R> command) {
+        while (true) {
+            try {
+                return executeOnce(gameId, expectedVersion, retryOnConflict, command);
+            } catch (EvictedException e) {
+                // Das Spiel wurde zwischen Nachschlagen und Ausführung aus dem Speicher entfernt und wird neu geladen
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> R executeOnce(long gameId, Long expectedVersion, boolean retryOnConflict, Function<Game, R> command) {
+        LiveGame live = liveGame(gameId);
+        // Die Spur läuft auf einem anderen Thread; die Messung der Anfrage wird deshalb mitgegeben
+        RequestTrace trace = RequestTrace.current();
+        long submitted = System.nanoTime();
+        return shards.submit(gameId, () -> {
+            long started = System.nanoTime();
+            if (trace != null) {
+                trace.add(RequestTrace.Phase.QUEUE, started - submitted);
+            }
+            if (liveGames.get(gameId) != live) {
+                if (live.evicted) {
+                    throw EvictedException.INSTANCE;
+                }
+                throw new RuntimeException("Game not found with id " + gameId);
+            }
+            long currentVersion = live.state.getStateVersion();
+            if (expectedVersion != null && expectedVersion != currentVersion) {
+                if (!retryOnConflict) {
+                    throw new GameConflictException("Game " + gameId + " is at version " + currentVersion
+                            + ", expected " + expectedVersion, currentVersion);
+                }
+                log.debug("Version conflict on game {}, retrying on version {}", gameId, currentVersion);
+            }
+            live.pendingEvents.clear();
+            live.pendingDeletedPlayers.clear();
+            R result;
+            try {
+                result = command.apply(live.state);
+            } catch (RuntimeException | Error e) {
+                // Was der Befehl bis zum Fehler verändert hat, darf nicht mit dem nächsten Befehl veröffentlicht werden
+                live.state = prepare(live.snapshot.snapshot());
+                live.pendingEvents.clear();
+                live.pendingDeletedPlayers.clear();
+                throw e;
+            }
+            // Ein vom Befehl gelöschtes Spiel darf nicht erneut gespeichert werden
+            if (liveGames.get(gameId) == live) {
+                live.state.setStateVersion(currentVersion + 1);
+                List<GameEvent> events = List.copyOf(live.pendingEvents);
+                live.pendingEvents.clear();
+                live.events.append(currentVersion + 1, events);
+                live.snapshot = live.state.snapshot();
+                long mutated = System.nanoTime();
+                persistence.gameChanged(live.snapshot, events);
+                deletePendingPlayers(live);
+                long persisted = System.nanoTime();
+                for (GameChangeListener listener : listeners) {
+                    listener.gameChanged(live.snapshot);
+                }
+                if (trace != null) {
+                    trace.add(RequestTrace.Phase.ENGINE, mutated - started);
+                    trace.add(RequestTrace.Phase.PERSIST, persisted - mutated);
+                    trace.add(RequestTrace.Phase.NOTIFY, System.nanoTime() - persisted);
+                }
+            } else {
+                deletePendingPlayers(live);
+                if (trace != null) {
+                    trace.add(RequestTrace.Phase.ENGINE, System.nanoTime() - started);
+                }
+            }
+            return result == live.state ? (R) live.snapshot : result;
+        });
+    }
+
+    /**
+     * Führt einen Würfelwurf für den aktuellen Spieler aus und gibt den Zug weiter.
+     * Wird von der REST-Schnittstelle und vom WebSocket-Kanal gemeinsam verwendet.
+     *
+     * @param gameId          die ID des Spiels
+     * @param expectedVersion die vom Client zuletzt gesehene Zustandsversion oder {@code null}
+     * @param player          der Name des würfelnden Spielers oder {@code null}, wenn nicht geprüft werden soll
+     * @return die neue Momentaufnahme
+     * @throws GameConflictException falls die Version veraltet ist, der Spieler nicht am Zug ist oder der aktuelle
+     *                               Spieler nicht im Spiel ist
+     */
+    public Game rollDice(long gameId, Long expectedVersion, String player) {
+        return execute(gameId, expectedVersion, false, game -> rollDice(game, player));
+    }
+
+    /**
+     * Führt einen Würfelwurf für den aktuellen Spieler aus und gibt den Zug weiter. Muss innerhalb eines Befehls
+     * von {@link #execute(long, Function)} aufgerufen werden.
+     *
+     * @param game   der veränderliche Spielzustand
+     * @param player der Name des würfelnden Spielers oder {@code null}, wenn nicht geprüft werden soll
+     * @return der Spielzustand
+     * @throws GameConflictException falls der Spieler nicht am Zug ist oder der aktuelle Spieler nicht im Spiel ist;
+     *                               der Befehl wird dann ohne neue Version verworfen
+     */
+    public Game rollDice(Game game, String player) {
+        // Überprüfe, ob der anfragende Spieler am Zug ist
+        if (player != null && !player.equals(game.getCurrentPlayerUsername())) {
+            throw new GameConflictException("Player " + player + " is not on turn in game " + game.getId(),
+                    game.getStateVersion());
+        }
+
+        // Überprüfe, ob es der korrekte Zug des aktuellen Spielers ist
+        if (!game.getCurrentPlayerUsername().equals(
+                game.getPlayers().get(game.getCurrentPlayerIndex()).getName())) {
+            throw new GameConflictException("Current player " + game.getCurrentPlayerUsername()
+                    + " not found in game " + game.getId(), game.getStateVersion());
+        }
+
+        Player mover = game.getPlayers().get(game.getCurrentPlayerIndex());
+        int from = mover.getPostion();
+        int rolledValue = game.rollDiceAndNextTurn();
+        rolls.increment();
+        recordEvent(game, new GameEvent.DiceRolled(mover.getId(), rolledValue, from,
+                game.getBoard().landing(from, rolledValue), mover.getPostion()));
+        recordEvent(game, new GameEvent.TurnAdvanced(game.getCurrentPlayerUsername()));
+
+        rollLog.debug("Dice rolled: {} by {}", rolledValue, mover.getName());
+        return game;
+    }
+
+    /**
+     * Lässt einen Spieler einer Lobby beitreten.
+     *
+     * @param gameId die ID des Spiels
+     * @param player der beitretende Spieler
+     * @return die neue Momentaufnahme
+     * @throws RuntimeException falls das Spiel nicht existiert oder voll ist
+     */
+    public Game joinLobby(long gameId, Player player) {
+        List<Player> joining = registerPlayers(List.of(player));
+        try {
+            return execute(gameId, game -> {
+                log.debug("Game {} has {} players", gameId, game.getCurrentPlayersCount());
+                if (game.getCurrentPlayersCount() >= game.getMaxPlayersNumber()) {
+                    throw new RuntimeException("Game with ID " + gameId + " is full");
+                }
+                addPlayer(game, joining.get(0));
+                joining.clear();
+                return game;
+            });
+        } finally {
+            discardPlayers(joining);
+        }
+    }
+
+    /**
+     * Fügt einem Spiel einen bereits gespeicherten Spieler hinzu und erfasst das Ereignis. Muss innerhalb eines
+     * Befehls von {@link #execute(long, Function)} aufgerufen werden; die Spielerzahl prüft der Aufrufer.
+     *
+     * @param game   der veränderliche Spielzustand
+     * @param player der neue, mit {@link #registerPlayers(List)} gespeicherte Spieler
+     * @throws IllegalArgumentException falls der Spieler noch keine ID hat
+     */
+    public void addPlayer(Game game, Player player) {
+        if (player.getId() == null) {
+            throw new IllegalArgumentException("Player " + player.getName() + " must be registered before joining game "
+                    + game.getId());
+        }
+        game.setAllPlayersAreReady(false);
+        game.addPlayer(player);
+        recordEvent(game, new GameEvent.PlayerJoined(player.getId(), player.getName(), player.getPlayerIndex(),
+                player.isBot()));
+    }
+
+    /**
+     * Setzt den Ready-Status eines Spielers und prüft, ob danach alle Spieler bereit sind.
+     *
+     * @param gameId          die ID des Spiels
+     * @param expectedVersion die vom Client zuletzt gesehene Zustandsversion oder {@code null}
+     * @param retryOnConflict ob der Befehl bei abweichender Version auf dem aktuellen Stand ausgeführt werden darf
+     * @param playerIndex     der Spielerindex (ab 1)
+     * @param ready           der neue Ready-Status
+     * @return der aktualisierte Spieler
+     * @throws GameConflictException    falls die Version abweicht und kein erneuter Versuch erlaubt ist
+     * @throws IllegalArgumentException falls der Spielerindex ungültig ist; der Befehl wird dann ohne neue Version
+     *                                  verworfen
+     */
+    public Player setReady(long gameId, Long expectedVersion, boolean retryOnConflict, int playerIndex, boolean ready) {
+        return execute(gameId, expectedVersion, retryOnConflict, game -> {
+            Player player = setReady(game, playerIndex, ready);
+            if (player == null) {
+                throw new IllegalArgumentException("Player not found with index " + playerIndex
+                        + " in game " + gameId);
+            }
+            return player;
+        });
+    }
+
+    /**
+     * Setzt den Ready-Status eines Spielers anhand seiner ID. Anders als der Spielerindex bleibt die ID gültig,
+     * wenn vor dem Spieler jemand das Spiel verlässt.
+     *
+     * @param gameId          die ID des Spiels
+     * @param expectedVersion die zuletzt gesehene Zustandsversion
+     * @param playerId        die ID des Spielers
+     * @param ready           der neue Ready-Status
+     * @return der aktualisierte Spieler
+     * @throws GameConflictException falls die Version abweicht oder der Spieler nicht mehr im Spiel ist; der Befehl
+     *                               wird dann ohne neue Version verworfen
+     */
+    public Player setReadyById(long gameId, long expectedVersion, long playerId, boolean ready) {
+        return execute(gameId, expectedVersion, false, game -> {
+            Player player = game.getPlayers().stream()
+                    .filter(p -> p.getId() != null && p.getId() == playerId)
+                    .findFirst()
+                    .orElseThrow(() -> new GameConflictException("Player " + playerId + " not found in game "
+                            + gameId, game.getStateVersion()));
+            return setReady(game, player, ready);
+        });
+    }
+
+    /**
+     * Setzt den Ready-Status eines Spielers und prüft, ob danach alle Spieler bereit sind. Muss innerhalb eines
+     * Befehls von {@link #execute(long, Function)} aufgerufen werden.
+     *
+     * @param game        der veränderliche Spielzustand
+     * @param playerIndex der Spielerindex (ab 1)
+     * @param ready       der neue Ready-Status
+     * @return eine Kopie des aktualisierten Spielers oder {@code null}, falls der Spielerindex ungültig ist
+     */
+    public Player setReady(Game game, int playerIndex, boolean ready) {
+        // Überprüfe, ob der Spielerindex im gültigen Bereich liegt
+        if (playerIndex < 1 || playerIndex > game.getCurrentPlayersCount()) {
+            return null;
+        }
+        return setReady(game, game.getPlayers().get(playerIndex - 1), ready);
+    }
+
+    private Player setReady(Game game, Player updatedPlayer, boolean ready) {
+        updatedPlayer.setReady(ready);
+
+        boolean allPlayersReady = game.getPlayers().stream().allMatch(Player::isReady);
+        game.setAllPlayersAreReady(allPlayersReady);
+        recordEvent(game, new GameEvent.ReadyChanged(updatedPlayer.getId(), ready, allPlayersReady));
+
+        log.debug("Game {}: all players ready = {}", game.getId(), allPlayersReady);
+        return updatedPlayer.copy(null);
+    }
+
+    /**
+     * Setzt den Start-Status eines Spiels. Nur der eigentliche Start ist ein Ereignis; andere Statuswechsel
+     * hinterlassen eine Lücke im Ereignis-Log.
+     *
+     * @param gameId          die ID des Spiels
+     * @param expectedVersion die vom Client zuletzt gesehene Zustandsversion oder {@code null}
+     * @param gameStarted     ob das Spiel gestartet ist
+     * @param gameState       der neue Spielstatus, z. B. {@code "Game"}
+     * @return die neue Momentaufnahme
+     * @throws GameConflictException falls die Version abweicht
+     */
+    public Game startGame(long gameId, Long expectedVersion, boolean gameStarted, String gameState) {
+        return execute(gameId, expectedVersion, false, game -> startGame(game, gameStarted, gameState));
+    }
+
+    /**
+     * Setzt den Start-Status eines Spiels. Muss innerhalb eines Befehls von {@link #execute(long, Function)}
+     * aufgerufen werden.
+     *
+     * @param game        der veränderliche Spielzustand
+     * @param gameStarted ob das Spiel gestartet ist
+     * @param gameState   der neue Spielstatus, z. B. {@code "Game"}
+     * @return der Spielzustand
+     */
+    public Game startGame(Game game, boolean gameStarted, String gameState) {
+        boolean started = gameStarted && !game.isGameStarted();
+        game.setGameStarted(gameStarted);
+        game.setGameState(gameState);
+        if (started) {
+            recordEvent(game, new GameEvent.GameStarted(game.getGameState()));
+        }
+        return game;
+    }
+
+    /**
+     * Erstellt eine neue Lobby mit dem übergebenen Spieler als Host auf dem Standardbrett.
+     *
+     * @param host der Spieler, der das Spiel erstellt
+     * @return die Momentaufnahme des neu erstellten Spiels
+     */
+    public Game createLobby(Player host) {
+        return createLobby(host, CompiledBoard.CLASSIC);
+    }
+
+    /**
+     * Erstellt eine neue Lobby mit dem übergebenen Spieler als Host.
+     * Spiel und Spieler werden synchron gespeichert, damit ihre IDs feststehen.
+     *
+     * @param host      der Spieler, der das Spiel erstellt
+     * @param boardName der Name des Spielbretts
+     * @return die Momentaufnahme des neu erstellten Spiels
+     * @throws RuntimeException falls kein Brett mit diesem Namen existiert
+     */
+    public Game createLobby(Player host, String boardName) {
+        boardRegistry.get(boardName);
+        Game newGame = transactionTemplate.execute(status -> {
+            Player hostPlayer = playerRepository.save(host);
+            Game game = new Game();
+            game.setGameHostName(hostPlayer.getName());
+            game.setCreatedAt(Instant.now());
+            game.setDiceSeed(diceFactory.newSeed());
+            game.setBoardName(boardName);
+            game.addPlayer(hostPlayer);
+            return gameRepository.save(game);
+        });
+        LiveGame live = newLiveGame(newGame);
+        liveGames.put(newGame.getId(), live);
+        persistence.gameCreated(live.snapshot);
+        for (GameChangeListener listener : listeners) {
+            listener.gameChanged(live.snapshot);
+        }
+        return live.snapshot;
+    }
+
+    /**
+     * Speichert neue Spieler synchron, damit sie ihre IDs erhalten. Wird vor dem Befehl aufgerufen, der sie mit
+     * {@link #addPlayer(Game, Player)} einem Spiel hinzufügt, damit die Datenbank die Spur nicht blockiert und ein
+     * fehlgeschlagenes Speichern das Spiel unverändert lässt. Der Befehl entfernt die hinzugefügten Spieler aus der
+     * Liste; die übrigen löscht der Aufrufer danach mit {@link #discardPlayers(List)}.
+     *
+     * @param players die neuen Spieler
+     * @return eine veränderliche Liste der gespeicherten Spieler
+     */
+    public List<Player> registerPlayers(List<Player> players) {
+        List<Player> registered = new ArrayList<>(players.size());
+        for (Player player : players) {
+            registered.add(playerRepository.save(player));
+        }
+        return registered;
+    }
+
+    /**
+     * Löscht vorab gespeicherte Spieler, die keinem Spiel hinzugefügt wurden, z. B. weil die Lobby inzwischen voll
+     * ist.
+     *
+     * @param players die nicht verwendeten Spieler
+     */
+    public void discardPlayers(List<Player> players) {
+        if (!players.isEmpty()) {
+            playerRepository.deleteAll(players);
+        }
+    }
+
+    /**
+     * Erfasst ein Ereignis des gerade ausgeführten Befehls. Muss innerhalb eines Befehls von
+     * {@link #execute(long, Function)} auf dem übergebenen Spiel aufgerufen werden. Die Ereignisse werden
+     * nach dem Befehl mit der neuen Zustandsversion in den Ereignis-Log geschrieben; schlägt der Befehl fehl,
+     * werden sie verworfen.
+     *
+     * <p>
+     * Ein Befehl, der den Zustand ohne Ereignis verändert, hinterlässt eine Lücke im Log. Clients, die davor
+     * stehen, erhalten beim nächsten Abruf den vollständigen Spielstand.
+     * </p>
+     *
+     * @param game  der veränderliche Spielzustand, auf dem der Befehl ausgeführt wird
+     * @param event das Ereignis
+     * @throws IllegalStateException falls kein Befehl auf diesem Spiel ausgeführt wird
+     */
+    public void recordEvent(Game game, GameEvent event) {
+        LiveGame live = liveGames.get(game.getId());
+        if (live == null || live.state != game) {
+            throw new IllegalStateException("Events can only be recorded inside a command on game " + game.getId());
+        }
+        live.pendingEvents.add(event);
+    }
+
+    /**
+     * Merkt einen aus dem Spiel entfernten Spieler zum Löschen vor. Muss innerhalb eines Befehls von
+     * {@link #execute(long, Function)} auf dem übergebenen Spiel aufgerufen werden.
+     *
+     * <p>
+     * Die Persistenz erfährt von der Löschung erst nach der Momentaufnahme ohne den Spieler. Ein Flush, der
+     * dazwischen noch eine ältere Momentaufnahme mit dem Spieler speichert, legt ihn sonst nach dem Löschen
+     * erneut an; die neuere Momentaufnahme entfernt ihn nicht wieder, da Spieler ohne Orphan Removal
+     * gespeichert werden. Schlägt der Befehl fehl, wird die Löschung verworfen.
+     * </p>
+     *
+     * @param game   der veränderliche Spielzustand, auf dem der Befehl ausgeführt wird
+     * @param player der entfernte Spieler
+     * @throws IllegalStateException falls kein Befehl auf diesem Spiel ausgeführt wird
+     */
+    public void deletePlayer(Game game, Player player) {
+        LiveGame live = liveGames.get(game.getId());
+        if (live == null || live.state != game) {
+            throw new IllegalStateException("Players can only be deleted inside a command on game " + game.getId());
+        }
+        live.pendingDeletedPlayers.add(player.getId());
+    }
+
+    /**
+     * Übergibt die im Befehl entfernten Spieler an die Persistenz.
+     */
+    private void deletePendingPlayers(LiveGame live) {
+        for (Long playerId : live.pendingDeletedPlayers) {
+            persistence.playerDeleted(playerId);
+        }
+        live.pendingDeletedPlayers.clear();
+    }
+
+    /**
+     * Entfernt ein Spiel aus dem Speicher und merkt es zum Löschen vor.
+     *
+     * @param game das zu löschende Spiel
+     */
+    public void deleteGame(Game game) {
+        liveGames.remove(game.getId());
+        persistence.gameDeleted(game.getId());
+        for (GameChangeListener listener : listeners) {
+            listener.gameDeleted(game.getId());
+        }
+    }
+
+    /**
+     * Entfernt Spiele aus dem Speicher, die beendet sind oder nicht mehr abgefragt werden. Ein Spiel wird nur
+     * entfernt, wenn die Persistenz bestätigt, dass sein Stand aus der Datenbank wieder geladen werden kann
+     * ({@link GamePersistence#checkpoint(Game)}); sonst wird es beim nächsten Aufruf erneut geprüft. Das Entfernen
+     * selbst geschieht auf der Spur des Spiels und unterbleibt, falls sich das Spiel inzwischen geändert hat. Ein
+     * späterer Zugriff lädt das Spiel wie beim ersten Mal aus der Datenbank.
+     *
+     * @param idleMs     nach wie vielen Millisekunden ohne Zugriff ein laufendes Spiel oder eine Lobby entfernt wird
+     *                   (0 = nie)
+     * @param finishedMs nach wie vielen Millisekunden ohne Zugriff ein beendetes Spiel entfernt wird (0 = nie)
+     * @return die Anzahl der entfernten Spiele
+     */
+    public int evictIdleGames(long idleMs, long finishedMs) {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (LiveGame live : liveGames.values()) {
+            Game snapshot = live.snapshot;
+            long limitMs = isFinished(snapshot) ? finishedMs : idleMs;
+            if (limitMs <= 0 || now - live.lastAccess < TimeUnit.MILLISECONDS.toNanos(limitMs)
+                    || !persistence.checkpoint(snapshot)) {
+                continue;
+            }
+            long gameId = snapshot.getId();
+            boolean removed = shards.submit(gameId, () -> {
+                if (live.snapshot != snapshot || !liveGames.remove(gameId, live)) {
+                    return false;
+                }
+                live.evicted = true;
+                persistence.gameEvicted(gameId);
+                for (GameChangeListener listener : listeners) {
+                    listener.gameEvicted(gameId);
+                }
+                return true;
+            });
+            if (removed) {
+                evictions.increment();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Registriert einen Listener, der über Änderungen an allen Spielen informiert wird.
+     *
+     * @param listener der zu registrierende Listener
+     */
+    public void addListener(GameChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Gibt die Anzahl aller Würfelwürfe seit dem Start zurück.
+     *
+     * @return die Anzahl der Würfe
+     */
+    public long getRollCount() {
+        return rolls.sum();
+    }
+
+    /**
+     * Gibt die Anzahl der Abfragen zurück, die auf das Laden eines Spiels durch eine gleichzeitige Abfrage
+     * gewartet haben, statt selbst die Datenbank abzufragen.
+     *
+     * @return die Anzahl der zusammengefassten Ladevorgänge
+     */
+    public long getCollapsedLoadCount() {
+        return loads.getCollapsedCount();
+    }
+
+    /**
+     * Gibt die Anzahl der Spiele zurück, die seit dem Start aus dem Speicher entfernt wurden.
+     *
+     * @return die Anzahl der entfernten Spiele
+     */
+    public long getEvictedCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Prüft, ob ein Spiel im Speicher gehalten wird. Gelöschte und entfernte Spiele sind es nicht mehr.
+     *
+     * @param id die ID des Spiels
+     * @return {@code true}, falls das Spiel im Speicher liegt
+     */
+    public boolean isLive(long id) {
+        return liveGames.containsKey(id);
+    }
+
+    /**
+     * Gibt die Anzahl der im Speicher gehaltenen Spiele zurück.
+     *
+     * @return die Anzahl der Spiele im Speicher
+     */
+    public int getLiveGameCount() {
+        return liveGames.size();
+    }
+
+    /**
+     * Zählt die Lobbys, laufenden Spiele und Spieler über die aktuellen Momentaufnahmen aller Spiele im Speicher.
+     * Der Aufwand wächst mit der Anzahl der Spiele; gedacht für gelegentliche Abfragen wie die Metriken.
+     *
+     * @return die Anzahl der Spiele und Spieler
+     */
+    public GameCounts getGameCounts() {
+        int lobbies = 0;
+        int running = 0;
+        int humans = 0;
+        int bots = 0;
+        for (LiveGame live : liveGames.values()) {
+            Game snapshot = live.snapshot;
+            if (snapshot.isGameStarted()) {
+                running++;
+            } else {
+                lobbies++;
+            }
+            for (Player player : snapshot.getPlayers()) {
+                if (player.isBot()) {
+                    bots++;
+                } else {
+                    humans++;
+                }
+            }
+        }
+        return new GameCounts(lobbies, running, humans, bots);
+    }
+
+    /**
+     * Liefert den Speichereintrag eines Spiels und lädt das Spiel bei Bedarf aus der Datenbank. Gleichzeitige
+     * Abfragen eines noch nicht geladenen Spiels teilen sich eine Datenbankabfrage. Die Dauer wird als
+     * {@link RequestTrace.Phase#LOOKUP} der laufenden Anfrage verbucht.
+     *
+     * @param id die ID des Spiels
+     * @return der Speichereintrag des Spiels
+     * @throws RuntimeException falls kein Spiel mit der angegebenen ID existiert
+     */
+    private LiveGame liveGame(long id) {
+        long start = System.nanoTime();
+        LiveGame live = liveGames.get(id);
+        if (live == null) {
+            live = load(id);
+        } else {
+            live.touch(start);
+        }
+        RequestTrace.record(RequestTrace.Phase.LOOKUP, System.nanoTime() - start);
+        return live;
+    }
+
+    /**
+     * Lädt ein Spiel aus der Datenbank in den Speicher.
+     *
+     * @param id die ID des Spiels
+     * @return der Speichereintrag
+     * @throws RuntimeException falls das Spiel nicht existiert
+     */
+    private LiveGame load(long id) {
+        return loads.execute(id, () -> {
+            // Ein eben abgeschlossener Ladevorgang hat das Spiel bereits übernommen
+            LiveGame loadedMeanwhile = liveGames.get(id);
+            if (loadedMeanwhile != null) {
+                return loadedMeanwhile;
+            }
+            Game loaded = gameRepository.findWithPlayersById(id)
+                    .orElseThrow(() -> new RuntimeException("Game not found with id " + id));
+            LiveGame created = newLiveGame(loaded);
+            LiveGame existing = liveGames.putIfAbsent(id, created);
+            return existing != null ? existing : created;
+        });
+    }
+
+    /**
+     * Prüft, ob ein Spieler das Ziel erreicht hat.
+     */
+    private static boolean isFinished(Game game) {
+        int finish = game.getBoard().getFinish();
+        for (Player player : game.getPlayers()) {
+            if (player.getPostion() == finish) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Übernimmt ein Spiel in den Speicher und gibt ihm sein Spielbrett und seinen Würfel, der beim nächsten Wurf
+     * des Spiels fortsetzt.
+     *
+     * @param state der veränderliche Spielzustand
+     * @return der neue Speichereintrag
+     */
+    private LiveGame newLiveGame(Game state) {
+        return new LiveGame(prepare(state), eventCapacity);
+    }
+
+    /**
+     * Gibt einem veränderlichen Spielzustand sein Spielbrett und seinen Würfel.
+     */
+    private Game prepare(Game state) {
+        state.setBoard(boardRegistry.get(state.getBoardName()));
+        state.setDice(diceFactory.create(state.getDiceSeed(), state.getDiceRolls()));
+        return state;
+    }
+
+    /**
+     * Speichereintrag eines Spiels: der veränderliche Zustand, den nur die Spur des Spiels verändert,
+     * die zuletzt veröffentlichte Momentaufnahme und die letzten Ereignisse.
+     */
+    private static final class LiveGame {
+        private static final long TOUCH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+        /**
+         * Der veränderliche Spielzustand, ausschließlich auf der Spur des Spiels verwendet. Schlägt ein Befehl fehl,
+         * wird er durch eine Kopie der letzten Momentaufnahme ersetzt.
+         */
+        private Game state;
+        /** Die zuletzt veröffentlichte, unveränderliche Momentaufnahme. */
+        private volatile Game snapshot;
+        /** Die letzten Ereignisse des Spiels. */
+        private final GameEventLog events;
+        /** Die Ereignisse des gerade ausgeführten Befehls, ausschließlich auf der Spur des Spiels verwendet. */
+        private final List<GameEvent> pendingEvents = new ArrayList<>();
+        /** Die im gerade ausgeführten Befehl entfernten Spieler, ausschließlich auf der Spur des Spiels verwendet. */
+        private final List<Long> pendingDeletedPlayers = new ArrayList<>();
+        /** Das zuletzt erstellte Lesemodell; gültig, solange seine Version der der Momentaufnahme entspricht. */
+        private volatile GameView view;
+        /** Der Zeitpunkt des letzten Zugriffs ({@link System#nanoTime()}), auf etwa eine Sekunde genau. */
+        private volatile long lastAccess = System.nanoTime();
+        /** Ob das Spiel aus dem Speicher entfernt wurde; ein wartender Befehl lädt es dann neu. */
+        private volatile boolean evicted;
+
+        private LiveGame(Game state, int eventCapacity) {
+            this.state = state;
+            this.snapshot = state.snapshot();
+            this.events = new GameEventLog(eventCapacity, state.getStateVersion());
+        }
+
+        /**
+         * Vermerkt einen Zugriff. Geschrieben wird höchstens einmal je Sekunde, damit häufig abgefragte Spiele
+         * nicht bei jedem Zugriff dieselbe Cache-Zeile zwischen den Kernen verschieben.
+         */
+        private void touch(long now) {
+            if (now - lastAccess > TOUCH_INTERVAL_NANOS) {
+                lastAccess = now;
+            }
+        }
+
+        /**
+         * Liefert das Lesemodell der aktuellen Momentaufnahme und erstellt es bei Bedarf. Jede veröffentlichte
+         * Momentaufnahme hat eine neue Version; erstellen zwei Threads gleichzeitig ein Lesemodell, gewinnt eines
+         * davon, beide sind gleichwertig.
+         */
+        private GameView view() {
+            Game current = snapshot;
+            GameView cached = view;
+            if (cached == null || cached.stateVersion() != current.getStateVersion()) {
+                cached = GameView.of(current);
+                view = cached;
+            }
+            return cached;
+        }
+    }
+
+    /**
+     * Signalisiert einem Befehl, dass sein Spiel vor der Ausführung aus dem Speicher entfernt wurde. Ohne
+     * Stacktrace, da sie nur innerhalb der Engine zum erneuten Versuch führt.
+     */
+    private static final class EvictedException extends RuntimeException {
+        private static final EvictedException INSTANCE = new EvictedException();
+
+        private EvictedException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.dataTransfer.server.ServerModell.engine;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Der {@code GameEvictor} entfernt regelmäßig Spiele aus dem Speicher der {@link GameEngine}, die beendet sind
+ * oder nicht mehr abgefragt werden, damit der Speicher nicht mit jedem je gespielten Spiel wächst.
+ *
+ * <p>
+ * Beendete Spiele werden nach {@code game.engine.evict-finished-ms}, alle übrigen nach
+ * {@code game.engine.evict-idle-ms} Millisekunden ohne Zugriff entfernt; die Prüfung läuft alle
+ * {@code game.engine.evict-check-ms} Millisekunden.
+ * </p>
+ */
+@Component
+public class GameEvictor {
+
+    private static final Logger log = LoggerFactory.getLogger(GameEvictor.class);
+
+    private final GameEngine gameEngine;
+    private final long idleMs;
+    private final long finishedMs;
+
+    /**
+     * Konstruktor des GameEvictors.
+     *
+     * @param gameEngine die Engine, deren Spiele entfernt werden
+     * @param idleMs     die Zeit ohne Zugriff, nach der ein laufendes Spiel oder eine Lobby entfernt wird (0 = nie)
+     * @param finishedMs die Zeit ohne Zugriff, nach der ein beendetes Spiel entfernt wird (0 = nie)
+     */
+    public GameEvictor(GameEngine gameEngine,
+                       @Value("${game.engine.evict-idle-ms:1800000}") long idleMs,
+                       @Value("${game.engine.evict-finished-ms:120000}") long finishedMs) {
+        this.gameEngine = gameEngine;
+        this.idleMs = idleMs;
+        this.finishedMs = finishedMs;
+    }
+
+    /**
+     * Entfernt die beendeten und ungenutzten Spiele.
+     */
+    @Scheduled(fixedDelayString = "${game.engine.evict-check-ms:30000}",
+            initialDelayString = "${game.engine.evict-check-ms:30000}")
+    public void evict() {
+        int evicted = gameEngine.evictIdleGames(idleMs, finishedMs);
+        if (evicted > 0) {
+            log.debug("{} Spiele aus dem Speicher entfernt, {} verbleiben", evicted, gameEngine.getLiveGameCount());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.dataTransfer.server.ServerModell.engine;
+
+import org.dataTransfer.server.ServerModell.event.GameEvent;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.metrics.Histogram;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Der Schreibpfad der {@link GameEngine}: nimmt die Änderungen der im Speicher gehaltenen Spiele entgegen
+ * und macht sie dauerhaft.
+ *
+ * <p>
+ * Die Implementierung wird über {@code game.engine.persistence-mode} gewählt: {@link WriteBehindFlusher}
+ * speichert Momentaufnahmen über das {@code GameRepository} ({@code write-behind}, {@code write-through}),
+ * {@code GameJournal} hängt die Ereignisse an ein Journal an ({@code journal}).
+ * </p>
+ *
+ * <p>
+ * Die Methoden werden auf der Spur des jeweiligen Spiels aufgerufen, mit Ausnahme von {@link #checkpoint(Game)}.
+ * </p>
+ */
+public interface GamePersistence {
+
+    /**
+     * Stellt beim Start die Spiele wieder her, deren aktueller Stand nur in dieser Persistenz vorliegt.
+     * Die Engine hält diese Spiele anschließend im Speicher.
+     *
+     * @return die wiederhergestellten Spiele
+     */
+    default Collection<Game> recover() {
+        return List.of();
+    }
+
+    /**
+     * Wird aufgerufen, nachdem ein neues Spiel angelegt und in der Datenbank gespeichert wurde.
+     *
+     * @param snapshot die erste Momentaufnahme des Spiels
+     */
+    default void gameCreated(Game snapshot) {
+    }
+
+    /**
+     * Wird nach jedem Spielbefehl mit der neuen Momentaufnahme und den Ereignissen des Befehls aufgerufen.
+     *
+     * @param snapshot die neue, unveränderliche Momentaufnahme
+     * @param events   die Ereignisse des Befehls; leer, falls der Befehl den Zustand ohne Ereignis verändert hat
+     */
+    void gameChanged(Game snapshot, List<GameEvent> events);
+
+    /**
+     * Wird aufgerufen, nachdem ein Spieler aus einem Spiel entfernt wurde.
+     *
+     * @param playerId die ID des entfernten Spielers
+     */
+    void playerDeleted(Long playerId);
+
+    /**
+     * Wird aufgerufen, nachdem ein Spiel gelöscht wurde.
+     *
+     * @param gameId die ID des gelöschten Spiels
+     */
+    void gameDeleted(long gameId);
+
+    /**
+     * Bereitet das Entfernen eines Spiels aus dem Speicher vor: Die Engine lädt es danach bei Bedarf über das
+     * {@code GameRepository} neu, daher muss dort der Stand der Momentaufnahme stehen. Wird außerhalb der Spur
+     * aufgerufen; ändert sich das Spiel danach noch, entfernt die Engine es nicht.
+     *
+     * @param snapshot die aktuelle Momentaufnahme des Spiels
+     * @return {@code true}, falls die Momentaufnahme dauerhaft in der Datenbank steht und das Spiel entfernt
+     * werden darf
+     */
+    boolean checkpoint(Game snapshot);
+
+    /**
+     * Wird aufgerufen, nachdem ein Spiel aus dem Speicher entfernt wurde, dessen Stand zuvor
+     * {@link #checkpoint(Game)} bestätigt hat.
+     *
+     * @param gameId die ID des entfernten Spiels
+     */
+    default void gameEvicted(long gameId) {
+    }
+
+    /**
+     * Gibt die Verteilung der Dauer der Schreibvorgänge zurück, mit denen Änderungen dauerhaft werden
+     * (z. B. ein Flush in die Datenbank oder ein {@code fsync} des Journals).
+     *
+     * @return das Histogramm der Schreibdauern
+     */
+    Histogram getFlushLatency();
+}
@@ -0,0 +1,89 @@
+package org.dataTransfer.server.ServerModell.engine;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Die Klasse {@code SingleFlight} fasst gleichzeitige Ladevorgänge mit demselben Schlüssel zusammen.
+ *
+ * <p>
+ * Der erste Aufrufer eines Schlüssels führt den Ladevorgang in seinem eigenen Thread aus. Wer denselben
+ * Schlüssel anfragt, solange dieser Vorgang läuft, wartet auf dessen Ergebnis oder erhält dieselbe Ausnahme.
+ * Nach Abschluss wird der Schlüssel freigegeben; das Ergebnis selbst wird nicht aufbewahrt. Ein Ladevorgang
+ * sollte daher zuerst prüfen, ob ein vorheriger Vorgang das Ergebnis bereits abgelegt hat.
+ * </p>
+ *
+ * @param <K> der Typ der Schlüssel
+ * @param <V> der Typ der Ergebnisse
+ */
+public final class SingleFlight<K, V> {
+
+    /** Die laufenden Ladevorgänge (Schlüssel: angefragter Schlüssel). */
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /** Anzahl der Aufrufe, die auf einen bereits laufenden Vorgang gewartet haben. */
+    private final LongAdder collapsed = new LongAdder();
+
+    /**
+     * Führt den Ladevorgang aus oder wartet auf einen laufenden Vorgang mit demselben Schlüssel.
+     *
+     * @param key    der Schlüssel
+     * @param loader der Ladevorgang; er läuft nur im Thread des ersten Aufrufers
+     * @return das Ergebnis des Ladevorgangs
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            collapsed.increment();
+            return await(running);
+        }
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Gibt die Anzahl der Aufrufe zurück, die keinen eigenen Ladevorgang gestartet haben.
+     *
+     * @return die Anzahl der zusammengefassten Aufrufe
+     */
+    public long getCollapsedCount() {
+        return collapsed.sum();
+    }
+
+    /**
+     * Gibt die Anzahl der gerade laufenden Ladevorgänge zurück.
+     *
+     * @return die Anzahl der laufenden Vorgänge
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            // Die Ausnahme des Ladevorgangs unverändert weitergeben, wie sie auch der erste Aufrufer erhält
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
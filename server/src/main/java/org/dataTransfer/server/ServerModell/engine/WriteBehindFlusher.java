@@ -0,0 +1,233 @@
+package org.dataTransfer.server.ServerModell.engine;
+
+import jakarta.annotation.PreDestroy;
+import org.dataTransfer.server.ServerModell.GameRepository;
+import org.dataTransfer.server.ServerModell.PlayerRepository;
+import org.dataTransfer.server.ServerModell.event.GameEvent;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.metrics.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Der {@code WriteBehindFlusher} schreibt Änderungen der im Speicher gehaltenen Spiele
+ * verzögert in die Datenbank.
+ *
+ * <p>
+ * Die {@link GameEngine} meldet nach jeder Änderung die neue Momentaufnahme des Spiels über {@link #markDirty(Game)}.
+ * Mehrere Änderungen desselben Spiels innerhalb eines Flush-Intervalls werden zu einem einzigen {@code save}
+ * der jeweils neuesten Momentaufnahme zusammengefasst.
+ * Gelöschte Spieler und Spiele werden ebenfalls gesammelt und beim nächsten Flush entfernt.
+ * </p>
+ *
+ * <p>
+ * Über die Eigenschaft {@code game.engine.persistence-mode} lässt sich die Dauerhaftigkeit steuern:
+ * {@code write-behind} (Standard) schreibt periodisch alle {@code game.engine.flush-interval-ms} Millisekunden,
+ * {@code write-through} schreibt jede Änderung sofort im aufrufenden Thread. Im Modus {@code journal}
+ * übernimmt stattdessen das {@code GameJournal} den Schreibpfad.
+ * </p>
+ */
+@Component
+@ConditionalOnExpression("'${game.engine.persistence-mode:write-behind}' != 'journal'")
+public class WriteBehindFlusher implements GamePersistence {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindFlusher.class);
+
+    private final GameRepository gameRepository;
+    private final PlayerRepository playerRepository;
+
+    /** Gibt an, ob Änderungen sofort statt verzögert geschrieben werden. */
+    private final boolean writeThrough;
+
+    /** Geänderte Spiele, die beim nächsten Flush gespeichert werden (Schlüssel: Spiel-ID). */
+    private final Map<Long, Game> dirtyGames = new ConcurrentHashMap<>();
+
+    /** IDs gelöschter Spieler, die noch aus der Datenbank entfernt werden müssen. */
+    private final Queue<Long> deletedPlayers = new ConcurrentLinkedQueue<>();
+
+    /** IDs gelöschter Spiele, die noch aus der Datenbank entfernt werden müssen. */
+    private final Queue<Long> deletedGames = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Dauer der Schreibvorgänge: im Modus {@code write-behind} je Flush mit ausstehenden Änderungen,
+     * im Modus {@code write-through} je einzelnem Schreibvorgang.
+     */
+    private final Histogram flushLatency = new Histogram();
+
+    /**
+     * Konstruktor des WriteBehindFlushers.
+     *
+     * @param gameRepository   das Repository für Spiele
+     * @param playerRepository das Repository für Spieler
+     * @param persistenceMode  {@code write-behind} oder {@code write-through}
+     */
+    public WriteBehindFlusher(GameRepository gameRepository,
+                              PlayerRepository playerRepository,
+                              @Value("${game.engine.persistence-mode:write-behind}") String persistenceMode) {
+        this.gameRepository = gameRepository;
+        this.playerRepository = playerRepository;
+        this.writeThrough = "write-through".equalsIgnoreCase(persistenceMode);
+    }
+
+    /**
+     * Merkt die neue Momentaufnahme zum Speichern vor; die Ereignisse werden nicht benötigt.
+     *
+     * @param snapshot die neue Momentaufnahme
+     * @param events   die Ereignisse des Befehls
+     */
+    @Override
+    public void gameChanged(Game snapshot, List<GameEvent> events) {
+        markDirty(snapshot);
+    }
+
+    @Override
+    public void playerDeleted(Long playerId) {
+        markPlayerDeleted(playerId);
+    }
+
+    @Override
+    public void gameDeleted(long gameId) {
+        markGameDeleted(gameId);
+    }
+
+    /**
+     * Merkt die Momentaufnahme eines geänderten Spiels zum Speichern vor.
+     *
+     * @param game die unveränderliche Momentaufnahme des Spiels
+     */
+    public void markDirty(Game game) {
+        dirtyGames.put(game.getId(), game);
+        if (writeThrough) {
+            long start = System.nanoTime();
+            saveGame(game);
+            flushLatency.recordSince(start);
+        }
+    }
+
+    /**
+     * Merkt einen entfernten Spieler zum Löschen vor.
+     *
+     * @param playerId die ID des entfernten Spielers
+     */
+    public void markPlayerDeleted(Long playerId) {
+        if (writeThrough) {
+            long start = System.nanoTime();
+            playerRepository.deleteById(playerId);
+            flushLatency.recordSince(start);
+            return;
+        }
+        deletedPlayers.add(playerId);
+    }
+
+    /**
+     * Merkt ein entferntes Spiel zum Löschen vor. Noch ausstehende Speicherungen des Spiels entfallen.
+     *
+     * @param gameId die ID des entfernten Spiels
+     */
+    public void markGameDeleted(long gameId) {
+        dirtyGames.remove(gameId);
+        if (writeThrough) {
+            long start = System.nanoTime();
+            gameRepository.deleteById(gameId);
+            flushLatency.recordSince(start);
+            return;
+        }
+        deletedGames.add(gameId);
+    }
+
+    /**
+     * Schreibt alle ausstehenden Änderungen in die Datenbank.
+     *
+     * <p>
+     * Zuerst werden die geänderten Spiele gespeichert, danach die Löschungen ausgeführt. Die Engine meldet einen
+     * gelöschten Spieler erst nach der Momentaufnahme ohne ihn; eine ältere Momentaufnahme mit dem Spieler, die
+     * dieser Flush noch speichert, liegt damit vor der Löschung und legt ihn nicht erneut an.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${game.engine.flush-interval-ms:250}")
+    public void flush() {
+        long start = System.nanoTime();
+        boolean written = false;
+        for (Game game : dirtyGames.values()) {
+            saveGame(game);
+            written = true;
+        }
+        Long id;
+        while ((id = deletedPlayers.poll()) != null) {
+            playerRepository.deleteById(id);
+            written = true;
+        }
+        while ((id = deletedGames.poll()) != null) {
+            gameRepository.deleteById(id);
+            written = true;
+        }
+        if (written) {
+            flushLatency.recordSince(start);
+        }
+    }
+
+    /**
+     * Bestätigt ein Spiel zum Entfernen aus dem Speicher, sobald seine letzte Änderung geschrieben ist.
+     *
+     * @param snapshot die aktuelle Momentaufnahme des Spiels
+     * @return {@code true}, falls keine Änderung des Spiels und keine Löschung eines Spielers mehr aussteht
+     */
+    @Override
+    public boolean checkpoint(Game snapshot) {
+        // Ein noch nicht gelöschter Spieler würde beim Neuladen wieder zum Spiel gehören
+        return !dirtyGames.containsKey(snapshot.getId()) && deletedPlayers.isEmpty();
+    }
+
+    /**
+     * Gibt die Anzahl der Spiele zurück, deren Änderungen noch nicht geschrieben wurden.
+     *
+     * @return die Anzahl ausstehender Spiele
+     */
+    public int getPendingCount() {
+        return dirtyGames.size();
+    }
+
+    @Override
+    public Histogram getFlushLatency() {
+        return flushLatency;
+    }
+
+    /**
+     * Speichert eine Momentaufnahme. Da Momentaufnahmen nach ihrer Veröffentlichung nicht mehr
+     * verändert werden, ist keine Synchronisation mit den Spielbefehlen nötig.
+     *
+     * <p>
+     * Das Spiel bleibt vorgemerkt, bis seine Momentaufnahme geschrieben ist; erst dann wird der Eintrag entfernt,
+     * und nur, falls inzwischen keine neuere Momentaufnahme vorgemerkt wurde. Ein Spiel ohne Eintrag ist damit
+     * vollständig geschrieben. Schlägt das Speichern fehl, versucht es der nächste Flush erneut.
+     * </p>
+     *
+     * @param game die zu speichernde Momentaufnahme
+     */
+    private void saveGame(Game game) {
+        try {
+            gameRepository.save(game);
+            dirtyGames.remove(game.getId(), game);
+        } catch (RuntimeException e) {
+            log.warn("Flush von Spiel {} fehlgeschlagen: {}", game.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Schreibt beim Herunterfahren der Anwendung alle ausstehenden Änderungen.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
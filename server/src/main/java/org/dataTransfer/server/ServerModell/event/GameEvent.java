@@ -0,0 +1,88 @@
+package org.dataTransfer.server.ServerModell.event;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * Ein {@code GameEvent} beschreibt eine einzelne Zustandsänderung eines Spiels.
+ *
+ * <p>
+ * Ereignisse werden während eines Spielbefehls über {@code GameEngine#recordEvent} erfasst und nach dem Befehl
+ * mit der neuen Zustandsversion in das {@link GameEventLog} des Spiels geschrieben. Ein Client, der alle
+ * Ereignisse in Reihenfolge auf seinen Spielstand anwendet, erhält denselben Stand wie der Server.
+ * </p>
+ *
+ * <p>
+ * In JSON wird der Typ im Feld {@code type} als einfacher Klassenname übertragen, z. B. {@code "DiceRolled"}.
+ * </p>
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.SIMPLE_NAME, property = "type")
+public sealed interface GameEvent {
+
+    /**
+     * Ein Spieler ist dem Spiel beigetreten. Dadurch sind nicht mehr alle Spieler bereit.
+     *
+     * @param playerId    die ID des Spielers
+     * @param name        der Name des Spielers
+     * @param playerIndex der Spielerindex (ab 1)
+     * @param bot         ob der Spieler ein serverseitiger Bot ist
+     */
+    record PlayerJoined(long playerId, String name, int playerIndex, boolean bot) implements GameEvent {
+
+        /**
+         * Ein menschlicher Spieler ist beigetreten.
+         *
+         * @param playerId    die ID des Spielers
+         * @param name        der Name des Spielers
+         * @param playerIndex der Spielerindex (ab 1)
+         */
+        public PlayerJoined(long playerId, String name, int playerIndex) {
+            this(playerId, name, playerIndex, false);
+        }
+    }
+
+    /**
+     * Ein Spieler hat seinen Ready-Status geändert.
+     *
+     * @param playerId        die ID des Spielers
+     * @param ready           der neue Ready-Status
+     * @param allPlayersReady ob danach alle Spieler bereit sind
+     */
+    record ReadyChanged(long playerId, boolean ready, boolean allPlayersReady) implements GameEvent {
+    }
+
+    /**
+     * Das Spiel wurde gestartet.
+     *
+     * @param gameState der neue Spielstatus, z. B. {@code "Game"}
+     */
+    record GameStarted(String gameState) implements GameEvent {
+    }
+
+    /**
+     * Ein Spieler hat gewürfelt und wurde bewegt.
+     *
+     * @param playerId die ID des Spielers
+     * @param value    der gewürfelte Wert
+     * @param from     die Position vor dem Wurf
+     * @param landing  das Feld, auf dem der Spieler gelandet ist
+     * @param target   die endgültige Position nach einem eventuellen Feldeffekt
+     */
+    record DiceRolled(long playerId, int value, int from, int landing, int target) implements GameEvent {
+    }
+
+    /**
+     * Der Zug wurde an den nächsten Spieler weitergegeben.
+     *
+     * @param player der Name des Spielers, der jetzt am Zug ist
+     */
+    record TurnAdvanced(String player) implements GameEvent {
+    }
+
+    /**
+     * Ein Spieler hat das Spiel verlassen.
+     *
+     * @param playerId die ID des Spielers
+     */
+    record PlayerLeft(long playerId) implements GameEvent {
+    }
+}
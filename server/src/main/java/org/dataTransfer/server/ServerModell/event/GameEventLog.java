@@ -0,0 +1,120 @@
+package org.dataTransfer.server.ServerModell.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Der {@code GameEventLog} hält die letzten Ereignisse eines Spiels in einem Ringpuffer fester Größe.
+ *
+ * <p>
+ * Geschrieben wird ausschließlich von der Spur des Spiels, gelesen von beliebigen Threads ohne Sperren.
+ * Ein Leser erkennt an der laufenden Nummer jedes Eintrags, ob dieser während des Lesens überschrieben wurde.
+ * </p>
+ *
+ * <p>
+ * Die Untergrenze {@code floorVersion} gibt an, ab welcher Zustandsversion die Ereignisse lückenlos vorliegen.
+ * Sie steigt, wenn alte Einträge überschrieben werden oder ein Befehl den Zustand ohne Ereignis verändert hat.
+ * Ein Client, dessen Version unter der Untergrenze liegt, benötigt den vollständigen Spielstand.
+ * </p>
+ */
+public final class GameEventLog {
+
+    /** Die Einträge; Eintrag {@code seq} liegt an Position {@code (seq - 1) % capacity}. */
+    private final Entry[] ring;
+
+    /** Laufende Nummer des zuletzt geschriebenen Eintrags (0 = noch keiner). */
+    private volatile long lastSeq = 0;
+
+    /** Alle Ereignisse mit einer höheren Version als dieser liegen lückenlos vor. */
+    private volatile long floorVersion;
+
+    /**
+     * Erstellt einen leeren Ereignis-Log.
+     *
+     * @param capacity     die maximale Anzahl gehaltener Ereignisse
+     * @param floorVersion die aktuelle Zustandsversion des Spiels; ältere Ereignisse liegen nicht vor
+     */
+    public GameEventLog(int capacity, long floorVersion) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Event log capacity must be positive: " + capacity);
+        }
+        this.ring = new Entry[capacity];
+        this.floorVersion = floorVersion;
+    }
+
+    /**
+     * Hängt die Ereignisse eines Befehls an. Darf nur von der Spur des Spiels aufgerufen werden.
+     * Ohne Ereignisse wird die Version als Lücke vermerkt, da sich der Zustand unbeschrieben geändert hat.
+     *
+     * @param version die durch den Befehl erzeugte Zustandsversion
+     * @param events  die Ereignisse des Befehls in Reihenfolge
+     */
+    public void append(long version, List<GameEvent> events) {
+        if (events.isEmpty()) {
+            floorVersion = version;
+            return;
+        }
+        long seq = lastSeq;
+        for (GameEvent event : events) {
+            seq++;
+            int slot = (int) ((seq - 1) % ring.length);
+            Entry evicted = ring[slot];
+            if (evicted != null && evicted.event.version() > floorVersion) {
+                // Die Untergrenze muss vor dem Überschreiben steigen, damit Leser die Lücke sicher erkennen
+                floorVersion = evicted.event.version();
+            }
+            ring[slot] = new Entry(seq, new SequencedEvent(version, event));
+        }
+        lastSeq = seq;
+    }
+
+    /**
+     * Liefert alle Ereignisse mit einer Version größer als {@code after} und höchstens {@code upTo}.
+     *
+     * @param after die zuletzt vom Client gesehene Version
+     * @param upTo  die höchste zu liefernde Version, üblicherweise die der aktuellen Momentaufnahme
+     * @return die Ereignisse in Reihenfolge oder {@code null}, falls sie nicht mehr lückenlos vorliegen
+     */
+    public List<SequencedEvent> since(long after, long upTo) {
+        if (after >= upTo) {
+            return List.of();
+        }
+        long last = lastSeq;
+        List<SequencedEvent> result = new ArrayList<>();
+        for (long seq = last; seq > 0 && seq > last - ring.length; seq--) {
+            Entry entry = ring[(int) ((seq - 1) % ring.length)];
+            if (entry == null || entry.seq != seq) {
+                return null;
+            }
+            long version = entry.event.version();
+            if (version <= after) {
+                break;
+            }
+            if (version <= upTo) {
+                result.add(entry.event);
+            }
+        }
+        // Erst nach dem Lesen prüfen: Wurde währenddessen überschrieben, ist die Untergrenze bereits gestiegen
+        if (floorVersion > after) {
+            return null;
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * Gibt die Version zurück, ab der die Ereignisse lückenlos vorliegen.
+     *
+     * @return die Untergrenze
+     */
+    public long getFloorVersion() {
+        return floorVersion;
+    }
+
+    /**
+     * Ein Eintrag im Ringpuffer mit seiner laufenden Nummer.
+     */
+    private record Entry(long seq, SequencedEvent event) {
+    }
+}
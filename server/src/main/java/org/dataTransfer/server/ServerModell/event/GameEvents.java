@@ -0,0 +1,21 @@
+package org.dataTransfer.server.ServerModell.event;
+
+import org.dataTransfer.server.ServerModell.view.GameView;
+
+import java.util.List;
+
+/**
+ * Die Antwort auf eine Abfrage der Ereignisse eines Spiels seit einer bestimmten Version.
+ *
+ * <p>
+ * Konnten alle fehlenden Ereignisse geliefert werden, enthält {@code events} diese und {@code snapshot} ist
+ * {@code null}. Liegt der Client zu weit zurück, ist {@code events} leer und {@code snapshot} enthält den
+ * vollständigen Spielstand. In beiden Fällen ist {@code version} der Stand, den der Client danach hat.
+ * </p>
+ *
+ * @param version  die Zustandsversion nach Anwendung der Antwort
+ * @param events   die Ereignisse in Reihenfolge
+ * @param snapshot der vollständige Spielstand, falls die Ereignisse nicht mehr vorliegen, sonst {@code null}
+ */
+public record GameEvents(long version, List<SequencedEvent> events, GameView snapshot) {
+}
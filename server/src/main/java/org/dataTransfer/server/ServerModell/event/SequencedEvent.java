@@ -0,0 +1,16 @@
+package org.dataTransfer.server.ServerModell.event;
+
+/**
+ * Ein Ereignis zusammen mit seiner Sequenznummer im Spiel.
+ *
+ * <p>
+ * Die Sequenznummer ist die Zustandsversion, die der auslösende Befehl erzeugt hat. Erzeugt ein Befehl
+ * mehrere Ereignisse (z. B. {@link GameEvent.DiceRolled} und {@link GameEvent.TurnAdvanced}), tragen sie
+ * dieselbe Version und stehen in der Reihenfolge, in der sie angewendet werden müssen.
+ * </p>
+ *
+ * @param version die Zustandsversion nach dem Ereignis
+ * @param event   das Ereignis
+ */
+public record SequencedEvent(long version, GameEvent event) {
+}
@@ -1,13 +1,19 @@
 package org.dataTransfer.server.ServerModell.game;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.dataTransfer.server.ServerModell.DiceIF;
 import org.dataTransfer.server.ServerModell.GameIF;
+import org.dataTransfer.server.ServerModell.board.CompiledBoard;
 import org.dataTransfer.server.ServerModell.dice.Dice;
-import org.dataTransfer.server.ServerModell.field.Field;
+import org.dataTransfer.server.ServerModell.event.GameEvent;
 import org.dataTransfer.server.ServerModell.player.Player;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,8 +23,8 @@ import java.util.List;
  * eine Liste von Spielern. Zudem wird der aktuelle Spielerzug sowie der Wert des letzten Würfelwurfs verwaltet.
  *
  * <p>
- * Mit der Methode {@link #rollDiceAndNextTurn()} wird ein Würfelwurf simuliert, der aktuelle Spieler
- * bewegt und gegebenenfalls ein spezieller Feldeffekt (über {@link Field#applyFieldEffect(int, Player)}) angewendet.
+ * Mit der Methode {@link #rollDiceAndNextTurn()} wird ein Würfelwurf simuliert und der aktuelle Spieler
+ * gemäß dem Spielbrett des Spiels ({@link CompiledBoard}) bewegt.
  * </p>
  *
  * <p>
@@ -26,10 +32,18 @@ import java.util.List;
  * </p>
  */
 @Entity
-@Table(name = "games")
+@Table(name = "games", indexes = {
+        // Lobby-Liste: Filter auf den Status, seitenweise absteigend nach ID (Keyset-Pagination)
+        @Index(name = "idx_games_state_id", columnList = "game_state, id"),
+        @Index(name = "idx_games_host", columnList = "game_host_name"),
+        @Index(name = "idx_games_created_at", columnList = "created_at")
+})
 @Setter
 @Getter
 public class Game implements GameIF {
+
+    private static final Logger log = LoggerFactory.getLogger(Game.class);
+
     /**
      * Die eindeutige Identifikation des Spiels.
      */
@@ -72,6 +86,51 @@ public class Game implements GameIF {
      */
     private String gameState = "Lobby";
 
+    /**
+     * Die Zustandsversion des Spiels. Sie wird von der GameEngine bei jeder Änderung erhöht und
+     * dient Clients als Vergleichswert (Compare-and-Set) für Spielbefehle.
+     */
+    private long stateVersion = 0;
+
+    /**
+     * Der Name des Spielbretts, das beim Erstellen der Lobby gewählt wurde.
+     */
+    private String boardName = CompiledBoard.CLASSIC;
+
+    /**
+     * Der Zeitpunkt, zu dem die Lobby erstellt wurde.
+     */
+    private Instant createdAt;
+
+    /**
+     * Das übersetzte Spielbrett. Es wird von der GameEngine passend zu {@link #boardName} gesetzt
+     * und nicht gespeichert.
+     */
+    @Transient
+    @JsonIgnore
+    private CompiledBoard board;
+
+    /**
+     * Der Seed des Würfels. Zusammen mit {@link #diceRolls} legt er alle weiteren Würfe fest,
+     * sodass sich ein Spiel exakt nachspielen lässt. Wird nicht an Clients übertragen.
+     */
+    @JsonIgnore
+    private long diceSeed;
+
+    /**
+     * Die Anzahl der bisherigen Würfe in diesem Spiel.
+     */
+    @JsonIgnore
+    private long diceRolls = 0;
+
+    /**
+     * Der Würfel des Spiels. Er wird von der GameEngine passend zu {@link #diceSeed} und {@link #diceRolls}
+     * gesetzt und nicht gespeichert.
+     */
+    @Transient
+    @JsonIgnore
+    private DiceIF dice;
+
     /**
      * Die Liste der Spieler, die an diesem Spiel teilnehmen.
      * Die Beziehung wird per OneToMany mit CascadeType.ALL und Lazy-Fetching verwaltet.
@@ -148,36 +207,130 @@ public class Game implements GameIF {
     }
 
     /**
-     * Simuliert einen Würfelwurf, aktualisiert die Position des aktuellen Spielers und wendet gegebenenfalls einen Feldeffekt an.
+     * Simuliert einen Würfelwurf, aktualisiert die Position des aktuellen Spielers und wendet gegebenenfalls einen Sprung an.
      * Anschließend wird der Zug an den nächsten Spieler weitergegeben.
      *
      * <p>
-     * Der Würfelwurf erfolgt über {@link Dice#rollDice()}. Die neue Position des Spielers wird berechnet und auf maximal 64 begrenzt.
-     * Falls das neue Feld einen speziellen Effekt besitzt, wird dieser über {@link Field#applyFieldEffect(int, Player)} angewendet.
+     * Der Würfelwurf erfolgt über den Würfel des Spiels ({@link DiceIF#rollDice()}). Die neue Position ergibt sich
+     * aus der Übergangstabelle des Spielbretts ({@link CompiledBoard#move(int, int)}): Sie wird auf das Zielfeld
+     * begrenzt und ein Sprung auf dem Landefeld angewendet.
      * </p>
      *
      * @return der Wert des gewürfelten Ergebnisses
      */
     public int rollDiceAndNextTurn() {
-        int rolledValue = Dice.rollDice();
+        int rolledValue = dice().rollDice();
         this.lastDiceRoll = rolledValue;
+        this.diceRolls++;
 
         int currentIndex = getCurrentPlayerIndex();
         Player currentPlayer = players.get(currentIndex);
 
-        // Berechne die neue Position: Falls sie 64 überschreitet, wird sie auf 64 begrenzt
-        int newPos = currentPlayer.getPostion() + rolledValue;
-        if (newPos > 64) {
-            newPos = 64;
-        }
+        // Die Übergangstabelle enthält bereits die Begrenzung auf das Ziel und den Sprung des Landefelds
+        int newPos = getBoard().move(currentPlayer.getPostion(), rolledValue);
         currentPlayer.setPostion(newPos);
-        System.out.println("Player landed on field index: " + newPos);
-
-        // Wende den Feldeffekt an, falls das Feld einen speziellen Effekt besitzt
-        Field.applyFieldEffect(newPos, currentPlayer);
+        log.debug("Player moved to field index {}", newPos);
 
         // Wechsle zum nächsten Spieler
         nextTurn();
         return rolledValue;
     }
+
+    /**
+     * Erstellt eine unveränderliche Momentaufnahme dieses Spiels samt Kopien aller Spieler.
+     * Momentaufnahmen werden von der GameEngine an lesende Zugriffe und an die Persistenz weitergegeben,
+     * damit diese nie einen gerade in Änderung befindlichen Zustand sehen.
+     *
+     * @return die Kopie des Spiels
+     */
+    public Game snapshot() {
+        Game copy = new Game();
+        copy.id = id;
+        copy.gameHostName = gameHostName;
+        copy.maxPlayersNumber = maxPlayersNumber;
+        copy.allPlayersAreReady = allPlayersAreReady;
+        copy.lastDiceRoll = lastDiceRoll;
+        copy.currentPlayerUsername = currentPlayerUsername;
+        copy.gameStarted = gameStarted;
+        copy.gameState = gameState;
+        copy.stateVersion = stateVersion;
+        copy.boardName = boardName;
+        copy.createdAt = createdAt;
+        copy.board = board;
+        copy.diceSeed = diceSeed;
+        copy.diceRolls = diceRolls;
+        List<Player> playerCopies = new ArrayList<>(players.size());
+        for (Player player : players) {
+            playerCopies.add(player.copy(copy));
+        }
+        copy.players = playerCopies;
+        return copy;
+    }
+
+    /**
+     * Wendet ein aufgezeichnetes Ereignis auf dieses Spiel an, z. B. beim Wiederherstellen aus dem Journal.
+     * Die Zustandsversion wird dabei nicht verändert.
+     *
+     * @param event das anzuwendende Ereignis
+     */
+    public void apply(GameEvent event) {
+        switch (event) {
+            case GameEvent.PlayerJoined joined -> {
+                Player player = new Player();
+                player.setId(joined.playerId());
+                player.setName(joined.name());
+                player.setBot(joined.bot());
+                allPlayersAreReady = false;
+                addPlayer(player);
+                player.setPlayerIndex(joined.playerIndex());
+            }
+            case GameEvent.ReadyChanged changed -> {
+                findPlayer(changed.playerId()).setReady(changed.ready());
+                allPlayersAreReady = changed.allPlayersReady();
+            }
+            case GameEvent.GameStarted started -> {
+                gameStarted = true;
+                gameState = started.gameState();
+            }
+            case GameEvent.DiceRolled rolled -> {
+                findPlayer(rolled.playerId()).setPostion(rolled.target());
+                lastDiceRoll = rolled.value();
+                diceRolls++;
+            }
+            case GameEvent.TurnAdvanced advanced -> currentPlayerUsername = advanced.player();
+            case GameEvent.PlayerLeft left -> players.remove(findPlayer(left.playerId()));
+        }
+    }
+
+    /**
+     * Gibt das Spielbrett zurück. Wurde keines gesetzt, wird das Standardbrett verwendet.
+     *
+     * @return das übersetzte Spielbrett
+     */
+    public CompiledBoard getBoard() {
+        return board != null ? board : CompiledBoard.classic();
+    }
+
+    /**
+     * Liefert den Würfel des Spiels. Wurde keiner gesetzt, wird ein {@link Dice} mit dem Seed des Spiels
+     * an der Stelle des nächsten Wurfs fortgesetzt.
+     */
+    private DiceIF dice() {
+        if (dice == null) {
+            dice = new Dice(diceSeed);
+            for (long i = 0; i < diceRolls; i++) {
+                dice.rollDice();
+            }
+        }
+        return dice;
+    }
+
+    private Player findPlayer(long playerId) {
+        for (Player player : players) {
+            if (player.getId() != null && player.getId() == playerId) {
+                return player;
+            }
+        }
+        throw new IllegalStateException("Player " + playerId + " not found in game " + id);
+    }
 }
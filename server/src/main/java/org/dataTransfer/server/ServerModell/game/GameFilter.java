@@ -0,0 +1,88 @@
+package org.dataTransfer.server.ServerModell.game;
+
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.dataTransfer.server.ServerModell.player.Player;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Die Filter und die Position einer Seite der Spieleliste ({@code GET /api/games}).
+ *
+ * <p>
+ * Die Liste ist absteigend nach ID sortiert, also die neuesten Spiele zuerst. Geblättert wird per Keyset:
+ * {@code cursor} ist die ID des letzten Spiels der vorigen Seite, die nächste Seite beginnt mit der nächstkleineren
+ * ID. Anders als bei einem Offset bleibt der Aufwand je Seite damit unabhängig davon, wie weit geblättert wurde.
+ * Nicht gesetzte Filter ({@code null}) schränken nicht ein.
+ * </p>
+ *
+ * @param state        der Spielstatus, z. B. {@code "Lobby"}
+ * @param freeSeat     {@code true}: nur Spiele mit freiem Platz, {@code false}: nur volle Spiele
+ * @param host         der Name des Hosts
+ * @param createdAfter nur Spiele, die nach diesem Zeitpunkt erstellt wurden
+ * @param cursor       die ID des letzten Spiels der vorigen Seite, {@code null} für die erste Seite
+ * @param limit        die höchste Anzahl von Spielen auf der Seite
+ */
+public record GameFilter(String state, Boolean freeSeat, String host, Instant createdAfter, Long cursor, int limit) {
+
+    /**
+     * Setzt die Filter in eine Datenbankabfrage um. Die Anzahl der Spieler für {@code freeSeat} wird über
+     * eine Unterabfrage auf {@code players.game_id} ermittelt.
+     *
+     * @return die Abfragebedingung
+     */
+    public Specification<Game> toSpecification() {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (cursor != null) {
+                predicates.add(cb.lessThan(root.get("id"), cursor));
+            }
+            if (state != null) {
+                predicates.add(cb.equal(root.get("gameState"), state));
+            }
+            if (host != null) {
+                predicates.add(cb.equal(root.get("gameHostName"), host));
+            }
+            if (createdAfter != null) {
+                predicates.add(cb.greaterThan(root.get("createdAt"), createdAfter));
+            }
+            if (freeSeat != null) {
+                Subquery<Long> seated = query.subquery(Long.class);
+                Root<Player> player = seated.from(Player.class);
+                seated.select(cb.count(player)).where(cb.equal(player.get("game"), root));
+                var capacity = root.<Integer>get("maxPlayersNumber").as(Long.class);
+                predicates.add(freeSeat ? cb.lessThan(seated, capacity) : cb.greaterThanOrEqualTo(seated, capacity));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Liefert dieselben Filter für die Seite nach dem angegebenen Spiel.
+     *
+     * @param cursor die ID des letzten bereits gelesenen Spiels
+     * @return die Filter der folgenden Seite
+     */
+    public GameFilter after(long cursor) {
+        return new GameFilter(state, freeSeat, host, createdAfter, cursor, limit);
+    }
+
+    /**
+     * Prüft die Filter an einer Momentaufnahme aus dem Speicher, deren Stand neuer sein kann als der der Datenbank.
+     * Ist der Erstellungszeitpunkt unbekannt (z. B. nach dem Wiederherstellen aus einem älteren Journal), gilt der
+     * Filter als erfüllt, damit das Spiel nicht aus gefilterten Listen verschwindet.
+     *
+     * @param game die Momentaufnahme
+     * @return {@code true}, falls das Spiel alle Filter erfüllt
+     */
+    public boolean matches(Game game) {
+        return (state == null || state.equals(game.getGameState()))
+                && (host == null || host.equals(game.getGameHostName()))
+                && (createdAfter == null || game.getCreatedAt() == null || game.getCreatedAt().isAfter(createdAfter))
+                && (freeSeat == null || freeSeat == (game.getPlayers().size() < game.getMaxPlayersNumber()));
+    }
+}
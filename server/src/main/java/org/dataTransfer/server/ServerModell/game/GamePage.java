@@ -0,0 +1,19 @@
+package org.dataTransfer.server.ServerModell.game;
+
+import org.dataTransfer.server.ServerModell.view.GameSummary;
+
+import java.util.List;
+
+/**
+ * Eine Seite der Spieleliste.
+ *
+ * <p>
+ * Enthält die Seite weniger Spiele als angefordert, folgen keine weiteren; {@code nextCursor} ist dann
+ * {@code null}. Eine volle Seite kann dagegen auf eine leere letzte Seite verweisen.
+ * </p>
+ *
+ * @param games      die Listeneinträge der Spiele, absteigend nach ID
+ * @param nextCursor der Cursor der nächsten Seite oder {@code null}, falls dies die letzte Seite ist
+ */
+public record GamePage(List<GameSummary> games, Long nextCursor) {
+}
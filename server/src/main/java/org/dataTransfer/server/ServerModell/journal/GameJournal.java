@@ -0,0 +1,524 @@
+package org.dataTransfer.server.ServerModell.journal;
+
+import jakarta.annotation.PreDestroy;
+import org.dataTransfer.server.ServerModell.GameRepository;
+import org.dataTransfer.server.ServerModell.PlayerRepository;
+import org.dataTransfer.server.ServerModell.engine.GamePersistence;
+import org.dataTransfer.server.ServerModell.event.GameEvent;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.metrics.Histogram;
+import org.dataTransfer.server.ServerModell.player.Player;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Das {@code GameJournal} ist ein Schreibpfad der {@link org.dataTransfer.server.ServerModell.engine.GameEngine},
+ * der Änderungen als Ereignisse an ein Journal anhängt, statt Momentaufnahmen über das {@link GameRepository}
+ * zu speichern. Es wird mit {@code game.engine.persistence-mode=journal} gewählt.
+ *
+ * <p>
+ * Das Journal besteht aus Segmentdateien fester Größe ({@link JournalSegment}), die in den Speicher abgebildet
+ * sind. Ein einzelner Schreib-Thread entnimmt die Datensätze einer Warteschlange stapelweise, hängt sie an
+ * das aktuelle Segment an und schreibt sie gemeinsam auf das Speichermedium (Group Commit):
+ * </p>
+ * <ul>
+ *     <li>{@code game.journal.sync-commit=false} (Standard): höchstens alle {@code game.journal.fsync-interval-ms}
+ *     Millisekunden ein {@code fsync}; ein Befehl wartet nicht darauf.</li>
+ *     <li>{@code game.journal.sync-commit=true}: jeder Befehl wartet, bis sein Stapel dauerhaft geschrieben ist.
+ *     Gleichzeitige Befehle verschiedener Spuren teilen sich dabei ein {@code fsync}.</li>
+ * </ul>
+ *
+ * <p>
+ * Alle {@code game.journal.snapshot-interval-ms} Millisekunden beginnt ein neues Segment mit einer Momentaufnahme
+ * jedes bekannten Spiels; danach werden die älteren Segmente gelöscht. Beim Start werden alle Spiele aus der
+ * letzten Momentaufnahme und den folgenden Ereignissen wiederhergestellt.
+ * </p>
+ *
+ * <p>
+ * Das Anlegen von Spielen und Spielern bleibt synchron in der Datenbank, da diese die IDs vergibt; Löschungen
+ * werden dort ebenfalls ausgeführt. Bevor die Engine ein Spiel aus dem Speicher entfernt, wird sein Stand in die
+ * Datenbank geschrieben ({@link #checkpoint(Game)}); danach fehlt es in den folgenden Momentaufnahmen des Journals
+ * und wird bei Bedarf aus der Datenbank geladen. Damit die IDs nach einem Neustart eindeutig bleiben, muss die Datenbank
+ * in diesem Modus dauerhaft sein (z. B. {@code spring.datasource.url=jdbc:h2:file:./data/horse}).
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "game.engine.persistence-mode", havingValue = "journal")
+public class GameJournal implements GamePersistence {
+
+    private static final Logger log = LoggerFactory.getLogger(GameJournal.class);
+
+    /** Datensatz mit einer vollständigen Momentaufnahme eines Spiels. */
+    static final byte SNAPSHOT = 1;
+    /** Datensatz mit den Ereignissen eines Befehls. */
+    static final byte EVENTS = 2;
+    /** Datensatz für ein gelöschtes Spiel. */
+    static final byte DELETED = 3;
+
+    /** Steuerbefehle an den Schreib-Thread; sie werden nicht geschrieben. */
+    private static final byte ROTATE = -1;
+    private static final byte RECLAIM = -2;
+    private static final byte STOP = -3;
+
+    private final GameRepository gameRepository;
+    private final PlayerRepository playerRepository;
+    private final Path directory;
+    private final int segmentSize;
+    private final long fsyncIntervalNanos;
+    private final boolean syncCommit;
+
+    /** Die Datensätze, die der Schreib-Thread noch anhängen muss. */
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>(65_536);
+
+    /**
+     * Die neueste Momentaufnahme jedes Spiels im Journal, Grundlage der periodischen Momentaufnahmen.
+     * Wird nur unter {@link #enqueueLock} verändert, damit die Reihenfolge der Datensätze zu ihr passt.
+     */
+    private final Map<Long, Game> latest = new ConcurrentHashMap<>();
+
+    /** Laufende Nummer des letzten Datensatzes jedes Spiels in {@link #latest}; nur unter {@link #enqueueLock}. */
+    private final Map<Long, Long> lastSeq = new ConcurrentHashMap<>();
+
+    /** Die beim Start wiederhergestellten Spiele. */
+    private final Collection<Game> recovered;
+
+    private final Object enqueueLock = new Object();
+    private final Object durableLock = new Object();
+    /** Trennt das Löschen von Spielern vom Speichern einer Momentaufnahme in {@link #checkpoint(Game)}. */
+    private final Object checkpointLock = new Object();
+
+    /** Laufende Nummer des zuletzt eingereihten Datensatzes; nur unter {@link #enqueueLock}. */
+    private long enqueuedSeq = 0;
+
+    /** Laufende Nummer des letzten dauerhaft geschriebenen Datensatzes; nur unter {@link #durableLock}. */
+    private long durableSeq = 0;
+
+    /** Der Fehler, an dem der Schreib-Thread gescheitert ist, sonst {@code null}. */
+    private volatile RuntimeException failure;
+
+    /** Das aktuelle Segment; nur vom Schreib-Thread verwendet. */
+    private JournalSegment segment;
+
+    /** Segmente mit kleinerer Nummer werden beim nächsten {@code RECLAIM} gelöscht; nur vom Schreib-Thread. */
+    private long reclaimBelow = -1;
+
+    private final Thread writer;
+
+    /** Dauer jedes {@code fsync} des Schreib-Threads. */
+    private final Histogram flushLatency = new Histogram();
+
+    /**
+     * Öffnet das Journal, stellt die Spiele aus den vorhandenen Segmenten wieder her und startet den Schreib-Thread.
+     *
+     * @param gameRepository   das Repository für Spiele (Löschungen)
+     * @param playerRepository das Repository für Spieler (Löschungen)
+     * @param directory        das Verzeichnis der Segmentdateien
+     * @param segmentSizeMb    die Größe einer Segmentdatei in MiB
+     * @param fsyncIntervalMs  der höchste Abstand zweier {@code fsync} ohne {@code sync-commit}
+     * @param syncCommit       ob jeder Befehl auf das dauerhafte Schreiben wartet
+     * @throws IOException falls das Journal nicht geöffnet werden kann
+     */
+    public GameJournal(GameRepository gameRepository,
+                       PlayerRepository playerRepository,
+                       @Value("${game.journal.dir:data/journal}") Path directory,
+                       @Value("${game.journal.segment-size-mb:64}") int segmentSizeMb,
+                       @Value("${game.journal.fsync-interval-ms:2}") long fsyncIntervalMs,
+                       @Value("${game.journal.sync-commit:false}") boolean syncCommit) throws IOException {
+        this.gameRepository = gameRepository;
+        this.playerRepository = playerRepository;
+        this.directory = directory;
+        this.segmentSize = segmentSizeMb * 1024 * 1024;
+        this.fsyncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fsyncIntervalMs);
+        this.syncCommit = syncCommit;
+
+        Files.createDirectories(directory);
+        List<Long> segments = JournalSegment.list(directory);
+        this.recovered = replay(directory, segments);
+        for (Game game : recovered) {
+            latest.put(game.getId(), game.snapshot());
+        }
+        long next = segments.isEmpty() ? 1 : segments.get(segments.size() - 1) + 1;
+        this.segment = JournalSegment.create(directory, next, segmentSize);
+
+        this.writer = new Thread(this::writeLoop, "game-journal");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public Collection<Game> recover() {
+        return recovered;
+    }
+
+    @Override
+    public void gameCreated(Game snapshot) {
+        append(SNAPSHOT, snapshot, JournalCodec.encodeGame(snapshot));
+    }
+
+    /**
+     * Hängt die Ereignisse des Befehls an. Ohne Ereignisse oder für ein Spiel, das noch nicht im Journal steht
+     * (z. B. gerade aus der Datenbank geladen), wird stattdessen die vollständige Momentaufnahme geschrieben.
+     *
+     * @param snapshot die neue Momentaufnahme
+     * @param events   die Ereignisse des Befehls
+     */
+    @Override
+    public void gameChanged(Game snapshot, List<GameEvent> events) {
+        if (events.isEmpty() || !latest.containsKey(snapshot.getId())) {
+            append(SNAPSHOT, snapshot, JournalCodec.encodeGame(snapshot));
+        } else {
+            append(EVENTS, snapshot, JournalCodec.encodeEvents(events));
+        }
+    }
+
+    @Override
+    public void playerDeleted(Long playerId) {
+        synchronized (checkpointLock) {
+            playerRepository.deleteById(playerId);
+        }
+    }
+
+    @Override
+    public void gameDeleted(long gameId) {
+        long seq;
+        synchronized (enqueueLock) {
+            latest.remove(gameId);
+            lastSeq.remove(gameId);
+            seq = enqueue(new Entry(DELETED, gameId, 0, new byte[0]));
+        }
+        awaitDurable(seq);
+        gameRepository.deleteById(gameId);
+    }
+
+    /**
+     * Schreibt die Momentaufnahme in die Datenbank, sobald der letzte Datensatz des Spiels dauerhaft im Journal
+     * steht. Die Engine lädt das Spiel nach dem Entfernen von dort.
+     *
+     * <p>
+     * Die Momentaufnahme kann veraltet sein, während die Spur des Spiels weiterläuft. Enthält sie einen
+     * inzwischen gelöschten Spieler, wird sie verworfen, da das Speichern ihn sonst erneut anlegen würde.
+     * </p>
+     *
+     * @param snapshot die aktuelle Momentaufnahme des Spiels
+     * @return {@code true}, falls die Momentaufnahme in der Datenbank steht
+     */
+    @Override
+    public boolean checkpoint(Game snapshot) {
+        Long seq = lastSeq.get(snapshot.getId());
+        if (seq != null) {
+            synchronized (durableLock) {
+                if (durableSeq < seq) {
+                    return false;
+                }
+            }
+        }
+        try {
+            synchronized (checkpointLock) {
+                for (Player player : snapshot.getPlayers()) {
+                    if (!playerRepository.existsById(player.getId())) {
+                        return false;
+                    }
+                }
+                gameRepository.save(snapshot);
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Checkpoint von Spiel {} fehlgeschlagen: {}", snapshot.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Nimmt das Spiel aus den folgenden Momentaufnahmen des Journals; sein Stand steht in der Datenbank.
+     *
+     * @param gameId die ID des entfernten Spiels
+     */
+    @Override
+    public void gameEvicted(long gameId) {
+        synchronized (enqueueLock) {
+            latest.remove(gameId);
+            lastSeq.remove(gameId);
+        }
+    }
+
+    /**
+     * Schreibt eine Momentaufnahme aller Spiele in ein neues Segment und löscht danach die älteren Segmente.
+     * Die Momentaufnahmen werden unter derselben Sperre eingereiht wie die Befehle, sodass im neuen Segment
+     * auf die Momentaufnahme eines Spiels nur dessen neuere Ereignisse folgen.
+     */
+    @Scheduled(fixedDelayString = "${game.journal.snapshot-interval-ms:60000}",
+            initialDelayString = "${game.journal.snapshot-interval-ms:60000}")
+    public void snapshot() {
+        synchronized (enqueueLock) {
+            enqueue(new Entry(ROTATE, 0, 0, null));
+            for (Game game : latest.values()) {
+                enqueue(new Entry(SNAPSHOT, game.getId(), game.getStateVersion(), JournalCodec.encodeGame(game)));
+            }
+            enqueue(new Entry(RECLAIM, 0, 0, null));
+        }
+    }
+
+    @Override
+    public Histogram getFlushLatency() {
+        return flushLatency;
+    }
+
+    /**
+     * Gibt die Anzahl der Segmentdateien im Journal-Verzeichnis zurück.
+     *
+     * @return die Anzahl der Segmente
+     */
+    public int getSegmentCount() {
+        try {
+            return JournalSegment.list(directory).size();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Schreibt beim Herunterfahren alle eingereihten Datensätze dauerhaft und schließt das Journal.
+     *
+     * @throws InterruptedException falls das Warten auf den Schreib-Thread unterbrochen wird
+     */
+    @PreDestroy
+    public void close() throws InterruptedException {
+        if (!writer.isAlive()) {
+            return;
+        }
+        synchronized (enqueueLock) {
+            enqueue(new Entry(STOP, 0, 0, null));
+        }
+        writer.join();
+    }
+
+    private void append(byte type, Game snapshot, byte[] payload) {
+        long seq;
+        synchronized (enqueueLock) {
+            latest.put(snapshot.getId(), snapshot);
+            seq = enqueue(new Entry(type, snapshot.getId(), snapshot.getStateVersion(), payload));
+            lastSeq.put(snapshot.getId(), seq);
+        }
+        awaitDurable(seq);
+    }
+
+    /**
+     * Reiht einen Datensatz ein; muss unter {@link #enqueueLock} aufgerufen werden. Ist die Warteschlange voll,
+     * blockiert der Aufruf, bis der Schreib-Thread aufgeholt hat.
+     */
+    private long enqueue(Entry entry) {
+        RuntimeException failed = failure;
+        if (failed != null) {
+            throw new IllegalStateException("Game journal is not writable", failed);
+        }
+        entry.seq = ++enqueuedSeq;
+        try {
+            queue.put(entry);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while appending to the game journal", e);
+        }
+        return entry.seq;
+    }
+
+    /**
+     * Wartet im Modus {@code sync-commit}, bis der Datensatz dauerhaft geschrieben ist.
+     */
+    private void awaitDurable(long seq) {
+        if (!syncCommit) {
+            return;
+        }
+        synchronized (durableLock) {
+            while (durableSeq < seq) {
+                if (failure != null) {
+                    throw new IllegalStateException("Game journal is not writable", failure);
+                }
+                try {
+                    durableLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for the game journal", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Der Schreib-Thread: hängt die Datensätze stapelweise an und schreibt sie gemeinsam dauerhaft.
+     */
+    private void writeLoop() {
+        List<Entry> batch = new ArrayList<>(256);
+        long lastForce = System.nanoTime();
+        long written = 0;
+        boolean dirty = false;
+        try {
+            while (true) {
+                // Mit ungeschriebenen Daten höchstens ein fsync-Intervall warten, sonst bis zum nächsten Datensatz
+                Entry first = dirty
+                        ? queue.poll(Math.max(fsyncIntervalNanos, 1), TimeUnit.NANOSECONDS)
+                        : queue.take();
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, 4095);
+                }
+                boolean stop = false;
+                for (Entry entry : batch) {
+                    switch (entry.type) {
+                        case ROTATE -> {
+                            rotate();
+                            reclaimBelow = segment.getIndex();
+                        }
+                        case RECLAIM -> {
+                            force();
+                            reclaim();
+                        }
+                        case STOP -> stop = true;
+                        default -> {
+                            write(entry);
+                            dirty = true;
+                        }
+                    }
+                    written = entry.seq;
+                }
+                batch.clear();
+
+                long now = System.nanoTime();
+                if (dirty && (syncCommit || stop || now - lastForce >= fsyncIntervalNanos)) {
+                    force();
+                    lastForce = now;
+                    dirty = false;
+                }
+                if (!dirty) {
+                    markDurable(written);
+                }
+                if (stop) {
+                    segment.close();
+                    return;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            failure = e instanceof RuntimeException runtime ? runtime : new UncheckedIOException((IOException) e);
+            log.error("Journal-Schreib-Thread abgebrochen", e);
+            synchronized (durableLock) {
+                durableLock.notifyAll();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void force() throws IOException {
+        long start = System.nanoTime();
+        segment.force();
+        flushLatency.recordSince(start);
+    }
+
+    private void write(Entry entry) throws IOException {
+        if (!segment.append(entry.type, entry.gameId, entry.version, entry.payload)) {
+            rotate();
+            if (!segment.append(entry.type, entry.gameId, entry.version, entry.payload)) {
+                throw new IllegalStateException("Journal record of " + entry.payload.length
+                        + " bytes exceeds the segment size " + segmentSize);
+            }
+        }
+    }
+
+    private void rotate() throws IOException {
+        long next = segment.getIndex() + 1;
+        segment.close();
+        segment = JournalSegment.create(directory, next, segmentSize);
+    }
+
+    private void reclaim() throws IOException {
+        for (long index : JournalSegment.list(directory)) {
+            if (index < reclaimBelow) {
+                Files.deleteIfExists(directory.resolve(JournalSegment.fileName(index)));
+            }
+        }
+    }
+
+    private void markDurable(long seq) {
+        synchronized (durableLock) {
+            if (seq > durableSeq) {
+                durableSeq = seq;
+                durableLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Stellt die Spiele aus den Segmenten wieder her: Eine Momentaufnahme ersetzt den bisherigen Stand,
+     * Ereignisse werden angewendet, wenn sie genau an den bisherigen Stand anschließen.
+     */
+    private static Collection<Game> replay(Path directory, List<Long> segments) throws IOException {
+        Map<Long, Game> games = new HashMap<>();
+        for (long index : segments) {
+            JournalSegment.read(directory.resolve(JournalSegment.fileName(index)), record -> {
+                Game current = games.get(record.gameId());
+                switch (record.type()) {
+                    case SNAPSHOT -> {
+                        if (current == null || record.version() >= current.getStateVersion()) {
+                            games.put(record.gameId(), JournalCodec.decodeGame(record.payload()));
+                        }
+                    }
+                    case EVENTS -> {
+                        if (current != null && record.version() == current.getStateVersion() + 1) {
+                            for (GameEvent event : JournalCodec.decodeEvents(record.payload())) {
+                                current.apply(event);
+                            }
+                            current.setStateVersion(record.version());
+                        } else if (current == null || record.version() > current.getStateVersion()) {
+                            log.warn("Journal: Luecke vor Version {} von Spiel {}, Ereignisse werden uebersprungen",
+                                    record.version(), record.gameId());
+                        }
+                    }
+                    case DELETED -> games.remove(record.gameId());
+                    default -> throw new IllegalStateException("Unknown journal record type " + record.type());
+                }
+            });
+        }
+        for (Game game : games.values()) {
+            for (Player player : game.getPlayers()) {
+                player.setGame(game);
+            }
+        }
+        log.info("Journal: {} Spiele aus {} Segmenten wiederhergestellt", games.size(), segments.size());
+        return new ArrayList<>(games.values());
+    }
+
+    /**
+     * Ein eingereihter Datensatz oder Steuerbefehl.
+     */
+    private static final class Entry {
+        private final byte type;
+        private final long gameId;
+        private final long version;
+        private final byte[] payload;
+        private long seq;
+
+        private Entry(byte type, long gameId, long version, byte[] payload) {
+            this.type = type;
+            this.gameId = gameId;
+            this.version = version;
+            this.payload = payload;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package org.dataTransfer.server.ServerModell.journal;
+
+import org.dataTransfer.server.ServerModell.event.GameEvent;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.player.Player;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binäre Kodierung der Journal-Nutzdaten: Momentaufnahmen von Spielen und die Ereignisse eines Befehls.
+ *
+ * <p>
+ * Ereignisse werden mit einem Typ-Byte gefolgt von ihren Feldern geschrieben. Ein Würfelwurf samt Zugwechsel
+ * belegt so rund 40 Byte statt einer vollständigen Momentaufnahme des Spiels.
+ * </p>
+ */
+final class JournalCodec {
+
+    private static final byte PLAYER_JOINED = 1;
+    private static final byte READY_CHANGED = 2;
+    private static final byte GAME_STARTED = 3;
+    private static final byte DICE_ROLLED = 4;
+    private static final byte TURN_ADVANCED = 5;
+    private static final byte PLAYER_LEFT = 6;
+    private static final byte BOT_JOINED = 7;
+
+    /** Bits des Status-Bytes eines Spielers in der Momentaufnahme; ältere Journale kennen nur {@code READY}. */
+    private static final int READY = 1;
+    private static final int BOT = 2;
+
+    private JournalCodec() {
+    }
+
+    /**
+     * Kodiert die Ereignisse eines Befehls.
+     *
+     * @param events die Ereignisse in Reihenfolge
+     * @return die kodierten Ereignisse
+     */
+    static byte[] encodeEvents(List<GameEvent> events) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + 24 * events.size());
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeShort(events.size());
+            for (GameEvent event : events) {
+                switch (event) {
+                    case GameEvent.PlayerJoined joined -> {
+                        out.writeByte(joined.bot() ? BOT_JOINED : PLAYER_JOINED);
+                        out.writeLong(joined.playerId());
+                        writeString(out, joined.name());
+                        out.writeInt(joined.playerIndex());
+                    }
+                    case GameEvent.ReadyChanged changed -> {
+                        out.writeByte(READY_CHANGED);
+                        out.writeLong(changed.playerId());
+                        out.writeBoolean(changed.ready());
+                        out.writeBoolean(changed.allPlayersReady());
+                    }
+                    case GameEvent.GameStarted started -> {
+                        out.writeByte(GAME_STARTED);
+                        writeString(out, started.gameState());
+                    }
+                    case GameEvent.DiceRolled rolled -> {
+                        out.writeByte(DICE_ROLLED);
+                        out.writeLong(rolled.playerId());
+                        out.writeByte(rolled.value());
+                        out.writeShort(rolled.from());
+                        out.writeShort(rolled.landing());
+                        out.writeShort(rolled.target());
+                    }
+                    case GameEvent.TurnAdvanced advanced -> {
+                        out.writeByte(TURN_ADVANCED);
+                        writeString(out, advanced.player());
+                    }
+                    case GameEvent.PlayerLeft left -> {
+                        out.writeByte(PLAYER_LEFT);
+                        out.writeLong(left.playerId());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Dekodiert die Ereignisse eines Befehls.
+     *
+     * @param data die kodierten Ereignisse
+     * @return die Ereignisse in Reihenfolge
+     */
+    static List<GameEvent> decodeEvents(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            int count = in.readUnsignedShort();
+            List<GameEvent> events = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                byte type = in.readByte();
+                events.add(switch (type) {
+                    case PLAYER_JOINED, BOT_JOINED -> new GameEvent.PlayerJoined(in.readLong(), readString(in),
+                            in.readInt(), type == BOT_JOINED);
+                    case READY_CHANGED -> new GameEvent.ReadyChanged(in.readLong(), in.readBoolean(), in.readBoolean());
+                    case GAME_STARTED -> new GameEvent.GameStarted(readString(in));
+                    case DICE_ROLLED -> new GameEvent.DiceRolled(in.readLong(), in.readByte(),
+                            in.readShort(), in.readShort(), in.readShort());
+                    case TURN_ADVANCED -> new GameEvent.TurnAdvanced(readString(in));
+                    case PLAYER_LEFT -> new GameEvent.PlayerLeft(in.readLong());
+                    default -> throw new IllegalStateException("Unknown journal event type " + type);
+                });
+            }
+            return events;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Kodiert eine vollständige Momentaufnahme eines Spiels samt Spielern.
+     *
+     * @param game die Momentaufnahme
+     * @return die kodierte Momentaufnahme
+     */
+    static byte[] encodeGame(Game game) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + 32 * game.getPlayers().size());
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(game.getId());
+            writeString(out, game.getGameHostName());
+            out.writeInt(game.getMaxPlayersNumber());
+            out.writeBoolean(game.isAllPlayersAreReady());
+            out.writeInt(game.getLastDiceRoll());
+            writeString(out, game.getCurrentPlayerUsername());
+            out.writeBoolean(game.isGameStarted());
+            writeString(out, game.getGameState());
+            out.writeLong(game.getStateVersion());
+            writeString(out, game.getBoardName());
+            out.writeLong(game.getDiceSeed());
+            out.writeLong(game.getDiceRolls());
+            out.writeShort(game.getPlayers().size());
+            for (Player player : game.getPlayers()) {
+                out.writeLong(player.getId() != null ? player.getId() : -1L);
+                out.writeInt(player.getPlayerIndex());
+                writeString(out, player.getName());
+                out.writeByte((player.isReady() ? READY : 0) | (player.isBot() ? BOT : 0));
+                out.writeInt(player.getPostion());
+            }
+            // Am Ende angehängt, damit ältere Momentaufnahmen ohne diesen Wert lesbar bleiben
+            out.writeLong(game.getCreatedAt() != null ? game.getCreatedAt().toEpochMilli() : -1L);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Dekodiert eine Momentaufnahme. Die Spieler werden dem neuen Spiel zugeordnet.
+     *
+     * @param data die kodierte Momentaufnahme
+     * @return das Spiel
+     */
+    static Game decodeGame(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            Game game = new Game();
+            game.setId(in.readLong());
+            game.setGameHostName(readString(in));
+            game.setMaxPlayersNumber(in.readInt());
+            game.setAllPlayersAreReady(in.readBoolean());
+            game.setLastDiceRoll(in.readInt());
+            game.setCurrentPlayerUsername(readString(in));
+            game.setGameStarted(in.readBoolean());
+            game.setGameState(readString(in));
+            game.setStateVersion(in.readLong());
+            game.setBoardName(readString(in));
+            game.setDiceSeed(in.readLong());
+            game.setDiceRolls(in.readLong());
+            int count = in.readUnsignedShort();
+            List<Player> players = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Player player = new Player();
+                long id = in.readLong();
+                player.setId(id >= 0 ? id : null);
+                player.setPlayerIndex(in.readInt());
+                player.setName(readString(in));
+                int flags = in.readUnsignedByte();
+                player.setReady((flags & READY) != 0);
+                player.setBot((flags & BOT) != 0);
+                player.setPostion(in.readInt());
+                player.setGame(game);
+                players.add(player);
+            }
+            game.setPlayers(players);
+            if (in.available() >= Long.BYTES) {
+                long createdAt = in.readLong();
+                game.setCreatedAt(createdAt >= 0 ? Instant.ofEpochMilli(createdAt) : null);
+            }
+            return game;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,205 @@
+package org.dataTransfer.server.ServerModell.journal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Eine Segmentdatei des {@link GameJournal}: eine Datei fester Größe, die vollständig in den Speicher
+ * abgebildet ist und nur am Ende beschrieben wird.
+ *
+ * <p>
+ * Jeder Datensatz hat den Aufbau {@code [int Länge][int CRC32][byte Typ][long Spiel-ID][long Version][Nutzdaten]}.
+ * Das Längenfeld enthält die Länge der Nutzdaten plus 1, die Prüfsumme deckt Typ, IDs und Nutzdaten ab. Da neue
+ * Dateien mit Nullen gefüllt sind, markiert ein Längenfeld von 0 das Ende der Daten; Datensätze ohne Nutzdaten
+ * (z. B. {@code DELETED}) haben so das Längenfeld 1. Ein unvollständig geschriebener Datensatz am Ende
+ * (z. B. nach einem Absturz) fällt durch die Prüfsumme auf und beendet das Lesen ebenfalls.
+ * </p>
+ *
+ * <p>
+ * Geschrieben wird nur vom Schreib-Thread des Journals; {@link #force()} schreibt die bisher angehängten
+ * Datensätze dauerhaft auf das Speichermedium.
+ * </p>
+ */
+final class JournalSegment implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalSegment.class);
+
+    /** Größe des Datensatzkopfs in Byte. */
+    static final int HEADER_LENGTH = 4 + 4 + 1 + 8 + 8;
+
+    private static final String PREFIX = "journal-";
+    private static final String SUFFIX = ".seg";
+
+    private final long index;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final CRC32 crc = new CRC32();
+    private final ByteBuffer scratch = ByteBuffer.allocate(17);
+
+    /** Position, bis zu der bereits {@link #force()} ausgeführt wurde. */
+    private int forcedPosition = 0;
+
+    private JournalSegment(long index, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.index = index;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Legt ein neues, leeres Segment an.
+     *
+     * @param directory das Journal-Verzeichnis
+     * @param index     die laufende Nummer des Segments
+     * @param size      die Größe der Datei in Byte
+     * @return das geöffnete Segment
+     * @throws IOException falls die Datei nicht angelegt werden kann
+     */
+    static JournalSegment create(Path directory, long index, int size) throws IOException {
+        Path path = directory.resolve(fileName(index));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        return new JournalSegment(index, path, channel, buffer);
+    }
+
+    /**
+     * Hängt einen Datensatz an.
+     *
+     * @param type    der Datensatztyp
+     * @param gameId  die ID des Spiels
+     * @param version die Zustandsversion des Spiels
+     * @param payload die Nutzdaten
+     * @return {@code false}, falls das Segment für den Datensatz zu voll ist
+     */
+    boolean append(byte type, long gameId, long version, byte[] payload) {
+        // Für die abschließende Länge 0 muss hinter dem Datensatz Platz bleiben
+        if (buffer.remaining() < HEADER_LENGTH + payload.length + 4) {
+            return false;
+        }
+        int checksum = checksum(crc, scratch, type, gameId, version, payload);
+
+        int start = buffer.position();
+        buffer.position(start + 4);
+        buffer.putInt(checksum);
+        buffer.put(type);
+        buffer.putLong(gameId);
+        buffer.putLong(version);
+        buffer.put(payload);
+        // Die Länge zuletzt schreiben, damit ein Leser nie einen halben Datensatz für gültig hält
+        buffer.putInt(start, payload.length + 1);
+        return true;
+    }
+
+    /**
+     * Schreibt alle seit dem letzten Aufruf angehängten Datensätze dauerhaft auf das Speichermedium.
+     */
+    void force() {
+        int position = buffer.position();
+        if (position > forcedPosition) {
+            buffer.force(forcedPosition, position - forcedPosition);
+            forcedPosition = position;
+        }
+    }
+
+    long getIndex() {
+        return index;
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    /**
+     * Liest alle gültigen Datensätze eines Segments in Reihenfolge.
+     *
+     * @param path    die Segmentdatei
+     * @param visitor erhält jeden gültigen Datensatz
+     * @throws IOException falls die Datei nicht gelesen werden kann
+     */
+    static void read(Path path, Consumer<Record> visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            CRC32 crc = new CRC32();
+            ByteBuffer scratch = ByteBuffer.allocate(17);
+            while (buffer.remaining() >= HEADER_LENGTH) {
+                int length = buffer.getInt() - 1;
+                if (length < 0 || buffer.remaining() < HEADER_LENGTH - 4 + length) {
+                    return;
+                }
+                int checksum = buffer.getInt();
+                byte type = buffer.get();
+                long gameId = buffer.getLong();
+                long version = buffer.getLong();
+                byte[] payload = new byte[length];
+                buffer.get(payload);
+
+                if (checksum(crc, scratch, type, gameId, version, payload) != checksum) {
+                    log.warn("Journal {}: ungueltiger Datensatz, Rest wird ignoriert", path.getFileName());
+                    return;
+                }
+                visitor.accept(new Record(type, gameId, version, payload));
+            }
+        }
+    }
+
+    /**
+     * Liefert alle Segmente eines Verzeichnisses in aufsteigender Reihenfolge.
+     *
+     * @param directory das Journal-Verzeichnis
+     * @return die laufenden Nummern der Segmente
+     * @throws IOException falls das Verzeichnis nicht gelesen werden kann
+     */
+    static List<Long> list(Path directory) throws IOException {
+        List<Long> indexes = new ArrayList<>();
+        try (var files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                    .forEach(name -> indexes.add(Long.parseLong(
+                            name.substring(PREFIX.length(), name.length() - SUFFIX.length()))));
+        }
+        indexes.sort(null);
+        return indexes;
+    }
+
+    static String fileName(long index) {
+        return String.format("%s%016d%s", PREFIX, index, SUFFIX);
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    private static int checksum(CRC32 crc, ByteBuffer scratch, byte type, long gameId, long version, byte[] payload) {
+        crc.reset();
+        crc.update(scratch.clear().put(type).putLong(gameId).putLong(version).flip());
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Ein gelesener Datensatz.
+     *
+     * @param type    der Datensatztyp
+     * @param gameId  die ID des Spiels
+     * @param version die Zustandsversion
+     * @param payload die Nutzdaten
+     */
+    record Record(byte type, long gameId, long version, byte[] payload) {
+    }
+}
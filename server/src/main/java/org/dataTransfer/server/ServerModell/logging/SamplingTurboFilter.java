@@ -0,0 +1,80 @@
+package org.dataTransfer.server.ServerModell.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ein Logback-{@link TurboFilter}, der von den häufigsten Ereignissen nur jedes {@code every}-te durchlässt.
+ *
+ * <p>
+ * Betroffen sind Logger, deren Name mit einer der in {@code categories} (durch Kommas getrennt) genannten
+ * Kategorien beginnt, und nur Ereignisse unterhalb von {@code WARN}; Warnungen und Fehler werden nie verworfen.
+ * Gezählt wird je Logger und nur, was dessen Level ohnehin durchlassen würde. Der Filter entscheidet, bevor die
+ * Nachricht formatiert oder in die Warteschlange des asynchronen Appenders gestellt wird, sodass verworfene
+ * Ereignisse weder Zeichenketten noch Einträge erzeugen.
+ * </p>
+ *
+ * <p>
+ * Konfiguriert wird der Filter in {@code logback-spring.xml} über {@code game.log.sample-categories} und
+ * {@code game.log.sample-every}.
+ * </p>
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private List<String> categories = List.of();
+    private int every = 1;
+
+    /** Zähler der Ereignisse je Logger. */
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        // Abfragen wie isDebugEnabled() kommen ohne Format; sie dürfen nicht mitgezählt werden
+        if (every <= 1 || format == null || level == null || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel()) || !isSampled(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        long n = counters.computeIfAbsent(logger.getName(), name -> new AtomicLong()).getAndIncrement();
+        return n % every == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean isSampled(String name) {
+        for (String category : categories) {
+            if (name.startsWith(category)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Setzt die Kategorien, deren Ereignisse ausgedünnt werden.
+     *
+     * @param categories Präfixe von Logger-Namen, durch Kommas getrennt
+     */
+    public void setCategories(String categories) {
+        this.categories = Arrays.stream(categories.split(","))
+                .map(String::trim)
+                .filter(category -> !category.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Setzt, das wievielte Ereignis je Logger durchgelassen wird.
+     *
+     * @param every 1 lässt alle Ereignisse durch
+     */
+    public void setEvery(int every) {
+        this.every = every;
+    }
+}
@@ -0,0 +1,12 @@
+package org.dataTransfer.server.ServerModell.metrics;
+
+/**
+ * Die Anzahl der Spiele und Spieler im Speicher der {@code GameEngine}, aufgeteilt nach ihrem Zustand.
+ *
+ * @param lobbies       Spiele, die noch nicht gestartet wurden
+ * @param running       gestartete Spiele
+ * @param humanPlayers  menschliche Spieler in allen Spielen
+ * @param botPlayers    serverseitige Bots in allen Spielen
+ */
+public record GameCounts(int lobbies, int running, int humanPlayers, int botPlayers) {
+}
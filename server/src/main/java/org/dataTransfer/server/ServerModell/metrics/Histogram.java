@@ -0,0 +1,125 @@
+package org.dataTransfer.server.ServerModell.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ein Histogramm für Dauern mit festen Eimergrenzen, wie es Prometheus als Typ {@code histogram} erwartet.
+ *
+ * <p>
+ * Aufzeichnen ist sperrfrei und erzeugt keine Objekte: Es wird der passende Eimer gesucht und dessen
+ * {@link LongAdder} erhöht. Bei gleichzeitigen Zugriffen verteilt der {@code LongAdder} die Zählung auf mehrere
+ * Zellen, sodass sich die Threads auf dem Würfelpfad nicht gegenseitig ausbremsen. Nur beim Auslesen werden die
+ * Zellen summiert.
+ * </p>
+ */
+public final class Histogram {
+
+    /** Die Standardgrenzen von 50 µs bis 10 s, passend für HTTP-Anfragen und Schreibvorgänge. */
+    private static final long[] DEFAULT_BOUNDS_NANOS = {
+            50_000, 100_000, 250_000, 500_000,
+            1_000_000, 2_500_000, 5_000_000, 10_000_000, 25_000_000, 50_000_000,
+            100_000_000, 250_000_000, 500_000_000,
+            1_000_000_000, 2_500_000_000L, 5_000_000_000L, 10_000_000_000L};
+
+    /** Die inklusiven Obergrenzen der Eimer in Nanosekunden, aufsteigend. */
+    private final long[] boundsNanos;
+
+    /** Die Zähler je Eimer; der letzte zählt alle Werte über der höchsten Grenze. */
+    private final LongAdder[] counts;
+
+    private final LongAdder sumNanos = new LongAdder();
+
+    /**
+     * Erstellt ein Histogramm mit den Standardgrenzen von 50 µs bis 10 s.
+     */
+    public Histogram() {
+        this(DEFAULT_BOUNDS_NANOS);
+    }
+
+    /**
+     * Erstellt ein Histogramm mit eigenen Grenzen.
+     *
+     * @param boundsNanos die inklusiven Obergrenzen der Eimer in Nanosekunden, streng aufsteigend
+     * @throws IllegalArgumentException falls die Grenzen nicht streng aufsteigend sind
+     */
+    public Histogram(long[] boundsNanos) {
+        for (int i = 1; i < boundsNanos.length; i++) {
+            if (boundsNanos[i] <= boundsNanos[i - 1]) {
+                throw new IllegalArgumentException("Histogram bounds must be strictly increasing");
+            }
+        }
+        this.boundsNanos = boundsNanos.clone();
+        this.counts = new LongAdder[boundsNanos.length + 1];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Zeichnet eine Dauer auf.
+     *
+     * @param nanos die Dauer in Nanosekunden
+     */
+    public void record(long nanos) {
+        int bucket = 0;
+        while (bucket < boundsNanos.length && nanos > boundsNanos[bucket]) {
+            bucket++;
+        }
+        counts[bucket].increment();
+        sumNanos.add(nanos);
+    }
+
+    /**
+     * Zeichnet die Dauer seit einem mit {@link System#nanoTime()} gemessenen Zeitpunkt auf.
+     *
+     * @param startNanos der Startzeitpunkt
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Gibt die Anzahl der Eimergrenzen zurück (ohne den Eimer {@code +Inf}).
+     *
+     * @return die Anzahl der Grenzen
+     */
+    public int getBucketCount() {
+        return boundsNanos.length;
+    }
+
+    /**
+     * Gibt eine Eimergrenze in Sekunden zurück, wie sie im Label {@code le} erscheint.
+     *
+     * @param bucket der Eimer
+     * @return die Obergrenze in Sekunden
+     */
+    public double getBoundSeconds(int bucket) {
+        return boundsNanos[bucket] / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    /**
+     * Liefert die kumulierten Zählerstände: Eintrag {@code i} zählt alle Werte bis einschließlich Grenze {@code i},
+     * der letzte Eintrag alle Werte ({@code +Inf}) und damit die Gesamtzahl.
+     *
+     * @return die kumulierten Zählerstände
+     */
+    public long[] cumulativeCounts() {
+        long[] cumulative = new long[counts.length];
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            total += counts[i].sum();
+            cumulative[i] = total;
+        }
+        return cumulative;
+    }
+
+    /**
+     * Gibt die Summe aller aufgezeichneten Dauern in Sekunden zurück.
+     *
+     * @return die Summe in Sekunden
+     */
+    public double getSumSeconds() {
+        return sumNanos.sum() / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,118 @@
+package org.dataTransfer.server.ServerModell.metrics;
+
+import java.math.BigDecimal;
+
+/**
+ * Schreibt Metriken im Textformat von Prometheus (Version 0.0.4).
+ *
+ * <p>
+ * Jede Metrik wird mit {@link #header(String, String, String)} eingeleitet; anschließend folgen ihre Werte je
+ * Labelkombination. Labels werden als abwechselnde Namen und Werte übergeben, z. B.
+ * {@code counter("game_poll_requests_total", 3, "result", "hit")}.
+ * </p>
+ */
+public final class PrometheusWriter {
+
+    /** Der Content-Type des Textformats. */
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final StringBuilder out = new StringBuilder(8192);
+
+    /**
+     * Schreibt die Beschreibung und den Typ einer Metrik.
+     *
+     * @param name der Name der Metrik
+     * @param type {@code counter}, {@code gauge} oder {@code histogram}
+     * @param help die Beschreibung
+     * @return dieser Writer
+     */
+    public PrometheusWriter header(String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        return this;
+    }
+
+    /**
+     * Schreibt einen einzelnen Wert.
+     *
+     * @param name   der Name der Metrik
+     * @param value  der Wert
+     * @param labels abwechselnd Labelnamen und -werte
+     * @return dieser Writer
+     */
+    public PrometheusWriter sample(String name, double value, String... labels) {
+        out.append(name);
+        appendLabels(labels, null);
+        out.append(' ').append(format(value)).append('\n');
+        return this;
+    }
+
+    /**
+     * Schreibt alle Eimer, die Summe und die Anzahl eines Histogramms.
+     *
+     * @param name      der Name der Metrik ohne Endung
+     * @param histogram das Histogramm
+     * @param labels    abwechselnd Labelnamen und -werte
+     * @return dieser Writer
+     */
+    public PrometheusWriter histogram(String name, Histogram histogram, String... labels) {
+        long[] cumulative = histogram.cumulativeCounts();
+        for (int i = 0; i < cumulative.length; i++) {
+            out.append(name).append("_bucket");
+            appendLabels(labels, i < histogram.getBucketCount() ? format(histogram.getBoundSeconds(i)) : "+Inf");
+            out.append(' ').append(cumulative[i]).append('\n');
+        }
+        long count = cumulative[cumulative.length - 1];
+        out.append(name).append("_sum");
+        appendLabels(labels, null);
+        out.append(' ').append(format(histogram.getSumSeconds())).append('\n');
+        out.append(name).append("_count");
+        appendLabels(labels, null);
+        out.append(' ').append(count).append('\n');
+        return this;
+    }
+
+    /**
+     * Gibt den geschriebenen Text zurück.
+     *
+     * @return die Metriken im Textformat
+     */
+    @Override
+    public String toString() {
+        return out.toString();
+    }
+
+    private void appendLabels(String[] labels, String le) {
+        if (labels.length == 0 && le == null) {
+            return;
+        }
+        out.append('{');
+        for (int i = 0; i + 1 < labels.length; i += 2) {
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append(labels[i]).append("=\"").append(escape(labels[i + 1])).append('"');
+        }
+        if (le != null) {
+            if (labels.length > 0) {
+                out.append(',');
+            }
+            out.append("le=\"").append(le).append('"');
+        }
+        out.append('}');
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String format(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return Double.toString(value).replace("Infinity", "Inf");
+        }
+        return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+    }
+}
@@ -30,7 +30,7 @@ import java.util.List;
  * @see Game
  */
 @Entity
-@Table(name = "players")
+@Table(name = "players", indexes = @Index(name = "idx_players_game_id", columnList = "game_id"))
 @Getter
 @Setter
 public class Player implements PlayerIF {
@@ -61,6 +61,11 @@ public class Player implements PlayerIF {
 	 */
 	private int postion = 0;
 
+	/**
+	 * Gibt an, ob der Spieler ein serverseitiger Bot ist, der selbstständig bereit meldet und würfelt.
+	 */
+	private boolean bot = false;
+
 	/**
 	 * Das Spiel, dem der Spieler zugeordnet ist.
 	 * Die Beziehung wird über @ManyToOne realisiert und in der Datenbank über die Spalte "game_id" verknüpft.
@@ -112,6 +117,25 @@ public class Player implements PlayerIF {
 		isReady = ready;
 	}
 
+	/**
+	 * Erstellt eine Kopie des Spielers mit allen Spielwerten.
+	 * Die Kopie wird dem übergebenen Spiel zugeordnet.
+	 *
+	 * @param game das Spiel, dem die Kopie angehört
+	 * @return die Kopie des Spielers
+	 */
+	public Player copy(Game game) {
+		Player copy = new Player();
+		copy.id = id;
+		copy.playerIndex = playerIndex;
+		copy.name = name;
+		copy.isReady = isReady;
+		copy.postion = postion;
+		copy.bot = bot;
+		copy.game = game;
+		return copy;
+	}
+
 	// Die folgenden Methoden zur Bewegung der Spielfigur und zum Überprüfen des Gewinns
 	// wurden aus Verantwortlichkeitsgründen in den Controller verlagert und sind hier auskommentiert.
 	//
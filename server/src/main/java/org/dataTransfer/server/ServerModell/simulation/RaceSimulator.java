@@ -0,0 +1,181 @@
+package org.dataTransfer.server.ServerModell.simulation;
+
+import org.dataTransfer.server.ServerModell.board.CompiledBoard;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Der {@code RaceSimulator} spielt Rennen ohne {@link org.dataTransfer.server.ServerModell.game.Game}-Objekte,
+ * Spieler oder Persistenz nach.
+ *
+ * <p>
+ * Es gelten dieselben Regeln wie in {@code Game#rollDiceAndNextTurn}: Die Sitze würfeln reihum einmal, die neue
+ * Position stammt aus der Übergangstabelle des Bretts ({@link CompiledBoard#move(int, int)}) und wer das Zielfeld
+ * erreicht, gewinnt. Die Positionen liegen in einem einzigen {@code int}-Array, das für alle Rennen eines Aufrufs
+ * wiederverwendet wird; die Schleife erzeugt keine Objekte.
+ * </p>
+ *
+ * <p>
+ * Aus einer 64-Bit-Zufallszahl werden zwei Würfe gewonnen (je 32 Bit, per Multiplikation auf 1 bis 6 abgebildet).
+ * Die Abweichung von der Gleichverteilung liegt unter 2<sup>-32</sup> und ist für Statistiken bedeutungslos.
+ * </p>
+ */
+public final class RaceSimulator {
+
+    /** Rennen, die nach so vielen Runden noch kein Ziel erreicht haben, gelten als unbeendet. */
+    public static final int MAX_ROUNDS = 1_000;
+
+    private final CompiledBoard board;
+    private final int players;
+
+    /**
+     * Erstellt einen Simulator.
+     *
+     * @param board   das Spielbrett
+     * @param players die Anzahl der Sitze
+     */
+    public RaceSimulator(CompiledBoard board, int players) {
+        if (players < 1) {
+            throw new IllegalArgumentException("A race needs at least one player: " + players);
+        }
+        this.board = board;
+        this.players = players;
+    }
+
+    /**
+     * Spielt die angegebene Anzahl Rennen und zählt die Ergebnisse in {@code tally}.
+     * Bei gleichem Seed ergeben sich immer dieselben Ergebnisse.
+     *
+     * @param seed  der Seed der Würfe
+     * @param races die Anzahl der Rennen
+     * @param tally die Zählung, in die die Ergebnisse addiert werden
+     */
+    public void run(long seed, int races, Tally tally) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] positions = new int[players];
+        int finish = board.getFinish();
+        long bits = 0;
+        boolean spare = false;
+
+        for (int race = 0; race < races; race++) {
+            Arrays.fill(positions, 0);
+            int winner = -1;
+            int round = 0;
+            while (winner < 0 && round < MAX_ROUNDS) {
+                round++;
+                for (int seat = 0; seat < players; seat++) {
+                    int word;
+                    if (spare) {
+                        word = (int) (bits >>> 32);
+                    } else {
+                        bits = random.nextLong();
+                        word = (int) bits;
+                    }
+                    spare = !spare;
+                    int roll = 1 + (int) (((word & 0xFFFFFFFFL) * 6) >>> 32);
+
+                    int position = board.move(positions[seat], roll);
+                    positions[seat] = position;
+                    if (position == finish) {
+                        winner = seat;
+                        break;
+                    }
+                }
+            }
+            if (winner < 0) {
+                tally.unfinished++;
+            } else {
+                tally.rounds[round]++;
+                tally.wins[winner]++;
+            }
+        }
+    }
+
+    /**
+     * Die Zählung der Ergebnisse eines oder mehrerer Simulationsläufe.
+     * Sie ist nicht threadsicher; parallele Läufe zählen getrennt und werden über {@link #add(Tally)} zusammengeführt.
+     */
+    public static final class Tally {
+        /** {@code rounds[n]}: Anzahl der Rennen, die in Runde {@code n} gewonnen wurden. */
+        final long[] rounds = new long[MAX_ROUNDS + 1];
+        /** {@code wins[s]}: Anzahl der Siege von Sitz {@code s}. */
+        final long[] wins;
+        /** Anzahl der Rennen ohne Sieger nach {@link #MAX_ROUNDS} Runden. */
+        long unfinished;
+
+        /**
+         * Erstellt eine leere Zählung.
+         *
+         * @param players die Anzahl der Sitze
+         */
+        public Tally(int players) {
+            this.wins = new long[players];
+        }
+
+        /**
+         * Addiert eine andere Zählung zu dieser.
+         *
+         * @param other die andere Zählung
+         */
+        public void add(Tally other) {
+            for (int i = 0; i < rounds.length; i++) {
+                rounds[i] += other.rounds[i];
+            }
+            for (int i = 0; i < wins.length; i++) {
+                wins[i] += other.wins[i];
+            }
+            unfinished += other.unfinished;
+        }
+
+        /**
+         * Gibt die Anzahl der gezählten Rennen zurück.
+         *
+         * @return die Anzahl der Rennen
+         */
+        public long races() {
+            long total = unfinished;
+            for (long win : wins) {
+                total += win;
+            }
+            return total;
+        }
+
+        /**
+         * Erstellt das Ergebnis dieser Zählung.
+         *
+         * @return das Ergebnis
+         */
+        public SimulationResult toResult() {
+            long finished = races() - unfinished;
+            int last = 0;
+            double sum = 0;
+            for (int round = 1; round < rounds.length; round++) {
+                if (rounds[round] > 0) {
+                    last = round;
+                    sum += (double) round * rounds[round];
+                }
+            }
+            long[] histogram = Arrays.copyOf(rounds, last + 1);
+            double[] winRates = new double[wins.length];
+            for (int seat = 0; seat < wins.length; seat++) {
+                winRates[seat] = finished == 0 ? 0 : (double) wins[seat] / finished;
+            }
+            return new SimulationResult(races(), unfinished, finished == 0 ? 0 : sum / finished,
+                    percentile(histogram, finished, 0.5), percentile(histogram, finished, 0.9),
+                    percentile(histogram, finished, 0.99), histogram, wins.clone(), winRates);
+        }
+
+        private static int percentile(long[] histogram, long total, double quantile) {
+            long rank = (long) Math.ceil(total * quantile);
+            long seen = 0;
+            for (int round = 1; round < histogram.length; round++) {
+                seen += histogram[round];
+                if (seen >= rank && seen > 0) {
+                    return round;
+                }
+            }
+            return 0;
+        }
+    }
+}
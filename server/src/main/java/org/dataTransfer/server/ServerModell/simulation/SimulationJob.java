@@ -0,0 +1,143 @@
+package org.dataTransfer.server.ServerModell.simulation;
+
+/**
+ * Eine laufende oder abgeschlossene Simulation.
+ *
+ * <p>
+ * Die Teilläufe addieren ihre Zählungen über {@link #merge(RaceSimulator.Tally)}; Leser erhalten über
+ * {@link #getResult()} jederzeit ein konsistentes Zwischenergebnis.
+ * </p>
+ */
+public final class SimulationJob {
+
+    /** Der Zustand einer Simulation. */
+    public enum Status { QUEUED, RUNNING, DONE, CANCELLED, FAILED }
+
+    private final long id;
+    private final String board;
+    private final int players;
+    private final long races;
+    private final long seed;
+    private final RaceSimulator.Tally tally;
+
+    private volatile Status status = Status.QUEUED;
+    private volatile String error;
+    private volatile long startedNanos;
+    private volatile long finishedNanos;
+
+    SimulationJob(long id, String board, int players, long races, long seed) {
+        this.id = id;
+        this.board = board;
+        this.players = players;
+        this.races = races;
+        this.seed = seed;
+        this.tally = new RaceSimulator.Tally(players);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getBoard() {
+        return board;
+    }
+
+    public int getPlayers() {
+        return players;
+    }
+
+    public long getRaces() {
+        return races;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * Gibt die Anzahl der bereits gespielten Rennen zurück.
+     *
+     * @return die gespielten Rennen
+     */
+    public synchronized long getCompletedRaces() {
+        return tally.races();
+    }
+
+    /**
+     * Gibt die bisherige Laufzeit in Millisekunden zurück.
+     *
+     * @return die Laufzeit oder 0, falls die Simulation noch nicht begonnen hat
+     */
+    public long getElapsedMs() {
+        if (startedNanos == 0) {
+            return 0;
+        }
+        long end = finishedNanos != 0 ? finishedNanos : System.nanoTime();
+        return (end - startedNanos) / 1_000_000;
+    }
+
+    /**
+     * Gibt den bisherigen Durchsatz zurück.
+     *
+     * @return die gespielten Rennen pro Sekunde
+     */
+    public long getRacesPerSecond() {
+        long elapsed = getElapsedMs();
+        return elapsed == 0 ? 0 : getCompletedRaces() * 1000 / elapsed;
+    }
+
+    /**
+     * Liefert das Ergebnis der bisher gespielten Rennen.
+     *
+     * @return das (Zwischen-)Ergebnis
+     */
+    public synchronized SimulationResult getResult() {
+        return tally.toResult();
+    }
+
+    /**
+     * Prüft, ob die Simulation beendet ist.
+     *
+     * @return {@code true} bei {@code DONE}, {@code CANCELLED} oder {@code FAILED}
+     */
+    public boolean isFinished() {
+        Status current = status;
+        return current == Status.DONE || current == Status.CANCELLED || current == Status.FAILED;
+    }
+
+    synchronized void merge(RaceSimulator.Tally part) {
+        tally.add(part);
+    }
+
+    void start() {
+        startedNanos = System.nanoTime();
+        status = Status.RUNNING;
+    }
+
+    void finish(Status finalStatus, String message) {
+        finishedNanos = System.nanoTime();
+        error = message;
+        status = finalStatus;
+    }
+
+    /**
+     * Bricht die Simulation ab; bereits gespielte Rennen bleiben im Ergebnis.
+     */
+    void cancel() {
+        if (!isFinished()) {
+            status = Status.CANCELLED;
+        }
+    }
+
+    boolean isCancelled() {
+        return status == Status.CANCELLED;
+    }
+}
@@ -0,0 +1,12 @@
+package org.dataTransfer.server.ServerModell.simulation;
+
+/**
+ * Der Auftrag für eine Simulation, wie er an {@code POST /api/simulations} gesendet wird.
+ *
+ * @param board   der Name des Spielbretts, standardmäßig {@code classic}
+ * @param players die Anzahl der Sitze (1 bis 4)
+ * @param races   die Anzahl der zu spielenden Rennen
+ * @param seed    der Seed der Würfe; ohne Seed wird ein zufälliger gewählt
+ */
+public record SimulationRequest(String board, int players, long races, Long seed) {
+}
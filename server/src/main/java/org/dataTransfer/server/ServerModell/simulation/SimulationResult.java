@@ -0,0 +1,25 @@
+package org.dataTransfer.server.ServerModell.simulation;
+
+/**
+ * Das (Zwischen-)Ergebnis einer Simulation.
+ *
+ * @param races           die Anzahl der gespielten Rennen
+ * @param unfinished      die Anzahl der Rennen ohne Sieger nach {@link RaceSimulator#MAX_ROUNDS} Runden
+ * @param meanRounds      die durchschnittliche Anzahl Runden bis zum Sieg
+ * @param p50Rounds       der Median der Runden bis zum Sieg
+ * @param p90Rounds       das 90. Perzentil der Runden bis zum Sieg
+ * @param p99Rounds       das 99. Perzentil der Runden bis zum Sieg
+ * @param roundsHistogram {@code roundsHistogram[n]}: Anzahl der Rennen, die in Runde {@code n} gewonnen wurden
+ * @param winsBySeat      die Siege je Sitz in Zugreihenfolge (Sitz 0 würfelt zuerst)
+ * @param winRateBySeat   der Anteil der Siege je Sitz an allen beendeten Rennen
+ */
+public record SimulationResult(long races,
+                               long unfinished,
+                               double meanRounds,
+                               int p50Rounds,
+                               int p90Rounds,
+                               int p99Rounds,
+                               long[] roundsHistogram,
+                               long[] winsBySeat,
+                               double[] winRateBySeat) {
+}
@@ -0,0 +1,210 @@
+package org.dataTransfer.server.ServerModell.simulation;
+
+import jakarta.annotation.PreDestroy;
+import org.dataTransfer.server.ServerModell.board.BoardRegistry;
+import org.dataTransfer.server.ServerModell.board.CompiledBoard;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Der {@code SimulationService} führt Monte-Carlo-Simulationen von Rennen als asynchrone Aufträge aus.
+ *
+ * <p>
+ * Aufträge werden nacheinander abgearbeitet; jeder Auftrag nutzt dafür alle Kerne. Er wird in Blöcke zu
+ * {@link #CHUNK_RACES} Rennen zerlegt, die als paralleler Stream in einem eigenen {@link ForkJoinPool} laufen,
+ * damit Simulationen den gemeinsamen Pool der Anwendung nicht belegen. Jeder Block zählt in eine eigene
+ * {@link RaceSimulator.Tally} und addiert sie danach zum Auftrag, sodass der Fortschritt laufend sichtbar ist.
+ * Der Seed jedes Blocks wird aus dem Seed des Auftrags und der Blocknummer abgeleitet; das Ergebnis hängt daher
+ * nicht von der Reihenfolge der Threads ab.
+ * </p>
+ *
+ * <p>
+ * Eigenschaften: {@code game.simulation.parallelism} (0 = Anzahl der Prozessoren),
+ * {@code game.simulation.max-races} je Auftrag und {@code game.simulation.retained-jobs}, die Anzahl der
+ * zuletzt angelegten Aufträge, die abrufbar bleiben.
+ * </p>
+ */
+@Service
+public class SimulationService {
+
+    private static final Logger log = LoggerFactory.getLogger(SimulationService.class);
+
+    /** Anzahl der Rennen je Block. */
+    static final int CHUNK_RACES = 65_536;
+
+    /** Die höchste Anzahl an Sitzen, wie im Spiel. */
+    static final int MAX_PLAYERS = 4;
+
+    private final BoardRegistry boardRegistry;
+    private final long maxRaces;
+    private final int retainedJobs;
+    private final ForkJoinPool pool;
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "simulation-runner");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    /** Die abrufbaren Aufträge in Anlagereihenfolge. */
+    private final Map<Long, SimulationJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * Konstruktor des SimulationService.
+     *
+     * @param boardRegistry die bekannten Spielbretter
+     * @param parallelism   die Anzahl der Simulations-Threads oder {@code 0} für die Anzahl der Prozessoren
+     * @param maxRaces      die höchste Anzahl an Rennen je Auftrag
+     * @param retainedJobs  die Anzahl der Aufträge, die abrufbar bleiben
+     */
+    public SimulationService(BoardRegistry boardRegistry,
+                             @Value("${game.simulation.parallelism:0}") int parallelism,
+                             @Value("${game.simulation.max-races:100000000}") long maxRaces,
+                             @Value("${game.simulation.retained-jobs:32}") int retainedJobs) {
+        this.boardRegistry = boardRegistry;
+        this.maxRaces = maxRaces;
+        this.retainedJobs = retainedJobs;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Legt einen Auftrag an und reiht ihn zur Ausführung ein.
+     *
+     * @param request der Auftrag
+     * @return die angelegte Simulation
+     * @throws IllegalArgumentException falls Brett, Sitze oder Anzahl der Rennen ungültig sind
+     */
+    public SimulationJob submit(SimulationRequest request) {
+        String boardName = request.board() != null ? request.board() : CompiledBoard.CLASSIC;
+        CompiledBoard board = boardRegistry.find(boardName)
+                .orElseThrow(() -> new IllegalArgumentException("Board not found with name " + boardName));
+        if (request.players() < 1 || request.players() > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Players must be between 1 and " + MAX_PLAYERS + ": " + request.players());
+        }
+        if (request.races() < 1 || request.races() > maxRaces) {
+            throw new IllegalArgumentException("Races must be between 1 and " + maxRaces + ": " + request.races());
+        }
+        long seed = request.seed() != null ? request.seed() : ThreadLocalRandom.current().nextLong();
+        SimulationJob job = new SimulationJob(nextId.getAndIncrement(), boardName, request.players(),
+                request.races(), seed);
+        retain(job);
+        runner.execute(() -> run(job, board));
+        return job;
+    }
+
+    /**
+     * Liefert eine Simulation.
+     *
+     * @param id die ID der Simulation
+     * @return die Simulation, falls sie noch abrufbar ist
+     */
+    public Optional<SimulationJob> find(long id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    /**
+     * Liefert alle abrufbaren Simulationen, die neueste zuerst.
+     *
+     * @return die Simulationen
+     */
+    public List<SimulationJob> getAll() {
+        List<SimulationJob> all;
+        synchronized (jobs) {
+            all = new ArrayList<>(jobs.values());
+        }
+        Collections.reverse(all);
+        return all;
+    }
+
+    /**
+     * Bricht eine Simulation ab. Bereits gespielte Rennen bleiben im Ergebnis.
+     *
+     * @param id die ID der Simulation
+     * @return die Simulation, falls sie noch abrufbar ist
+     */
+    public Optional<SimulationJob> cancel(long id) {
+        Optional<SimulationJob> job = find(id);
+        job.ifPresent(SimulationJob::cancel);
+        return job;
+    }
+
+    /**
+     * Spielt einen Auftrag blockweise und parallel.
+     */
+    private void run(SimulationJob job, CompiledBoard board) {
+        if (job.isCancelled()) {
+            return;
+        }
+        job.start();
+        RaceSimulator simulator = new RaceSimulator(board, job.getPlayers());
+        int chunks = (int) ((job.getRaces() + CHUNK_RACES - 1) / CHUNK_RACES);
+        try {
+            pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                if (job.isCancelled()) {
+                    return;
+                }
+                int races = (int) Math.min(CHUNK_RACES, job.getRaces() - (long) chunk * CHUNK_RACES);
+                RaceSimulator.Tally part = new RaceSimulator.Tally(job.getPlayers());
+                simulator.run(chunkSeed(job.getSeed(), chunk), races, part);
+                job.merge(part);
+            })).get();
+            job.finish(job.isCancelled() ? SimulationJob.Status.CANCELLED : SimulationJob.Status.DONE, null);
+            if (log.isInfoEnabled()) {
+                log.info("Simulation {}: {} races on {} in {} ms ({} races/s)", job.getId(), job.getCompletedRaces(),
+                        job.getBoard(), job.getElapsedMs(), job.getRacesPerSecond());
+            }
+        } catch (Exception e) {
+            job.finish(SimulationJob.Status.FAILED, e.getMessage());
+            log.warn("Simulation {} fehlgeschlagen", job.getId(), e);
+        }
+    }
+
+    /**
+     * Leitet den Seed eines Blocks ab (Mischfunktion von SplitMix64), damit benachbarte Blöcke unabhängige
+     * Zufallsfolgen erhalten.
+     */
+    static long chunkSeed(long seed, int chunk) {
+        long z = seed + (chunk + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private void retain(SimulationJob job) {
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+            var iterator = jobs.values().iterator();
+            while (jobs.size() > retainedJobs && iterator.hasNext()) {
+                SimulationJob oldest = iterator.next();
+                if (oldest.isFinished()) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Bricht beim Herunterfahren alle Simulationen ab.
+     */
+    @PreDestroy
+    public void shutdown() {
+        getAll().forEach(SimulationJob::cancel);
+        runner.shutdownNow();
+        pool.shutdownNow();
+    }
+}
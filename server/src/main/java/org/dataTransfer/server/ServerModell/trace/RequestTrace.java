@@ -0,0 +1,173 @@
+package org.dataTransfer.server.ServerModell.trace;
+
+/**
+ * Die Zeiten, die eine HTTP-Anfrage in den einzelnen Phasen ihrer Bearbeitung verbracht hat.
+ *
+ * <p>
+ * Der {@code RequestMetricsFilter} beginnt die Messung mit {@link #begin()} und bindet sie an den Thread der
+ * Anfrage. Code auf diesem Thread verbucht seine Phase mit {@link #record(Phase, long)}; ist keine Anfrage aktiv,
+ * etwa bei Bots oder geplanten Aufgaben, geschieht nichts. Befehle laufen auf der Spur ihres Spiels; die Engine
+ * übergibt die Messung dorthin ({@link #current()}), während der Thread der Anfrage auf das Ergebnis wartet. Die
+ * Phasen einer Anfrage werden also nacheinander verbucht, nie gleichzeitig.
+ * </p>
+ *
+ * <p>
+ * Bei {@code write-behind} umfasst {@link Phase#PERSIST} nur das Vormerken des Spiels; geschrieben wird später
+ * außerhalb der Anfrage. Bei {@code write-through} und einem Journal mit {@code sync-commit} enthält die Phase
+ * das Schreiben selbst.
+ * </p>
+ */
+public final class RequestTrace {
+
+    /** Die gemessenen Phasen in der Reihenfolge ihres Auftretens. */
+    public enum Phase {
+        /** Das Spiel im Speicher finden oder aus der Datenbank laden. */
+        LOOKUP("lookup"),
+        /** Warten auf die Spur des Spiels. */
+        QUEUE("queue"),
+        /** Den Befehl auf dem Spielzustand ausführen und die Momentaufnahme veröffentlichen. */
+        ENGINE("engine"),
+        /** Die Änderung an die Persistenz übergeben. */
+        PERSIST("persist"),
+        /** Streams, WebSocket-Kanäle und Bots benachrichtigen. */
+        NOTIFY("notify"),
+        /** Die Antwort kodieren (JSON oder Binärdarstellung). */
+        SERIALIZE("serialize");
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+
+        /**
+         * Gibt den Namen der Phase im Header {@code Server-Timing} zurück.
+         *
+         * @return der Name
+         */
+        public String getMetricName() {
+            return metricName;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final long startedAt = System.currentTimeMillis();
+    private final long[] phaseNanos = new long[PHASES.length];
+
+    private RequestTrace() {
+    }
+
+    /**
+     * Beginnt die Messung einer Anfrage auf dem aktuellen Thread.
+     *
+     * @return die neue Messung
+     */
+    public static RequestTrace begin() {
+        RequestTrace trace = new RequestTrace();
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    /**
+     * Löst die Messung vom aktuellen Thread.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Liefert die Messung der Anfrage, die der aktuelle Thread bearbeitet.
+     *
+     * @return die Messung oder {@code null}, falls der Thread keine Anfrage bearbeitet
+     */
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Verbucht eine Dauer für die Anfrage des aktuellen Threads, sofern es eine gibt.
+     *
+     * @param phase die Phase
+     * @param nanos die Dauer in Nanosekunden
+     */
+    public static void record(Phase phase, long nanos) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.add(phase, nanos);
+        }
+    }
+
+    /**
+     * Verbucht eine Dauer. Mehrfach durchlaufene Phasen, etwa bei einem Batch über mehrere Spiele, werden summiert.
+     *
+     * @param phase die Phase
+     * @param nanos die Dauer in Nanosekunden
+     */
+    public void add(Phase phase, long nanos) {
+        phaseNanos[phase.ordinal()] += nanos;
+    }
+
+    /**
+     * Gibt die in einer Phase verbrachte Zeit zurück.
+     *
+     * @param phase die Phase
+     * @return die Dauer in Nanosekunden
+     */
+    public long getPhaseNanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * Gibt die seit Beginn der Anfrage vergangene Zeit zurück.
+     *
+     * @return die Dauer in Nanosekunden
+     */
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Gibt den Beginn der Anfrage zurück.
+     *
+     * @return der Zeitpunkt in Millisekunden seit 1970
+     */
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Bildet den Wert des Headers {@code Server-Timing}: die Phasen mit gemessener Zeit und {@code total} für die
+     * bisherige Dauer der Anfrage, jeweils in Millisekunden, z. B.
+     * {@code engine;dur=0.041, persist;dur=0.012, total;dur=0.380}.
+     *
+     * @return der Wert des Headers
+     */
+    public String toServerTiming() {
+        StringBuilder header = new StringBuilder(128);
+        for (Phase phase : PHASES) {
+            long nanos = phaseNanos[phase.ordinal()];
+            if (nanos > 0) {
+                appendMetric(header, phase.getMetricName(), nanos);
+            }
+        }
+        appendMetric(header, "total", getElapsedNanos());
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long nanos) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        long micros = nanos / 1_000;
+        long fraction = micros % 1_000;
+        header.append(name).append(";dur=").append(micros / 1_000).append('.');
+        if (fraction < 100) {
+            header.append(fraction < 10 ? "00" : "0");
+        }
+        header.append(fraction);
+    }
+}
@@ -0,0 +1,117 @@
+package org.dataTransfer.server.ServerModell.trace;
+
+import org.dataTransfer.server.ServerModell.admin.SlowRequest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Hält die {@code capacity} langsamsten Anfragen seit dem Start, ohne Sperren.
+ *
+ * <p>
+ * Die Einträge liegen in festen Plätzen. Eine neue Anfrage ersetzt per Compare-and-Set den schnellsten Eintrag,
+ * sofern sie langsamer ist; schlägt das fehl, weil ein anderer Thread den Platz gerade ersetzt hat, wird erneut
+ * gesucht. Die meisten Anfragen sind schneller als alle gehaltenen; für sie genügt der Vergleich mit
+ * {@link #qualifies(long)}, bevor überhaupt ein Eintrag erzeugt wird. Die Schwelle wird nach jedem Einfügen neu
+ * bestimmt und kann bei gleichzeitigen Einfügungen kurz zu niedrig sein; das kostet nur einen vergeblichen
+ * Suchlauf.
+ * </p>
+ */
+public final class SlowRequestLog {
+
+    private final AtomicReferenceArray<Entry> slots;
+
+    /** Die Dauer des schnellsten gehaltenen Eintrags, 0 solange noch Plätze frei sind. */
+    private volatile long thresholdNanos;
+
+    /**
+     * Erstellt das Protokoll.
+     *
+     * @param capacity die Anzahl der gehaltenen Anfragen
+     */
+    public SlowRequestLog(int capacity) {
+        this.slots = new AtomicReferenceArray<>(Math.max(1, capacity));
+    }
+
+    /**
+     * Prüft, ob eine Anfrage dieser Dauer derzeit aufgenommen würde.
+     *
+     * @param nanos die Dauer der Anfrage
+     * @return {@code true}, falls sie langsamer ist als der schnellste gehaltene Eintrag
+     */
+    public boolean qualifies(long nanos) {
+        return nanos > thresholdNanos;
+    }
+
+    /**
+     * Nimmt eine Anfrage auf, sofern sie zu den langsamsten gehört.
+     *
+     * @param nanos   die Dauer der Anfrage
+     * @param request die Anfrage
+     * @return {@code true}, falls sie aufgenommen wurde
+     */
+    public boolean offer(long nanos, SlowRequest request) {
+        Entry entry = new Entry(nanos, request);
+        while (true) {
+            int index = -1;
+            Entry fastest = null;
+            long fastestNanos = Long.MAX_VALUE;
+            for (int i = 0; i < slots.length(); i++) {
+                Entry current = slots.get(i);
+                if (current == null) {
+                    index = i;
+                    fastest = null;
+                    fastestNanos = -1;
+                    break;
+                }
+                if (current.nanos < fastestNanos) {
+                    index = i;
+                    fastest = current;
+                    fastestNanos = current.nanos;
+                }
+            }
+            if (fastestNanos >= nanos) {
+                return false;
+            }
+            if (slots.compareAndSet(index, fastest, entry)) {
+                updateThreshold();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Liefert die gehaltenen Anfragen, die langsamste zuerst.
+     *
+     * @return die Anfragen
+     */
+    public List<SlowRequest> getSlowest() {
+        List<Entry> entries = new ArrayList<>(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            Entry entry = slots.get(i);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(Comparator.comparingLong(Entry::nanos).reversed());
+        return entries.stream().map(Entry::request).toList();
+    }
+
+    private void updateThreshold() {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < slots.length(); i++) {
+            Entry entry = slots.get(i);
+            if (entry == null) {
+                thresholdNanos = 0;
+                return;
+            }
+            min = Math.min(min, entry.nanos);
+        }
+        thresholdNanos = min;
+    }
+
+    private record Entry(long nanos, SlowRequest request) {
+    }
+}
@@ -0,0 +1,40 @@
+package org.dataTransfer.server.ServerModell.view;
+
+import org.dataTransfer.server.ServerModell.game.Game;
+
+import java.time.Instant;
+
+/**
+ * Ein Eintrag der Spieleliste ({@code GET /api/games}): die Angaben, die zur Auswahl einer Lobby nötig sind,
+ * ohne die Spieler selbst.
+ *
+ * <p>
+ * Für gespeicherte Spiele füllt die Datenbank den Eintrag direkt in der Abfrage der Seite
+ * (Konstruktor-Projektion, die Spieleranzahl per Unterabfrage), sodass keine Entitäten geladen werden.
+ * </p>
+ *
+ * @param id                  die ID des Spiels
+ * @param gameHostName        der Name des Hosts
+ * @param gameState           der Spielstatus
+ * @param gameStarted         ob das Spiel gestartet wurde
+ * @param boardName           der Name des Spielbretts
+ * @param createdAt           der Erstellungszeitpunkt
+ * @param currentPlayersCount die Anzahl der Spieler
+ * @param maxPlayersNumber    die maximale Anzahl der Spieler
+ * @param stateVersion        die Zustandsversion
+ */
+public record GameSummary(long id, String gameHostName, String gameState, boolean gameStarted, String boardName,
+                          Instant createdAt, long currentPlayersCount, int maxPlayersNumber, long stateVersion) {
+
+    /**
+     * Erstellt den Listeneintrag einer Momentaufnahme.
+     *
+     * @param game die Momentaufnahme
+     * @return der Listeneintrag
+     */
+    public static GameSummary of(Game game) {
+        return new GameSummary(game.getId(), game.getGameHostName(), game.getGameState(), game.isGameStarted(),
+                game.getBoardName(), game.getCreatedAt(), game.getPlayers().size(), game.getMaxPlayersNumber(),
+                game.getStateVersion());
+    }
+}
@@ -0,0 +1,68 @@
+package org.dataTransfer.server.ServerModell.view;
+
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.player.Player;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Das Lesemodell eines vollständigen Spielstands, wie es {@code GET /api/games/{id}} und die verändernden
+ * Endpunkte ausliefern.
+ *
+ * <p>
+ * Es wird aus einer Momentaufnahme der {@code GameEngine} erstellt, nie aus einer verwalteten Entität. Dadurch
+ * kann die Serialisierung keine Datenbankzugriffe auslösen, und interne Felder wie Würfel oder Spielbrett gelangen
+ * nicht in die Antwort. Die Felder entsprechen der bisherigen JSON-Darstellung der Entität {@link Game}.
+ * </p>
+ *
+ * @param id                    die ID des Spiels
+ * @param gameHostName          der Name des Hosts
+ * @param maxPlayersNumber      die maximale Anzahl der Spieler
+ * @param allPlayersAreReady    ob alle Spieler bereit sind
+ * @param lastDiceRoll          der Wert des letzten Wurfs
+ * @param currentPlayerUsername der Name des Spielers am Zug
+ * @param gameStarted           ob das Spiel gestartet wurde
+ * @param gameState             der Spielstatus, z. B. {@code "Lobby"} oder {@code "Game"}
+ * @param stateVersion          die Zustandsversion
+ * @param boardName             der Name des Spielbretts
+ * @param createdAt             der Erstellungszeitpunkt
+ * @param players               die Spieler
+ * @param currentPlayersCount   die Anzahl der Spieler
+ * @param currentPlayerIndex    der Index des Spielers am Zug in {@code players}
+ */
+public record GameView(long id, String gameHostName, int maxPlayersNumber, boolean allPlayersAreReady,
+                       int lastDiceRoll, String currentPlayerUsername, boolean gameStarted, String gameState,
+                       long stateVersion, String boardName, Instant createdAt, List<PlayerView> players,
+                       int currentPlayersCount, int currentPlayerIndex) {
+
+    /**
+     * Erstellt das Lesemodell einer Momentaufnahme.
+     *
+     * @param game die Momentaufnahme
+     * @return das Lesemodell
+     */
+    public static GameView of(Game game) {
+        return of(game, game.getStateVersion());
+    }
+
+    /**
+     * Erstellt das Lesemodell eines Spielstands mit abweichender Zustandsversion, etwa für einen Zwischenstand
+     * innerhalb eines Befehls, der erst mit seinem Abschluss die neue Version erhält.
+     *
+     * @param game         der Spielstand
+     * @param stateVersion die Zustandsversion des Lesemodells
+     * @return das Lesemodell
+     */
+    public static GameView of(Game game, long stateVersion) {
+        List<Player> source = game.getPlayers();
+        PlayerView[] players = new PlayerView[source.size()];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = PlayerView.of(source.get(i));
+        }
+        return new GameView(game.getId(), game.getGameHostName(), game.getMaxPlayersNumber(),
+                game.isAllPlayersAreReady(), game.getLastDiceRoll(), game.getCurrentPlayerUsername(),
+                game.isGameStarted(), game.getGameState(), stateVersion, game.getBoardName(),
+                game.getCreatedAt(), List.of(players), players.length, game.getCurrentPlayerIndex());
+    }
+}
@@ -0,0 +1,32 @@
+package org.dataTransfer.server.ServerModell.view;
+
+import org.dataTransfer.server.ServerModell.player.Player;
+
+/**
+ * Das Lesemodell eines Spielers, wie es die REST-Endpunkte ausliefern.
+ *
+ * <p>
+ * Die Felder entsprechen der bisherigen JSON-Darstellung der Entität {@link Player}, einschließlich der
+ * Schreibweise {@code postion}, damit bestehende Clients unverändert funktionieren.
+ * </p>
+ *
+ * @param id          die ID des Spielers
+ * @param playerIndex der Spielerindex (ab 1)
+ * @param name        der Name des Spielers
+ * @param postion     die Position auf dem Spielbrett
+ * @param bot         ob der Spieler ein serverseitiger Bot ist
+ * @param ready       der Ready-Status
+ */
+public record PlayerView(Long id, int playerIndex, String name, int postion, boolean bot, boolean ready) {
+
+    /**
+     * Erstellt das Lesemodell eines Spielers.
+     *
+     * @param player der Spieler
+     * @return das Lesemodell
+     */
+    public static PlayerView of(Player player) {
+        return new PlayerView(player.getId(), player.getPlayerIndex(), player.getName(), player.getPostion(),
+                player.isBot(), player.isReady());
+    }
+}
@@ -1,9 +1,10 @@
 package org.Server.DataTransfer;
 
+import org.dataTransfer.server.Application;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(classes = Application.class)
 class ApplicationTests {
 
 	@Test
@@ -0,0 +1,151 @@
+package org.dataTransfer.server.ServerController;
+
+import org.dataTransfer.server.Application;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Vergleicht Bandbreite und Latenz eines Würfelwurfs über REST mit dem binären WebSocket-Kanal.
+ *
+ * <p>
+ * Der Server wird auf einem freien Port gestartet. Gemessen wird jeweils ein vollständiger Zyklus aus Sicht
+ * eines Clients, der den neuen Spielstand kennen muss:
+ * </p>
+ * <ul>
+ *     <li>REST: {@code PUT /rollDice} und anschließend ein {@code GET} des Spiels, wie es ein pollender
+ *     Mitspieler tun muss</li>
+ *     <li>WebSocket: ein 9 Byte großer ROLL-Rahmen und der 13 Byte große MOVE-Rahmen als Antwort</li>
+ * </ul>
+ * <p>
+ * Die Byte-Angaben zählen nur die Nutzdaten; HTTP-Header (bei REST mehrere hundert Byte je Anfrage) und
+ * WebSocket-Rahmenköpfe (2 bis 6 Byte) kommen hinzu.
+ * </p>
+ *
+ * <p>
+ * Start: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.dataTransfer.server.ServerController.GameChannelBenchmark}
+ * </p>
+ */
+public class GameChannelBenchmark {
+
+    private static final int ROLLS = 5_000;
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = SpringApplication.run(Application.class,
+                "--server.port=0", "--logging.level.root=WARN");
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        HttpClient client = HttpClient.newHttpClient();
+        String api = "http://localhost:" + port + "/api/games";
+
+        try {
+            long gameId = createGame(client, api);
+
+            System.out.printf("%-10s %12s %10s %10s %10s%n", "channel", "bytes/roll", "p50 us", "p99 us", "rolls/sec");
+            rest(client, api, gameId, ROLLS / 5);  // Aufwärmen
+            print("rest", rest(client, api, gameId, ROLLS));
+            webSocket(client, port, gameId, ROLLS / 5);  // Aufwärmen
+            print("websocket", webSocket(client, port, gameId, ROLLS));
+        } finally {
+            context.close();
+        }
+    }
+
+    private static long createGame(HttpClient client, String api) throws Exception {
+        HttpResponse<String> created = client.send(HttpRequest.newBuilder(URI.create(api))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"anna\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = ID.matcher(created.body());
+        if (!matcher.find()) {
+            throw new IllegalStateException("Unexpected response: " + created.body());
+        }
+        long gameId = Long.parseLong(matcher.group(1));
+        client.send(HttpRequest.newBuilder(URI.create(api + "/" + gameId + "/join"))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString("{\"name\":\"ben\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        return gameId;
+    }
+
+    private static Result rest(HttpClient client, String api, long gameId, int rolls) throws Exception {
+        HttpRequest roll = HttpRequest.newBuilder(URI.create(api + "/" + gameId + "/rollDice"))
+                .PUT(HttpRequest.BodyPublishers.noBody())
+                .build();
+        HttpRequest poll = HttpRequest.newBuilder(URI.create(api + "/" + gameId)).GET().build();
+
+        long[] latencies = new long[rolls];
+        long bytes = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < rolls; i++) {
+            long begin = System.nanoTime();
+            bytes += client.send(roll, HttpResponse.BodyHandlers.ofByteArray()).body().length;
+            bytes += client.send(poll, HttpResponse.BodyHandlers.ofByteArray()).body().length;
+            latencies[i] = System.nanoTime() - begin;
+        }
+        return new Result(latencies, bytes, System.nanoTime() - start);
+    }
+
+    private static Result webSocket(HttpClient client, int port, long gameId, int rolls) throws Exception {
+        BlockingQueue<ByteBuffer> frames = new ArrayBlockingQueue<>(16);
+        WebSocket socket = client.newWebSocketBuilder()
+                .buildAsync(URI.create("ws://localhost:" + port + "/ws/games/" + gameId), new WebSocket.Listener() {
+                    @Override
+                    public CompletionStage<?> onBinary(WebSocket webSocket, ByteBuffer data, boolean last) {
+                        ByteBuffer copy = ByteBuffer.allocate(data.remaining()).put(data).flip();
+                        frames.add(copy);
+                        webSocket.request(1);
+                        return null;
+                    }
+                })
+                .get(5, TimeUnit.SECONDS);
+
+        long[] latencies = new long[rolls];
+        long bytes = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < rolls; i++) {
+            long begin = System.nanoTime();
+            socket.sendBinary(ByteBuffer.allocate(GameFrames.ROLL_LENGTH).put(GameFrames.ROLL).putLong(-1).flip(), true)
+                    .join();
+            ByteBuffer frame = frames.poll(5, TimeUnit.SECONDS);
+            if (frame == null) {
+                throw new IllegalStateException("No frame received for roll " + i);
+            }
+            latencies[i] = System.nanoTime() - begin;
+            bytes += GameFrames.ROLL_LENGTH + frame.remaining();
+        }
+        long elapsed = System.nanoTime() - start;
+        socket.sendClose(WebSocket.NORMAL_CLOSURE, "").join();
+        return new Result(latencies, bytes, elapsed);
+    }
+
+    private static void print(String channel, Result result) {
+        long[] sorted = result.latencies.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%-10s %12d %10d %10d %10.0f%n", channel,
+                result.bytes / sorted.length,
+                sorted[sorted.length / 2] / 1_000,
+                sorted[(int) (sorted.length * 0.99)] / 1_000,
+                sorted.length / (result.elapsedNanos / 1_000_000_000.0));
+    }
+
+    private record Result(long[] latencies, long bytes, long elapsedNanos) {
+    }
+}
@@ -0,0 +1,76 @@
+package org.dataTransfer.server.ServerController;
+
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.player.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Die Testklasse {@code GameFramesTest} überprüft die Berechnung der Delta-Rahmen des WebSocket-Kanals.
+ */
+class GameFramesTest {
+
+    private Game game;
+
+    /**
+     * Erstellt vor jedem Test ein Spiel mit zwei Spielern.
+     */
+    @BeforeEach
+    void setUp() {
+        game = new Game();
+        game.setId(1L);
+        game.addPlayer(player(10L, "anna"));
+        game.addPlayer(player(11L, "ben"));
+    }
+
+    /**
+     * Testet, dass ein einzelner Würfelwurf als 13 Byte großer MOVE-Rahmen kodiert wird.
+     */
+    @Test
+    void rollIsEncodedAsMoveFrame() {
+        Game before = game.snapshot();
+        int mover = game.getCurrentPlayerIndex();
+        game.rollDiceAndNextTurn();
+        game.setStateVersion(1);
+        Game after = game.snapshot();
+
+        ByteBuffer frame = GameFrames.diff(before, after);
+
+        assertNotNull(frame);
+        assertEquals(GameFrames.MOVE_LENGTH, frame.remaining());
+        assertEquals(GameFrames.MOVE, frame.get());
+        assertEquals(1, frame.getLong());
+        assertEquals(mover, frame.get());
+        assertEquals(after.getPlayers().get(mover).getPostion(), frame.get());
+        assertEquals(after.getLastDiceRoll(), frame.get());
+        assertEquals(after.getCurrentPlayerIndex(), frame.get());
+    }
+
+    /**
+     * Testet, dass andere Änderungen und Versionssprünge einen vollständigen Spielstand erfordern.
+     */
+    @Test
+    void otherChangesRequireFullSnapshot() {
+        Game before = game.snapshot();
+
+        game.setGameStarted(true);
+        game.setStateVersion(1);
+        assertNull(GameFrames.diff(before, game.snapshot()));
+
+        Game started = game.snapshot();
+        game.rollDiceAndNextTurn();
+        game.setStateVersion(3);
+        assertNull(GameFrames.diff(started, game.snapshot()));
+    }
+
+    private static Player player(Long id, String name) {
+        Player player = new Player();
+        player.setId(id);
+        player.setName(name);
+        return player;
+    }
+}
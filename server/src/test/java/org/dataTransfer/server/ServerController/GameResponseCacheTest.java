@@ -0,0 +1,96 @@
+package org.dataTransfer.server.ServerController;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.dataTransfer.server.ServerModell.engine.GameEngine;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.player.Player;
+import org.dataTransfer.server.ServerModell.view.GameView;
+import org.junit.jupiter.api.Test;
+
+import static org.dataTransfer.server.ServerController.GameResponseCache.Encoding.BINARY;
+import static org.dataTransfer.server.ServerController.GameResponseCache.Encoding.JSON;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Die Testklasse {@code GameResponseCacheTest} überprüft Treffer, Invalidierung und Verdrängung des
+ * {@link GameResponseCache} sowie die Auswahl der Darstellung.
+ */
+class GameResponseCacheTest {
+
+    /**
+     * Testet, dass derselbe Stand nur einmal je Darstellung kodiert wird und eine Änderung den Eintrag entfernt.
+     */
+    @Test
+    void sameVersionIsEncodedOnceUntilChanged() {
+        GameResponseCache cache = new GameResponseCache(mock(GameEngine.class), new ObjectMapper(), 1 << 20);
+        Game game = game(1L);
+        GameView view = GameView.of(game);
+
+        byte[] first = cache.get(view, JSON);
+        assertSame(first, cache.get(view, JSON));
+        assertArrayEquals(GameStateEncoding.encode(view), cache.get(view, BINARY));
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(first.length + GameStateEncoding.encode(view).length, cache.getPayloadBytes());
+
+        game.setStateVersion(1);
+        cache.gameChanged(game);
+        assertEquals(0, cache.getEntryCount());
+        assertEquals(0, cache.getPayloadBytes());
+
+        // Ein Leser mit dem alten Stand verdrängt den neuen nicht
+        GameView next = GameView.of(game);
+        byte[] current = cache.get(next, JSON);
+        assertNotSame(first, cache.get(view, JSON));
+        assertSame(current, cache.get(next, JSON));
+        assertEquals(current.length, cache.getPayloadBytes());
+    }
+
+    /**
+     * Testet, dass bei überschrittener Größengrenze die am längsten nicht abgefragten Spiele verdrängt werden.
+     */
+    @Test
+    void leastRecentlyUsedGamesAreEvicted() {
+        int size = new GameResponseCache(mock(GameEngine.class), new ObjectMapper(), 1 << 20)
+                .get(GameView.of(game(1L)), BINARY).length;
+        GameResponseCache cache = new GameResponseCache(mock(GameEngine.class), new ObjectMapper(), size * 4L);
+        GameView[] views = new GameView[4];
+        for (int i = 0; i < views.length; i++) {
+            views[i] = GameView.of(game(i + 1));
+            cache.get(views[i], BINARY);
+        }
+        cache.get(views[0], BINARY);
+
+        cache.get(GameView.of(game(5)), BINARY);
+
+        assertEquals(2, cache.getEvictions());
+        assertTrue(cache.getPayloadBytes() <= size * 3L);
+        long hits = cache.getHits();
+        cache.get(views[0], BINARY);
+        assertEquals(hits + 1, cache.getHits());
+    }
+
+    /**
+     * Testet die Auswahl der Darstellung anhand des {@code Accept}-Headers.
+     */
+    @Test
+    void encodingIsNegotiated() {
+        String binary = GameStateEncoding.MEDIA_TYPE_VALUE;
+        assertEquals(JSON, GameResponseCache.Encoding.negotiate(null));
+        assertEquals(JSON, GameResponseCache.Encoding.negotiate("*/*"));
+        assertEquals(BINARY, GameResponseCache.Encoding.negotiate(binary));
+        assertEquals(BINARY, GameResponseCache.Encoding.negotiate(binary + ", application/json;q=0.5"));
+        assertEquals(JSON, GameResponseCache.Encoding.negotiate(binary + ";q=0.4, application/json"));
+    }
+
+    private static Game game(long id) {
+        Game game = new Game();
+        game.setId(id);
+        Player player = new Player();
+        player.setId(id * 10);
+        player.setName("player" + id);
+        game.addPlayer(player);
+        return game;
+    }
+}
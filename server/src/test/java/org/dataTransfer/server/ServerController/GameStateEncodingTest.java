@@ -0,0 +1,82 @@
+package org.dataTransfer.server.ServerController;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.player.Player;
+import org.dataTransfer.server.ServerModell.view.GameView;
+import org.dataTransfer.server.ServerModell.view.PlayerView;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Die Testklasse {@code GameStateEncodingTest} überprüft die kompakte Binärdarstellung eines Spielstands.
+ */
+class GameStateEncodingTest {
+
+    /**
+     * Testet, dass ein Spielstand samt Spielern unverändert dekodiert wird und deutlich kleiner ist als JSON.
+     */
+    @Test
+    void roundTripIsLosslessAndCompact() throws Exception {
+        Game game = new Game();
+        game.setId(300L);
+        game.setGameHostName("anna");
+        game.setCreatedAt(Instant.parse("2026-01-01T12:00:00.123Z"));
+        for (String name : new String[]{"anna", "ben", "cem", "dörte"}) {
+            Player player = new Player();
+            player.setId((long) name.length() * 1000);
+            player.setName(name);
+            game.addPlayer(player);
+        }
+        game.getPlayers().get(2).setReady(true);
+        game.getPlayers().get(3).setBot(true);
+        game.getPlayers().get(1).setPostion(17);
+        game.setStateVersion(123456789L);
+        GameView view = GameView.of(game);
+
+        byte[] encoded = GameStateEncoding.encode(view);
+
+        assertEquals(view, GameStateEncoding.decode(encoded));
+        byte[] json = new ObjectMapper().registerModule(new JavaTimeModule()).writeValueAsBytes(view);
+        assertTrue(encoded.length * 4 < json.length, encoded.length + " vs " + json.length + " bytes");
+    }
+
+    /**
+     * Testet, dass fehlende Werte ({@code null}) erhalten bleiben und abgeschnittene Daten abgelehnt werden.
+     */
+    @Test
+    void nullsSurviveAndTruncationIsRejected() {
+        GameView view = new GameView(1L, null, 4, false, 0, null, false, "Lobby", 0, null, null,
+                List.of(new PlayerView(null, 1, null, 0, false, false)), 1, 0);
+
+        byte[] encoded = GameStateEncoding.encode(view);
+
+        assertEquals(view, GameStateEncoding.decode(encoded));
+        assertThrows(IllegalArgumentException.class,
+                () -> GameStateEncoding.decode(Arrays.copyOf(encoded, encoded.length - 2)));
+    }
+
+    /**
+     * Testet, dass an jeder Stelle abgeschnittene Daten, auch mitten in einer Zeichenkette, als unvollständig
+     * abgelehnt werden.
+     */
+    @Test
+    void truncationInsideStringsIsRejected() {
+        GameView view = new GameView(7L, "anna", 4, false, 3, "anna", true, "Game", 12, "classic", null,
+                List.of(new PlayerView(10L, 1, "anna", 5, false, true), new PlayerView(11L, 2, "Bot 1", 0, true, true)),
+                2, 0);
+        byte[] encoded = GameStateEncoding.encode(view);
+
+        for (int length = 0; length < encoded.length; length++) {
+            byte[] truncated = Arrays.copyOf(encoded, length);
+            assertThrows(IllegalArgumentException.class, () -> GameStateEncoding.decode(truncated),
+                    "length " + length);
+        }
+    }
+}
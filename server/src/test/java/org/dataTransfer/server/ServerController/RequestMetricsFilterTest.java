@@ -0,0 +1,41 @@
+package org.dataTransfer.server.ServerController;
+
+import jakarta.servlet.FilterChain;
+import org.dataTransfer.server.ServerModell.admin.SlowRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Die Testklasse {@code RequestMetricsFilterTest} überprüft, wie der {@link RequestMetricsFilter} Anfragen zählt,
+ * deren Controller eine Ausnahme wirft.
+ */
+class RequestMetricsFilterTest {
+
+    /**
+     * Testet, dass eine Ausnahme aus dem Controller als Serverfehler mit Status 500 erfasst und weitergegeben wird.
+     */
+    @Test
+    void exceptionIsRecordedAsServerError() {
+        RequestMetricsFilter filter = new RequestMetricsFilter(4);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/games/7");
+        FilterChain chain = (req, res) -> {
+            throw new RuntimeException("Game not found with ID 7");
+        };
+
+        assertThrows(RuntimeException.class, () -> filter.doFilter(request, new MockHttpServletResponse(), chain));
+
+        RequestMetricsFilter.Endpoint other = filter.getEndpoints().stream()
+                .filter(endpoint -> endpoint.getUri().equals("other"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(1, other.getServerErrors());
+        List<SlowRequest> slow = filter.getSlowRequests();
+        assertEquals(1, slow.size());
+        assertEquals(500, slow.get(0).status());
+    }
+}
@@ -0,0 +1,115 @@
+package org.dataTransfer.server.ServerController;
+
+import org.dataTransfer.server.ServerModell.analytics.OddsService;
+import org.dataTransfer.server.ServerModell.engine.GameEngine;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.player.Player;
+import org.dataTransfer.server.ServerModell.view.GameView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Die Testklasse {@code ServerControllerTest} überprüft die bedingten GET-Anfragen des {@link ServerController}.
+ * Die GameEngine wird gemockt, sodass kein Spring-Datenkontext benötigt wird.
+ */
+@WebMvcTest(ServerController.class)
+@Import(GameResponseCache.class)
+class ServerControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private GameEngine gameEngine;
+
+    @MockitoBean
+    private GameStreamService gameStreamService;
+
+    @MockitoBean
+    private OddsService oddsService;
+
+    private Game game;
+
+    /**
+     * Stellt vor jedem Test ein Spiel (ID 1) mit einem Spieler bereit.
+     */
+    @BeforeEach
+    void setUp() {
+        game = new Game();
+        game.setId(1L);
+        Player player = new Player();
+        player.setId(10L);
+        player.setName("anna");
+        game.addPlayer(player);
+        when(gameEngine.getGame(1L)).thenReturn(game);
+        when(gameEngine.getGameView(1L)).thenAnswer(invocation -> GameView.of(game));
+    }
+
+    /**
+     * Testet, dass ein passender ETag mit 304 ohne Inhalt beantwortet wird.
+     */
+    @Test
+    void matchingETagReturnsNotModified() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/games/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn();
+        String etag = first.getResponse().getHeader("ETag");
+        assertNotNull(etag);
+
+        mockMvc.perform(get("/api/games/1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/games/1/players").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    /**
+     * Testet, dass die Binärdarstellung nur auf Anfrage geliefert wird und einen eigenen ETag hat.
+     */
+    @Test
+    void binaryEncodingIsNegotiated() throws Exception {
+        String jsonEtag = mockMvc.perform(get("/api/games/1"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getHeader("ETag");
+
+        MvcResult binary = mockMvc.perform(get("/api/games/1").accept(GameStateEncoding.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(GameStateEncoding.MEDIA_TYPE))
+                .andExpect(header().string("Vary", containsString("Accept")))
+                .andReturn();
+
+        assertEquals(GameView.of(game), GameStateEncoding.decode(binary.getResponse().getContentAsByteArray()));
+        assertNotEquals(jsonEtag, binary.getResponse().getHeader("ETag"));
+    }
+
+    /**
+     * Testet, dass nach einer Änderung der Zustandsversion der neue Spielstand gesendet wird.
+     */
+    @Test
+    void changedVersionReturnsNewState() throws Exception {
+        String etag = mockMvc.perform(get("/api/games/1"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        game.setStateVersion(1);
+
+        mockMvc.perform(get("/api/games/1").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stateVersion").value(1));
+    }
+}
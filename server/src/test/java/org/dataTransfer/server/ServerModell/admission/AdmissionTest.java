@@ -0,0 +1,116 @@
+package org.dataTransfer.server.ServerModell.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Die Testklasse {@code AdmissionTest} überprüft die Bausteine der Zugangskontrolle: den {@link TokenBucket}, das
+ * {@link AddressBudget} je Adresse und das {@link AdaptiveConcurrencyLimit}, jeweils mit den Anteilen der
+ * {@link Priority}-Klassen.
+ */
+class AdmissionTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Testet, dass Abfragen einen Teil der Tokens für zugkritische Befehle frei lassen und der Bucket nach einer
+     * Abweisung die Wartezeit bis zum nächsten Token nennt.
+     */
+    @Test
+    void bucketKeepsReserveForCriticalRequests() {
+        TokenBucket bucket = new TokenBucket(10, 10, 0);
+
+        int reads = 0;
+        while (bucket.tryAcquire(Priority.READ.getTokenReserve(), 0) == 0) {
+            reads++;
+        }
+        assertEquals(7, reads);
+
+        int critical = 0;
+        while (bucket.tryAcquire(Priority.CRITICAL.getTokenReserve(), 0) == 0) {
+            critical++;
+        }
+        assertEquals(3, critical);
+
+        long wait = bucket.tryAcquire(Priority.CRITICAL.getTokenReserve(), 0);
+        assertTrue(wait > 0 && wait <= SECOND / 10 + 1, "wait " + wait);
+        assertEquals(0, bucket.tryAcquire(Priority.CRITICAL.getTokenReserve(), SECOND / 5));
+
+        assertFalse(bucket.isFull(SECOND / 5));
+        assertTrue(bucket.isFull(2 * SECOND));
+    }
+
+    /**
+     * Testet, dass neue Kennungen kein zusätzliches Budget verschaffen, Kennungen hinter einer Adresse sich nicht
+     * gegenseitig ausbremsen und die Anzahl der Kennungen je Adresse begrenzt ist.
+     */
+    @Test
+    void addressBudgetIgnoresFreshClientIds() {
+        AddressBudget budget = new AddressBudget(10, 20, 10, 5, 4, 0);
+
+        int admitted = 0;
+        for (int i = 0; i < 100; i++) {
+            if (budget.tryAcquire("flood-" + i, 0, 0) == 0) {
+                admitted++;
+            }
+        }
+        // Je eine Anfrage der vier angelegten Kennungen, danach nur noch die 5 Tokens des gemeinsamen Buckets
+        assertEquals(9, admitted);
+        assertEquals(4, budget.getIdCount());
+        assertTrue(budget.tryAcquire("honest", 0, 0) > 0);
+
+        AddressBudget nat = new AddressBudget(10, 20, 10, 5, 4, 0);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, nat.tryAcquire("noisy", 0, 0));
+        }
+        assertTrue(nat.tryAcquire("noisy", 0, 0) > 0);
+        assertEquals(0, nat.tryAcquire("quiet", 0, 0));
+
+        assertFalse(nat.sweep(0));
+        assertTrue(nat.sweep(10 * SECOND));
+        assertEquals(0, nat.getIdCount());
+    }
+
+    /**
+     * Testet, dass das Limit wächst, solange es genutzt wird und die Latenz stabil bleibt, und sinkt, sobald die
+     * Latenz eines Fensters deutlich über dem Mittel liegt.
+     */
+    @Test
+    void limitFollowsLatency() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 5, 20, 2.0, 10);
+
+        for (int i = 0; i < 7; i++) {
+            assertTrue(limit.tryAcquire(Priority.READ.getLimitShare()));
+        }
+        assertFalse(limit.tryAcquire(Priority.READ.getLimitShare()));
+        assertTrue(limit.tryAcquire(Priority.CRITICAL.getLimitShare()));
+        assertTrue(limit.tryAcquire(Priority.CRITICAL.getLimitShare()));
+        assertTrue(limit.tryAcquire(Priority.CRITICAL.getLimitShare()));
+        assertFalse(limit.tryAcquire(Priority.CRITICAL.getLimitShare()));
+        releaseAll(limit, 10, TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(13, limit.getLimit());
+        assertEquals(0, limit.getInFlight());
+
+        // Ein kaum genutztes Limit wächst nicht weiter
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limit.tryAcquire(1.0));
+            limit.release(TimeUnit.MILLISECONDS.toNanos(1), true);
+        }
+        assertEquals(13, limit.getLimit());
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limit.tryAcquire(1.0));
+        }
+        releaseAll(limit, 10, TimeUnit.MILLISECONDS.toNanos(10));
+        assertEquals(11, limit.getLimit());
+    }
+
+    private static void releaseAll(AdaptiveConcurrencyLimit limit, int count, long rttNanos) {
+        for (int i = 0; i < count; i++) {
+            limit.release(rttNanos, true);
+        }
+    }
+}
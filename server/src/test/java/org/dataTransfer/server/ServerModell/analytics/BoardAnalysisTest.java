@@ -0,0 +1,61 @@
+package org.dataTransfer.server.ServerModell.analytics;
+
+import org.dataTransfer.server.ServerModell.board.BoardDefinition;
+import org.dataTransfer.server.ServerModell.board.CompiledBoard;
+import org.dataTransfer.server.ServerModell.simulation.RaceSimulator;
+import org.dataTransfer.server.ServerModell.simulation.SimulationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Die Testklasse {@code BoardAnalysisTest} vergleicht die exakten Kennzahlen der {@link BoardAnalysis}
+ * mit einfachen Sonderfällen und mit der Monte-Carlo-Simulation.
+ */
+class BoardAnalysisTest {
+
+    /**
+     * Testet Erwartungswerte, die sich von Hand nachrechnen lassen, und ein Brett mit einer Falle.
+     */
+    @Test
+    void expectedTurnsOfSimpleBoards() {
+        BoardAnalysis plain = new BoardAnalysis(new CompiledBoard(new BoardDefinition("seven", 7, List.of())));
+        assertEquals(0.0, plain.expectedTurns(6));
+        assertEquals(1.0, plain.expectedTurns(5), 1e-12);   // jeder Wurf erreicht das Ziel
+        assertEquals(7.0 / 6, plain.expectedTurns(4), 1e-12);
+
+        // Von Feld 0 führt jeder Wurf auf eine Schlange zurück zu 0: Das Ziel wird von dort nie erreicht
+        List<BoardDefinition.Jump> snakes = List.of(new BoardDefinition.Jump(1, 0), new BoardDefinition.Jump(2, 0),
+                new BoardDefinition.Jump(3, 0), new BoardDefinition.Jump(4, 0), new BoardDefinition.Jump(5, 0),
+                new BoardDefinition.Jump(6, 0));
+        BoardAnalysis trap = new BoardAnalysis(new CompiledBoard(new BoardDefinition("trap", 10, snakes)));
+        assertEquals(Double.POSITIVE_INFINITY, trap.expectedTurns(0));
+        assertEquals(1.0, trap.expectedTurns(8), 1e-12);
+        assertArrayEquals(new double[]{0.0, 1.0}, trap.winProbabilities(new int[]{0, 8}), 1e-9);
+    }
+
+    /**
+     * Testet die exakten Werte des Standardbretts gegen eine Simulation mit festem Seed.
+     */
+    @Test
+    void classicBoardMatchesSimulation() {
+        CompiledBoard board = CompiledBoard.classic();
+        BoardAnalysis analysis = new BoardAnalysis(board);
+
+        RaceSimulator.Tally solo = new RaceSimulator.Tally(1);
+        new RaceSimulator(board, 1).run(1, 200_000, solo);
+        SimulationResult soloResult = solo.toResult();
+        assertEquals(soloResult.meanRounds(), analysis.expectedTurns(0), 0.05);
+
+        RaceSimulator.Tally duel = new RaceSimulator.Tally(2);
+        new RaceSimulator(board, 2).run(2, 200_000, duel);
+        double[] exact = analysis.winProbabilities(new int[]{0, 0});
+        assertEquals(1.0, exact[0] + exact[1], 1e-9);
+        assertEquals(duel.toResult().winRateBySeat()[0], exact[0], 0.005);
+        assertTrue(exact[0] > exact[1]);
+
+        assertArrayEquals(new double[]{0.5, 0.0, 0.5}, analysis.winProbabilities(new int[]{63, 10, 63}));
+    }
+}
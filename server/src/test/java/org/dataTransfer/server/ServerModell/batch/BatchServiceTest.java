@@ -0,0 +1,99 @@
+package org.dataTransfer.server.ServerModell.batch;
+
+import org.dataTransfer.server.ServerModell.engine.EngineFixture;
+import org.dataTransfer.server.ServerModell.engine.GameEngine;
+import org.dataTransfer.server.ServerModell.engine.GamePersistence;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.view.GameView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.dataTransfer.server.ServerModell.engine.EngineFixture.player;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Die Testklasse {@code BatchServiceTest} überprüft, dass die Operationen eines Spiels als ein Befehl laufen und
+ * Fehler nur die folgenden Operationen desselben Spiels überspringen.
+ */
+class BatchServiceTest {
+
+    private EngineFixture fixture;
+    private GamePersistence persistence;
+    private GameEngine gameEngine;
+    private BatchService batchService;
+
+    /**
+     * Erstellt vor jedem Test eine GameEngine mit zwei Lobbys (ID 1 und 2) aus je zwei Spielern.
+     */
+    @BeforeEach
+    void setUp() throws Exception {
+        persistence = mock(GamePersistence.class);
+        fixture = new EngineFixture().persistence(persistence).game(lobby(1L)).game(lobby(2L));
+        gameEngine = fixture.build();
+        batchService = new BatchService(gameEngine);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixture.shutdown();
+    }
+
+    /**
+     * Testet, dass Ready, Start und Lesen eines Spiels eine einzige neue Version und einen Schreibvorgang erzeugen.
+     */
+    @Test
+    void operationsOfOneGameRunAsOneCommand() {
+        List<BatchResult> results = batchService.execute(List.of(
+                operation(BatchOperation.Type.GET, 1L),
+                new BatchOperation(BatchOperation.Type.READY, 1L, null, 1, true, null),
+                new BatchOperation(BatchOperation.Type.READY, 1L, null, 2, true, null),
+                new BatchOperation(BatchOperation.Type.START, 1L, 0L, null, null, null),
+                operation(BatchOperation.Type.GET, 1L)));
+
+        assertEquals(List.of(200, 200, 200, 200, 200), results.stream().map(BatchResult::status).toList());
+        assertEquals(0, ((GameView) results.get(0).body()).stateVersion());
+        assertFalse(((GameView) results.get(0).body()).gameStarted());
+        GameView last = (GameView) results.get(4).body();
+        assertEquals(1, last.stateVersion());
+        assertTrue(last.gameStarted());
+        assertTrue(last.allPlayersAreReady());
+
+        assertEquals(1, gameEngine.getGame(1L).getStateVersion());
+        assertEquals(3, gameEngine.getEvents(1L, 0).events().size());
+        verify(persistence, times(1)).gameChanged(any(), any());
+    }
+
+    /**
+     * Testet, dass eine gescheiterte Operation die folgenden Operationen ihres Spiels überspringt, ohne ein
+     * unverändertes Spiel in eine neue Version zu bringen, und andere Spiele nicht beeinflusst.
+     */
+    @Test
+    void failureSkipsRemainingOperationsOfItsGame() {
+        List<BatchResult> results = batchService.execute(List.of(
+                new BatchOperation(BatchOperation.Type.START, 1L, 5L, null, null, null),
+                new BatchOperation(BatchOperation.Type.READY, 2L, null, 1, true, null),
+                operation(BatchOperation.Type.GET, 1L),
+                new BatchOperation(BatchOperation.Type.READY, 2L, null, 7, true, null),
+                operation(BatchOperation.Type.GET, 2L),
+                operation(BatchOperation.Type.GET, 3L)));
+
+        assertEquals(List.of(409, 200, 424, 400, 424, 500), results.stream().map(BatchResult::status).toList());
+        assertEquals(0, gameEngine.getGame(1L).getStateVersion());
+        assertEquals(1, gameEngine.getGame(2L).getStateVersion());
+        assertTrue(gameEngine.getGame(2L).getPlayers().get(0).isReady());
+        verify(persistence, times(1)).gameChanged(any(), any());
+    }
+
+    private static BatchOperation operation(BatchOperation.Type type, long gameId) {
+        return new BatchOperation(type, gameId, null, null, null, null);
+    }
+
+    private static Game lobby(long id) {
+        return EngineFixture.lobby(id, player(id * 10, "anna"), player(id * 10 + 1, "ben"));
+    }
+}
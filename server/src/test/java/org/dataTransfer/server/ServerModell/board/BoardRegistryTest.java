@@ -0,0 +1,55 @@
+package org.dataTransfer.server.ServerModell.board;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.dataTransfer.server.ServerModell.BoardRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Die Testklasse {@code BoardRegistryTest} überprüft, dass zur Laufzeit angelegte Bretter gespeichert und nach
+ * einem Neustart wieder geladen werden.
+ */
+class BoardRegistryTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Testet, dass ein angelegtes Brett gespeichert wird und eine neue Registry es mit derselben Beschreibung lädt.
+     */
+    @Test
+    void registeredBoardSurvivesRestart() throws Exception {
+        BoardRepository repository = mock(BoardRepository.class);
+        BoardDefinition definition = new BoardDefinition("ladder", 12, List.of(new BoardDefinition.Jump(3, 9)));
+
+        new BoardRegistry(objectMapper, repository).register(definition);
+
+        ArgumentCaptor<StoredBoard> stored = ArgumentCaptor.forClass(StoredBoard.class);
+        verify(repository).save(stored.capture());
+        assertEquals("ladder", stored.getValue().getName());
+
+        when(repository.findAll()).thenReturn(List.of(stored.getValue()));
+        BoardRegistry restarted = new BoardRegistry(objectMapper, repository);
+        assertEquals(definition, restarted.get("ladder").getDefinition());
+        assertEquals(9, restarted.get("ladder").move(1, 2));
+    }
+
+    /**
+     * Testet, dass ein Brett, das nicht gespeichert werden kann, auch nicht im Speicher bleibt.
+     */
+    @Test
+    void failedSaveDiscardsBoard() throws Exception {
+        BoardRepository repository = mock(BoardRepository.class);
+        when(repository.save(any())).thenThrow(new IllegalStateException("database down"));
+        BoardRegistry registry = new BoardRegistry(objectMapper, repository);
+
+        assertThrows(IllegalStateException.class, () ->
+                registry.register(new BoardDefinition("ladder", 12, List.of())));
+        assertTrue(registry.find("ladder").isEmpty());
+    }
+}
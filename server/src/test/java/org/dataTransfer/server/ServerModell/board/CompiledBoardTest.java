@@ -0,0 +1,44 @@
+package org.dataTransfer.server.ServerModell.board;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Die Testklasse {@code CompiledBoardTest} überprüft die Übergangstabelle eines Spielbretts.
+ */
+class CompiledBoardTest {
+
+    /**
+     * Testet das Standardbrett: Begrenzung auf das Ziel, Leitern und Schlangen ohne Verkettung.
+     */
+    @Test
+    void classicBoardMovesAsBefore() {
+        CompiledBoard board = CompiledBoard.classic();
+
+        assertEquals(63, board.getFinish());
+        assertEquals(4, board.move(1, 3));
+        assertEquals(0, board.move(3, 3));     // Schlange auf Feld 6
+        assertEquals(27, board.move(15, 4));   // Leiter auf Feld 19
+        assertEquals(63, board.move(60, 6));   // Überschießen endet im Ziel
+        assertEquals(63, board.landing(60, 6));
+    }
+
+    /**
+     * Testet, dass ungültige Bretter abgelehnt werden.
+     */
+    @Test
+    void invalidDefinitionsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new CompiledBoard(new BoardDefinition("short", 1, List.of())));
+        assertThrows(IllegalArgumentException.class, () ->
+                new CompiledBoard(new BoardDefinition("finish-jump", 10, List.of(new BoardDefinition.Jump(9, 2)))));
+        assertThrows(IllegalArgumentException.class, () ->
+                new CompiledBoard(new BoardDefinition("twice", 10,
+                        List.of(new BoardDefinition.Jump(3, 5), new BoardDefinition.Jump(3, 1)))));
+        assertThrows(IllegalArgumentException.class, () ->
+                new CompiledBoard(new BoardDefinition("Bad Name", 10, null)));
+    }
+}
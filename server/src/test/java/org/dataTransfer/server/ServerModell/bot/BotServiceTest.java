@@ -0,0 +1,94 @@
+package org.dataTransfer.server.ServerModell.bot;
+
+import org.dataTransfer.server.ServerModell.engine.EngineFixture;
+import org.dataTransfer.server.ServerModell.engine.GameEngine;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.player.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.BooleanSupplier;
+
+import static org.dataTransfer.server.ServerModell.engine.EngineFixture.bot;
+import static org.dataTransfer.server.ServerModell.engine.EngineFixture.lobby;
+import static org.dataTransfer.server.ServerModell.engine.EngineFixture.player;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Die Testklasse {@code BotServiceTest} überprüft, dass Bots ohne HTTP-Anfragen bereit melden, starten und würfeln.
+ * Die Bots handeln ohne Bedenkzeit; die Tests warten daher nur kurz auf deren virtuelle Threads.
+ */
+class BotServiceTest {
+
+    private EngineFixture fixture;
+    private GameEngine gameEngine;
+    private BotService botService;
+
+    /**
+     * Erstellt vor jedem Test eine GameEngine mit einer Lobby (ID 1) aus zwei Menschen und einem Spiel (ID 2)
+     * aus zwei Bots. Gespeicherte Spieler erhalten fortlaufende IDs.
+     */
+    @BeforeEach
+    void setUp() throws Exception {
+        fixture = new EngineFixture().eventCapacity(16)
+                .game(lobby(1L, player(10L, "anna"), player(11L, "ben")))
+                .game(lobby(2L, bot(20L, "Bot 1"), bot(21L, "Bot 2")));
+        gameEngine = fixture.build();
+        botService = new BotService(gameEngine, 0, 0, 0, 0, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        botService.shutdown();
+        fixture.shutdown();
+    }
+
+    /**
+     * Testet, dass hinzugefügte Bots sich bereit melden, das Spiel der Menschen aber nicht selbst starten,
+     * und nach dem Start nur in ihrem eigenen Zug würfeln.
+     */
+    @Test
+    void botsReadyAndRollOnlyOnTheirTurn() throws InterruptedException {
+        Game withBots = botService.addBots(1L, 5);
+        assertEquals(4, withBots.getCurrentPlayersCount());
+        assertTrue(withBots.getPlayers().get(2).isBot());
+        assertEquals("Bot 3", withBots.getPlayers().get(2).getName());
+
+        await(() -> gameEngine.getGame(1L).getPlayers().stream().filter(Player::isBot).allMatch(Player::isReady));
+        Thread.sleep(50);
+        assertFalse(gameEngine.getGame(1L).isGameStarted());
+
+        gameEngine.startGame(1L, null, true, "Game");
+        gameEngine.rollDice(1L, null, "anna");
+        gameEngine.rollDice(1L, null, "ben");
+
+        // Beide Bots würfeln, danach ist wieder anna am Zug
+        await(() -> gameEngine.getGame(1L).getDiceRolls() == 4);
+        Thread.sleep(50);
+        Game game = gameEngine.getGame(1L);
+        assertEquals(4, game.getDiceRolls());
+        assertEquals("anna", game.getCurrentPlayerUsername());
+        assertEquals(2, botService.getStats().rolls());
+    }
+
+    /**
+     * Testet, dass ein Spiel nur aus Bots selbstständig startet, zu Ende gespielt und danach gelöscht wird.
+     */
+    @Test
+    void botOnlyGamePlaysToTheEndAndIsRetired() throws InterruptedException {
+        gameEngine.execute(2L, game -> game);
+
+        await(() -> botService.getStats().finishedGames() == 1);
+        assertTrue(botService.getStats().rolls() > 0);
+        assertEquals(0, gameEngine.getLiveGameCount());
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Bots did not act in time");
+            Thread.sleep(1);
+        }
+    }
+}
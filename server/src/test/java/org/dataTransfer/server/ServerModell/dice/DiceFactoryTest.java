@@ -0,0 +1,63 @@
+package org.dataTransfer.server.ServerModell.dice;
+
+import org.dataTransfer.server.ServerModell.DiceIF;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.player.Player;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Die Testklasse {@code DiceFactoryTest} überprüft, dass Spiele mit demselben Seed dieselben Würfe erhalten
+ * und ein Würfel nach dem Laden eines Spiels an der richtigen Stelle fortsetzt.
+ */
+class DiceFactoryTest {
+
+    /**
+     * Testet, dass der gepufferte Würfel dieselbe Folge liefert wie der einfache und ein vorgespulter Würfel
+     * die Folge fortsetzt.
+     */
+    @Test
+    void strategiesShareSequenceAndResume() {
+        DiceIF seeded = new DiceFactory("seeded", 8).create(42L, 0);
+        DiceIF buffered = new DiceFactory("buffered", 8).create(42L, 0);
+        int[] rolls = new int[20];
+        for (int i = 0; i < rolls.length; i++) {
+            rolls[i] = seeded.rollDice();
+            assertTrue(rolls[i] >= 1 && rolls[i] <= 6);
+            assertEquals(rolls[i], buffered.rollDice());
+        }
+
+        DiceIF resumed = new DiceFactory("buffered", 8).create(42L, 13);
+        for (int i = 13; i < rolls.length; i++) {
+            assertEquals(rolls[i], resumed.rollDice());
+        }
+    }
+
+    /**
+     * Testet, dass zwei Spiele mit demselben Seed exakt gleich verlaufen.
+     */
+    @Test
+    void gameWithSameSeedReplaysExactly() {
+        Game original = game();
+        Game replay = game();
+        for (int i = 0; i < 30; i++) {
+            assertEquals(original.rollDiceAndNextTurn(), replay.rollDiceAndNextTurn());
+        }
+        assertEquals(30, replay.getDiceRolls());
+        for (int i = 0; i < original.getPlayers().size(); i++) {
+            assertEquals(original.getPlayers().get(i).getPostion(), replay.getPlayers().get(i).getPostion());
+        }
+    }
+
+    private static Game game() {
+        Game game = new Game();
+        game.setDiceSeed(7L);
+        for (String name : new String[]{"anna", "ben"}) {
+            Player player = new Player();
+            player.setName(name);
+            game.addPlayer(player);
+        }
+        return game;
+    }
+}
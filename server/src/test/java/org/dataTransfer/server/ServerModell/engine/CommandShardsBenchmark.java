@@ -0,0 +1,94 @@
+package org.dataTransfer.server.ServerModell.engine;
+
+import ch.qos.logback.classic.Level;
+import org.dataTransfer.server.ServerModell.player.Player;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.dataTransfer.server.ServerModell.engine.EngineFixture.lobby;
+import static org.dataTransfer.server.ServerModell.engine.EngineFixture.player;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Einfacher Durchsatz-Benchmark für die {@link CommandShards}.
+ *
+ * <p>
+ * Für eine wachsende Anzahl gleichzeitiger Spiele wird eine feste Anzahl von Würfelwürfen über
+ * {@link GameEngine#rollDice(long, Long, String)} ausgeführt, also samt Momentaufnahme, Ereignis-Log und
+ * Write-Behind-Persistenz, und die erreichte Anzahl Würfe pro Sekunde ausgegeben. Je Spiel würfelt ein virtueller
+ * Thread und wartet wie eine HTTP-Anfrage auf das Ergebnis. Solange es weniger Spiele als Spuren gibt, bleibt ein
+ * Teil der Kerne ungenutzt; danach sollte der Durchsatz bis zur Anzahl der Kerne skalieren und anschließend
+ * konstant bleiben.
+ * </p>
+ *
+ * <p>
+ * Start: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.dataTransfer.server.ServerModell.engine.CommandShardsBenchmark}
+ * </p>
+ */
+public class CommandShardsBenchmark {
+
+    private static final int TOTAL_ROLLS = 400_000;
+    private static final int[] GAME_COUNTS = {1, 2, 4, 8, 16, 32, 64, 256, 1024};
+
+    /** Die ID des nächsten Spiels; jeder Durchlauf beginnt mit neuen Spielen. */
+    private static long nextGameId = 1;
+
+    public static void main(String[] args) throws Exception {
+        // Ohne Spring gilt die Standardkonfiguration von Logback, die auch die DEBUG-Meldung jedes Zugs ausgibt
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+
+        EngineFixture fixture = new EngineFixture().shards(0);
+        when(fixture.gameRepository().findWithPlayersById(anyLong())).thenAnswer(invocation -> {
+            long id = invocation.getArgument(0);
+            Player[] players = new Player[4];
+            for (int i = 0; i < players.length; i++) {
+                players[i] = player(id * 4 + i, "player-" + i);
+            }
+            return Optional.of(lobby(id, players));
+        });
+        GameEngine engine = fixture.build();
+        System.out.printf("Shards: %d%n", fixture.shards().getShardCount());
+        System.out.printf("%8s %14s%n", "games", "rolls/sec");
+
+        try (ExecutorService players = Executors.newVirtualThreadPerTaskExecutor()) {
+            run(engine, players, 64);  // Aufwärmen
+            for (int games : GAME_COUNTS) {
+                double rollsPerSecond = run(engine, players, games);
+                System.out.printf("%8d %14.0f%n", games, rollsPerSecond);
+            }
+        }
+        fixture.shutdown();
+    }
+
+    private static double run(GameEngine engine, ExecutorService players, int gameCount) throws Exception {
+        long[] gameIds = new long[gameCount];
+        for (int i = 0; i < gameCount; i++) {
+            gameIds[i] = nextGameId++;
+            engine.getGame(gameIds[i]);  // Laden gehört nicht zur Messung
+        }
+        int rollsPerGame = TOTAL_ROLLS / gameCount;
+        Future<?>[] done = new Future<?>[gameCount];
+
+        long start = System.nanoTime();
+        for (int i = 0; i < gameCount; i++) {
+            long gameId = gameIds[i];
+            done[i] = players.submit(() -> {
+                for (int r = 0; r < rollsPerGame; r++) {
+                    engine.rollDice(gameId, null, null);
+                }
+            });
+        }
+        for (Future<?> future : done) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        return (double) gameCount * rollsPerGame / (elapsed / 1_000_000_000.0);
+    }
+}
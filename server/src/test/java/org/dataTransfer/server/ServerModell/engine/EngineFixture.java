@@ -0,0 +1,196 @@
+package org.dataTransfer.server.ServerModell.engine;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.dataTransfer.server.ServerModell.GameRepository;
+import org.dataTransfer.server.ServerModell.PlayerRepository;
+import org.dataTransfer.server.ServerModell.board.BoardRegistry;
+import org.dataTransfer.server.ServerModell.dice.DiceFactory;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.player.Player;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Baut eine {@link GameEngine} ohne Spring-Kontext für die Tests der Engine und der Dienste, die auf ihr aufsetzen.
+ *
+ * <p>
+ * Die Repositories sind Mockito-Mocks: Mit {@link #game(Game)} hinterlegte Spiele lädt die Engine beim ersten
+ * Zugriff, gespeicherte Spieler erhalten fortlaufende IDs ab 101. Die Engine arbeitet mit einem reproduzierbaren
+ * Würfel und, sofern nicht anders gesetzt, mit zwei Spuren und einem {@link WriteBehindFlusher}, dessen
+ * {@link WriteBehindFlusher#flush()} der Test selbst aufruft. Nach jedem Test ist {@link #shutdown()} aufzurufen.
+ * </p>
+ */
+public final class EngineFixture {
+
+    private final GameRepository gameRepository = mock(GameRepository.class);
+    private final PlayerRepository playerRepository = mock(PlayerRepository.class);
+    private int shardCount = 2;
+    private CommandShards shards;
+    private GamePersistence persistence;
+    private int eventCapacity = 4;
+
+    /**
+     * Erstellt die Mocks; die Engine entsteht erst mit {@link #build()}.
+     */
+    public EngineFixture() {
+        AtomicLong ids = new AtomicLong(100);
+        when(playerRepository.save(any())).thenAnswer(invocation -> {
+            Player player = invocation.getArgument(0);
+            player.setId(ids.incrementAndGet());
+            return player;
+        });
+    }
+
+    /**
+     * Hinterlegt ein Spiel im gemockten Repository.
+     *
+     * @param game das Spiel mit gesetzter ID
+     * @return diese Fixture
+     */
+    public EngineFixture game(Game game) {
+        when(gameRepository.findWithPlayersById(game.getId())).thenReturn(Optional.of(game));
+        return this;
+    }
+
+    /**
+     * Ersetzt den {@link WriteBehindFlusher}, z. B. durch einen Mock.
+     *
+     * @param persistence die Persistenz der Engine
+     * @return diese Fixture
+     */
+    public EngineFixture persistence(GamePersistence persistence) {
+        this.persistence = persistence;
+        return this;
+    }
+
+    /**
+     * Setzt die Anzahl der Spuren (Standard 2).
+     *
+     * @param shardCount die Anzahl der Spuren; 0 für eine je Kern
+     * @return diese Fixture
+     */
+    public EngineFixture shards(int shardCount) {
+        this.shardCount = shardCount;
+        return this;
+    }
+
+    /**
+     * Setzt die Anzahl der Ereignisse, die je Spiel gehalten werden (Standard 4).
+     *
+     * @param eventCapacity die Kapazität des Ereignis-Logs
+     * @return diese Fixture
+     */
+    public EngineFixture eventCapacity(int eventCapacity) {
+        this.eventCapacity = eventCapacity;
+        return this;
+    }
+
+    /**
+     * Erstellt die Engine.
+     *
+     * @return die Engine
+     * @throws Exception falls die Spielbretter nicht geladen werden können
+     */
+    public GameEngine build() throws Exception {
+        if (persistence == null) {
+            persistence = new WriteBehindFlusher(gameRepository, playerRepository, "write-behind");
+        }
+        shards = new CommandShards(shardCount);
+        return new GameEngine(gameRepository, playerRepository, persistence, shards, mock(TransactionTemplate.class),
+                new DiceFactory("seeded", 16), new BoardRegistry(new ObjectMapper()), eventCapacity);
+    }
+
+    /**
+     * Beendet die Spuren.
+     */
+    public void shutdown() {
+        if (shards != null) {
+            shards.shutdown();
+        }
+    }
+
+    /**
+     * Gibt die Spuren der gebauten Engine zurück.
+     *
+     * @return die Spuren
+     */
+    public CommandShards shards() {
+        return shards;
+    }
+
+    /**
+     * Gibt das gemockte Repository der Spiele zurück.
+     *
+     * @return das Repository
+     */
+    public GameRepository gameRepository() {
+        return gameRepository;
+    }
+
+    /**
+     * Gibt das gemockte Repository der Spieler zurück.
+     *
+     * @return das Repository
+     */
+    public PlayerRepository playerRepository() {
+        return playerRepository;
+    }
+
+    /**
+     * Gibt die Persistenz der gebauten Engine zurück.
+     *
+     * @return der {@link WriteBehindFlusher} oder die mit {@link #persistence(GamePersistence)} gesetzte Persistenz
+     */
+    public GamePersistence persistence() {
+        return persistence;
+    }
+
+    /**
+     * Erstellt ein Spiel in der Lobby mit den angegebenen Spielern.
+     *
+     * @param id      die ID des Spiels
+     * @param players die Spieler in ihrer Reihenfolge
+     * @return das Spiel
+     */
+    public static Game lobby(long id, Player... players) {
+        Game game = new Game();
+        game.setId(id);
+        for (Player player : players) {
+            game.addPlayer(player);
+        }
+        return game;
+    }
+
+    /**
+     * Erstellt einen menschlichen Spieler.
+     *
+     * @param id   die ID des Spielers
+     * @param name der Name des Spielers
+     * @return der Spieler
+     */
+    public static Player player(long id, String name) {
+        Player player = new Player();
+        player.setId(id);
+        player.setName(name);
+        return player;
+    }
+
+    /**
+     * Erstellt einen Bot.
+     *
+     * @param id   die ID des Bots
+     * @param name der Name des Bots
+     * @return der Bot
+     */
+    public static Player bot(long id, String name) {
+        Player bot = player(id, name);
+        bot.setBot(true);
+        return bot;
+    }
+}
@@ -0,0 +1,325 @@
+package org.dataTransfer.server.ServerModell.engine;
+
+import org.dataTransfer.server.ServerModell.GameRepository;
+import org.dataTransfer.server.ServerModell.PlayerRepository;
+import org.dataTransfer.server.ServerModell.event.GameEvent;
+import org.dataTransfer.server.ServerModell.event.GameEvents;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.game.GameFilter;
+import org.dataTransfer.server.ServerModell.game.GamePage;
+import org.dataTransfer.server.ServerModell.player.Player;
+import org.dataTransfer.server.ServerModell.view.GameSummary;
+import org.dataTransfer.server.ServerModell.view.GameView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+
+import static org.dataTransfer.server.ServerModell.engine.EngineFixture.lobby;
+import static org.dataTransfer.server.ServerModell.engine.EngineFixture.player;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Die Testklasse {@code GameEngineTest} überprüft die {@link GameEngine} ohne Spring-Kontext.
+ * Die Repositories werden mit Mockito gemockt; das Spiel wird beim ersten Zugriff aus dem gemockten
+ * Repository geladen und danach ausschließlich im Speicher verändert.
+ */
+class GameEngineTest {
+
+    private EngineFixture fixture;
+    private GameRepository gameRepository;
+    private PlayerRepository playerRepository;
+    private WriteBehindFlusher flusher;
+    private GameEngine gameEngine;
+
+    /**
+     * Erstellt vor jedem Test eine GameEngine mit einem Spiel (ID 1) und zwei Spielern im Repository.
+     */
+    @BeforeEach
+    void setUp() throws Exception {
+        fixture = new EngineFixture().game(lobby(1L, player(10L, "anna"), player(11L, "ben")));
+        gameEngine = fixture.build();
+        gameRepository = fixture.gameRepository();
+        playerRepository = fixture.playerRepository();
+        flusher = (WriteBehindFlusher) fixture.persistence();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixture.shutdown();
+    }
+
+    /**
+     * Testet, dass jeder Befehl die Zustandsversion erhöht und Lesezugriffe nur Momentaufnahmen sehen.
+     */
+    @Test
+    void executeIncrementsVersionAndPublishesSnapshot() {
+        Game before = gameEngine.getGame(1L);
+
+        Game after = gameEngine.execute(1L, game -> {
+            game.setGameStarted(true);
+            return game;
+        });
+
+        assertEquals(0, before.getStateVersion());
+        assertFalse(before.isGameStarted());
+        assertEquals(1, after.getStateVersion());
+        assertTrue(after.isGameStarted());
+        assertSame(after, gameEngine.getGame(1L));
+    }
+
+    /**
+     * Testet, dass das Lesemodell je Momentaufnahme nur einmal erstellt wird und einem Befehl folgt.
+     */
+    @Test
+    void gameViewIsReusedUntilNextCommand() {
+        GameView first = gameEngine.getGameView(1L);
+        assertSame(first, gameEngine.getGameView(1L));
+        assertEquals(2, first.players().size());
+
+        gameEngine.execute(1L, game -> {
+            game.setGameStarted(true);
+            return game;
+        });
+
+        GameView next = gameEngine.getGameView(1L);
+        assertNotSame(first, next);
+        assertEquals(1, next.stateVersion());
+        assertTrue(next.gameStarted());
+    }
+
+    /**
+     * Testet, dass ein Befehl mit veralteter Version abgelehnt wird und den Spielstand nicht verändert.
+     */
+    @Test
+    void staleVersionIsRejected() {
+        gameEngine.execute(1L, game -> game);
+
+        GameConflictException conflict = assertThrows(GameConflictException.class,
+                () -> gameEngine.execute(1L, 0L, false, Game::rollDiceAndNextTurn));
+
+        assertEquals(1, conflict.getCurrentVersion());
+        assertEquals(1, gameEngine.getGame(1L).getStateVersion());
+    }
+
+    /**
+     * Testet, dass ein wiederholbarer Befehl bei veralteter Version auf dem aktuellen Stand ausgeführt wird.
+     */
+    @Test
+    void staleVersionIsRetriedWhenSafe() {
+        gameEngine.execute(1L, game -> game);
+
+        Game result = gameEngine.execute(1L, 0L, true, game -> {
+            game.setAllPlayersAreReady(true);
+            return game;
+        });
+
+        assertTrue(result.isAllPlayersAreReady());
+        assertEquals(2, result.getStateVersion());
+    }
+
+    /**
+     * Testet, dass das Löschen eines Spiels keine weitere Speicherung auslöst.
+     */
+    @Test
+    void deletedGameIsNotSavedAgain() {
+        gameEngine.execute(1L, game -> {
+            gameEngine.deleteGame(game);
+            return null;
+        });
+
+        assertEquals(0, gameEngine.getLiveGameCount());
+        verify(gameRepository, never()).save(any());
+    }
+
+    /**
+     * Testet, dass ein Würfelwurf als DiceRolled und TurnAdvanced mit der neuen Version erfasst wird
+     * und ein Client auf aktuellem Stand keine Ereignisse erhält.
+     */
+    @Test
+    void rollIsRecordedAsEvents() {
+        gameEngine.rollDice(1L, 0L, "anna");
+
+        GameEvents events = gameEngine.getEvents(1L, 0L);
+
+        assertNull(events.snapshot());
+        assertEquals(1, events.version());
+        assertEquals(2, events.events().size());
+        GameEvent.DiceRolled rolled = (GameEvent.DiceRolled) events.events().get(0).event();
+        assertEquals(10L, rolled.playerId());
+        assertEquals(0, rolled.from());
+        assertEquals(new GameEvent.TurnAdvanced("ben"), events.events().get(1).event());
+        assertTrue(gameEngine.getEvents(1L, 1L).events().isEmpty());
+    }
+
+    /**
+     * Testet, dass ein zu weit zurückliegender Client oder eine Lücke im Log zum vollständigen Spielstand führt.
+     */
+    @Test
+    void tooFarBehindFallsBackToSnapshot() {
+        for (int i = 0; i < 3; i++) {
+            gameEngine.rollDice(1L, null, null);
+        }
+        // Kapazität 4: von sechs Ereignissen liegen nur die letzten vier vor
+        assertNotNull(gameEngine.getEvents(1L, 0L).snapshot());
+        assertEquals(4, gameEngine.getEvents(1L, 1L).events().size());
+
+        gameEngine.execute(1L, game -> game);
+
+        GameEvents events = gameEngine.getEvents(1L, 3L);
+        assertNotNull(events.snapshot());
+        assertEquals(4, events.version());
+    }
+
+    /**
+     * Testet, dass ein ungenutztes Spiel erst nach dem Schreiben seiner letzten Änderung aus dem Speicher entfernt
+     * und beim nächsten Zugriff neu geladen wird.
+     */
+    @Test
+    void idleGameIsEvictedOnceFlushedAndReloaded() throws Exception {
+        gameEngine.execute(1L, game -> {
+            game.setGameStarted(true);
+            return game;
+        });
+        Thread.sleep(5);
+
+        assertEquals(0, gameEngine.evictIdleGames(1, 1));
+        assertTrue(gameEngine.isLive(1L));
+
+        flusher.flush();
+        assertEquals(1, gameEngine.evictIdleGames(1, 1));
+        assertFalse(gameEngine.isLive(1L));
+        assertEquals(1, gameEngine.getEvictedCount());
+
+        Game reloaded = gameEngine.execute(1L, game -> game);
+        assertTrue(reloaded.isGameStarted());
+        assertEquals(2, reloaded.getStateVersion());
+        verify(gameRepository, times(2)).findWithPlayersById(1L);
+    }
+
+    /**
+     * Testet, dass die Spieleliste Spiele im Speicher nach ihrem aktuellen Stand filtert, auch wenn die Datenbank
+     * noch den alten Stand hat, und eine dadurch zu kurze Seite aus der Datenbank auffüllt.
+     */
+    @Test
+    void listGamesFiltersLiveGamesInMemory() {
+        gameEngine.execute(1L, game -> {
+            game.setGameStarted(true);
+            game.setGameState("Game");
+            return game;
+        });
+        when(gameRepository.findSummaries(any())).thenAnswer(invocation -> {
+            GameFilter filter = invocation.getArgument(0);
+            if (!"Lobby".equals(filter.state())) {
+                return List.of();
+            }
+            return filter.cursor() == null ? List.of(summary(7L), summary(1L)) : List.of(summary(0L));
+        });
+
+        GamePage lobbies = gameEngine.listGames(new GameFilter("Lobby", null, null, null, null, 2));
+        assertEquals(List.of(7L, 0L), lobbies.games().stream().map(GameSummary::id).toList());
+        assertNull(lobbies.nextCursor());
+
+        GamePage running = gameEngine.listGames(new GameFilter("Game", null, null, null, null, 2));
+        assertEquals(List.of(1L), running.games().stream().map(GameSummary::id).toList());
+        assertNull(running.nextCursor());
+    }
+
+    /**
+     * Testet, dass ein fehlgeschlagener Befehl seine Änderungen nicht an den nächsten Befehl weitergibt.
+     */
+    @Test
+    void failedCommandIsRolledBack() {
+        assertThrows(IllegalStateException.class, () -> gameEngine.execute(1L, game -> {
+            game.setGameStarted(true);
+            throw new IllegalStateException("abgebrochen");
+        }));
+
+        Game after = gameEngine.execute(1L, game -> {
+            game.setLastDiceRoll(3);
+            return game;
+        });
+
+        assertFalse(after.isGameStarted());
+        assertEquals(3, after.getLastDiceRoll());
+        assertEquals(1, after.getStateVersion());
+    }
+
+    /**
+     * Testet, dass ein entfernter Spieler erst nach den Momentaufnahmen gelöscht wird, die ihn noch enthalten, und
+     * dass ein fehlgeschlagener Befehl seine Löschung verwirft.
+     */
+    @Test
+    void removedPlayerIsDeletedAfterPendingSnapshots() {
+        gameEngine.execute(1L, game -> {
+            game.setGameStarted(true);
+            return game;
+        });
+        assertThrows(IllegalStateException.class, () -> gameEngine.execute(1L, game -> {
+            gameEngine.deletePlayer(game, game.getPlayers().get(0));
+            throw new IllegalStateException("abgebrochen");
+        }));
+        gameEngine.execute(1L, game -> {
+            Player ben = game.getPlayers().remove(1);
+            gameEngine.deletePlayer(game, ben);
+            return game;
+        });
+
+        flusher.flush();
+
+        InOrder order = inOrder(gameRepository, playerRepository);
+        order.verify(gameRepository).save(any(Game.class));
+        order.verify(playerRepository).deleteById(11L);
+        verify(playerRepository, never()).deleteById(10L);
+    }
+
+    /**
+     * Testet, dass der Ready-Status per ID den richtigen Spieler trifft, nachdem ein Spieler vor ihm gegangen ist,
+     * und dass ein fehlender Spieler keine neue Version erzeugt.
+     */
+    @Test
+    void readyByIdSurvivesRemovedPlayers() {
+        Game left = gameEngine.execute(1L, game -> {
+            game.getPlayers().remove(0);
+            return game;
+        });
+
+        Player ben = gameEngine.setReadyById(1L, left.getStateVersion(), 11L, true);
+
+        assertEquals("ben", ben.getName());
+        assertTrue(ben.isReady());
+        long version = gameEngine.getGame(1L).getStateVersion();
+        assertThrows(GameConflictException.class, () -> gameEngine.setReadyById(1L, version, 10L, true));
+        assertEquals(version, gameEngine.getGame(1L).getStateVersion());
+    }
+
+    /**
+     * Testet, dass ein wiederhergestelltes Spiel auf einem unbekannten Brett übersprungen wird, statt den Start der
+     * Engine zu verhindern.
+     */
+    @Test
+    void recoveredGameWithUnknownBoardIsSkipped() throws Exception {
+        Game unknown = lobby(2L, player(20L, "cleo"));
+        unknown.setBoardName("removed");
+        GamePersistence persistence = mock(GamePersistence.class);
+        when(persistence.recover()).thenReturn(List.of(lobby(3L, player(30L, "dora")), unknown));
+        EngineFixture recovering = new EngineFixture().persistence(persistence);
+        try {
+            GameEngine engine = recovering.build();
+
+            assertEquals(1, engine.getLiveGameCount());
+            assertTrue(engine.isLive(3L));
+            assertFalse(engine.isLive(2L));
+        } finally {
+            recovering.shutdown();
+        }
+    }
+
+    private static GameSummary summary(long id) {
+        return new GameSummary(id, "anna", "Lobby", false, "classic", null, 2, 4, 0);
+    }
+}
@@ -0,0 +1,106 @@
+package org.dataTransfer.server.ServerModell.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Die Testklasse {@code SingleFlightTest} überprüft, dass gleichzeitige Ladevorgänge mit demselben Schlüssel
+ * zusammengefasst werden.
+ */
+class SingleFlightTest {
+
+    /**
+     * Testet, dass gleichzeitige Aufrufer desselben Schlüssels einen Ladevorgang teilen und ein späterer Aufruf
+     * wieder selbst lädt.
+     */
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        SingleFlight<Long, Object> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Object result = new Object();
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> flight.execute(1L, () -> {
+                loads.incrementAndGet();
+                started.countDown();
+                await(release);
+                return result;
+            })));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < callers; i++) {
+                futures.add(executor.submit(() -> flight.execute(1L, () -> {
+                    loads.incrementAndGet();
+                    return new Object();
+                })));
+            }
+            while (flight.getCollapsedCount() < callers - 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            for (Future<Object> future : futures) {
+                assertSame(result, future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+        assertEquals(callers - 1, flight.getCollapsedCount());
+        assertEquals(0, flight.getInFlightCount());
+
+        assertNotSame(result, flight.execute(1L, Object::new));
+    }
+
+    /**
+     * Testet, dass wartende Aufrufer dieselbe Ausnahme wie der ladende Aufrufer erhalten.
+     */
+    @Test
+    void failureIsSharedWithWaitingCallers() throws Exception {
+        SingleFlight<Long, Object> flight = new SingleFlight<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RuntimeException failure = new RuntimeException("Game not found with id 1");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> loader = executor.submit(() -> flight.execute(1L, () -> {
+                started.countDown();
+                await(release);
+                throw failure;
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<Object> waiter = executor.submit(() -> flight.execute(1L, Object::new));
+            while (flight.getCollapsedCount() < 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertSame(failure, assertThrows(Exception.class, () -> loader.get(5, TimeUnit.SECONDS)).getCause());
+            assertSame(failure, assertThrows(Exception.class, () -> waiter.get(5, TimeUnit.SECONDS)).getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(0, flight.getInFlightCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
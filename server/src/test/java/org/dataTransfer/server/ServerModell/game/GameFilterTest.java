@@ -0,0 +1,96 @@
+package org.dataTransfer.server.ServerModell.game;
+
+import org.dataTransfer.server.ServerModell.GameRepository;
+import org.dataTransfer.server.ServerModell.PlayerRepository;
+import org.dataTransfer.server.ServerModell.player.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Die Testklasse {@code GameFilterTest} überprüft die Abfragen der Spieleliste gegen die Datenbank:
+ * Filter und Keyset-Pagination.
+ */
+@DataJpaTest
+class GameFilterTest {
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    private final Instant start = Instant.parse("2026-01-01T00:00:00Z");
+
+    /**
+     * Legt zehn Spiele an: gerade Nummern sind gestartet, jede dritte Lobby ist voll, Host ist "host" + (i % 2).
+     */
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 10; i++) {
+            Game game = new Game();
+            game.setGameHostName("host" + (i % 2));
+            game.setCreatedAt(start.plusSeconds(i));
+            if (i % 2 == 0) {
+                game.setGameStarted(true);
+                game.setGameState("Game");
+            }
+            int seated = i % 3 == 0 ? 4 : 1;
+            for (int p = 0; p < seated; p++) {
+                Player player = new Player();
+                player.setName("p" + i + "-" + p);
+                game.addPlayer(playerRepository.save(player));
+            }
+            gameRepository.save(game);
+        }
+    }
+
+    /**
+     * Testet, dass das Blättern per Cursor alle Treffer genau einmal und absteigend nach ID liefert.
+     */
+    @Test
+    void keysetPagesCoverAllMatchesOnce() {
+        List<Game> all = page(new GameFilter("Lobby", null, null, null, null, 100));
+        assertEquals(5, all.size());
+
+        Long cursor = null;
+        int seen = 0;
+        long previous = Long.MAX_VALUE;
+        do {
+            List<Game> page = page(new GameFilter("Lobby", null, null, null, cursor, 2));
+            for (Game game : page) {
+                assertTrue(game.getId() < previous);
+                previous = game.getId();
+                seen++;
+            }
+            cursor = page.size() == 2 ? page.get(1).getId() : null;
+        } while (cursor != null);
+        assertEquals(5, seen);
+    }
+
+    /**
+     * Testet die Filter auf freie Plätze, Host und Erstellungszeitpunkt.
+     */
+    @Test
+    void filtersBySeatHostAndCreation() {
+        // Lobbys sind die ungeraden Nummern 1, 3, 5, 7, 9; voll ist davon nur die 3 und die 9
+        assertEquals(3, page(new GameFilter("Lobby", true, null, null, null, 100)).size());
+        assertEquals(2, page(new GameFilter("Lobby", false, null, null, null, 100)).size());
+        assertEquals(5, page(new GameFilter(null, null, "host0", null, null, 100)).size());
+        List<Game> recent = page(new GameFilter(null, null, null, start.plusSeconds(6), null, 100));
+        assertEquals(3, recent.size());
+        assertTrue(recent.stream().allMatch(new GameFilter(null, null, null, start.plusSeconds(6), null, 1)::matches));
+    }
+
+    private List<Game> page(GameFilter filter) {
+        return gameRepository.findBy(filter.toSpecification(),
+                query -> query.sortBy(Sort.by(Sort.Direction.DESC, "id")).limit(filter.limit()).all());
+    }
+}
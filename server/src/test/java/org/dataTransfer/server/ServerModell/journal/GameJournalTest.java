@@ -0,0 +1,146 @@
+package org.dataTransfer.server.ServerModell.journal;
+
+import org.dataTransfer.server.ServerModell.GameRepository;
+import org.dataTransfer.server.ServerModell.PlayerRepository;
+import org.dataTransfer.server.ServerModell.event.GameEvent;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.player.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Die Testklasse {@code GameJournalTest} überprüft, dass ein Spiel nach dem Schließen des {@link GameJournal}
+ * aus Momentaufnahme und Ereignissen vollständig wiederhergestellt wird.
+ */
+class GameJournalTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Testet die Wiederherstellung aus einer Momentaufnahme, Ereignissen und einer ereignislosen Änderung.
+     */
+    @Test
+    void recoversSnapshotAndEvents() throws Exception {
+        GameJournal journal = open();
+        Game game = game();
+        journal.gameCreated(game.snapshot());
+
+        Player anna = game.getPlayers().get(0);
+        apply(journal, game, new GameEvent.DiceRolled(anna.getId(), 5, 0, 5, 5), new GameEvent.TurnAdvanced("ben"));
+        game.setMaxPlayersNumber(3);
+        apply(journal, game);
+        apply(journal, game, new GameEvent.PlayerJoined(12L, "cleo", 3));
+        journal.close();
+
+        List<Game> recovered = new ArrayList<>(open().recover());
+
+        assertEquals(1, recovered.size());
+        assertSameGame(game, recovered.get(0));
+    }
+
+    /**
+     * Testet, dass nach einer periodischen Momentaufnahme die älteren Segmente gelöscht werden
+     * und gelöschte Spiele nicht wiederhergestellt werden.
+     */
+    @Test
+    void snapshotReclaimsOldSegments() throws Exception {
+        GameJournal journal = open();
+        Game game = game();
+        journal.gameCreated(game.snapshot());
+        apply(journal, game, new GameEvent.TurnAdvanced("ben"));
+        Game deleted = game();
+        deleted.setId(2L);
+        journal.gameCreated(deleted.snapshot());
+        journal.gameDeleted(2L);
+
+        journal.snapshot();
+        apply(journal, game, new GameEvent.TurnAdvanced("anna"));
+        journal.close();
+
+        GameJournal reopened = open();
+        List<Game> recovered = new ArrayList<>(reopened.recover());
+        // Das Segment nach der Momentaufnahme und das beim erneuten Öffnen angelegte
+        assertEquals(2, reopened.getSegmentCount());
+        assertEquals(1, recovered.size());
+        assertSameGame(game, recovered.get(0));
+    }
+
+    /**
+     * Testet, dass ein gelöschtes Spiel ohne folgende Momentaufnahme gelöscht bleibt und die danach
+     * geschriebenen Ereignisse anderer Spiele erhalten bleiben.
+     */
+    @Test
+    void recoversRecordsAfterDeletion() throws Exception {
+        GameJournal journal = open();
+        Game game = game();
+        journal.gameCreated(game.snapshot());
+        Game deleted = game();
+        deleted.setId(2L);
+        journal.gameCreated(deleted.snapshot());
+        journal.gameDeleted(2L);
+        apply(journal, game, new GameEvent.TurnAdvanced("ben"));
+        apply(journal, game, new GameEvent.TurnAdvanced("anna"));
+        journal.close();
+
+        List<Game> recovered = new ArrayList<>(open().recover());
+
+        assertEquals(1, recovered.size());
+        assertSameGame(game, recovered.get(0));
+    }
+
+    private GameJournal open() throws Exception {
+        return new GameJournal(mock(GameRepository.class), mock(PlayerRepository.class), directory, 1, 2, true);
+    }
+
+    private static Game game() {
+        Game game = new Game();
+        game.setId(1L);
+        game.setGameHostName("anna");
+        game.addPlayer(player(10L, "anna"));
+        game.addPlayer(player(11L, "ben"));
+        return game;
+    }
+
+    private static Player player(long id, String name) {
+        Player player = new Player();
+        player.setId(id);
+        player.setName(name);
+        return player;
+    }
+
+    /**
+     * Wendet Ereignisse wie ein Befehl der Engine an: Zustand ändern, Version erhöhen, Journal benachrichtigen.
+     */
+    private static void apply(GameJournal journal, Game game, GameEvent... events) {
+        for (GameEvent event : events) {
+            game.apply(event);
+        }
+        game.setStateVersion(game.getStateVersion() + 1);
+        journal.gameChanged(game.snapshot(), List.of(events));
+    }
+
+    private static void assertSameGame(Game expected, Game actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getStateVersion(), actual.getStateVersion());
+        assertEquals(expected.getMaxPlayersNumber(), actual.getMaxPlayersNumber());
+        assertEquals(expected.getCurrentPlayerUsername(), actual.getCurrentPlayerUsername());
+        assertEquals(expected.getLastDiceRoll(), actual.getLastDiceRoll());
+        assertEquals(expected.getPlayers().size(), actual.getPlayers().size());
+        for (int i = 0; i < expected.getPlayers().size(); i++) {
+            Player player = actual.getPlayers().get(i);
+            assertEquals(expected.getPlayers().get(i).getId(), player.getId());
+            assertEquals(expected.getPlayers().get(i).getName(), player.getName());
+            assertEquals(expected.getPlayers().get(i).getPostion(), player.getPostion());
+            assertEquals(expected.getPlayers().get(i).getPlayerIndex(), player.getPlayerIndex());
+            assertSame(actual, player.getGame());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.dataTransfer.server.ServerModell.journal;
+
+import org.dataTransfer.server.Application;
+import org.dataTransfer.server.ServerModell.engine.GameEngine;
+import org.dataTransfer.server.ServerModell.player.Player;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Vergleicht den Durchsatz von Würfelwürfen mit den verschiedenen Schreibpfaden der {@link GameEngine}.
+ *
+ * <p>
+ * Für jeden Modus wird die Anwendung ohne Webserver gestartet. Mehrere Threads würfeln gleichzeitig in je einem
+ * eigenen Spiel über {@link GameEngine#rollDice(long, Long, String)}; gemessen werden die Würfe pro Sekunde.
+ * Verglichen werden {@code write-through} und {@code write-behind} über H2 mit dem Journal ohne und mit
+ * {@code sync-commit}.
+ * </p>
+ *
+ * <p>
+ * Start: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.dataTransfer.server.ServerModell.journal.PersistenceBenchmark}
+ * </p>
+ */
+public class PersistenceBenchmark {
+
+    private static final int GAMES = 8;
+    private static final int ROLLS_PER_GAME = 5_000;
+
+    public static void main(String[] args) throws Exception {
+        Path journalDir = Files.createTempDirectory("journal-benchmark");
+        System.out.printf("%-22s %12s%n", "mode", "rolls/sec");
+        run("write-through", "--game.engine.persistence-mode=write-through");
+        run("write-behind", "--game.engine.persistence-mode=write-behind");
+        run("journal", "--game.engine.persistence-mode=journal",
+                "--game.journal.dir=" + journalDir.resolve("async"));
+        run("journal sync-commit", "--game.engine.persistence-mode=journal",
+                "--game.journal.dir=" + journalDir.resolve("sync"), "--game.journal.sync-commit=true");
+    }
+
+    private static void run(String name, String... properties) throws Exception {
+        List<String> args = new ArrayList<>(List.of("--spring.main.web-application-type=none",
+                "--logging.level.root=WARN"));
+        args.addAll(List.of(properties));
+        ConfigurableApplicationContext context = SpringApplication.run(Application.class, args.toArray(String[]::new));
+        try {
+            GameEngine engine = context.getBean(GameEngine.class);
+            long[] gameIds = new long[GAMES];
+            for (int i = 0; i < GAMES; i++) {
+                Player host = new Player();
+                host.setName("player" + i);
+                gameIds[i] = engine.createLobby(host).getId();
+            }
+
+            roll(engine, gameIds, ROLLS_PER_GAME / 5);  // Aufwärmen
+            long start = System.nanoTime();
+            roll(engine, gameIds, ROLLS_PER_GAME);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%-22s %12.0f%n", name, GAMES * ROLLS_PER_GAME / seconds);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static void roll(GameEngine engine, long[] gameIds, int rolls) throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        for (long gameId : gameIds) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < rolls; i++) {
+                    engine.rollDice(gameId, null, null);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+}
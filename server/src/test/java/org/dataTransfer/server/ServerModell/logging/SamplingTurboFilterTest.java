@@ -0,0 +1,82 @@
+package org.dataTransfer.server.ServerModell.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Die Testklasse {@code SamplingTurboFilterTest} überprüft, dass der {@link SamplingTurboFilter} nur die
+ * konfigurierten Kategorien ausdünnt und Warnungen immer durchlässt.
+ */
+class SamplingTurboFilterTest {
+
+    private LoggerContext context;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setCategories("game.rolls, game.moves");
+        filter.setEvery(10);
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+
+        appender = new ListAppender<>();
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.DEBUG);
+        root.addAppender(appender);
+    }
+
+    /**
+     * Testet, dass von einer ausgedünnten Kategorie jedes zehnte Ereignis geschrieben wird, Warnungen aber alle.
+     */
+    @Test
+    void samplesConfiguredCategoriesBelowWarn() {
+        Logger rolls = context.getLogger("game.rolls");
+        for (int i = 0; i < 25; i++) {
+            rolls.debug("roll {}", i);
+        }
+        rolls.warn("conflict");
+        rolls.warn("conflict");
+
+        assertEquals(5, appender.list.size());
+        assertEquals("roll 0", appender.list.get(0).getFormattedMessage());
+        assertEquals("roll 10", appender.list.get(1).getFormattedMessage());
+        assertEquals("roll 20", appender.list.get(2).getFormattedMessage());
+    }
+
+    /**
+     * Testet, dass andere Kategorien vollständig geschrieben werden und abgeschaltete Ereignisse sowie
+     * Level-Abfragen nicht mitzählen.
+     */
+    @Test
+    void leavesOtherCategoriesAndDisabledEventsAlone() {
+        for (int i = 0; i < 5; i++) {
+            context.getLogger("game.lobby").debug("lobby {}", i);
+        }
+        assertEquals(5, appender.list.size());
+
+        Logger moves = context.getLogger("game.moves");
+        moves.setLevel(Level.INFO);
+        for (int i = 0; i < 5; i++) {
+            moves.debug("hidden {}", i);
+        }
+        moves.setLevel(Level.DEBUG);
+        assertTrue(moves.isDebugEnabled());
+        moves.debug("first");
+        moves.debug("second");
+
+        assertEquals(6, appender.list.size());
+        assertEquals("first", appender.list.get(5).getFormattedMessage());
+    }
+}
@@ -0,0 +1,67 @@
+package org.dataTransfer.server.ServerModell.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Die Testklasse {@code HistogramTest} überprüft die Eimerzuordnung des {@link Histogram} und die Ausgabe
+ * im Textformat von Prometheus.
+ */
+class HistogramTest {
+
+    /**
+     * Testet, dass Werte auf der Grenze in ihren Eimer fallen (Prometheus: {@code le} ist inklusiv) und
+     * die kumulierten Zählerstände bei gleichzeitigem Schreiben vollständig sind.
+     */
+    @Test
+    void bucketsAreInclusiveAndConcurrentRecordsAreCounted() throws InterruptedException {
+        Histogram histogram = new Histogram(new long[]{1_000, 2_000});
+        histogram.record(1_000);
+        histogram.record(1_001);
+        histogram.record(5_000);
+        assertArrayEquals(new long[]{1, 2, 3}, histogram.cumulativeCounts());
+        assertEquals(7_001e-9, histogram.getSumSeconds(), 1e-15);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i % 3_000);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(40_003, histogram.cumulativeCounts()[2]);
+    }
+
+    /**
+     * Testet das Textformat eines Histogramms mit Labels.
+     */
+    @Test
+    void writesPrometheusHistogram() {
+        Histogram histogram = new Histogram(new long[]{50_000, 1_000_000_000});
+        histogram.record(10_000);
+        histogram.record(2_000_000_000);
+
+        String text = new PrometheusWriter()
+                .header("x_seconds", "histogram", "Test.")
+                .histogram("x_seconds", histogram, "uri", "/api/games/{id}")
+                .toString();
+
+        assertEquals("""
+                # HELP x_seconds Test.
+                # TYPE x_seconds histogram
+                x_seconds_bucket{uri="/api/games/{id}",le="0.00005"} 1
+                x_seconds_bucket{uri="/api/games/{id}",le="1"} 1
+                x_seconds_bucket{uri="/api/games/{id}",le="+Inf"} 2
+                x_seconds_sum{uri="/api/games/{id}"} 2.00001
+                x_seconds_count{uri="/api/games/{id}"} 2
+                """, text);
+    }
+}
@@ -0,0 +1,55 @@
+package org.dataTransfer.server.ServerModell.simulation;
+
+import org.dataTransfer.server.ServerModell.board.CompiledBoard;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Durchsatz-Benchmark für den {@link RaceSimulator}.
+ *
+ * <p>
+ * Gemessen wird das Standardbrett mit zwei und vier Sitzen, einmal in einem Thread und einmal blockweise
+ * parallel wie im {@link SimulationService}. Ausgegeben werden Rennen pro Sekunde.
+ * </p>
+ *
+ * <p>
+ * Start: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.dataTransfer.server.ServerModell.simulation.RaceSimulatorBenchmark}
+ * </p>
+ */
+public class RaceSimulatorBenchmark {
+
+    private static final int RACES = 4_000_000;
+
+    public static void main(String[] args) throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        System.out.printf("Threads: %d%n", pool.getParallelism());
+        System.out.printf("%8s %16s %16s%n", "players", "single races/s", "parallel races/s");
+
+        for (int players : new int[]{2, 4}) {
+            RaceSimulator simulator = new RaceSimulator(CompiledBoard.classic(), players);
+            single(simulator, players);  // Aufwärmen
+            double single = single(simulator, players);
+            double parallel = parallel(simulator, players, pool);
+            System.out.printf("%8d %16.0f %16.0f%n", players, single, parallel);
+        }
+        pool.shutdown();
+    }
+
+    private static double single(RaceSimulator simulator, int players) {
+        RaceSimulator.Tally tally = new RaceSimulator.Tally(players);
+        long start = System.nanoTime();
+        simulator.run(1, RACES, tally);
+        return RACES / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static double parallel(RaceSimulator simulator, int players, ForkJoinPool pool) throws Exception {
+        int chunks = RACES / SimulationService.CHUNK_RACES;
+        long start = System.nanoTime();
+        pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(chunk ->
+                simulator.run(SimulationService.chunkSeed(1, chunk), SimulationService.CHUNK_RACES,
+                        new RaceSimulator.Tally(players)))).get();
+        return (long) chunks * SimulationService.CHUNK_RACES / ((System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,56 @@
+package org.dataTransfer.server.ServerModell.simulation;
+
+import org.dataTransfer.server.ServerModell.board.BoardDefinition;
+import org.dataTransfer.server.ServerModell.board.CompiledBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Die Testklasse {@code RaceSimulatorTest} überprüft die Zählungen des {@link RaceSimulator}.
+ */
+class RaceSimulatorTest {
+
+    /**
+     * Testet ein Brett, auf dem jeder erste Wurf ins Ziel führt: Sitz 0 gewinnt jedes Rennen in Runde 1.
+     */
+    @Test
+    void firstSeatWinsWhenEveryRollFinishes() {
+        RaceSimulator simulator = new RaceSimulator(new CompiledBoard(new BoardDefinition("two", 2, List.of())), 3);
+        RaceSimulator.Tally tally = new RaceSimulator.Tally(3);
+
+        simulator.run(42, 1_000, tally);
+        SimulationResult result = tally.toResult();
+
+        assertEquals(1_000, result.races());
+        assertEquals(0, result.unfinished());
+        assertArrayEquals(new long[]{0, 1_000}, result.roundsHistogram());
+        assertArrayEquals(new long[]{1_000, 0, 0}, result.winsBySeat());
+        assertEquals(1.0, result.meanRounds());
+        assertEquals(1, result.p99Rounds());
+    }
+
+    /**
+     * Testet, dass gleiche Seeds gleiche Ergebnisse liefern und zusammengeführte Teilläufe sich addieren.
+     */
+    @Test
+    void sameSeedGivesSameResult() {
+        RaceSimulator simulator = new RaceSimulator(CompiledBoard.classic(), 2);
+        RaceSimulator.Tally first = new RaceSimulator.Tally(2);
+        RaceSimulator.Tally second = new RaceSimulator.Tally(2);
+
+        simulator.run(7, 5_000, first);
+        simulator.run(7, 5_000, second);
+        assertArrayEquals(first.toResult().roundsHistogram(), second.toResult().roundsHistogram());
+        assertArrayEquals(first.toResult().winsBySeat(), second.toResult().winsBySeat());
+
+        first.add(second);
+        SimulationResult merged = first.toResult();
+        assertEquals(10_000, merged.races());
+        assertEquals(2 * second.toResult().winsBySeat()[0], merged.winsBySeat()[0]);
+        // Der erste Sitz ist im Vorteil, da er in der Siegrunde zuerst würfelt
+        assertTrue(merged.winRateBySeat()[0] > merged.winRateBySeat()[1]);
+    }
+}
@@ -0,0 +1,106 @@
+package org.dataTransfer.server.ServerModell.trace;
+
+import org.dataTransfer.server.ServerModell.admin.SlowRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Die Testklasse {@code SlowRequestLogTest} überprüft, dass das {@link SlowRequestLog} genau die langsamsten
+ * Anfragen hält, auch wenn viele Threads gleichzeitig eintragen, und dass {@link RequestTrace} den Header
+ * {@code Server-Timing} korrekt bildet.
+ */
+class SlowRequestLogTest {
+
+    /**
+     * Testet, dass nur die langsamsten Anfragen gehalten und absteigend geliefert werden.
+     */
+    @Test
+    void keepsSlowestRequests() {
+        SlowRequestLog slowLog = new SlowRequestLog(3);
+        long[] durations = {5, 1, 9, 3, 7, 2, 8};
+        for (long nanos : durations) {
+            slowLog.offer(nanos, request(nanos));
+        }
+
+        assertEquals(List.of("/9", "/8", "/7"), paths(slowLog.getSlowest()));
+        assertFalse(slowLog.qualifies(7));
+        assertTrue(slowLog.qualifies(8));
+        assertFalse(slowLog.offer(6, request(6)));
+    }
+
+    /**
+     * Testet, dass bei gleichzeitigem Eintragen keine der langsamsten Anfragen verloren geht.
+     */
+    @Test
+    void keepsSlowestRequestsUnderContention() throws Exception {
+        SlowRequestLog slowLog = new SlowRequestLog(10);
+        int threads = 8;
+        int perThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        long nanos = (long) i * threads + offset;
+                        if (slowLog.qualifies(nanos)) {
+                            slowLog.offer(nanos, request(nanos));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long slowest = (long) threads * perThread - 1;
+        List<String> expected = new ArrayList<>();
+        for (long nanos = slowest; nanos > slowest - 10; nanos--) {
+            expected.add("/" + nanos);
+        }
+        assertEquals(expected, paths(slowLog.getSlowest()));
+    }
+
+    /**
+     * Testet, dass der Header nur gemessene Phasen enthält, in Millisekunden mit drei Nachkommastellen.
+     */
+    @Test
+    void formatsServerTiming() {
+        RequestTrace trace = RequestTrace.begin();
+        try {
+            RequestTrace.record(RequestTrace.Phase.ENGINE, 41_500);
+            RequestTrace.record(RequestTrace.Phase.SERIALIZE, 2_003_000);
+            RequestTrace.record(RequestTrace.Phase.SERIALIZE, 1_000);
+
+            String header = trace.toServerTiming();
+            assertTrue(header.startsWith("engine;dur=0.041, serialize;dur=2.004, total;dur="), header);
+            assertEquals(2_004_000, trace.getPhaseNanos(RequestTrace.Phase.SERIALIZE));
+            assertEquals(0, trace.getPhaseNanos(RequestTrace.Phase.PERSIST));
+        } finally {
+            RequestTrace.end();
+        }
+        RequestTrace.record(RequestTrace.Phase.ENGINE, 1_000);
+        assertNull(RequestTrace.current());
+    }
+
+    private static SlowRequest request(long nanos) {
+        return new SlowRequest("GET", "/api/games/{id}", "/" + nanos, 200, 0, nanos / 1e6, Map.of());
+    }
+
+    private static List<String> paths(List<SlowRequest> requests) {
+        return requests.stream().map(SlowRequest::path).toList();
+    }
+}
@@ -0,0 +1,97 @@
+package org.dataTransfer.server.ServerModell.view;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.dataTransfer.server.ServerModell.GameRepository;
+import org.dataTransfer.server.ServerModell.PlayerRepository;
+import org.dataTransfer.server.ServerModell.game.Game;
+import org.dataTransfer.server.ServerModell.game.GameFilter;
+import org.dataTransfer.server.ServerModell.player.Player;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Die Testklasse {@code ReadModelQueryTest} überprüft, dass die Lesemodelle mit genau einer SQL-Anweisung
+ * je Anfrage gefüllt werden und beim Erstellen keine Lazy Loads mehr auslösen.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ReadModelQueryTest {
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    /**
+     * Legt sechs Spiele mit je drei Spielern an und leert danach den Persistenzkontext,
+     * damit jede Abfrage tatsächlich die Datenbank erreicht.
+     */
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 6; i++) {
+            Game game = new Game();
+            game.setGameHostName("host" + i);
+            game.setCreatedAt(Instant.parse("2026-01-01T00:00:00Z").plusSeconds(i));
+            for (int p = 0; p < 3; p++) {
+                Player player = new Player();
+                player.setName("p" + i + "-" + p);
+                game.addPlayer(playerRepository.save(player));
+            }
+            gameRepository.save(game);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    /**
+     * Testet, dass ein Spiel samt Spielern und seinem Lesemodell mit einer einzigen Anweisung geladen wird.
+     */
+    @Test
+    void gameViewNeedsOneStatement() {
+        long id = gameRepository.findAll().get(0).getId();
+        entityManager.clear();
+        statistics.clear();
+
+        Game game = gameRepository.findWithPlayersById(id).orElseThrow();
+        GameView view = GameView.of(game);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(3, view.players().size());
+        assertEquals(3, view.currentPlayersCount());
+    }
+
+    /**
+     * Testet, dass eine Seite der Spieleliste unabhängig von ihrer Größe eine einzige Anweisung kostet
+     * und die Spieleranzahl aus der Unterabfrage stimmt.
+     */
+    @Test
+    void summaryPageNeedsOneStatement() {
+        List<GameSummary> page = gameRepository.findSummaries(new GameFilter("Lobby", true, null, null, null, 4));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(4, page.size());
+        assertTrue(page.get(0).id() > page.get(1).id());
+        assertTrue(page.stream().allMatch(summary -> summary.currentPlayersCount() == 3));
+    }
+}